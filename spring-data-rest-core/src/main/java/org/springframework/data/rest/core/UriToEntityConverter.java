@@ -16,18 +16,25 @@
 package org.springframework.data.rest.core;
 
 import java.net.URI;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 
 import org.springframework.core.convert.ConversionFailedException;
+import org.springframework.core.convert.ConversionService;
 import org.springframework.core.convert.TypeDescriptor;
 import org.springframework.core.convert.converter.ConditionalGenericConverter;
 import org.springframework.core.convert.converter.GenericConverter;
+import org.springframework.core.convert.support.DefaultConversionService;
 import org.springframework.data.mapping.PersistentEntity;
 import org.springframework.data.mapping.context.PersistentEntities;
+import org.springframework.data.repository.CrudRepository;
 import org.springframework.data.repository.support.Repositories;
 import org.springframework.data.repository.support.RepositoryInvokerFactory;
+import org.springframework.data.rest.core.support.EntityLookup;
+import org.springframework.data.rest.core.support.RepositoryBatchLookup;
 import org.springframework.data.util.TypeInformation;
 import org.springframework.util.Assert;
 
@@ -44,6 +51,7 @@ public class UriToEntityConverter implements ConditionalGenericConverter {
 	private final PersistentEntities entities;
 	private final RepositoryInvokerFactory invokerFactory;
 	private final Repositories repositories;
+	private final RepositoryBatchLookup batchLookup;
 	private final Set<ConvertiblePair> convertiblePairs;
 
 	/**
@@ -56,10 +64,31 @@ public class UriToEntityConverter implements ConditionalGenericConverter {
 	 */
 	public UriToEntityConverter(PersistentEntities entities, RepositoryInvokerFactory invokerFactory,
 			Repositories repositories) {
+		this(entities, invokerFactory, repositories, new DefaultConversionService(),
+				Collections.<EntityLookup<?>> emptyList());
+	}
+
+	/**
+	 * Creates a new {@link UriToEntityConverter} using the given {@link PersistentEntities},
+	 * {@link RepositoryInvokerFactory}, {@link Repositories}, {@link ConversionService} and {@link EntityLookup}s. The
+	 * {@link ConversionService} is used to convert the identifiers resolved in batches in
+	 * {@link #convertAll(List, TypeDescriptor)}, the {@link EntityLookup}s to decide which domain types can be resolved in
+	 * batches.
+	 * 
+	 * @param entities must not be {@literal null}.
+	 * @param invokerFactory must not be {@literal null}.
+	 * @param repositories must not be {@literal null}.
+	 * @param conversionService must not be {@literal null}.
+	 * @param lookups must not be {@literal null}.
+	 * @since 2.7
+	 */
+	public UriToEntityConverter(PersistentEntities entities, RepositoryInvokerFactory invokerFactory,
+			Repositories repositories, ConversionService conversionService, List<? extends EntityLookup<?>> lookups) {
 
 		Assert.notNull(entities, "PersistentEntities must not be null!");
 		Assert.notNull(invokerFactory, "RepositoryInvokerFactory must not be null!");
 		Assert.notNull(repositories, "Repositories must not be null!");
+		Assert.notNull(conversionService, "ConversionService must not be null!");
 
 		Set<ConvertiblePair> convertiblePairs = new HashSet<ConvertiblePair>();
 
@@ -77,6 +106,7 @@ public class UriToEntityConverter implements ConditionalGenericConverter {
 		this.entities = entities;
 		this.invokerFactory = invokerFactory;
 		this.repositories = repositories;
+		this.batchLookup = new RepositoryBatchLookup(entities, repositories, invokerFactory, conversionService, lookups);
 	}
 
 	/* 
@@ -105,6 +135,43 @@ public class UriToEntityConverter implements ConditionalGenericConverter {
 	@Override
 	public Object convert(Object source, TypeDescriptor sourceType, TypeDescriptor targetType) {
 
+		getPersistentEntity(source, sourceType, targetType);
+
+		String id = getIdentifier((URI) source, sourceType, targetType);
+
+		return invokerFactory.getInvokerFor(targetType.getType()).invokeFindOne(id);
+	}
+
+	/**
+	 * Converts the given {@link URI}s into entities of the given type. Looks up all of them using a single
+	 * {@link CrudRepository#findAll(Iterable)} call in case the repository exposes that method, the identifiers can be
+	 * converted into the entity's identifier type and no {@link EntityLookup} is registered for the type. Falls back to
+	 * individual lookups otherwise.
+	 * 
+	 * @param uris must not be {@literal null}.
+	 * @param targetType must not be {@literal null}.
+	 * @return the entities in the order of the given {@link URI}s, containing {@literal null} for the ones that could not
+	 *         be resolved.
+	 * @since 2.7
+	 */
+	public List<Object> convertAll(List<URI> uris, TypeDescriptor targetType) {
+
+		Assert.notNull(uris, "URIs must not be null!");
+		Assert.notNull(targetType, "Target type must not be null!");
+
+		List<String> ids = new ArrayList<String>(uris.size());
+
+		for (URI uri : uris) {
+			getPersistentEntity(uri, URI_TYPE, targetType);
+			ids.add(getIdentifier(uri, URI_TYPE, targetType));
+		}
+
+		return ids.isEmpty() ? new ArrayList<Object>() : batchLookup.lookup(targetType.getType(), ids);
+	}
+
+	private PersistentEntity<?, ?> getPersistentEntity(Object source, TypeDescriptor sourceType,
+			TypeDescriptor targetType) {
+
 		PersistentEntity<?, ?> entity = entities.getPersistentEntity(targetType.getType());
 
 		if (entity == null) {
@@ -112,14 +179,18 @@ public class UriToEntityConverter implements ConditionalGenericConverter {
 					new IllegalArgumentException("No PersistentEntity information available for " + targetType.getType()));
 		}
 
-		URI uri = (URI) source;
+		return entity;
+	}
+
+	private static String getIdentifier(URI uri, TypeDescriptor sourceType, TypeDescriptor targetType) {
+
 		String[] parts = uri.getPath().split("/");
 
 		if (parts.length < 2) {
-			throw new ConversionFailedException(sourceType, targetType, source, new IllegalArgumentException(
+			throw new ConversionFailedException(sourceType, targetType, uri, new IllegalArgumentException(
 					"Cannot resolve URI " + uri + ". Is it local or remote? Only local URIs are resolvable."));
 		}
 
-		return invokerFactory.getInvokerFor(targetType.getType()).invokeFindOne(parts[parts.length - 1]);
+		return parts[parts.length - 1];
 	}
 }
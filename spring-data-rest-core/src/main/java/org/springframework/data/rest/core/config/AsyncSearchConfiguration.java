@@ -0,0 +1,149 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.core.config;
+
+import java.lang.reflect.Method;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+import java.util.concurrent.Executor;
+
+import org.springframework.util.Assert;
+
+/**
+ * Configuration for the asynchronous execution of searches. Searches backed by query methods returning a
+ * {@link java.util.concurrent.Future} are always executed asynchronously. Other query methods can be selected to be
+ * executed on the configured {@link Executor} so that the request thread is released while the query runs. An
+ * {@link Executor} has to be configured explicitly in that case.
+ * <p>
+ * Note, that neither the Spring Security {@code SecurityContext} nor other thread-bound state of the request thread is
+ * propagated to the {@link Executor}'s threads. Use a delegating executor like Spring Security's
+ * {@code DelegatingSecurityContextAsyncTaskExecutor} if queries are secured with method security.
+ *
+ * @author agent
+ * @since 2.7
+ */
+public class AsyncSearchConfiguration {
+
+	private final Map<Class<?>, Set<String>> methodNames = new HashMap<Class<?>, Set<String>>();
+	private Executor executor;
+	private Long timeout;
+
+	/**
+	 * Enables asynchronous execution of the searches backed by the query methods with the given names declared on the
+	 * given repository interface.
+	 *
+	 * @param repositoryInterface must not be {@literal null}.
+	 * @param methodNames must not be {@literal null}.
+	 * @return the current {@link AsyncSearchConfiguration}.
+	 */
+	public AsyncSearchConfiguration enableFor(Class<?> repositoryInterface, String... methodNames) {
+
+		Assert.notNull(repositoryInterface, "Repository interface must not be null!");
+		Assert.notNull(methodNames, "Method names must not be null!");
+
+		Set<String> names = this.methodNames.get(repositoryInterface);
+
+		if (names == null) {
+			names = new HashSet<String>();
+			this.methodNames.put(repositoryInterface, names);
+		}
+
+		for (String methodName : methodNames) {
+			names.add(methodName);
+		}
+
+		return this;
+	}
+
+	/**
+	 * Returns whether asynchronous execution was enabled for the given query method.
+	 *
+	 * @param method must not be {@literal null}.
+	 * @return
+	 */
+	public boolean isEnabledFor(Method method) {
+
+		Assert.notNull(method, "Method must not be null!");
+
+		for (Entry<Class<?>, Set<String>> entry : methodNames.entrySet()) {
+			if (method.getDeclaringClass().isAssignableFrom(entry.getKey()) && entry.getValue().contains(method.getName())) {
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	/**
+	 * Returns whether asynchronous execution was enabled for any query method.
+	 *
+	 * @return
+	 */
+	public boolean hasAsynchronousSearches() {
+		return !methodNames.isEmpty();
+	}
+
+	/**
+	 * Configures the {@link Executor} to run the query methods enabled for asynchronous execution on and to wait for
+	 * plain {@link java.util.concurrent.Future}s returned by query methods. Required if asynchronous execution is enabled
+	 * for any query method. The {@link Executor} should be backed by a bounded pool as every search enabled occupies
+	 * one of its threads while running.
+	 *
+	 * @param executor can be {@literal null}.
+	 * @return the current {@link AsyncSearchConfiguration}.
+	 */
+	public AsyncSearchConfiguration setExecutor(Executor executor) {
+
+		this.executor = executor;
+		return this;
+	}
+
+	/**
+	 * Returns the {@link Executor} to run the query methods enabled for asynchronous execution on.
+	 *
+	 * @return the configured {@link Executor} or {@literal null} if none was configured.
+	 */
+	public Executor getExecutor() {
+		return executor;
+	}
+
+	/**
+	 * Configures the time in milliseconds after which asynchronous searches are answered with
+	 * {@code 503 Service Unavailable}. Defaults to the timeout configured for asynchronous requests in general.
+	 *
+	 * @param timeout can be {@literal null}.
+	 * @return the current {@link AsyncSearchConfiguration}.
+	 */
+	public AsyncSearchConfiguration setTimeout(Long timeout) {
+
+		Assert.isTrue(timeout == null || timeout > 0, "Timeout must be greater than 0!");
+
+		this.timeout = timeout;
+		return this;
+	}
+
+	/**
+	 * Returns the time in milliseconds after which asynchronous searches time out.
+	 *
+	 * @return the timeout or {@literal null} to use the default timeout for asynchronous requests.
+	 */
+	public Long getTimeout() {
+		return timeout;
+	}
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.core.config;
+
+import org.springframework.util.Assert;
+
+/**
+ * Configuration for batch requests, i.e. requests to {@code POST /batch} carrying a list of operations to be executed
+ * against the exported resources. Batch requests are disabled by default.
+ * <p>
+ * The operations of a batch request are dispatched to the Spring Data REST controllers directly and thus <em>do not
+ * pass the servlet filter chain</em> again. URL based security rules (e.g. Spring Security's
+ * {@code HttpSecurity.authorizeRequests()}) and other filters only see the batch request itself. Only enable batch
+ * requests if access to the exported resources is secured on the method level or the batch resource is restricted to
+ * clients allowed to access all resources.
+ *
+ * @author agent
+ * @since 2.7
+ */
+public class BatchRequestConfiguration {
+
+	private boolean enabled = false;
+	private int maxOperations = 50;
+
+	/**
+	 * Enables or disables batch requests. Defaults to {@literal false}.
+	 *
+	 * @param enabled
+	 * @return the current {@link BatchRequestConfiguration}.
+	 */
+	public BatchRequestConfiguration setEnabled(boolean enabled) {
+
+		this.enabled = enabled;
+		return this;
+	}
+
+	/**
+	 * Returns whether batch requests are enabled.
+	 *
+	 * @return
+	 */
+	public boolean isEnabled() {
+		return enabled;
+	}
+
+	/**
+	 * Configures the maximum number of operations a single batch request may contain. Batch requests exceeding the limit
+	 * are rejected with {@code 400 Bad Request} without executing any of the operations. Defaults to 50.
+	 *
+	 * @param maxOperations must be greater than 0.
+	 * @return the current {@link BatchRequestConfiguration}.
+	 */
+	public BatchRequestConfiguration setMaxOperations(int maxOperations) {
+
+		Assert.isTrue(maxOperations > 0, "Maximum number of operations must be greater than 0!");
+
+		this.maxOperations = maxOperations;
+		return this;
+	}
+
+	/**
+	 * Returns the maximum number of operations a single batch request may contain.
+	 *
+	 * @return
+	 */
+	public int getMaxOperations() {
+		return maxOperations;
+	}
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.core.config;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import org.springframework.util.Assert;
+
+/**
+ * Configuration for bulk {@code DELETE} and {@code PATCH} requests to collection resources. Bulk operations are
+ * disabled by default and have to be activated for the domain types of individual repositories.
+ *
+ * @author agent
+ * @since 2.7
+ */
+public class BulkOperationConfiguration {
+
+	private final Set<Class<?>> enabledTypes = new HashSet<Class<?>>();
+	private int chunkSize = 100;
+	private int maxEntities = 1000;
+
+	/**
+	 * Enables bulk operations on the collection resources exposed for the given domain types.
+	 *
+	 * @param domainTypes must not be {@literal null}.
+	 * @return the current {@link BulkOperationConfiguration}.
+	 */
+	public BulkOperationConfiguration enableFor(Class<?>... domainTypes) {
+
+		Assert.notNull(domainTypes, "Domain types must not be null!");
+
+		for (Class<?> domainType : domainTypes) {
+			this.enabledTypes.add(domainType);
+		}
+
+		return this;
+	}
+
+	/**
+	 * Returns whether bulk operations are enabled for the given domain type.
+	 *
+	 * @param domainType must not be {@literal null}.
+	 * @return
+	 */
+	public boolean isEnabledFor(Class<?> domainType) {
+
+		Assert.notNull(domainType, "Domain type must not be null!");
+
+		return enabledTypes.contains(domainType);
+	}
+
+	/**
+	 * Configures the number of entities to be processed within a single transaction. Defaults to 100.
+	 *
+	 * @param chunkSize must be greater than 0.
+	 * @return the current {@link BulkOperationConfiguration}.
+	 */
+	public BulkOperationConfiguration setChunkSize(int chunkSize) {
+
+		Assert.isTrue(chunkSize > 0, "Chunk size must be greater than 0!");
+
+		this.chunkSize = chunkSize;
+		return this;
+	}
+
+	/**
+	 * Returns the number of entities to be processed within a single transaction.
+	 *
+	 * @return
+	 */
+	public int getChunkSize() {
+		return chunkSize;
+	}
+
+	/**
+	 * Configures the maximum number of entities a single bulk request is allowed to select, either by identifiers or by
+	 * a predicate. Independent of {@link RepositoryRestConfiguration#getMaxIdsPerRequest()}. Defaults to 1000.
+	 *
+	 * @param maxEntities must be greater than 0.
+	 * @return the current {@link BulkOperationConfiguration}.
+	 */
+	public BulkOperationConfiguration setMaxEntities(int maxEntities) {
+
+		Assert.isTrue(maxEntities > 0, "Maximum number of entities must be greater than 0!");
+
+		this.maxEntities = maxEntities;
+		return this;
+	}
+
+	/**
+	 * Returns the maximum number of entities a single bulk request is allowed to select.
+	 *
+	 * @return
+	 */
+	public int getMaxEntities() {
+		return maxEntities;
+	}
+}
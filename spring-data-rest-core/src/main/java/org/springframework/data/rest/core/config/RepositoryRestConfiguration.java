@@ -48,9 +48,13 @@ public class RepositoryRestConfiguration {
 	private URI basePath = NO_URI;
 	private int defaultPageSize = 20;
 	private int maxPageSize = 1000;
+	private long maxRequestBodySize = -1;
+	private int maxIdsPerRequest = 100;
+	private boolean incrementalAssociationUpdates = false;
 	private String pageParamName = "page";
 	private String limitParamName = "size";
 	private String sortParamName = "sort";
+	private String fieldsParamName = "fields";
 	private MediaType defaultMediaType = MediaTypes.HAL_JSON;
 	private boolean useHalAsDefaultJsonMediaType = true;
 	private Boolean returnBodyOnCreate = null;
@@ -61,6 +65,11 @@ public class RepositoryRestConfiguration {
 	private RepositoryDetectionStrategy repositoryDetectionStrategy = RepositoryDetectionStrategies.DEFAULT;
 
 	private final RepositoryCorsRegistry corsRegistry = new RepositoryCorsRegistry();
+	private final ResponseCacheConfiguration responseCacheConfiguration = new ResponseCacheConfiguration();
+	private final BulkOperationConfiguration bulkOperationConfiguration = new BulkOperationConfiguration();
+	private final BatchRequestConfiguration batchRequestConfiguration = new BatchRequestConfiguration();
+	private final AsyncSearchConfiguration asyncSearchConfiguration = new AsyncSearchConfiguration();
+	private final RequestExecutionConfiguration requestExecutionConfiguration = new RequestExecutionConfiguration();
 	private final ProjectionDefinitionConfiguration projectionConfiguration;
 	private final MetadataConfiguration metadataConfiguration;
 	private final EntityLookupConfiguration entityLookupConfiguration;
@@ -165,6 +174,84 @@ public class RepositoryRestConfiguration {
 		return this;
 	}
 
+	/**
+	 * Get the maximum size of request bodies in bytes. A negative value means that request bodies are not limited.
+	 * 
+	 * @return Maximum request body size in bytes.
+	 * @since 2.7
+	 */
+	public long getMaxRequestBodySize() {
+		return maxRequestBodySize;
+	}
+
+	/**
+	 * Set the maximum size of request bodies in bytes to be read into domain objects. Requests exceeding the limit will
+	 * be rejected with {@code 413 Payload Too Large}, requests declaring a larger {@code Content-Length} before their
+	 * body is read at all. Defaults to -1, i.e. no limit.
+	 * 
+	 * @param maxRequestBodySize Maximum request body size in bytes, a negative value to disable the limit.
+	 * @return {@literal this}
+	 * @since 2.7
+	 */
+	public RepositoryRestConfiguration setMaxRequestBodySize(long maxRequestBodySize) {
+		this.maxRequestBodySize = maxRequestBodySize;
+		return this;
+	}
+
+	/**
+	 * Get the maximum number of identifiers that can be looked up with a single request to a collection resource.
+	 * 
+	 * @return Maximum number of identifiers.
+	 * @since 2.7
+	 */
+	public int getMaxIdsPerRequest() {
+		return maxIdsPerRequest;
+	}
+
+	/**
+	 * Set the maximum number of identifiers that can be looked up with a single request to a collection resource, e.g.
+	 * {@code GET /orders?id=1,2,3}. Requests exceeding the limit will be rejected with {@code 400 Bad Request}. Defaults
+	 * to 100.
+	 * 
+	 * @param maxIdsPerRequest Maximum number of identifiers, must be greater than 0.
+	 * @return {@literal this}
+	 * @since 2.7
+	 */
+	public RepositoryRestConfiguration setMaxIdsPerRequest(int maxIdsPerRequest) {
+
+		Assert.isTrue(maxIdsPerRequest > 0, "Maximum number of identifiers must be greater than 0!");
+
+		this.maxIdsPerRequest = maxIdsPerRequest;
+		return this;
+	}
+
+	/**
+	 * Returns whether links added to or removed from a collection association are applied to the association only
+	 * instead of saving the entire owning entity.
+	 *
+	 * @return
+	 * @since 2.7
+	 */
+	public boolean isIncrementalAssociationUpdates() {
+		return incrementalAssociationUpdates;
+	}
+
+	/**
+	 * Set whether links added to or removed from a collection association via {@code POST}, {@code PATCH} or
+	 * {@code DELETE} are applied to the association only, using the store specific
+	 * {@code org.springframework.data.rest.webmvc.spi.AssociationMutations}, instead of saving the entire owning entity.
+	 * Note, that changes to the owner made by handlers for {@code BeforeLinkSaveEvent}s or {@code BeforeLinkDeleteEvent}s
+	 * which do not affect the association are not persisted in that case. Defaults to {@literal false}.
+	 *
+	 * @param incrementalAssociationUpdates
+	 * @return {@literal this}
+	 * @since 2.7
+	 */
+	public RepositoryRestConfiguration setIncrementalAssociationUpdates(boolean incrementalAssociationUpdates) {
+		this.incrementalAssociationUpdates = incrementalAssociationUpdates;
+		return this;
+	}
+
 	/**
 	 * Get the name of the URL query string parameter that indicates what page to return. Default is 'page'.
 	 * 
@@ -230,6 +317,30 @@ public class RepositoryRestConfiguration {
 		return this;
 	}
 
+	/**
+	 * Get the name of the URL query string parameter that indicates which fields of an entity to render. Default is
+	 * 'fields'.
+	 * 
+	 * @return Name of the query string parameter used to select the fields to render.
+	 * @since 2.7
+	 */
+	public String getFieldsParamName() {
+		return fieldsParamName;
+	}
+
+	/**
+	 * Set the name of the URL query string parameter that indicates which fields of an entity to render.
+	 * 
+	 * @param fieldsParamName Name of the query string parameter used to select the fields to render.
+	 * @return {@literal this}
+	 * @since 2.7
+	 */
+	public RepositoryRestConfiguration setFieldsParamName(String fieldsParamName) {
+		Assert.hasText(fieldsParamName, "Fields param name cannot be null or empty.");
+		this.fieldsParamName = fieldsParamName;
+		return this;
+	}
+
 	/**
 	 * Get the {@link MediaType} to use as a default when none is specified.
 	 * 
@@ -573,6 +684,58 @@ public class RepositoryRestConfiguration {
 		return corsRegistry;
 	}
 
+	/**
+	 * Returns the {@link ResponseCacheConfiguration} to enable and configure the server side caching of rendered item
+	 * resources.
+	 *
+	 * @return will never be {@literal null}.
+	 * @since 2.7
+	 */
+	public ResponseCacheConfiguration getResponseCacheConfiguration() {
+		return responseCacheConfiguration;
+	}
+
+	/**
+	 * Returns the {@link BulkOperationConfiguration} to enable and configure bulk {@code DELETE} and {@code PATCH}
+	 * requests to collection resources.
+	 *
+	 * @return the {@link BulkOperationConfiguration}.
+	 * @since 2.7
+	 */
+	public BulkOperationConfiguration getBulkOperationConfiguration() {
+		return bulkOperationConfiguration;
+	}
+
+	/**
+	 * Returns the {@link BatchRequestConfiguration} to enable and configure batch requests.
+	 *
+	 * @return the {@link BatchRequestConfiguration}.
+	 * @since 2.7
+	 */
+	public BatchRequestConfiguration getBatchRequestConfiguration() {
+		return batchRequestConfiguration;
+	}
+
+	/**
+	 * Returns the {@link AsyncSearchConfiguration} to configure the asynchronous execution of searches.
+	 *
+	 * @return the {@link AsyncSearchConfiguration}.
+	 * @since 2.7
+	 */
+	public AsyncSearchConfiguration getAsyncSearchConfiguration() {
+		return asyncSearchConfiguration;
+	}
+
+	/**
+	 * Returns the {@link RequestExecutionConfiguration} to configure the thread controller methods are invoked on.
+	 *
+	 * @return the {@link RequestExecutionConfiguration}.
+	 * @since 2.7
+	 */
+	public RequestExecutionConfiguration getRequestExecutionConfiguration() {
+		return requestExecutionConfiguration;
+	}
+
 	/**
 	 * Returns the {@link EntityLookupRegistrar} to create custom {@link EntityLookup} instances registered in the
 	 * configuration.
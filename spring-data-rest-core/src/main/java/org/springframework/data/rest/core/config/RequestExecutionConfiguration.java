@@ -0,0 +1,120 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.core.config;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+
+import org.springframework.util.Assert;
+import org.springframework.util.ReflectionUtils;
+
+/**
+ * Configuration for the execution of requests to the resources exported by Spring Data REST. By default, controller
+ * methods are invoked on the Servlet container's request thread. Configuring an {@link Executor} dispatches the
+ * invocation onto it using the Servlet container's asynchronous request processing, so that request threads are
+ * released while repositories block.
+ *
+ * @author agent
+ * @since 2.7
+ */
+public class RequestExecutionConfiguration {
+
+	private static final Method VIRTUAL_THREAD_EXECUTOR_FACTORY = ReflectionUtils.findMethod(Executors.class,
+			"newVirtualThreadPerTaskExecutor");
+
+	private Executor executor;
+	private Long timeout;
+
+	/**
+	 * Configures the {@link Executor} to invoke the controller methods on. Defaults to {@literal null}, i.e. controller
+	 * methods are invoked on the request thread.
+	 *
+	 * @param executor can be {@literal null}.
+	 * @return the current {@link RequestExecutionConfiguration}.
+	 */
+	public RequestExecutionConfiguration setExecutor(Executor executor) {
+
+		this.executor = executor;
+		return this;
+	}
+
+	/**
+	 * Configures controller methods to be invoked on a virtual thread per request.
+	 *
+	 * @return the current {@link RequestExecutionConfiguration}.
+	 * @throws IllegalStateException in case the current JVM does not support virtual threads.
+	 */
+	public RequestExecutionConfiguration useVirtualThreads() {
+
+		if (!supportsVirtualThreads()) {
+			throw new IllegalStateException("Virtual threads are not supported by the current JVM!");
+		}
+
+		return setExecutor((Executor) ReflectionUtils.invokeMethod(VIRTUAL_THREAD_EXECUTOR_FACTORY, null));
+	}
+
+	/**
+	 * Returns whether the current JVM supports virtual threads.
+	 *
+	 * @return
+	 */
+	public static boolean supportsVirtualThreads() {
+		return VIRTUAL_THREAD_EXECUTOR_FACTORY != null;
+	}
+
+	/**
+	 * Returns the {@link Executor} to invoke controller methods on.
+	 *
+	 * @return the configured {@link Executor} or {@literal null} if controller methods are invoked on the request thread.
+	 */
+	public Executor getExecutor() {
+		return executor;
+	}
+
+	/**
+	 * Returns whether controller methods are invoked on a dedicated {@link Executor}.
+	 *
+	 * @return
+	 */
+	public boolean isAsynchronous() {
+		return executor != null;
+	}
+
+	/**
+	 * Configures the time in milliseconds after which requests dispatched onto the configured {@link Executor} time out.
+	 * Defaults to the timeout configured for asynchronous requests in general.
+	 *
+	 * @param timeout can be {@literal null}.
+	 * @return the current {@link RequestExecutionConfiguration}.
+	 */
+	public RequestExecutionConfiguration setTimeout(Long timeout) {
+
+		Assert.isTrue(timeout == null || timeout > 0, "Timeout must be greater than 0!");
+
+		this.timeout = timeout;
+		return this;
+	}
+
+	/**
+	 * Returns the time in milliseconds after which requests dispatched onto the configured {@link Executor} time out.
+	 *
+	 * @return the timeout or {@literal null} to use the default timeout for asynchronous requests.
+	 */
+	public Long getTimeout() {
+		return timeout;
+	}
+}
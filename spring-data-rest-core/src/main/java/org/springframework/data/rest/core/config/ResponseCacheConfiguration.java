@@ -0,0 +1,97 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.core.config;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import org.springframework.util.Assert;
+
+/**
+ * Configuration for the server side cache of rendered item resources. Caching is disabled by default and has to be
+ * activated for individual domain types.
+ *
+ * @author agent
+ * @since 2.7
+ */
+public class ResponseCacheConfiguration {
+
+	private final Set<Class<?>> cachedTypes = new HashSet<Class<?>>();
+	private int maximumSize = 1000;
+
+	/**
+	 * Enables caching of rendered item resources for the given domain types.
+	 *
+	 * @param domainTypes must not be {@literal null}.
+	 * @return the current {@link ResponseCacheConfiguration}.
+	 */
+	public ResponseCacheConfiguration enableFor(Class<?>... domainTypes) {
+
+		Assert.notNull(domainTypes, "Domain types must not be null!");
+
+		for (Class<?> domainType : domainTypes) {
+			this.cachedTypes.add(domainType);
+		}
+
+		return this;
+	}
+
+	/**
+	 * Returns whether caching is enabled for the given domain type.
+	 *
+	 * @param domainType must not be {@literal null}.
+	 * @return
+	 */
+	public boolean isEnabledFor(Class<?> domainType) {
+
+		Assert.notNull(domainType, "Domain type must not be null!");
+
+		return cachedTypes.contains(domainType);
+	}
+
+	/**
+	 * Returns whether caching is enabled for any domain type at all.
+	 *
+	 * @return
+	 */
+	public boolean isEnabled() {
+		return !cachedTypes.isEmpty();
+	}
+
+	/**
+	 * Configures the maximum number of rendered responses to keep. Defaults to 1000. Least recently used entries will be
+	 * evicted once the limit is reached.
+	 *
+	 * @param maximumSize must be greater than 0.
+	 * @return the current {@link ResponseCacheConfiguration}.
+	 */
+	public ResponseCacheConfiguration setMaximumSize(int maximumSize) {
+
+		Assert.isTrue(maximumSize > 0, "Maximum cache size must be greater than 0!");
+
+		this.maximumSize = maximumSize;
+		return this;
+	}
+
+	/**
+	 * Returns the maximum number of rendered responses to keep.
+	 *
+	 * @return
+	 */
+	public int getMaximumSize() {
+		return maximumSize;
+	}
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright 2015 the original author or authors.
+ * Copyright 2015-2017 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -15,6 +15,7 @@
  */
 package org.springframework.data.rest.core.support;
 
+import java.util.Collections;
 import java.util.List;
 
 import org.springframework.data.mapping.PersistentEntity;
@@ -27,7 +28,9 @@ import org.springframework.util.Assert;
 
 /**
  * Default implementation of SelfLinkProvider that uses an {@link EntityLinks} instance to create self links. Considers
- * the configured {@link EntityLookup}s to use the returned resource identifier to eventually create the link.
+ * the configured {@link EntityLookup}s to use the returned resource identifier to eventually create the link. Type and
+ * identifier of entity references supported by one of the configured {@link IdentifierExtractor}s are obtained from
+ * those, so that the references don't have to be initialized.
  * 
  * @author Oliver Gierke
  * @since 2.5
@@ -38,6 +41,7 @@ public class DefaultSelfLinkProvider implements SelfLinkProvider {
 	private final PersistentEntities entities;
 	private final EntityLinks entityLinks;
 	private final PluginRegistry<EntityLookup<?>, Class<?>> lookups;
+	private final PluginRegistry<IdentifierExtractor, Object> extractors;
 
 	/**
 	 * Creates a new {@link DefaultSelfLinkProvider} from the {@link PersistentEntities}, {@link EntityLinks} and
@@ -49,14 +53,31 @@ public class DefaultSelfLinkProvider implements SelfLinkProvider {
 	 */
 	public DefaultSelfLinkProvider(PersistentEntities entities, EntityLinks entityLinks,
 			List<? extends EntityLookup<?>> lookups) {
+		this(entities, entityLinks, lookups, Collections.<IdentifierExtractor> emptyList());
+	}
+
+	/**
+	 * Creates a new {@link DefaultSelfLinkProvider} from the {@link PersistentEntities}, {@link EntityLinks},
+	 * {@link EntityLookup}s and {@link IdentifierExtractor}s.
+	 * 
+	 * @param entities must not be {@literal null}.
+	 * @param entityLinks must not be {@literal null}.
+	 * @param lookups must not be {@literal null}.
+	 * @param extractors must not be {@literal null}.
+	 * @since 2.7
+	 */
+	public DefaultSelfLinkProvider(PersistentEntities entities, EntityLinks entityLinks,
+			List<? extends EntityLookup<?>> lookups, List<? extends IdentifierExtractor> extractors) {
 
 		Assert.notNull(entities, "PersistentEntities must not be null!");
 		Assert.notNull(entityLinks, "EntityLinks must not be null!");
 		Assert.notNull(lookups, "EntityLookups must not be null!");
+		Assert.notNull(extractors, "IdentifierExtractors must not be null!");
 
 		this.entities = entities;
 		this.entityLinks = entityLinks;
 		this.lookups = OrderAwarePluginRegistry.create(lookups);
+		this.extractors = OrderAwarePluginRegistry.create(extractors);
 	}
 
 	/*
@@ -67,6 +88,18 @@ public class DefaultSelfLinkProvider implements SelfLinkProvider {
 
 		Assert.notNull(instance, "Domain object must not be null!");
 
+		IdentifierExtractor extractor = extractors.getPluginFor(instance);
+
+		if (extractor != null) {
+
+			Class<?> type = extractor.getType(instance);
+
+			// Lookups derive the resource identifier from the entity's state
+			if (!lookups.hasPluginFor(type)) {
+				return entityLinks.linkToSingleResource(type, extractor.getIdentifier(instance));
+			}
+		}
+
 		return entityLinks.linkToSingleResource(instance.getClass(), getResourceId(instance));
 	}
 
@@ -17,6 +17,11 @@ package org.springframework.data.rest.core.support;
 
 import static org.springframework.data.rest.core.support.DomainObjectMerger.NullHandlingPolicy.*;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.core.convert.ConversionService;
 import org.springframework.data.mapping.Association;
@@ -41,6 +46,7 @@ public class DomainObjectMerger {
 
 	private final Repositories repositories;
 	private final ConversionService conversionService;
+	private final Map<Class<?>, MergePlan> plans = new ConcurrentHashMap<Class<?>, MergePlan>();
 
 	/**
 	 * Creates a new {@link DomainObjectMerger} for the given {@link Repositories} and {@link ConversionService}.
@@ -65,62 +71,61 @@ public class DomainObjectMerger {
 	 * @param target can be {@literal null}.
 	 * @param nullPolicy how to handle {@literal null} values in the source object.
 	 */
-	public void merge(Object from, Object target, final NullHandlingPolicy nullPolicy) {
+	public void merge(Object from, Object target, NullHandlingPolicy nullPolicy) {
 
 		if (from == null || target == null) {
 			return;
 		}
 
-		final PersistentEntity<?, ?> sourceEntity = repositories.getPersistentEntity(from.getClass());
-		final PersistentPropertyAccessor sourceWrapper = new ConvertingPropertyAccessor(
-				sourceEntity.getPropertyAccessor(from), conversionService);
-		final PersistentEntity<?, ?> targetEntity = repositories.getPersistentEntity(from.getClass());
-		final PersistentPropertyAccessor targetWrapper = new ConvertingPropertyAccessor(
+		PersistentEntity<?, ?> sourceEntity = repositories.getPersistentEntity(from.getClass());
+		PersistentPropertyAccessor sourceWrapper = new ConvertingPropertyAccessor(sourceEntity.getPropertyAccessor(from),
+				conversionService);
+		PersistentEntity<?, ?> targetEntity = repositories.getPersistentEntity(from.getClass());
+		PersistentPropertyAccessor targetWrapper = new ConvertingPropertyAccessor(
 				targetEntity.getPropertyAccessor(target), conversionService);
 
-		targetEntity.doWithProperties(new SimplePropertyHandler() {
+		MergePlan plan = getMergePlan(targetEntity);
 
-			/*
-			 * (non-Javadoc)
-			 * @see org.springframework.data.mapping.SimplePropertyHandler#doWithPersistentProperty(org.springframework.data.mapping.PersistentProperty)
-			 */
-			@Override
-			public void doWithPersistentProperty(PersistentProperty<?> persistentProperty) {
+		for (PersistentProperty<?> persistentProperty : plan.getProperties()) {
 
-				Object sourceValue = sourceWrapper.getProperty(persistentProperty);
-				Object targetValue = targetWrapper.getProperty(persistentProperty);
+			Object sourceValue = sourceWrapper.getProperty(persistentProperty);
+			Object targetValue = targetWrapper.getProperty(persistentProperty);
 
-				if (targetEntity.isIdProperty(persistentProperty)) {
-					return;
-				}
+			if (ObjectUtils.nullSafeEquals(sourceValue, targetValue)) {
+				continue;
+			}
 
-				if (ObjectUtils.nullSafeEquals(sourceValue, targetValue)) {
-					return;
-				}
+			if (nullPolicy == APPLY_NULLS || sourceValue != null) {
+				targetWrapper.setProperty(persistentProperty, sourceValue);
+			}
+		}
 
-				if (nullPolicy == APPLY_NULLS || sourceValue != null) {
-					targetWrapper.setProperty(persistentProperty, sourceValue);
-				}
+		for (PersistentProperty<?> persistentProperty : plan.getAssociations()) {
+
+			Object fromVal = sourceWrapper.getProperty(persistentProperty);
+
+			if (!isNullOrEmpty(fromVal) && !fromVal.equals(targetWrapper.getProperty(persistentProperty))) {
+				targetWrapper.setProperty(persistentProperty, fromVal);
 			}
-		});
+		}
+	}
 
-		targetEntity.doWithAssociations(new SimpleAssociationHandler() {
+	/**
+	 * Returns the {@link MergePlan} for the given {@link PersistentEntity}, creating and caching it if necessary.
+	 * 
+	 * @param entity must not be {@literal null}.
+	 * @return
+	 */
+	private MergePlan getMergePlan(PersistentEntity<?, ?> entity) {
 
-			/*
-			 * (non-Javadoc)
-			 * @see org.springframework.data.mapping.SimpleAssociationHandler#doWithAssociation(org.springframework.data.mapping.Association)
-			 */
-			@Override
-			public void doWithAssociation(Association<? extends PersistentProperty<?>> association) {
+		MergePlan plan = plans.get(entity.getType());
 
-				PersistentProperty<?> persistentProperty = association.getInverse();
-				Object fromVal = sourceWrapper.getProperty(persistentProperty);
+		if (plan == null) {
+			plan = new MergePlan(entity);
+			plans.put(entity.getType(), plan);
+		}
 
-				if (!isNullOrEmpty(fromVal) && !fromVal.equals(targetWrapper.getProperty(persistentProperty))) {
-					targetWrapper.setProperty(persistentProperty, fromVal);
-				}
-			}
-		});
+		return plan;
 	}
 
 	/**
@@ -153,4 +158,54 @@ public class DomainObjectMerger {
 	public static enum NullHandlingPolicy {
 		APPLY_NULLS, IGNORE_NULLS;
 	}
+
+	/**
+	 * The non-identifier properties and the associations of a {@link PersistentEntity} to be merged, computed once per
+	 * type.
+	 * 
+	 * @author agent
+	 */
+	private static class MergePlan {
+
+		private final List<PersistentProperty<?>> properties = new ArrayList<PersistentProperty<?>>();
+		private final List<PersistentProperty<?>> associations = new ArrayList<PersistentProperty<?>>();
+
+		MergePlan(final PersistentEntity<?, ?> entity) {
+
+			entity.doWithProperties(new SimplePropertyHandler() {
+
+				/*
+				 * (non-Javadoc)
+				 * @see org.springframework.data.mapping.SimplePropertyHandler#doWithPersistentProperty(org.springframework.data.mapping.PersistentProperty)
+				 */
+				@Override
+				public void doWithPersistentProperty(PersistentProperty<?> persistentProperty) {
+
+					if (!entity.isIdProperty(persistentProperty)) {
+						properties.add(persistentProperty);
+					}
+				}
+			});
+
+			entity.doWithAssociations(new SimpleAssociationHandler() {
+
+				/*
+				 * (non-Javadoc)
+				 * @see org.springframework.data.mapping.SimpleAssociationHandler#doWithAssociation(org.springframework.data.mapping.Association)
+				 */
+				@Override
+				public void doWithAssociation(Association<? extends PersistentProperty<?>> association) {
+					associations.add(association.getInverse());
+				}
+			});
+		}
+
+		List<PersistentProperty<?>> getProperties() {
+			return properties;
+		}
+
+		List<PersistentProperty<?>> getAssociations() {
+			return associations;
+		}
+	}
 }
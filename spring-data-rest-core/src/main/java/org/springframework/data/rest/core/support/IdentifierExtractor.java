@@ -0,0 +1,45 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.core.support;
+
+import org.springframework.plugin.core.Plugin;
+
+/**
+ * SPI to obtain the type and identifier of store-specific entity references, e.g. lazy-loading proxies, without
+ * initializing them. Used to create links to associated entities without loading them.
+ *
+ * @author agent
+ * @since 2.7
+ * @see DefaultSelfLinkProvider
+ */
+public interface IdentifierExtractor extends Plugin<Object> {
+
+	/**
+	 * Returns the domain type of the entity the given reference points to.
+	 *
+	 * @param reference will never be {@literal null}.
+	 * @return must not be {@literal null}.
+	 */
+	Class<?> getType(Object reference);
+
+	/**
+	 * Returns the identifier of the entity the given reference points to.
+	 *
+	 * @param reference will never be {@literal null}.
+	 * @return must not be {@literal null}.
+	 */
+	Object getIdentifier(Object reference);
+}
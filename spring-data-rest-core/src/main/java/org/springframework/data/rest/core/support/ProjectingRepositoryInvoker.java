@@ -0,0 +1,45 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.core.support;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.repository.support.RepositoryInvoker;
+
+/**
+ * Extension to {@link RepositoryInvoker} functionality to read projections directly from a repository, so that stores
+ * supporting interface or DTO based projections only have to read the data the projection needs instead of loading
+ * entire entities that are projected in memory. {@link RepositoryInvoker}s decorating others are expected to implement
+ * this interface as well and to return {@literal null} from {@link #invokeFindAll(Class, Pageable, Sort)} if the
+ * {@link RepositoryInvoker} they decorate doesn't implement it.
+ * 
+ * @author agent
+ * @since 2.7
+ * @see QueryMethodProjectingRepositoryInvokerFactory
+ */
+public interface ProjectingRepositoryInvoker extends RepositoryInvoker {
+
+	/**
+	 * Returns all instances of the domain type as projections of the given type.
+	 * 
+	 * @param projectionType must not be {@literal null}.
+	 * @param pageable can be {@literal null}.
+	 * @param sort can be {@literal null}.
+	 * @return the projections or {@literal null} in case the repository cannot return projections for the given
+	 *         parameters. Callers are expected to fall back to reading and projecting the entities in that case.
+	 */
+	Iterable<?> invokeFindAll(Class<?> projectionType, Pageable pageable, Sort sort);
+}
@@ -0,0 +1,270 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.core.support;
+
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.Value;
+
+import java.io.Serializable;
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.repository.core.RepositoryInformation;
+import org.springframework.data.repository.support.Repositories;
+import org.springframework.data.repository.support.RepositoryInvoker;
+import org.springframework.data.repository.support.RepositoryInvokerFactory;
+import org.springframework.util.Assert;
+import org.springframework.util.MultiValueMap;
+import org.springframework.util.ReflectionUtils;
+
+/**
+ * {@link RepositoryInvokerFactory} that wraps the {@link RepositoryInvoker}s returned by the delegate into
+ * {@link ProjectingRepositoryInvoker}s for repositories declaring query methods that take the projection type as
+ * dynamic projection parameter. Repositories have to declare a method named {@value #METHOD_NAME} taking a
+ * {@link Pageable} or {@link Sort} and a {@link Class}, e.g.:
+ *
+ * <pre>
+ * &#64;RestResource(exported = false)
+ * &lt;T&gt; Page&lt;T&gt; findAllProjectedBy(Pageable pageable, Class&lt;T&gt; type);
+ * </pre>
+ *
+ * @author agent
+ * @since 2.7
+ */
+public class QueryMethodProjectingRepositoryInvokerFactory implements RepositoryInvokerFactory {
+
+	public static final String METHOD_NAME = "findAllProjectedBy";
+
+	private static final ProjectingMethods NO_METHODS = new ProjectingMethods(null, null, null);
+
+	private final RepositoryInvokerFactory delegate;
+	private final Repositories repositories;
+	private final Map<Class<?>, ProjectingMethods> methods = new ConcurrentHashMap<Class<?>, ProjectingMethods>();
+
+	/**
+	 * Creates a new {@link QueryMethodProjectingRepositoryInvokerFactory} for the given delegate
+	 * {@link RepositoryInvokerFactory} and {@link Repositories}.
+	 *
+	 * @param delegate must not be {@literal null}.
+	 * @param repositories must not be {@literal null}.
+	 */
+	public QueryMethodProjectingRepositoryInvokerFactory(RepositoryInvokerFactory delegate, Repositories repositories) {
+
+		Assert.notNull(delegate, "Delegate RepositoryInvokerFactory must not be null!");
+		Assert.notNull(repositories, "Repositories must not be null!");
+
+		this.delegate = delegate;
+		this.repositories = repositories;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.repository.support.RepositoryInvokerFactory#getInvokerFor(java.lang.Class)
+	 */
+	@Override
+	public RepositoryInvoker getInvokerFor(Class<?> domainType) {
+
+		RepositoryInvoker invoker = delegate.getInvokerFor(domainType);
+		ProjectingMethods projectingMethods = getProjectingMethods(domainType);
+
+		return projectingMethods == NO_METHODS ? invoker
+				: new QueryMethodProjectingRepositoryInvoker(invoker, projectingMethods);
+	}
+
+	private ProjectingMethods getProjectingMethods(Class<?> domainType) {
+
+		ProjectingMethods result = methods.get(domainType);
+
+		if (result == null) {
+			result = detectProjectingMethods(domainType);
+			methods.put(domainType, result);
+		}
+
+		return result;
+	}
+
+	private ProjectingMethods detectProjectingMethods(Class<?> domainType) {
+
+		RepositoryInformation information = repositories.getRepositoryInformationFor(domainType);
+
+		if (information == null) {
+			return NO_METHODS;
+		}
+
+		Class<?> repositoryInterface = information.getRepositoryInterface();
+
+		Method paged = ReflectionUtils.findMethod(repositoryInterface, METHOD_NAME, Pageable.class, Class.class);
+		Method sorted = ReflectionUtils.findMethod(repositoryInterface, METHOD_NAME, Sort.class, Class.class);
+
+		if (paged == null && sorted == null) {
+			return NO_METHODS;
+		}
+
+		return new ProjectingMethods(repositories.getRepositoryFor(domainType), paged, sorted);
+	}
+
+	@Value
+	private static class ProjectingMethods {
+
+		Object repository;
+		Method paged, sorted;
+	}
+
+	/**
+	 * {@link ProjectingRepositoryInvoker} invoking the projecting query methods detected and delegating all other
+	 * invocations.
+	 *
+	 * @author agent
+	 */
+	@RequiredArgsConstructor
+	private static class QueryMethodProjectingRepositoryInvoker implements ProjectingRepositoryInvoker {
+
+		private final @NonNull RepositoryInvoker delegate;
+		private final @NonNull ProjectingMethods methods;
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.rest.core.support.ProjectingRepositoryInvoker#invokeFindAll(java.lang.Class, org.springframework.data.domain.Pageable, org.springframework.data.domain.Sort)
+		 */
+		@Override
+		public Iterable<?> invokeFindAll(Class<?> projectionType, Pageable pageable, Sort sort) {
+
+			Assert.notNull(projectionType, "Projection type must not be null!");
+
+			if (pageable != null && methods.getPaged() != null) {
+				return invoke(methods.getPaged(), pageable, projectionType);
+			}
+
+			if (pageable == null && methods.getSorted() != null) {
+				return invoke(methods.getSorted(), sort, projectionType);
+			}
+
+			return null;
+		}
+
+		private Iterable<?> invoke(Method method, Object parameter, Class<?> projectionType) {
+
+			Object result = ReflectionUtils.invokeMethod(method, methods.getRepository(), parameter, projectionType);
+
+			return result instanceof Iterable ? (Iterable<?>) result : null;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.repository.support.RepositoryInvocationInformation#hasSaveMethod()
+		 */
+		@Override
+		public boolean hasSaveMethod() {
+			return delegate.hasSaveMethod();
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.repository.support.RepositoryInvocationInformation#hasDeleteMethod()
+		 */
+		@Override
+		public boolean hasDeleteMethod() {
+			return delegate.hasDeleteMethod();
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.repository.support.RepositoryInvocationInformation#hasFindOneMethod()
+		 */
+		@Override
+		public boolean hasFindOneMethod() {
+			return delegate.hasFindOneMethod();
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.repository.support.RepositoryInvocationInformation#hasFindAllMethod()
+		 */
+		@Override
+		public boolean hasFindAllMethod() {
+			return delegate.hasFindAllMethod();
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.repository.support.RepositoryInvoker#invokeSave(java.lang.Object)
+		 */
+		@Override
+		public <T> T invokeSave(T object) {
+			return delegate.invokeSave(object);
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.repository.support.RepositoryInvoker#invokeFindOne(java.io.Serializable)
+		 */
+		@Override
+		public <T> T invokeFindOne(Serializable id) {
+			return delegate.invokeFindOne(id);
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.repository.support.RepositoryInvoker#invokeFindAll(org.springframework.data.domain.Pageable)
+		 */
+		@Override
+		public Iterable<Object> invokeFindAll(Pageable pageable) {
+			return delegate.invokeFindAll(pageable);
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.repository.support.RepositoryInvoker#invokeFindAll(org.springframework.data.domain.Sort)
+		 */
+		@Override
+		public Iterable<Object> invokeFindAll(Sort sort) {
+			return delegate.invokeFindAll(sort);
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.repository.support.RepositoryInvoker#invokeDelete(java.io.Serializable)
+		 */
+		@Override
+		public void invokeDelete(Serializable id) {
+			delegate.invokeDelete(id);
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.repository.support.RepositoryInvoker#invokeQueryMethod(java.lang.reflect.Method, java.util.Map, org.springframework.data.domain.Pageable, org.springframework.data.domain.Sort)
+		 */
+		@Override
+		@SuppressWarnings("deprecation")
+		public Object invokeQueryMethod(Method method, Map<String, String[]> parameters, Pageable pageable, Sort sort) {
+			return delegate.invokeQueryMethod(method, parameters, pageable, sort);
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.repository.support.RepositoryInvoker#invokeQueryMethod(java.lang.reflect.Method, org.springframework.util.MultiValueMap, org.springframework.data.domain.Pageable, org.springframework.data.domain.Sort)
+		 */
+		@Override
+		public Object invokeQueryMethod(Method method, MultiValueMap<String, ? extends Object> parameters,
+				Pageable pageable, Sort sort) {
+			return delegate.invokeQueryMethod(method, parameters, pageable, sort);
+		}
+	}
+}
@@ -0,0 +1,202 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.core.support;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.core.convert.ConversionException;
+import org.springframework.core.convert.ConversionService;
+import org.springframework.data.mapping.PersistentEntity;
+import org.springframework.data.mapping.context.PersistentEntities;
+import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.support.Repositories;
+import org.springframework.data.repository.support.RepositoryInvoker;
+import org.springframework.data.repository.support.RepositoryInvokerFactory;
+import org.springframework.plugin.core.OrderAwarePluginRegistry;
+import org.springframework.plugin.core.PluginRegistry;
+import org.springframework.util.Assert;
+
+/**
+ * Looks up multiple entities by their identifiers using a single {@link CrudRepository#findAll(Iterable)} call in case
+ * the repository exposes that method and the identifiers can be converted into the entity's identifier type. Falls
+ * back to individual lookups through the {@link RepositoryInvoker} otherwise. Domain types that have an
+ * {@link EntityLookup} registered are always looked up individually through the {@link RepositoryInvoker}, as the
+ * identifiers used in their URIs are not necessarily the ones {@link CrudRepository#findAll(Iterable)} expects.
+ * 
+ * @author agent
+ * @since 2.7
+ */
+public class RepositoryBatchLookup {
+
+	private final PersistentEntities entities;
+	private final Repositories repositories;
+	private final RepositoryInvokerFactory invokerFactory;
+	private final ConversionService conversionService;
+	private final PluginRegistry<EntityLookup<?>, Class<?>> lookups;
+
+	/**
+	 * Creates a new {@link RepositoryBatchLookup} for the given {@link PersistentEntities}, {@link Repositories},
+	 * {@link RepositoryInvokerFactory} and {@link ConversionService}.
+	 * 
+	 * @param entities must not be {@literal null}.
+	 * @param repositories must not be {@literal null}.
+	 * @param invokerFactory must not be {@literal null}.
+	 * @param conversionService must not be {@literal null}.
+	 */
+	public RepositoryBatchLookup(PersistentEntities entities, Repositories repositories,
+			RepositoryInvokerFactory invokerFactory, ConversionService conversionService) {
+		this(entities, repositories, invokerFactory, conversionService, Collections.<EntityLookup<?>> emptyList());
+	}
+
+	/**
+	 * Creates a new {@link RepositoryBatchLookup} for the given {@link PersistentEntities}, {@link Repositories},
+	 * {@link RepositoryInvokerFactory}, {@link ConversionService} and {@link EntityLookup}s.
+	 * 
+	 * @param entities must not be {@literal null}.
+	 * @param repositories must not be {@literal null}.
+	 * @param invokerFactory must not be {@literal null}.
+	 * @param conversionService must not be {@literal null}.
+	 * @param lookups must not be {@literal null}.
+	 */
+	public RepositoryBatchLookup(PersistentEntities entities, Repositories repositories,
+			RepositoryInvokerFactory invokerFactory, ConversionService conversionService,
+			List<? extends EntityLookup<?>> lookups) {
+
+		Assert.notNull(entities, "PersistentEntities must not be null!");
+		Assert.notNull(repositories, "Repositories must not be null!");
+		Assert.notNull(invokerFactory, "RepositoryInvokerFactory must not be null!");
+		Assert.notNull(conversionService, "ConversionService must not be null!");
+		Assert.notNull(lookups, "EntityLookups must not be null!");
+
+		this.entities = entities;
+		this.repositories = repositories;
+		this.invokerFactory = invokerFactory;
+		this.conversionService = conversionService;
+		this.lookups = OrderAwarePluginRegistry.create(lookups);
+	}
+
+	/**
+	 * Looks up the entities of the given domain type with the given identifiers.
+	 * 
+	 * @param domainType must not be {@literal null}.
+	 * @param ids must not be {@literal null}.
+	 * @return the entities in the order of the given identifiers, containing {@literal null} for the ones that could not
+	 *         be found.
+	 */
+	public List<Object> lookup(Class<?> domainType, List<? extends Serializable> ids) {
+
+		Assert.notNull(domainType, "Domain type must not be null!");
+		Assert.notNull(ids, "Identifiers must not be null!");
+
+		PersistentEntity<?, ?> entity = entities.getPersistentEntity(domainType);
+
+		Assert.notNull(entity, String.format("No PersistentEntity found for %s!", domainType.getName()));
+
+		List<Object> result = new ArrayList<Object>(ids.size());
+
+		if (ids.isEmpty()) {
+			return result;
+		}
+
+		List<Serializable> convertedIds = lookups.hasPluginFor(domainType) ? null : convertIds(entity, ids);
+		Map<Object, Object> found = convertedIds == null ? null : findAll(entity, convertedIds);
+
+		if (found == null) {
+
+			RepositoryInvoker invoker = invokerFactory.getInvokerFor(domainType);
+
+			for (Serializable id : ids) {
+				result.add(invoker.invokeFindOne(id));
+			}
+
+			return result;
+		}
+
+		for (Serializable id : convertedIds) {
+			result.add(found.get(id));
+		}
+
+		return result;
+	}
+
+	/**
+	 * Converts the given identifiers into the identifier type of the given {@link PersistentEntity}.
+	 * 
+	 * @param entity must not be {@literal null}.
+	 * @param ids must not be {@literal null}.
+	 * @return the converted identifiers or {@literal null} if they can't be converted.
+	 */
+	private List<Serializable> convertIds(PersistentEntity<?, ?> entity, List<? extends Serializable> ids) {
+
+		if (!entity.hasIdProperty()) {
+			return null;
+		}
+
+		Class<?> idType = entity.getIdProperty().getType();
+		List<Serializable> result = new ArrayList<Serializable>(ids.size());
+
+		try {
+
+			for (Serializable id : ids) {
+
+				if (id == null || !conversionService.canConvert(id.getClass(), idType)) {
+					return null;
+				}
+
+				result.add((Serializable) conversionService.convert(id, idType));
+			}
+
+		} catch (ConversionException o_O) {
+			return null;
+		}
+
+		return result;
+	}
+
+	/**
+	 * Looks up all entities with the given identifiers using {@link CrudRepository#findAll(Iterable)} and returns them
+	 * keyed by their identifier. Returns {@literal null} in case the lookup cannot be performed that way.
+	 * 
+	 * @param entity must not be {@literal null}.
+	 * @param ids must not be {@literal null}.
+	 * @return
+	 */
+	@SuppressWarnings("unchecked")
+	private Map<Object, Object> findAll(PersistentEntity<?, ?> entity, List<Serializable> ids) {
+
+		Object repository = repositories.getRepositoryFor(entity.getType());
+
+		if (!(repository instanceof CrudRepository)) {
+			return null;
+		}
+
+		Set<Serializable> uniqueIds = new LinkedHashSet<Serializable>(ids);
+		Map<Object, Object> result = new HashMap<Object, Object>(uniqueIds.size());
+
+		for (Object element : ((CrudRepository<Object, Serializable>) repository).findAll(uniqueIds)) {
+			result.put(entity.getIdentifierAccessor(element).getIdentifier(), element);
+		}
+
+		return result;
+	}
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.core.support;
+
+import lombok.NonNull;
+import lombok.Value;
+
+import org.springframework.data.repository.support.RepositoryInvoker;
+
+/**
+ * Registry abstraction to record metrics for the {@link RepositoryInvoker} invocations issued by the REST controllers.
+ * Implementations can bridge into a metrics library of choice.
+ *
+ * @author agent
+ * @since 2.7
+ */
+public interface RepositoryInvocationMetrics {
+
+	/**
+	 * Records the duration of the given {@link Invocation}.
+	 *
+	 * @param invocation will never be {@literal null}.
+	 * @param durationInNanos the duration of the invocation in nanoseconds.
+	 * @param failed whether the invocation has thrown an exception.
+	 */
+	void recordInvocation(Invocation invocation, long durationInNanos, boolean failed);
+
+	/**
+	 * Records the number of elements returned by the given {@link Invocation}. Only invoked for invocations returning a
+	 * collection or a page.
+	 *
+	 * @param invocation will never be {@literal null}.
+	 * @param size the number of elements returned.
+	 */
+	void recordResultSize(Invocation invocation, long size);
+
+	/**
+	 * The operations of a {@link RepositoryInvoker}.
+	 *
+	 * @author agent
+	 */
+	enum Operation {
+		FIND_ONE, FIND_ALL, SAVE, DELETE, QUERY_METHOD;
+	}
+
+	/**
+	 * An invocation of a {@link RepositoryInvoker} identified by domain type, {@link Operation} and, for
+	 * {@link Operation#QUERY_METHOD}, the name of the query method invoked.
+	 *
+	 * @author agent
+	 */
+	@Value
+	class Invocation {
+
+		@NonNull Class<?> domainType;
+		@NonNull Operation operation;
+		String queryMethodName;
+	}
+}
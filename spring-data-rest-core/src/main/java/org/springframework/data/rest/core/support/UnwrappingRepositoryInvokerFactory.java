@@ -116,7 +116,7 @@ public class UnwrappingRepositoryInvokerFactory implements RepositoryInvokerFact
 	 * @author Oliver Gierke
 	 */
 	@RequiredArgsConstructor
-	private static class UnwrappingRepositoryInvoker implements RepositoryInvoker {
+	private static class UnwrappingRepositoryInvoker implements ProjectingRepositoryInvoker {
 
 		private final @NonNull RepositoryInvoker delegate;
 		private final @NonNull Collection<Converter<Object, Object>> converters;
@@ -222,6 +222,16 @@ public class UnwrappingRepositoryInvokerFactory implements RepositoryInvokerFact
 			return delegate.invokeSave(object);
 		}
 
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.rest.core.support.ProjectingRepositoryInvoker#invokeFindAll(java.lang.Class, org.springframework.data.domain.Pageable, org.springframework.data.domain.Sort)
+		 */
+		@Override
+		public Iterable<?> invokeFindAll(Class<?> projectionType, Pageable pageable, Sort sort) {
+			return delegate instanceof ProjectingRepositoryInvoker
+					? ((ProjectingRepositoryInvoker) delegate).invokeFindAll(projectionType, pageable, sort) : null;
+		}
+
 		/**
 		 * Invokes the configured converters for the given result.
 		 * 
@@ -21,7 +21,9 @@ import static org.mockito.Mockito.*;
 
 import java.net.URI;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 
 import org.junit.Before;
@@ -30,15 +32,19 @@ import org.junit.runner.RunWith;
 import org.mockito.Mock;
 import org.mockito.runners.MockitoJUnitRunner;
 import org.springframework.core.convert.ConversionFailedException;
+import org.springframework.core.convert.ConversionService;
 import org.springframework.core.convert.TypeDescriptor;
 import org.springframework.core.convert.converter.GenericConverter.ConvertiblePair;
+import org.springframework.core.convert.support.DefaultConversionService;
 import org.springframework.data.annotation.Id;
 import org.springframework.data.keyvalue.core.mapping.context.KeyValueMappingContext;
 import org.springframework.data.mapping.context.PersistentEntities;
+import org.springframework.data.repository.CrudRepository;
 import org.springframework.data.repository.core.RepositoryInformation;
 import org.springframework.data.repository.support.Repositories;
 import org.springframework.data.repository.support.RepositoryInvoker;
 import org.springframework.data.repository.support.RepositoryInvokerFactory;
+import org.springframework.data.rest.core.support.EntityLookup;
 
 /**
  * Unit tests for {@link UriToEntityConverter}.
@@ -119,6 +125,91 @@ public class UriToEntityConverterUnitTests {
 		converter.convert(URI.create("1"), URI_TYPE, ENTITY_TYPE);
 	}
 
+	@Test
+	@SuppressWarnings("unchecked")
+	public void looksUpAllEntitiesWithSingleFindAllCall() {
+
+		Entity first = new Entity("1");
+		Entity second = new Entity("2");
+
+		CrudRepository<Entity, String> repository = mock(CrudRepository.class);
+		doReturn(Arrays.asList(second, first)).when(repository).findAll(new HashSet<String>(Arrays.asList("1", "2")));
+		doReturn(repository).when(repositories).getRepositoryFor(Entity.class);
+
+		List<Object> result = converter.convertAll(Arrays.asList(URI.create("/foo/1"), URI.create("/foo/2"),
+				URI.create("/foo/1"), URI.create("/foo/3")), ENTITY_TYPE);
+
+		assertThat(result, is(Arrays.<Object> asList(first, second, first, null)));
+		verify(repository, times(1)).findAll(any(Iterable.class));
+		verifyZeroInteractions(invokerFactory);
+	}
+
+	@Test
+	public void fallsBackToIndividualLookupsForRepositoriesNotExposingFindAll() {
+
+		Entity first = new Entity("1");
+		Entity second = new Entity("2");
+
+		RepositoryInvoker invoker = mock(RepositoryInvoker.class);
+		doReturn(first).when(invoker).invokeFindOne("1");
+		doReturn(second).when(invoker).invokeFindOne("2");
+		doReturn(invoker).when(invokerFactory).getInvokerFor(ENTITY_TYPE.getType());
+		doReturn(new Object()).when(repositories).getRepositoryFor(Entity.class);
+
+		List<Object> result = converter.convertAll(Arrays.asList(URI.create("/foo/1"), URI.create("/foo/2")),
+				ENTITY_TYPE);
+
+		assertThat(result, is(Arrays.<Object> asList(first, second)));
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void looksUpEntitiesIndividuallyIfEntityLookupIsRegistered() {
+
+		EntityLookup<Object> lookup = mock(EntityLookup.class);
+		doReturn(true).when(lookup).supports(Entity.class);
+
+		converter = new UriToEntityConverter(new PersistentEntities(Arrays.asList(this.context)), invokerFactory,
+				repositories, new DefaultConversionService(), Arrays.asList(lookup));
+
+		Entity first = new Entity("1");
+
+		RepositoryInvoker invoker = mock(RepositoryInvoker.class);
+		doReturn(first).when(invoker).invokeFindOne("first");
+		doReturn(invoker).when(invokerFactory).getInvokerFor(ENTITY_TYPE.getType());
+
+		CrudRepository<Entity, String> repository = mock(CrudRepository.class);
+		doReturn(repository).when(repositories).getRepositoryFor(Entity.class);
+
+		List<Object> result = converter.convertAll(Arrays.asList(URI.create("/foo/first")), ENTITY_TYPE);
+
+		assertThat(result, is(Arrays.<Object> asList(first)));
+		verify(repository, never()).findAll(any(Iterable.class));
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void convertsIdentifiersForBatchLookupUsingGivenConversionService() {
+
+		ConversionService conversionService = mock(ConversionService.class);
+		doReturn(true).when(conversionService).canConvert(String.class, String.class);
+		doReturn("1").when(conversionService).convert("first", String.class);
+
+		converter = new UriToEntityConverter(new PersistentEntities(Arrays.asList(this.context)), invokerFactory,
+				repositories, conversionService, Collections.<EntityLookup<?>> emptyList());
+
+		Entity first = new Entity("1");
+
+		CrudRepository<Entity, String> repository = mock(CrudRepository.class);
+		doReturn(Arrays.asList(first)).when(repository).findAll(new HashSet<String>(Arrays.asList("1")));
+		doReturn(repository).when(repositories).getRepositoryFor(Entity.class);
+
+		List<Object> result = converter.convertAll(Arrays.asList(URI.create("/foo/first")), ENTITY_TYPE);
+
+		assertThat(result, is(Arrays.<Object> asList(first)));
+		verify(conversionService).convert("first", String.class);
+	}
+
 	@Test(expected = IllegalArgumentException.class) // DATAREST-741
 	public void rejectsNullPersistentEntities() {
 		new UriToEntityConverter(null, invokerFactory, repositories);
@@ -135,7 +226,14 @@ public class UriToEntityConverterUnitTests {
 	}
 
 	static class Entity {
+
 		@Id String id;
+
+		Entity() {}
+
+		Entity(String id) {
+			this.id = id;
+		}
 	}
 
 	static class NonEntity {
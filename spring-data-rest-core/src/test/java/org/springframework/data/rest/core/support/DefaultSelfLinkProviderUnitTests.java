@@ -120,6 +120,46 @@ public class DefaultSelfLinkProviderUnitTests {
 		assertThat(link.getHref(), Matchers.endsWith("foo"));
 	}
 
+	@Test
+	public void usesIdentifierExtractorForSupportedReferences() {
+
+		Object reference = new Object();
+
+		IdentifierExtractor extractor = mock(IdentifierExtractor.class);
+		when(extractor.supports(reference)).thenReturn(true);
+		doReturn(Profile.class).when(extractor).getType(reference);
+		when(extractor.getIdentifier(reference)).thenReturn(4711L);
+
+		this.provider = new DefaultSelfLinkProvider(entities, entityLinks, lookups, Arrays.asList(extractor));
+
+		Link link = provider.createSelfLinkFor(reference);
+
+		assertThat(link.getHref(), Matchers.endsWith(Profile.class.getName().concat("/4711")));
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void prefersEntityLookupOverIdentifierExtractor() {
+
+		Profile profile = new Profile("Name", "Type");
+
+		EntityLookup<Object> lookup = mock(EntityLookup.class);
+		when(lookup.supports(Profile.class)).thenReturn(true);
+		when(lookup.getResourceIdentifier(any(Profile.class))).thenReturn("foo");
+
+		IdentifierExtractor extractor = mock(IdentifierExtractor.class);
+		when(extractor.supports(profile)).thenReturn(true);
+		doReturn(Profile.class).when(extractor).getType(profile);
+
+		this.provider = new DefaultSelfLinkProvider(entities, entityLinks, Arrays.asList(lookup),
+				Arrays.asList(extractor));
+
+		Link link = provider.createSelfLinkFor(profile);
+
+		assertThat(link.getHref(), Matchers.endsWith("foo"));
+		verify(extractor, never()).getIdentifier(profile);
+	}
+
 	@Test // DATAREST-724
 	public void rejectsLinkCreationForUnknownEntity() {
 
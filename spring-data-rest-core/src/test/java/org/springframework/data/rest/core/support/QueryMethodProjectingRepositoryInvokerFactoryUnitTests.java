@@ -0,0 +1,133 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.core.support;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.junit.Assert.*;
+import static org.mockito.Matchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.Collections;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.core.RepositoryInformation;
+import org.springframework.data.repository.support.Repositories;
+import org.springframework.data.repository.support.RepositoryInvoker;
+import org.springframework.data.repository.support.RepositoryInvokerFactory;
+
+/**
+ * Unit tests for {@link QueryMethodProjectingRepositoryInvokerFactory}.
+ * 
+ * @author agent
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class QueryMethodProjectingRepositoryInvokerFactoryUnitTests {
+
+	@Mock RepositoryInvokerFactory delegate;
+	@Mock RepositoryInvoker delegateInvoker;
+	@Mock Repositories repositories;
+	@Mock RepositoryInformation information;
+	@Mock ProjectingRepository repository;
+
+	RepositoryInvokerFactory factory;
+
+	@Before
+	@SuppressWarnings({ "rawtypes", "unchecked" })
+	public void setUp() {
+
+		when(repositories.getRepositoryInformationFor(Sample.class)).thenReturn(information);
+		when(repositories.getRepositoryFor(Sample.class)).thenReturn(repository);
+		when(information.getRepositoryInterface()).thenReturn((Class) ProjectingRepository.class);
+
+		when(delegate.getInvokerFor(any(Class.class))).thenReturn(delegateInvoker);
+
+		this.factory = new QueryMethodProjectingRepositoryInvokerFactory(delegate, repositories);
+	}
+
+	@Test
+	public void invokesPagedQueryMethodWithProjectionType() {
+
+		Pageable pageable = new PageRequest(0, 10);
+		Page<Object> page = new PageImpl<Object>(Collections.emptyList());
+
+		doReturn(page).when(repository).findAllProjectedBy(pageable, SampleProjection.class);
+
+		assertThat(getInvoker().invokeFindAll(SampleProjection.class, pageable, null), is((Object) page));
+	}
+
+	@Test
+	public void delegatesOtherInvocations() {
+
+		Sample sample = new Sample();
+
+		getInvoker().invokeSave(sample);
+
+		verify(delegateInvoker).invokeSave(sample);
+	}
+
+	@Test
+	@SuppressWarnings({ "rawtypes", "unchecked" })
+	public void returnsDelegateInvokerForRepositoryNotDeclaringQueryMethod() {
+
+		when(repositories.getRepositoryInformationFor(Object.class)).thenReturn(information);
+		when(information.getRepositoryInterface()).thenReturn((Class) PlainRepository.class);
+
+		assertThat(factory.getInvokerFor(Object.class), is(delegateInvoker));
+	}
+
+	@Test
+	public void returnsNullIfNoSortedQueryMethodIsDeclared() {
+		assertThat(getInvoker().invokeFindAll(SampleProjection.class, null, new Sort("name")), is(nullValue()));
+	}
+
+	@Test
+	public void looksUpQueryMethodsOnlyOnce() {
+
+		factory.getInvokerFor(Sample.class);
+		factory.getInvokerFor(Sample.class);
+
+		verify(repositories, times(1)).getRepositoryInformationFor(Sample.class);
+	}
+
+	private ProjectingRepositoryInvoker getInvoker() {
+
+		RepositoryInvoker invoker = factory.getInvokerFor(Sample.class);
+
+		assertThat(invoker, is(instanceOf(ProjectingRepositoryInvoker.class)));
+
+		return (ProjectingRepositoryInvoker) invoker;
+	}
+
+	static class Sample {}
+
+	interface SampleProjection {}
+
+	interface ProjectingRepository extends Repository<Sample, Long> {
+		<T> Page<T> findAllProjectedBy(Pageable pageable, Class<T> type);
+	}
+
+	interface PlainRepository extends Repository<Object, Long> {}
+}
@@ -44,6 +44,9 @@ public interface PersonRepository extends PagingAndSortingRepository<Person, Lon
 	@RestResource(rel = "lastname", path = "lastname")
 	List<Person> findByLastName(@Param("lastname") String lastName, Sort sort);
 
+	@RestResource(exported = false)
+	long countByLastName(@Param("lastname") String lastName);
+
 	Person findFirstPersonByFirstName(@Param("firstname") String firstName);
 
 	Page<Person> findByCreatedGreaterThan(@Param("date") Date date, Pageable pageable);
@@ -51,4 +54,7 @@ public interface PersonRepository extends PagingAndSortingRepository<Person, Lon
 	@Query("select p from Person p where p.created > :date")
 	Page<Person> findByCreatedUsingISO8601Date(@Param("date") @DateTimeFormat(iso = ISO.DATE_TIME) Date date,
 			Pageable pageable);
+
+	@RestResource(exported = false)
+	<T> Page<T> findAllProjectedBy(Pageable pageable, Class<T> type);
 }
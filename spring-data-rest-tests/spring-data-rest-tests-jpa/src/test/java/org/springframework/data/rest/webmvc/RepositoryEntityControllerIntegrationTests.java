@@ -72,7 +72,7 @@ public class RepositoryEntityControllerIntegrationTests extends AbstractControll
 		repository.save(new Address());
 
 		RootResourceInformation request = getResourceInformation(Address.class);
-		controller.getCollectionResource(request, null, null, null);
+		controller.getCollectionResource(request, null, null, null, null);
 	}
 
 	@Test(expected = HttpRequestMethodNotSupportedException.class) // DATAREST-217
@@ -58,7 +58,8 @@ public class RepositoryPropertyReferenceControllerIntegrationTests extends Abstr
 
 		Book book = books.findAll().iterator().next();
 
-		assertThat(controller.followPropertyReference(information, book.id, "creators", assembler).getStatusCode(),
+		assertThat(
+				controller.followPropertyReference(information, book.id, "creators", null, null, assembler).getStatusCode(),
 				is(HttpStatus.OK));
 	}
 
@@ -67,6 +68,6 @@ public class RepositoryPropertyReferenceControllerIntegrationTests extends Abstr
 
 		Book book = books.findAll().iterator().next();
 
-		controller.followPropertyReference(information, book.id, "authors", assembler);
+		controller.followPropertyReference(information, book.id, "authors", null, null, assembler);
 	}
 }
@@ -170,6 +170,24 @@ public class RepositorySearchControllerIntegrationTests extends AbstractControll
 		assertThat(result.getBody(), is(instanceOf(Resources.class)));
 	}
 
+	@Test
+	public void interpretsUrisConsistentlyForSubsequentSearches() {
+
+		RootResourceInformation resourceInformation = getResourceInformation(Book.class);
+
+		for (int i = 0; i < 2; i++) {
+
+			MultiValueMap<String, Object> parameters = new LinkedMultiValueMap<String, Object>(1);
+			parameters.add("author", "/author/1");
+
+			ResponseEntity<?> result = controller.executeSearch(resourceInformation, parameters, "findByAuthorsContains",
+					PAGEABLE, null, assembler, new HttpHeaders());
+
+			assertThat(result.getBody(), is(instanceOf(Resources.class)));
+			assertThat(parameters.getFirst("author"), is((Object) "/author/1"));
+		}
+	}
+
 	@Test // DATAREST-515
 	public void repositorySearchResourceExposesDomainType() {
 
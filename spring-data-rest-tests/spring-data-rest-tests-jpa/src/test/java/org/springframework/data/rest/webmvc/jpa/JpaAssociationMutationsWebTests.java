@@ -0,0 +1,235 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc.jpa;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+
+import org.hibernate.Session;
+import org.hibernate.stat.Statistics;
+import org.junit.After;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.mapping.PersistentProperty;
+import org.springframework.data.mapping.context.PersistentEntities;
+import org.springframework.data.rest.core.config.RepositoryRestConfiguration;
+import org.springframework.data.rest.core.event.AbstractRepositoryEventListener;
+import org.springframework.data.rest.tests.AbstractWebIntegrationTests;
+import org.springframework.data.rest.webmvc.RestMediaTypes;
+import org.springframework.data.rest.webmvc.config.RepositoryRestMvcConfiguration;
+import org.springframework.data.rest.webmvc.spi.AssociationMutations;
+import org.springframework.plugin.core.PluginRegistry;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.junit4.SpringJUnit4ClassRunner;
+import org.springframework.test.context.web.WebAppConfiguration;
+
+/**
+ * Web integration tests for links added to and removed from collection associations. Not transactional on purpose so
+ * that the owner is detached when the changes are applied.
+ *
+ * @author agent
+ */
+@RunWith(SpringJUnit4ClassRunner.class)
+@WebAppConfiguration
+@ContextConfiguration(classes = JpaAssociationMutationsWebTests.Config.class)
+public class JpaAssociationMutationsWebTests extends AbstractWebIntegrationTests {
+
+	@Configuration
+	@Import({ RepositoryRestMvcConfiguration.class, JpaRepositoryConfig.class })
+	static class Config {
+
+		@Bean
+		RenamingLinkSaveListener renamingLinkSaveListener() {
+			return new RenamingLinkSaveListener();
+		}
+	}
+
+	/**
+	 * Changes the last name of a {@link Person} siblings are added to.
+	 *
+	 * @author agent
+	 */
+	static class RenamingLinkSaveListener extends AbstractRepositoryEventListener<Person> {
+
+		volatile String lastName;
+
+		@Override
+		protected void onBeforeLinkSave(Person parent, Object linked) {
+
+			if (lastName != null) {
+				parent.setLastName(lastName);
+			}
+		}
+	}
+
+	@Autowired PersonRepository people;
+	@Autowired RenamingLinkSaveListener listener;
+	@Autowired RepositoryRestConfiguration configuration;
+	@Autowired PluginRegistry<AssociationMutations, PersistentProperty<?>> mutations;
+	@Autowired PersistentEntities entities;
+	@Autowired EntityManagerFactory factory;
+
+	List<Person> created = new ArrayList<Person>();
+
+	@After
+	public void tearDown() {
+
+		listener.lastName = null;
+		configuration.setIncrementalAssociationUpdates(false);
+
+		people.delete(created);
+	}
+
+	@Test
+	public void persistsOwnerStateModifiedByLinkSaveListener() throws Exception {
+
+		Person frodo = save(new Person("Frodo", "Baggins"));
+		Person bilbo = save(new Person("Bilbo", "Baggins"));
+
+		listener.lastName = "Underhill";
+
+		mvc.perform(post("/people/{id}/siblings", frodo.getId())//
+				.content("http://localhost/people/" + bilbo.getId())//
+				.contentType(RestMediaTypes.TEXT_URI_LIST))//
+				.andExpect(status().isNoContent());
+
+		mvc.perform(get("/people/{id}", frodo.getId()))//
+				.andExpect(jsonPath("$.lastName").value("Underhill"));
+
+		mvc.perform(get("/people/{id}/siblings", frodo.getId()))//
+				.andExpect(jsonPath("$._embedded.people[*].firstName", contains("Bilbo")));
+	}
+
+	@Test
+	public void removesAllOccurrencesOfEntityIncrementally() throws Exception {
+
+		Person bilbo = save(new Person("Bilbo", "Baggins"));
+		Person sam = save(new Person("Sam", "Gamgee"));
+
+		Person frodo = new Person("Frodo", "Baggins");
+		frodo.addSibling(bilbo).addSibling(sam).addSibling(bilbo);
+		frodo = save(frodo);
+
+		configuration.setIncrementalAssociationUpdates(true);
+
+		mvc.perform(delete("/people/{id}/siblings/{siblingId}", frodo.getId(), bilbo.getId()))//
+				.andExpect(status().isNoContent());
+
+		mvc.perform(get("/people/{id}/siblings", frodo.getId()))//
+				.andExpect(jsonPath("$._embedded.people[*].firstName", contains("Sam")));
+	}
+
+	@Test
+	public void addsEntityToBagWithoutInitializingIt() throws Exception {
+
+		Person bilbo = save(new Person("Bilbo", "Baggins"));
+		Person sam = save(new Person("Sam", "Gamgee"));
+		Person frodo = save(new Person("Frodo", "Baggins").addSibling(bilbo));
+
+		PersistentProperty<?> siblings = getSiblingsProperty();
+		Statistics statistics = startStatistics();
+
+		try {
+
+			mutations.getPluginFor(siblings).add(siblings, frodo, Collections.singletonList(sam));
+
+			// Lookup of the owner and a single insert into the join table
+			assertThat(statistics.getPrepareStatementCount(), is(2L));
+			assertThat(statistics.getCollectionLoadCount(), is(0L));
+			assertThat(statistics.getCollectionRecreateCount(), is(0L));
+
+		} finally {
+			statistics.setStatisticsEnabled(false);
+		}
+
+		mvc.perform(get("/people/{id}/siblings", frodo.getId()))//
+				.andExpect(jsonPath("$._embedded.people[*].firstName", containsInAnyOrder("Bilbo", "Sam")));
+	}
+
+	@Test
+	public void removesEntityFromBagWithoutRecreatingIt() throws Exception {
+
+		Person bilbo = save(new Person("Bilbo", "Baggins"));
+		Person sam = save(new Person("Sam", "Gamgee"));
+		Person frodo = save(new Person("Frodo", "Baggins").addSibling(bilbo).addSibling(sam).addSibling(bilbo));
+
+		PersistentProperty<?> siblings = getSiblingsProperty();
+		Statistics statistics = startStatistics();
+
+		try {
+
+			mutations.getPluginFor(siblings).remove(siblings, frodo, Collections.singletonList(bilbo));
+
+			// Lookup of the owner and a single delete of all join table rows referring to the entity
+			assertThat(statistics.getPrepareStatementCount(), is(2L));
+			assertThat(statistics.getCollectionLoadCount(), is(0L));
+			assertThat(statistics.getCollectionRecreateCount(), is(0L));
+
+		} finally {
+			statistics.setStatisticsEnabled(false);
+		}
+
+		mvc.perform(get("/people/{id}/siblings", frodo.getId()))//
+				.andExpect(jsonPath("$._embedded.people[*].firstName", contains("Sam")));
+	}
+
+	private PersistentProperty<?> getSiblingsProperty() {
+
+		PersistentProperty<?> siblings = entities.getPersistentEntity(Person.class).getPersistentProperty("siblings");
+
+		assertThat(mutations.hasPluginFor(siblings), is(true));
+
+		return siblings;
+	}
+
+	private Statistics startStatistics() {
+
+		EntityManager em = factory.createEntityManager();
+
+		try {
+
+			Statistics statistics = em.unwrap(Session.class).getSessionFactory().getStatistics();
+			statistics.setStatisticsEnabled(true);
+			statistics.clear();
+
+			return statistics;
+
+		} finally {
+			em.close();
+		}
+	}
+
+	private Person save(Person person) {
+
+		Person result = people.save(person);
+		created.add(0, result);
+
+		return result;
+	}
+}
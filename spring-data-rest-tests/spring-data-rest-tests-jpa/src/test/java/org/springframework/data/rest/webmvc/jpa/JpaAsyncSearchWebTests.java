@@ -0,0 +1,118 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc.jpa;
+
+import static org.hamcrest.Matchers.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.rest.core.config.RepositoryRestConfiguration;
+import org.springframework.data.rest.tests.AbstractWebIntegrationTests;
+import org.springframework.data.rest.webmvc.config.RepositoryRestConfigurerAdapter;
+import org.springframework.data.rest.webmvc.config.RepositoryRestMvcConfiguration;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.junit4.SpringJUnit4ClassRunner;
+import org.springframework.test.context.web.WebAppConfiguration;
+import org.springframework.test.web.servlet.MvcResult;
+
+/**
+ * Web integration tests for the asynchronous execution of searches.
+ *
+ * @author agent
+ */
+@RunWith(SpringJUnit4ClassRunner.class)
+@WebAppConfiguration
+@ContextConfiguration(classes = JpaAsyncSearchWebTests.Config.class)
+public class JpaAsyncSearchWebTests extends AbstractWebIntegrationTests {
+
+	@Configuration
+	@Import({ RepositoryRestMvcConfiguration.class, JpaRepositoryConfig.class })
+	static class Config extends RepositoryRestConfigurerAdapter {
+
+		@Override
+		public void configureRepositoryRestConfiguration(RepositoryRestConfiguration config) {
+
+			config.getAsyncSearchConfiguration()//
+					.enableFor(PersonRepository.class, "findByLastName")//
+					.setExecutor(searchExecutor());
+
+			config.getBatchRequestConfiguration().setEnabled(true);
+		}
+
+		@Bean
+		ThreadPoolTaskExecutor searchExecutor() {
+
+			ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+			executor.setCorePoolSize(2);
+			executor.setMaxPoolSize(2);
+			executor.setQueueCapacity(10);
+
+			return executor;
+		}
+	}
+
+	@Autowired TestDataPopulator loader;
+
+	@Before
+	@Override
+	public void setUp() {
+
+		loader.populateRepositories();
+		super.setUp();
+	}
+
+	@Test
+	public void executesSearchEnabledForAsynchronousExecutionOnExecutor() throws Exception {
+
+		MvcResult result = mvc.perform(get("/people/search/lastname").param("lastname", "Doe")).//
+				andExpect(request().asyncStarted()).//
+				andReturn();
+
+		mvc.perform(asyncDispatch(result)).//
+				andExpect(status().isOk()).//
+				andExpect(jsonPath("$._embedded.people", hasSize(2))).//
+				andExpect(jsonPath("$._embedded.people[0]._links.self.href", startsWith("http://localhost/people/")));
+	}
+
+	@Test
+	public void executesOtherSearchesSynchronously() throws Exception {
+
+		mvc.perform(get("/people/search/firstname").param("firstname", "John")).//
+				andExpect(request().asyncNotStarted()).//
+				andExpect(status().isOk());
+	}
+
+	@Test
+	public void executesAsynchronousSearchWithinBatchRequestSynchronously() throws Exception {
+
+		String batch = "[ { \"method\" : \"GET\", \"href\" : \"/people/search/lastname?lastname=Doe\" } ]";
+
+		mvc.perform(post("/batch").contentType(MediaType.APPLICATION_JSON).content(batch)).//
+				andExpect(request().asyncNotStarted()).//
+				andExpect(status().isOk()).//
+				andExpect(jsonPath("$.responses[0].status").value(200)).//
+				andExpect(jsonPath("$.responses[0].body._embedded.people", hasSize(2)));
+	}
+}
@@ -0,0 +1,153 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc.jpa;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import org.junit.After;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.rest.core.config.RepositoryRestConfiguration;
+import org.springframework.data.rest.tests.AbstractWebIntegrationTests;
+import org.springframework.data.rest.webmvc.config.RepositoryRestConfigurerAdapter;
+import org.springframework.data.rest.webmvc.config.RepositoryRestMvcConfiguration;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.junit4.SpringJUnit4ClassRunner;
+import org.springframework.test.context.web.WebAppConfiguration;
+
+/**
+ * Web integration tests for batch requests.
+ *
+ * @author agent
+ */
+@RunWith(SpringJUnit4ClassRunner.class)
+@WebAppConfiguration
+@ContextConfiguration(classes = JpaBatchWebTests.Config.class)
+public class JpaBatchWebTests extends AbstractWebIntegrationTests {
+
+	@Configuration
+	@Import({ RepositoryRestMvcConfiguration.class, JpaRepositoryConfig.class })
+	static class Config extends RepositoryRestConfigurerAdapter {
+
+		@Override
+		public void configureRepositoryRestConfiguration(RepositoryRestConfiguration config) {
+			config.getBatchRequestConfiguration().setEnabled(true).setMaxOperations(3);
+		}
+	}
+
+	@Autowired ReceiptRepository receipts;
+	@Autowired RepositoryRestConfiguration configuration;
+
+	@After
+	public void tearDown() {
+		receipts.deleteAll();
+	}
+
+	@Test
+	public void executesOperationsInOrder() throws Exception {
+
+		String batch = "[ { \"method\" : \"POST\", \"href\" : \"/receipts\", \"body\" : { \"saleItem\" : \"Coffee\" } },"
+				+ " { \"method\" : \"GET\", \"href\" : \"/receipts?page=0\" } ]";
+
+		mvc.perform(post("/batch").contentType(MediaType.APPLICATION_JSON).content(batch))//
+				.andExpect(status().isOk())//
+				.andExpect(jsonPath("$.responses[0].status").value(201))//
+				.andExpect(jsonPath("$.responses[0].headers.Location").exists())//
+				.andExpect(jsonPath("$.responses[1].status").value(200))//
+				.andExpect(jsonPath("$.responses[1].body._embedded.receipts[0].saleItem").value("Coffee"))//
+				.andExpect(jsonPath("$.rolledBack").value(false));
+	}
+
+	@Test
+	public void reportsFailingOperationsWithoutAbortingNonAtomicBatch() throws Exception {
+
+		String batch = "[ { \"method\" : \"DELETE\", \"href\" : \"/receipts/4711\" },"
+				+ " { \"method\" : \"POST\", \"href\" : \"/receipts\", \"body\" : { \"saleItem\" : \"Coffee\" } } ]";
+
+		mvc.perform(post("/batch").contentType(MediaType.APPLICATION_JSON).content(batch))//
+				.andExpect(status().isOk())//
+				.andExpect(jsonPath("$.responses[0].status").value(404))//
+				.andExpect(jsonPath("$.responses[1].status").value(201));
+
+		assertThat(receipts.count(), is(1L));
+	}
+
+	@Test
+	public void rollsBackAtomicBatchOnFailure() throws Exception {
+
+		String batch = "[ { \"method\" : \"POST\", \"href\" : \"/receipts\", \"body\" : { \"saleItem\" : \"Coffee\" } },"
+				+ " { \"method\" : \"DELETE\", \"href\" : \"/receipts/4711\" },"
+				+ " { \"method\" : \"POST\", \"href\" : \"/receipts\", \"body\" : { \"saleItem\" : \"Tea\" } } ]";
+
+		mvc.perform(post("/batch").param("atomic", "true").contentType(MediaType.APPLICATION_JSON).content(batch))//
+				.andExpect(status().isOk())//
+				.andExpect(jsonPath("$.responses", hasSize(2)))//
+				.andExpect(jsonPath("$.responses[1].status").value(404))//
+				.andExpect(jsonPath("$.rolledBack").value(true));
+
+		assertThat(receipts.count(), is(0L));
+	}
+
+	@Test
+	public void rejectsBatchRequestsIfNotEnabled() throws Exception {
+
+		String batch = "[ { \"method\" : \"POST\", \"href\" : \"/receipts\", \"body\" : { \"saleItem\" : \"Coffee\" } } ]";
+
+		configuration.getBatchRequestConfiguration().setEnabled(false);
+
+		try {
+
+			mvc.perform(post("/batch").contentType(MediaType.APPLICATION_JSON).content(batch))//
+					.andExpect(status().isNotFound());
+
+		} finally {
+			configuration.getBatchRequestConfiguration().setEnabled(true);
+		}
+
+		assertThat(receipts.count(), is(0L));
+	}
+
+	@Test
+	public void rejectsBatchExceedingMaximumNumberOfOperations() throws Exception {
+
+		String operation = "{ \"method\" : \"POST\", \"href\" : \"/receipts\", \"body\" : { \"saleItem\" : \"Coffee\" } }";
+		String batch = "[ " + operation + ", " + operation + ", " + operation + ", " + operation + " ]";
+
+		mvc.perform(post("/batch").contentType(MediaType.APPLICATION_JSON).content(batch))//
+				.andExpect(status().isBadRequest());
+
+		assertThat(receipts.count(), is(0L));
+	}
+
+	@Test
+	public void rejectsNestedBatchRequests() throws Exception {
+
+		String batch = "[ { \"method\" : \"POST\", \"href\" : \"/receipts\", \"body\" : { \"saleItem\" : \"Coffee\" } },"
+				+ " { \"method\" : \"POST\", \"href\" : \"/batch\", \"body\" : [] } ]";
+
+		mvc.perform(post("/batch").contentType(MediaType.APPLICATION_JSON).content(batch))//
+				.andExpect(status().isBadRequest());
+
+		assertThat(receipts.count(), is(0L));
+	}
+}
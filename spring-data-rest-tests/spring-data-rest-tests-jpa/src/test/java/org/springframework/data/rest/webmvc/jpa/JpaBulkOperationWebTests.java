@@ -0,0 +1,170 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc.jpa;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.rest.core.config.RepositoryRestConfiguration;
+import org.springframework.data.rest.core.event.AbstractRepositoryEventListener;
+import org.springframework.data.rest.tests.AbstractWebIntegrationTests;
+import org.springframework.data.rest.webmvc.config.RepositoryRestConfigurerAdapter;
+import org.springframework.data.rest.webmvc.config.RepositoryRestMvcConfiguration;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.junit4.SpringJUnit4ClassRunner;
+import org.springframework.test.context.web.WebAppConfiguration;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Web integration tests for bulk operations on collection resources.
+ *
+ * @author agent
+ */
+@RunWith(SpringJUnit4ClassRunner.class)
+@WebAppConfiguration
+@ContextConfiguration(classes = JpaBulkOperationWebTests.Config.class)
+@Transactional
+public class JpaBulkOperationWebTests extends AbstractWebIntegrationTests {
+
+	@Configuration
+	@Import({ RepositoryRestMvcConfiguration.class, JpaRepositoryConfig.class })
+	static class Config extends RepositoryRestConfigurerAdapter {
+
+		@Override
+		public void configureRepositoryRestConfiguration(RepositoryRestConfiguration config) {
+
+			// Bulk operations are limited independently of identifier lookups
+			config.setMaxIdsPerRequest(2);
+			config.getBulkOperationConfiguration().enableFor(Receipt.class).setChunkSize(2).setMaxEntities(4);
+		}
+
+		@Bean
+		FailingReceiptDeleteListener failingReceiptDeleteListener() {
+			return new FailingReceiptDeleteListener();
+		}
+	}
+
+	/**
+	 * Rejects the deletion of a particular {@link Receipt}.
+	 *
+	 * @author agent
+	 */
+	static class FailingReceiptDeleteListener extends AbstractRepositoryEventListener<Receipt> {
+
+		volatile Long rejectedId;
+
+		@Override
+		protected void onBeforeDelete(Receipt receipt) {
+
+			if (receipt.getId().equals(rejectedId)) {
+				throw new IllegalArgumentException("Receipt must not be deleted!");
+			}
+		}
+	}
+
+	@Autowired ReceiptRepository receipts;
+	@Autowired FailingReceiptDeleteListener listener;
+
+	@Test
+	public void deletesEntitiesByIdsInChunks() throws Exception {
+
+		Receipt first = receipts.save(new Receipt());
+		Receipt second = receipts.save(new Receipt());
+		Receipt third = receipts.save(new Receipt());
+
+		mvc.perform(delete("/receipts").param("id", first.getId() + "," + second.getId() + "," + third.getId() + ",4711"))//
+				.andExpect(status().isOk())//
+				.andExpect(jsonPath("$.processed").value(3))//
+				.andExpect(jsonPath("$.chunks").value(2))//
+				.andExpect(jsonPath("$.missingIds[0]").value("4711"));
+
+		assertThat(receipts.count(), is(0L));
+	}
+
+	@Test
+	public void patchesEntitiesByIds() throws Exception {
+
+		Receipt first = receipts.save(new Receipt());
+		Receipt second = receipts.save(new Receipt());
+
+		mvc.perform(patch("/receipts").param("id", first.getId() + "," + second.getId())//
+				.contentType(MediaType.APPLICATION_JSON)//
+				.content("{ \"saleItem\" : \"Updated\" }"))//
+				.andExpect(status().isOk())//
+				.andExpect(jsonPath("$.processed").value(2))//
+				.andExpect(jsonPath("$.missingIds").doesNotExist());
+
+		for (Receipt receipt : receipts.findAll()) {
+			assertThat(receipt.getSaleItem(), is("Updated"));
+		}
+	}
+
+	@Test
+	public void rejectsBulkOperationsForTypesNotEnabled() throws Exception {
+		mvc.perform(delete("/people").param("id", "1")).andExpect(status().isMethodNotAllowed());
+	}
+
+	@Test
+	public void rejectsBulkOperationsWithoutCriteria() throws Exception {
+		mvc.perform(delete("/receipts")).andExpect(status().isBadRequest());
+	}
+
+	@Test
+	public void rejectsBulkOperationsForMoreIdentifiersThanAllowed() throws Exception {
+
+		Receipt receipt = receipts.save(new Receipt());
+
+		mvc.perform(delete("/receipts").param("id", receipt.getId() + ",4711,4712,4713,4714"))//
+				.andExpect(status().isBadRequest());
+
+		assertThat(receipts.count(), is(1L));
+	}
+
+	@Test
+	@Transactional(propagation = Propagation.NOT_SUPPORTED)
+	public void commitsChunksProcessedBeforeAFailingOne() throws Exception {
+
+		Receipt first = receipts.save(new Receipt());
+		Receipt second = receipts.save(new Receipt());
+		Receipt third = receipts.save(new Receipt());
+
+		listener.rejectedId = third.getId();
+
+		try {
+
+			mvc.perform(delete("/receipts").param("id", first.getId() + "," + second.getId() + "," + third.getId()))//
+					.andExpect(status().isInternalServerError());
+
+			assertThat(receipts.exists(first.getId()), is(false));
+			assertThat(receipts.exists(second.getId()), is(false));
+			assertThat(receipts.exists(third.getId()), is(true));
+
+		} finally {
+			listener.rejectedId = null;
+			receipts.deleteAll();
+		}
+	}
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc.jpa;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.junit.Assert.*;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+
+import org.hibernate.Hibernate;
+import org.hibernate.proxy.HibernateProxy;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.mapping.context.PersistentEntities;
+import org.springframework.data.rest.webmvc.PersistentEntityResource;
+import org.springframework.data.rest.webmvc.config.RepositoryRestMvcConfiguration;
+import org.springframework.hateoas.Link;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.junit4.SpringJUnit4ClassRunner;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jayway.jsonpath.JsonPath;
+
+/**
+ * Integration tests for the rendering of links to lazy-loading references.
+ *
+ * @author agent
+ */
+@RunWith(SpringJUnit4ClassRunner.class)
+@ContextConfiguration
+@Transactional
+public class JpaLazyReferenceLinkIntegrationTests {
+
+	@Configuration
+	@Import({ RepositoryRestMvcConfiguration.class, JpaRepositoryConfig.class })
+	static class Config {}
+
+	@Autowired PersonRepository people;
+	@Autowired OrderRepository orders;
+	@Autowired PersistentEntities entities;
+	@Autowired @Qualifier("halObjectMapper") ObjectMapper mapper;
+	@PersistenceContext EntityManager em;
+
+	@Before
+	public void setUp() {
+		RequestContextHolder.setRequestAttributes(new ServletWebRequest(new MockHttpServletRequest()));
+	}
+
+	@After
+	public void tearDown() {
+		RequestContextHolder.resetRequestAttributes();
+	}
+
+	@Test
+	public void rendersNestedAssociationLinkWithoutInitializingProxy() throws Exception {
+
+		Person creator = people.save(new Person("Frodo", "Baggins"));
+		Order order = orders.save(new Order(creator));
+
+		em.flush();
+		em.clear();
+
+		Order reloaded = em.find(Order.class, order.getId());
+		Person reference = reloaded.getCreator();
+
+		assertThat(reference, is(instanceOf(HibernateProxy.class)));
+		assertThat(Hibernate.isInitialized(reference), is(false));
+
+		PersistentEntityResource resource = PersistentEntityResource
+				.build(reloaded, entities.getPersistentEntity(Order.class)).buildNested();
+		String href = JsonPath.read(mapper.writeValueAsString(resource), "$._links.creator.href");
+
+		assertThat(new Link(href).expand().getHref(), endsWith("/people/" + creator.getId()));
+		assertThat(Hibernate.isInitialized(reference), is(false));
+	}
+}
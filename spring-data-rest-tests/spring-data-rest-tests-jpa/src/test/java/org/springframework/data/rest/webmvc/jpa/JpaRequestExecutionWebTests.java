@@ -0,0 +1,249 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc.jpa;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.data.rest.core.config.RepositoryRestConfiguration;
+import org.springframework.data.rest.tests.AbstractWebIntegrationTests;
+import org.springframework.data.rest.webmvc.config.RepositoryRestConfigurerAdapter;
+import org.springframework.data.rest.webmvc.config.RepositoryRestMvcConfiguration;
+import org.springframework.data.rest.webmvc.support.ItemResourceResponseCache;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.junit4.SpringJUnit4ClassRunner;
+import org.springframework.test.context.web.WebAppConfiguration;
+import org.springframework.test.web.servlet.MvcResult;
+
+/**
+ * Web integration tests for controller methods being invoked on a configured executor.
+ *
+ * @author agent
+ */
+@RunWith(SpringJUnit4ClassRunner.class)
+@WebAppConfiguration
+@ContextConfiguration(classes = JpaRequestExecutionWebTests.Config.class)
+public class JpaRequestExecutionWebTests extends AbstractWebIntegrationTests {
+
+	static final int POOL_SIZE = 2;
+	static final Set<String> WORKER_THREADS = Collections.synchronizedSet(new HashSet<String>());
+	static final AtomicInteger COMPLETED_INVOCATIONS = new AtomicInteger();
+	static volatile CountDownLatch gate = new CountDownLatch(0);
+
+	@Configuration
+	@Import({ RepositoryRestMvcConfiguration.class, JpaRepositoryConfig.class })
+	static class Config extends RepositoryRestConfigurerAdapter {
+
+		@Override
+		public void configureRepositoryRestConfiguration(RepositoryRestConfiguration config) {
+			config.getRequestExecutionConfiguration().setExecutor(requestExecutor());
+			config.getBatchRequestConfiguration().setEnabled(true);
+			config.getResponseCacheConfiguration().enableFor(Person.class);
+		}
+
+		@Bean
+		ThreadPoolTaskExecutor requestExecutor() {
+
+			ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+			executor.setCorePoolSize(POOL_SIZE);
+			executor.setMaxPoolSize(POOL_SIZE);
+			executor.setThreadNamePrefix("repository-rest-");
+			executor.setTaskDecorator(new TaskDecorator() {
+
+				@Override
+				public Runnable decorate(final Runnable runnable) {
+
+					return new Runnable() {
+
+						@Override
+						public void run() {
+
+							WORKER_THREADS.add(Thread.currentThread().getName());
+
+							try {
+								gate.await();
+								runnable.run();
+							} catch (InterruptedException o_O) {
+								Thread.currentThread().interrupt();
+							} finally {
+								COMPLETED_INVOCATIONS.incrementAndGet();
+							}
+						}
+					};
+				}
+			});
+
+			return executor;
+		}
+	}
+
+	@Autowired TestDataPopulator loader;
+	@Autowired PersonRepository people;
+	@Autowired ItemResourceResponseCache cache;
+
+	@Before
+	@Override
+	public void setUp() {
+
+		loader.populateRepositories();
+		super.setUp();
+
+		WORKER_THREADS.clear();
+		COMPLETED_INVOCATIONS.set(0);
+		cache.clear();
+	}
+
+	@Test
+	public void invokesControllerOnConfiguredExecutor() throws Exception {
+
+		MvcResult result = mvc.perform(get("/people")).//
+				andExpect(request().asyncStarted()).//
+				andReturn();
+
+		mvc.perform(asyncDispatch(result)).//
+				andExpect(status().isOk()).//
+				andExpect(jsonPath("$._embedded.people", hasSize(3))).//
+				andExpect(jsonPath("$._embedded.people[0]._links.self.href", startsWith("http://localhost/people/")));
+
+		assertThat(WORKER_THREADS, everyItem(startsWith("repository-rest-")));
+	}
+
+	@Test
+	public void rendersExceptionsThrownOnExecutor() throws Exception {
+
+		MvcResult result = mvc.perform(get("/people/{id}", 4711)).//
+				andExpect(request().asyncStarted()).//
+				andReturn();
+
+		mvc.perform(asyncDispatch(result)).//
+				andExpect(status().isNotFound());
+	}
+
+	@Test
+	public void invokesControllersNotUsingRepositoriesOnRequestThread() throws Exception {
+
+		mvc.perform(get("/")).//
+				andExpect(request().asyncNotStarted()).//
+				andExpect(status().isOk());
+
+		mvc.perform(options("/people")).//
+				andExpect(request().asyncNotStarted()).//
+				andExpect(status().isOk());
+
+		mvc.perform(head("/people/{id}", people.findAll().iterator().next().getId())).//
+				andExpect(request().asyncNotStarted()).//
+				andExpect(status().isNoContent());
+
+		assertThat(WORKER_THREADS, is(empty()));
+	}
+
+	@Test
+	public void executesBatchSubRequestsOnRequestThread() throws Exception {
+
+		String batch = "[ { \"method\" : \"GET\", \"href\" : \"/people\" } ]";
+
+		mvc.perform(post("/batch").contentType(MediaType.APPLICATION_JSON).content(batch)).//
+				andExpect(request().asyncNotStarted()).//
+				andExpect(status().isOk()).//
+				andExpect(jsonPath("$.responses[0].status").value(200)).//
+				andExpect(jsonPath("$.responses[0].body._embedded.people", hasSize(3)));
+
+		assertThat(WORKER_THREADS, is(empty()));
+	}
+
+	@Test
+	public void replaysCachedResponseWrittenOnExecutor() throws Exception {
+
+		Long id = people.findAll().iterator().next().getId();
+
+		MvcResult first = mvc.perform(get("/people/{id}", id)).//
+				andExpect(request().asyncStarted()).//
+				andReturn();
+
+		String rendered = mvc.perform(asyncDispatch(first)).//
+				andExpect(status().isOk()).//
+				andReturn().getResponse().getContentAsString();
+
+		long hits = cache.getStatistics().getHitCount();
+
+		MvcResult second = mvc.perform(get("/people/{id}", id)).//
+				andExpect(request().asyncStarted()).//
+				andReturn();
+
+		mvc.perform(asyncDispatch(second)).//
+				andExpect(status().isOk()).//
+				andExpect(forwardedUrl(null));
+
+		// The cached response is written to the response by the controller invoked on the executor
+		assertThat(cache.getStatistics().getHitCount(), is(hits + 1));
+		assertThat(second.getResponse().getContentAsString(), is(rendered));
+		assertThat(WORKER_THREADS, everyItem(startsWith("repository-rest-")));
+	}
+
+	/**
+	 * Holds back all controller invocations while the requests are issued from the single test thread. Invoked
+	 * synchronously, the first request would occupy the request thread until its invocation completed, i.e. forever. With
+	 * the executor, every request releases the request thread before its invocation even started, so that all of them
+	 * are in flight at the same time while only {@value #POOL_SIZE} worker threads are in use. Measuring throughput or
+	 * latency against a synchronous baseline under load is out of scope for this test.
+	 */
+	@Test
+	public void releasesRequestThreadWhileInvocationsArePending() throws Exception {
+
+		int numberOfRequests = 50;
+		List<MvcResult> results = new ArrayList<MvcResult>(numberOfRequests);
+
+		gate = new CountDownLatch(1);
+
+		try {
+
+			for (int i = 0; i < numberOfRequests; i++) {
+				results.add(mvc.perform(get("/people")).andExpect(request().asyncStarted()).andReturn());
+			}
+
+			assertThat(COMPLETED_INVOCATIONS.get(), is(0));
+
+		} finally {
+			gate.countDown();
+		}
+
+		for (MvcResult result : results) {
+			mvc.perform(asyncDispatch(result)).andExpect(status().isOk());
+		}
+
+		assertThat(WORKER_THREADS.size(), is(lessThanOrEqualTo(POOL_SIZE)));
+	}
+}
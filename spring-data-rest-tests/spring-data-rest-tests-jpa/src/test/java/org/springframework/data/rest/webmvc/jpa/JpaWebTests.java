@@ -28,9 +28,14 @@ import java.math.BigDecimal;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+
+import org.hibernate.Session;
 import org.junit.Before;
 import org.junit.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -69,6 +74,8 @@ public class JpaWebTests extends CommonWebTests {
 	@Autowired TestDataPopulator loader;
 	@Autowired ResourceMappings mappings;
 	@Autowired RelProvider relProvider;
+	@Autowired PersonRepository personRepository;
+	@PersistenceContext EntityManager em;
 
 	ObjectMapper mapper = new ObjectMapper();
 
@@ -419,6 +426,113 @@ public class JpaWebTests extends CommonWebTests {
 		assertJsonPathDoesntExist("$.lineItems", response);
 	}
 
+	@Test
+	public void readsProjectionFromRepositoryIfSupported() throws Exception {
+
+		Link people = client.discoverUnique("people");
+		String uri = UriComponentsBuilder.fromUriString(people.expand().getHref()).queryParam("projection", "names")
+				.build().toUriString();
+
+		// Make sure entities loaded by the request would show up in the persistence context
+		em.flush();
+		em.clear();
+
+		MockHttpServletResponse response = mvc.perform(get(uri)). //
+				andExpect(status().isOk()). //
+				andExpect(jsonPath("$._embedded.people[0].firstName", is(notNullValue()))). //
+				andExpect(jsonPath("$._embedded.people[0]._links.self.href", is(notNullValue()))). //
+				andExpect(jsonPath("$._embedded.people[0]._links.siblings.href", is(notNullValue()))). //
+				andExpect(jsonPath("$._embedded.people[0]._links.father.href", is(notNullValue()))). //
+				andReturn().getResponse();
+
+		assertJsonPathDoesntExist("$._embedded.people[0].lastName", response);
+		assertThat(em.unwrap(Session.class).getStatistics().getEntityCount(), is(0));
+	}
+
+	@Test
+	public void rendersRequestedFieldsOnly() throws Exception {
+
+		Link people = client.discoverUnique("people");
+		String uri = UriComponentsBuilder.fromUriString(people.expand().getHref()).queryParam("fields", "firstName,father")
+				.build().toUriString();
+
+		MockHttpServletResponse response = mvc.perform(get(uri)). //
+				andExpect(status().isOk()). //
+				andExpect(jsonPath("$._embedded.people[0].firstName", is(notNullValue()))). //
+				andExpect(jsonPath("$._embedded.people[0]._links.self.href", is(notNullValue()))). //
+				andExpect(jsonPath("$._embedded.people[0]._links.father.href", is(notNullValue()))). //
+				andReturn().getResponse();
+
+		assertJsonPathDoesntExist("$._embedded.people[0].lastName", response);
+		assertJsonPathDoesntExist("$._embedded.people[0]._links.siblings", response);
+	}
+
+	@Test
+	public void appliesRequestedFieldsInsteadOfReadingProjectionFromRepository() throws Exception {
+
+		Link people = client.discoverUnique("people");
+		String uri = UriComponentsBuilder.fromUriString(people.expand().getHref()).queryParam("projection", "names")
+				.queryParam("fields", "lastName").build().toUriString();
+
+		em.flush();
+		em.clear();
+
+		MockHttpServletResponse response = mvc.perform(get(uri)). //
+				andExpect(status().isOk()). //
+				andExpect(jsonPath("$._embedded.people[0].lastName", is(notNullValue()))). //
+				andExpect(jsonPath("$._embedded.people[0]._links.self.href", is(notNullValue()))). //
+				andReturn().getResponse();
+
+		assertJsonPathDoesntExist("$._embedded.people[0].firstName", response);
+		assertJsonPathDoesntExist("$._embedded.people[0]._links.siblings", response);
+		assertThat(em.unwrap(Session.class).getStatistics().getEntityCount(), is(greaterThan(0)));
+	}
+
+	@Test
+	public void rejectsFieldsNotPresentOnTheDomainType() throws Exception {
+
+		Link people = client.discoverUnique("people");
+		String uri = UriComponentsBuilder.fromUriString(people.expand().getHref()).queryParam("fields", "firstName,foo")
+				.build().toUriString();
+
+		mvc.perform(get(uri)).andExpect(status().isBadRequest());
+	}
+
+	@Test
+	public void looksUpEntitiesByIdsInRequestedOrder() throws Exception {
+
+		Iterator<Person> iterator = personRepository.findAll().iterator();
+		Person first = iterator.next();
+		Person second = iterator.next();
+
+		Link people = client.discoverUnique("people");
+		String uri = UriComponentsBuilder.fromUriString(people.expand().getHref())
+				.queryParam("id", second.getId() + "," + first.getId() + ",4711").build().toUriString();
+
+		mvc.perform(get(uri)). //
+				andExpect(status().isOk()). //
+				andExpect(jsonPath("$._embedded.people", hasSize(2))). //
+				andExpect(jsonPath("$._embedded.people[0].firstName", is(second.getFirstName()))). //
+				andExpect(jsonPath("$._embedded.people[1].firstName", is(first.getFirstName()))). //
+				andExpect(jsonPath("$.missingIds", contains("4711")));
+	}
+
+	@Test
+	public void rejectsLookupOfTooManyIds() throws Exception {
+
+		List<String> ids = new ArrayList<String>();
+
+		for (int i = 0; i <= 100; i++) {
+			ids.add(String.valueOf(i));
+		}
+
+		Link people = client.discoverUnique("people");
+		String uri = UriComponentsBuilder.fromUriString(people.expand().getHref())
+				.queryParam("id", StringUtils.collectionToCommaDelimitedString(ids)).build().toUriString();
+
+		mvc.perform(get(uri)).andExpect(status().isBadRequest());
+	}
+
 	@Test // DATAREST-261
 	public void relProviderDetectsCustomizedMapping() {
 		assertThat(relProvider.getCollectionResourceRelFor(Person.class), is("people"));
@@ -564,6 +678,76 @@ public class JpaWebTests extends CommonWebTests {
 		}
 	}
 
+	@Test
+	public void removesIndividualEntityFromCollectionAssociation() throws Exception {
+
+		List<Link> links = preparePersonResources(new Person("Frodo", "Baggins"), //
+				new Person("Bilbo", "Baggins"), new Person("Sam", "Gamgee"));
+
+		Link frodosSiblingsLink = links.get(0).expand();
+		String bilboHref = links.get(1).getHref();
+
+		mvc.perform(post(frodosSiblingsLink.getHref()).//
+				content(toUriList(links.get(1), links.get(2))).//
+				contentType(TEXT_URI_LIST)).//
+				andExpect(status().isNoContent());
+
+		mvc.perform(delete(frodosSiblingsLink.getHref() + bilboHref.substring(bilboHref.lastIndexOf('/')))).//
+				andExpect(status().isNoContent());
+
+		assertSiblingNames(frodosSiblingsLink, "Sam");
+	}
+
+	@Test
+	public void exposesCountOfCollectionResource() throws Exception {
+
+		Link booksLink = client.discoverUnique("books");
+
+		mvc.perform(head(booksLink.expand().getHref())).//
+				andExpect(status().isNoContent()).//
+				andExpect(header().string("X-Total-Count", "2"));
+	}
+
+	@Test
+	public void exposesCountOfSearchUsingCountQueryMethod() throws Exception {
+
+		Link peopleLink = client.discoverUnique("people");
+
+		mvc.perform(get(peopleLink.expand().getHref() + "/search/lastname/count").param("lastname", "Doe")).//
+				andExpect(status().isOk()).//
+				andExpect(header().string("X-Total-Count", "2"));
+	}
+
+	@Test
+	public void exposesCountOfSearchWithoutCountQueryMethod() throws Exception {
+
+		Link booksLink = client.discoverUnique("books");
+
+		mvc.perform(get(booksLink.expand().getHref() + "/search/findByTitleIsLike/count")).//
+				andExpect(status().isOk()).//
+				andExpect(header().string("X-Total-Count", "2"));
+	}
+
+	@Test
+	public void doesNotExposeCountOfSearchReturningAList() throws Exception {
+
+		Link ordersLink = client.discoverUnique("orders");
+
+		mvc.perform(get(ordersLink.expand().getHref() + "/search/findByType/count").param("type", "TAKE_AWAY")).//
+				andExpect(status().isNotFound());
+	}
+
+	@Test
+	public void exposesCountOfCollectionAssociation() throws Exception {
+
+		MockHttpServletResponse response = client.request(client.discoverUnique("books"));
+		String authorsHref = JsonPath.read(response.getContentAsString(), "$._embedded.books[0]._links.authors.href");
+
+		mvc.perform(head(authorsHref)).//
+				andExpect(status().isNoContent()).//
+				andExpect(header().string("X-Total-Count", "6"));
+	}
+
 	@Test // DATAREST-658
 	public void returnsLinkHeadersForHeadRequestToItemResource() throws Exception {
 
@@ -686,6 +870,90 @@ public class JpaWebTests extends CommonWebTests {
 		assertThat(persons, hasItems(siblingNames));
 	}
 
+	@Test
+	public void pagesAndSortsCollectionAssociation() throws Exception {
+
+		MockHttpServletResponse response = client.request(client.discoverUnique("books"));
+		String authorsHref = JsonPath.read(response.getContentAsString(), "$._embedded.books[0]._links.authors.href");
+
+		mvc.perform(get(authorsHref + "?page=0&size=2&sort=name,asc")).//
+				andExpect(status().isOk()).//
+				andExpect(jsonPath("$._embedded.authors", hasSize(2))).//
+				andExpect(jsonPath("$._embedded.authors[0].name").value("David")).//
+				andExpect(jsonPath("$._embedded.authors[1].name").value("John")).//
+				andExpect(jsonPath("$.page.totalElements").value(6)).//
+				andExpect(jsonPath("$._links.next.href", is(notNullValue())));
+
+		mvc.perform(get(authorsHref + "?sort=name,desc")).//
+				andExpect(jsonPath("$._embedded.authors", hasSize(6))).//
+				andExpect(jsonPath("$._embedded.authors[0].name").value("Thomas"));
+	}
+
+	@Test
+	public void returnsCompleteCollectionAssociationIfNotPaged() throws Exception {
+
+		MockHttpServletResponse response = client.request(client.discoverUnique("books"));
+		String authorsHref = JsonPath.read(response.getContentAsString(), "$._embedded.books[0]._links.authors.href");
+
+		mvc.perform(get(authorsHref)).//
+				andExpect(status().isOk()).//
+				andExpect(jsonPath("$._embedded.authors", hasSize(6))).//
+				andExpect(jsonPath("$.page").doesNotExist());
+	}
+
+	@Test
+	public void rendersCollectionResourceAsUriList() throws Exception {
+
+		MockHttpServletResponse response = mvc.perform(get("/people").accept(TEXT_URI_LIST)).//
+				andExpect(status().isOk()).//
+				andExpect(content().contentTypeCompatibleWith(TEXT_URI_LIST)).//
+				andReturn().getResponse();
+
+		String[] uris = StringUtils.tokenizeToStringArray(response.getContentAsString(), "\r\n");
+
+		assertThat(uris.length, is(3));
+
+		for (String uri : uris) {
+			assertThat(uri, startsWith("http://localhost/people/"));
+		}
+	}
+
+	@Test
+	public void rendersPageOfCollectionAssociationAsUriList() throws Exception {
+
+		MockHttpServletResponse response = client.request(client.discoverUnique("books"));
+		String authorsHref = JsonPath.read(response.getContentAsString(), "$._embedded.books[0]._links.authors.href");
+		String page = authorsHref + "?page=0&size=2&sort=name,asc";
+
+		response = mvc.perform(get(page)).andReturn().getResponse();
+		List<String> selfLinks = JsonPath.read(response.getContentAsString(), "$._embedded.authors[*]._links.self.href");
+
+		response = mvc.perform(get(page).accept(TEXT_URI_LIST)).//
+				andExpect(status().isOk()).//
+				andReturn().getResponse();
+
+		assertThat(Arrays.asList(StringUtils.tokenizeToStringArray(response.getContentAsString(), "\r\n")),
+				is(selfLinks));
+	}
+
+	@Test
+	public void looksUpIndividualEntityOfCollectionAssociation() throws Exception {
+
+		MockHttpServletResponse response = client.request(client.discoverUnique("books"));
+		String authorsHref = JsonPath.read(response.getContentAsString(), "$._embedded.books[0]._links.authors.href");
+
+		response = client.request(authorsHref);
+		String authorHref = JsonPath.read(response.getContentAsString(), "$._embedded.authors[0]._links.self.href");
+		String authorId = authorHref.substring(authorHref.lastIndexOf('/') + 1);
+
+		mvc.perform(get(authorsHref + "/" + authorId)).//
+				andExpect(status().isOk()).//
+				andExpect(header().string("Content-Location", authorHref));
+
+		mvc.perform(get(authorsHref + "/4711")).//
+				andExpect(status().isNotFound());
+	}
+
 	private void assertPersonWithNameAndSiblingLink(String name) throws Exception {
 
 		MockHttpServletResponse response = client.request(client.discoverUnique("people"));
@@ -30,7 +30,10 @@ import org.springframework.data.rest.webmvc.jpa.Order;
 import org.springframework.data.rest.webmvc.jpa.Person;
 import org.springframework.hateoas.Link;
 import org.springframework.hateoas.Links;
+import org.springframework.mock.web.MockHttpServletRequest;
 import org.springframework.test.context.ContextConfiguration;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
 import org.springframework.web.util.UriComponents;
 import org.springframework.web.util.UriComponentsBuilder;
 
@@ -54,6 +57,24 @@ public class RepositoryEntityLinksIntegrationTests extends AbstractControllerInt
 		assertThat(link.getRel(), is("person"));
 	}
 
+	@Test
+	public void reusesItemLinkPrefixForSubsequentLinks() {
+
+		Link first = entityLinks.linkToSingleResource(Person.class, 1);
+		Link second = entityLinks.linkToSingleResource(Person.class, 2);
+
+		assertThat(second.getHref(), is(first.getHref().replace("/people/1", "/people/2")));
+		assertThat(second.getRel(), is("person"));
+	}
+
+	@Test
+	public void encodesIdentifiersNotAppendableToItemLinkPrefix() {
+
+		Link link = entityLinks.linkToSingleResource(Person.class, "foo bar");
+
+		assertThat(link.getHref(), endsWith("/people/foo%20bar{?projection}"));
+	}
+
 	@Test
 	public void returnsTemplatedLinkForPagingResource() {
 
@@ -156,4 +177,32 @@ public class RepositoryEntityLinksIntegrationTests extends AbstractControllerInt
 			assertThat(link.getVariableNames(), hasItem("projection"));
 		}
 	}
+
+	@Test
+	public void reusesSearchResourceLinksForSameBaseUri() {
+
+		Links first = entityLinks.linksToSearchResources(Person.class);
+		Links second = entityLinks.linksToSearchResources(Person.class);
+
+		assertThat(second.getLink("firstname"), is(sameInstance(first.getLink("firstname"))));
+		assertThat(entityLinks.linkToSearchResource(Person.class, "firstname"),
+				is(sameInstance(first.getLink("firstname"))));
+		assertThat(entityLinks.linkToCollectionResource(Person.class),
+				is(sameInstance(entityLinks.linkToCollectionResource(Person.class))));
+	}
+
+	@Test
+	public void createsSearchResourceLinksPerBaseUri() {
+
+		Link link = entityLinks.linkToSearchResource(Person.class, "firstname");
+
+		MockHttpServletRequest request = new MockHttpServletRequest();
+		request.setServerName("example.com");
+		RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+
+		Link other = entityLinks.linkToSearchResource(Person.class, "firstname");
+
+		assertThat(other.getHref(), startsWith("http://example.com/"));
+		assertThat(other.getHref(), is(link.getHref().replace("localhost", "example.com")));
+	}
 }
@@ -0,0 +1,126 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.tests.mongodb;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import org.junit.After;
+import org.junit.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.rest.core.config.RepositoryRestConfiguration;
+import org.springframework.data.rest.tests.AbstractWebIntegrationTests;
+import org.springframework.data.rest.webmvc.config.RepositoryRestConfigurerAdapter;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ContextConfiguration;
+
+/**
+ * Web integration tests for bulk operations selecting entities by a Querydsl predicate.
+ *
+ * @author agent
+ */
+@ContextConfiguration(classes = MongoBulkOperationWebTests.Config.class)
+public class MongoBulkOperationWebTests extends AbstractWebIntegrationTests {
+
+	@Configuration
+	@Import(MongoDbRepositoryConfig.class)
+	static class Config extends RepositoryRestConfigurerAdapter {
+
+		@Override
+		public void configureRepositoryRestConfiguration(RepositoryRestConfiguration config) {
+			config.getBulkOperationConfiguration().enableFor(User.class).setChunkSize(1).setMaxEntities(3);
+		}
+	}
+
+	@Autowired UserRepository users;
+
+	@After
+	public void cleanUp() {
+		users.deleteAll();
+	}
+
+	@Test
+	public void deletesMatchesInChunks() throws Exception {
+
+		saveUsers("Baggins", "Baggins", "Baggins", "Gamgee");
+
+		mvc.perform(delete("/users").param("lastname", "Baggins"))//
+				.andExpect(status().isOk())//
+				.andExpect(jsonPath("$.processed").value(3))//
+				.andExpect(jsonPath("$.chunks").value(3));
+
+		assertThat(users.count(), is(1L));
+	}
+
+	@Test
+	public void patchesMatchesNoLongerMatchingAfterwards() throws Exception {
+
+		saveUsers("Baggins", "Baggins", "Baggins");
+
+		mvc.perform(patch("/users").param("lastname", "Baggins")//
+				.contentType(MediaType.APPLICATION_JSON)//
+				.content("{ \"lastname\" : \"Took\" }"))//
+				.andExpect(status().isOk())//
+				.andExpect(jsonPath("$.processed").value(3));
+
+		for (User user : users.findAll()) {
+			assertThat(user.lastname, is("Took"));
+		}
+	}
+
+	@Test
+	public void patchesMatchesStillMatchingAfterwards() throws Exception {
+
+		saveUsers("Baggins", "Baggins", "Baggins");
+
+		mvc.perform(patch("/users").param("lastname", "Baggins")//
+				.contentType(MediaType.APPLICATION_JSON)//
+				.content("{ \"firstname\" : \"Updated\" }"))//
+				.andExpect(status().isOk())//
+				.andExpect(jsonPath("$.processed").value(3));
+
+		for (User user : users.findAll()) {
+			assertThat(user.firstname, is("Updated"));
+		}
+	}
+
+	@Test
+	public void rejectsPredicateMatchingMoreEntitiesThanAllowed() throws Exception {
+
+		saveUsers("Baggins", "Baggins", "Baggins", "Baggins");
+
+		mvc.perform(delete("/users").param("lastname", "Baggins"))//
+				.andExpect(status().isBadRequest());
+
+		assertThat(users.count(), is(4L));
+	}
+
+	private void saveUsers(String... lastnames) {
+
+		for (String lastname : lastnames) {
+
+			User user = new User();
+			user.firstname = "Frodo";
+			user.lastname = lastname;
+
+			users.save(user);
+		}
+	}
+}
@@ -24,6 +24,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 import java.math.BigDecimal;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Iterator;
 
 import org.junit.After;
 import org.junit.Before;
@@ -117,6 +118,25 @@ public class MongoWebTests extends CommonWebTests {
 				andExpect(jsonPath("$._embedded.profiles").value(hasSize(2)));
 	}
 
+	@Test
+	public void looksUpDocumentsByIdsInRequestedOrder() throws Exception {
+
+		Iterator<Profile> iterator = repository.findAll().iterator();
+		Profile first = iterator.next();
+		Profile second = iterator.next();
+
+		Link profileLink = client.discoverUnique("profiles");
+		String uri = UriComponentsBuilder.fromUriString(profileLink.expand().getHref())
+				.queryParam("id", second.getId() + "," + first.getId() + ",4711").build().toUriString();
+
+		mvc.perform(get(uri)). //
+				andExpect(status().isOk()). //
+				andExpect(jsonPath("$._embedded.profiles", hasSize(2))). //
+				andExpect(jsonPath("$._embedded.profiles[0]._links.self.href", endsWith(second.getId()))). //
+				andExpect(jsonPath("$._embedded.profiles[1]._links.self.href", endsWith(first.getId()))). //
+				andExpect(jsonPath("$.missingIds", contains("4711")));
+	}
+
 	@Test
 	public void rendersEmbeddedDocuments() throws Exception {
 
@@ -230,6 +250,18 @@ public class MongoWebTests extends CommonWebTests {
 				andExpect(jsonPath("$.embedded.users[0].address").doesNotExist());
 	}
 
+	@Test
+	public void doesNotExposeCountOfAssociationWithoutCountQuery() throws Exception {
+
+		Link usersLink = client.discoverUnique("users");
+		Link userLink = assertHasContentLinkWithRel("self", client.request(usersLink));
+		Link colleaguesLink = client.assertHasLinkWithRel("colleagues", client.request(userLink));
+
+		mvc.perform(head(colleaguesLink.expand().getHref()))//
+				.andExpect(status().isNoContent())//
+				.andExpect(header().doesNotExist("X-Total-Count"));
+	}
+
 	@Test // DATAREST-482
 	public void emptiesAssociationForEmptyUriList() throws Exception {
 
@@ -337,4 +369,24 @@ public class MongoWebTests extends CommonWebTests {
 				.andExpect(header().string("ETag", is(nullValue())))//
 				.andExpect(header().string("Last-Modified", is(nullValue())));
 	}
+
+	@Test
+	public void rejectsIdentifierLookupForQuerydslRepository() throws Exception {
+
+		Link usersLink = client.discoverUnique("users");
+		User user = userRepository.findAll().iterator().next();
+
+		mvc.perform(get(usersLink.expand().getHref()).param("id", user.id.toString()))//
+				.andExpect(status().isBadRequest());
+	}
+
+	@Test
+	public void exposesCountOfCollectionResourceMatchingQuerydslPredicate() throws Exception {
+
+		Link usersLink = client.discoverUnique("users");
+
+		mvc.perform(head(usersLink.expand().getHref()).param("firstname", "Thomas"))//
+				.andExpect(status().isNoContent())//
+				.andExpect(header().string("X-Total-Count", "1"));
+	}
 }
@@ -56,6 +56,7 @@ import org.springframework.test.util.ReflectionTestUtils;
 public class QuerydslAwareRootResourceInformationHandlerMethodArgumentResolverUnitTests {
 
 	static final Map<String, String[]> NO_PARAMETERS = Collections.emptyMap();
+	static final Map<String, String[]> FIRSTNAME = Collections.singletonMap("firstname", new String[] { "Dave" });
 
 	@Mock Repositories repositories;
 	@Mock RepositoryInvokerFactory invokerFactory;
@@ -97,11 +98,23 @@ public class QuerydslAwareRootResourceInformationHandlerMethodArgumentResolverUn
 		Object repository = mock(QuerydslUserRepository.class);
 		when(repositories.getRepositoryFor(User.class)).thenReturn(repository);
 
-		RepositoryInvoker result = resolver.postProcess(parameter, invoker, User.class, NO_PARAMETERS);
+		RepositoryInvoker result = resolver.postProcess(parameter, invoker, User.class, FIRSTNAME);
 
 		assertThat(result, is(instanceOf(QuerydslRepositoryInvokerAdapter.class)));
 	}
 
+	@Test
+	public void returnsInvokerIfNoPredicateGotBound() {
+
+		Object repository = mock(QuerydslUserRepository.class);
+		when(repositories.getRepositoryFor(User.class)).thenReturn(repository);
+
+		RepositoryInvoker result = resolver.postProcess(parameter, invoker, User.class,
+				Collections.singletonMap("page", new String[] { "0" }));
+
+		assertThat(result, is(invoker));
+	}
+
 	@Test // DATAREST-616
 	public void invokesCustomizationOnRepositoryIfItImplementsCustomizer() {
 
@@ -109,7 +122,7 @@ public class QuerydslAwareRootResourceInformationHandlerMethodArgumentResolverUn
 		when(repositories.hasRepositoryFor(User.class)).thenReturn(true);
 		when(repositories.getRepositoryFor(User.class)).thenReturn(repository);
 
-		RepositoryInvoker result = resolver.postProcess(parameter, invoker, User.class, NO_PARAMETERS);
+		RepositoryInvoker result = resolver.postProcess(parameter, invoker, User.class, FIRSTNAME);
 
 		assertThat(result, is(instanceOf(QuerydslRepositoryInvokerAdapter.class)));
 		verify(repository, times(1)).customize(Mockito.any(QuerydslBindings.class), Mockito.any(QUser.class));
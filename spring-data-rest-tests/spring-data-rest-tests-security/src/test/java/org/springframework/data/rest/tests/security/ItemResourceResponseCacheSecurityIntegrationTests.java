@@ -0,0 +1,131 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.tests.security;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.junit.Assert.*;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.*;
+import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.map.repository.config.EnableMapRepositories;
+import org.springframework.data.rest.core.config.RepositoryRestConfiguration;
+import org.springframework.data.rest.tests.AbstractWebIntegrationTests;
+import org.springframework.data.rest.tests.TestMvcClient;
+import org.springframework.data.rest.webmvc.config.RepositoryRestConfigurerAdapter;
+import org.springframework.data.rest.webmvc.config.RepositoryRestMvcConfiguration;
+import org.springframework.data.rest.webmvc.support.ItemResourceResponseCache;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.junit4.SpringJUnit4ClassRunner;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+/**
+ * Integration tests for the interaction of the {@link ItemResourceResponseCache} with method security on repositories.
+ *
+ * @author agent
+ */
+@RunWith(SpringJUnit4ClassRunner.class)
+@ContextConfiguration(classes = { ItemResourceResponseCacheSecurityIntegrationTests.Config.class,
+		SecurityConfiguration.class, RepositoryRestMvcConfiguration.class })
+public class ItemResourceResponseCacheSecurityIntegrationTests extends AbstractWebIntegrationTests {
+
+	@Autowired WebApplicationContext context;
+	@Autowired SecuredPersonRepository repository;
+	@Autowired ItemResourceResponseCache cache;
+
+	String href;
+
+	@Configuration
+	@EnableMapRepositories
+	static class Config extends RepositoryRestConfigurerAdapter {
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.rest.webmvc.config.RepositoryRestConfigurerAdapter#configureRepositoryRestConfiguration(org.springframework.data.rest.core.config.RepositoryRestConfiguration)
+		 */
+		@Override
+		public void configureRepositoryRestConfiguration(RepositoryRestConfiguration config) {
+			config.getResponseCacheConfiguration().enableFor(Person.class);
+		}
+	}
+
+	@Before
+	@Override
+	public void setUp() {
+
+		super.setUp();
+
+		SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken("user", "user",
+				AuthorityUtils.createAuthorityList("ROLE_USER", "ROLE_ADMIN")));
+
+		repository.deleteAll();
+		cache.clear();
+
+		Person frodo = repository.save(new Person("Frodo", "Baggins"));
+
+		SecurityContextHolder.clearContext();
+
+		this.href = "/people/" + frodo.getId();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.rest.tests.AbstractWebIntegrationTests#setupMockMvc()
+	 */
+	@Override
+	protected void setupMockMvc() {
+
+		this.mvc = MockMvcBuilders.webAppContextSetup(context).//
+				defaultRequest(get("/").accept(TestMvcClient.DEFAULT_MEDIA_TYPE)).//
+				apply(springSecurity()).//
+				build();
+	}
+
+	@Test
+	public void appliesMethodSecurityOfFindOneToCachedResponses() throws Exception {
+
+		mvc.perform(get(href).with(user("user").roles("USER"))).//
+				andExpect(status().isOk()).//
+				andExpect(jsonPath("$.firstname", is("Frodo")));
+
+		assertThat(cache.getStatistics().getSize(), is(1));
+
+		mvc.perform(get(href).with(user("guest").roles("GUEST"))).//
+				andExpect(status().isForbidden());
+	}
+
+	@Test
+	public void doesNotServeResponseCachedForOnePrincipalToAnother() throws Exception {
+
+		long hits = cache.getStatistics().getHitCount();
+
+		mvc.perform(get(href).with(user("user").roles("USER"))).andExpect(status().isOk());
+		mvc.perform(get(href).with(user("admin").roles("USER", "ADMIN"))).andExpect(status().isOk());
+
+		assertThat(cache.getStatistics().getHitCount(), is(hits));
+		assertThat(cache.getStatistics().getSize(), is(2));
+	}
+}
@@ -16,18 +16,24 @@
 package org.springframework.data.rest.tests.shop;
 
 import static org.hamcrest.CoreMatchers.*;
+import static org.junit.Assert.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.springframework.data.rest.tests.AbstractWebIntegrationTests;
+import org.springframework.data.rest.webmvc.RestMediaTypes;
 import org.springframework.hateoas.Link;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.junit4.SpringJUnit4ClassRunner;
 import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.util.StringUtils;
 
 import com.jayway.jsonpath.JsonPath;
 
@@ -94,6 +100,33 @@ public class ShopIntegrationTests extends AbstractWebIntegrationTests {
 				.andExpect(jsonPath("$._embedded.orders[0].items[0].products[0]._links.beta").exists());
 	}
 
+	@Test
+	public void looksUpEntitiesByIdentifiersThroughEntityLookup() throws Exception {
+
+		Link productsLink = client.discoverUnique("products");
+
+		mvc.perform(get(productsLink.expand().getHref()).param("id", "Lakewood guitar,Unknown product"))//
+				.andExpect(status().isOk())//
+				.andExpect(jsonPath("$._embedded.products[0].name", is("Lakewood guitar")))//
+				.andExpect(jsonPath("$.missingIds[0]", is("Unknown product")));
+	}
+
+	@Test
+	public void rendersUriListUsingResourceIdentifiersOfEntityLookup() throws Exception {
+
+		String productsHref = client.discoverUnique("products").expand().getHref();
+
+		List<String> selfLinks = JsonPath.read(client.request(productsHref).getContentAsString(),
+				"$._embedded.products[*]._links.self.href");
+
+		String uriList = mvc.perform(get(productsHref).accept(RestMediaTypes.TEXT_URI_LIST))//
+				.andExpect(status().isOk())//
+				.andReturn().getResponse().getContentAsString();
+
+		assertThat(selfLinks, hasItem(containsString("/products/Lakewood")));
+		assertThat(Arrays.asList(StringUtils.tokenizeToStringArray(uriList, "\r\n")), is(selfLinks));
+	}
+
 	private static void expectRelatedResource(String name, ResultActions actions) throws Exception {
 
 		int dotIndex = name.lastIndexOf('.');
@@ -21,12 +21,18 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.auditing.AuditableBeanWrapperFactory;
 import org.springframework.data.domain.Page;
 import org.springframework.data.rest.core.mapping.ResourceMetadata;
+import org.springframework.data.rest.webmvc.spi.RequestPhase;
+import org.springframework.data.rest.webmvc.spi.RequestPhaseInstrumentation;
+import org.springframework.data.rest.webmvc.spi.RequestPhaseInstrumentation.NoOpInstrumentation;
+import org.springframework.data.rest.webmvc.spi.RequestPhaseInstrumentation.Timer;
 import org.springframework.data.web.PagedResourcesAssembler;
 import org.springframework.hateoas.Link;
 import org.springframework.hateoas.Resource;
+import org.springframework.hateoas.ResourceAssembler;
 import org.springframework.hateoas.Resources;
 import org.springframework.hateoas.core.EmbeddedWrappers;
 import org.springframework.util.Assert;
@@ -43,6 +49,7 @@ class AbstractRepositoryRestController {
 	private static final EmbeddedWrappers WRAPPERS = new EmbeddedWrappers(false);
 
 	private final PagedResourcesAssembler<Object> pagedResourcesAssembler;
+	private RequestPhaseInstrumentation instrumentation = NoOpInstrumentation.INSTANCE;
 
 	/**
 	 * Creates a new {@link AbstractRepositoryRestController} for the given {@link PagedResourcesAssembler} and
@@ -57,6 +64,28 @@ class AbstractRepositoryRestController {
 		this.pagedResourcesAssembler = pagedResourcesAssembler;
 	}
 
+	/**
+	 * Configures the {@link RequestPhaseInstrumentation} to be used. Defaults to {@link NoOpInstrumentation}.
+	 * 
+	 * @param instrumentation can be {@literal null}.
+	 * @since 2.7
+	 */
+	@Autowired(required = false)
+	public void setRequestPhaseInstrumentation(RequestPhaseInstrumentation instrumentation) {
+		this.instrumentation = instrumentation == null ? NoOpInstrumentation.INSTANCE : instrumentation;
+	}
+
+	/**
+	 * Starts a {@link Timer} for the given {@link RequestPhase}.
+	 * 
+	 * @param phase must not be {@literal null}.
+	 * @return
+	 * @since 2.7
+	 */
+	protected Timer startTimer(RequestPhase phase) {
+		return instrumentation.start(phase);
+	}
+
 	protected Link resourceLink(RootResourceInformation resourceLink, Resource resource) {
 
 		ResourceMetadata repoMapping = resourceLink.getResourceMetadata();
@@ -68,21 +97,69 @@ class AbstractRepositoryRestController {
 	}
 
 	@SuppressWarnings({ "unchecked" })
-	protected Resources<?> toResources(Iterable<?> source, PersistentEntityResourceAssembler assembler,
+	protected Resources<?> toResources(Iterable<?> source, ResourceAssembler<Object, PersistentEntityResource> assembler,
 			Class<?> domainType, Link baseLink) {
 
-		if (source instanceof Page) {
-			Page<Object> page = (Page<Object>) source;
-			return entitiesToResources(page, assembler, domainType, baseLink);
-		} else if (source instanceof Iterable) {
-			return entitiesToResources((Iterable<Object>) source, assembler, domainType);
-		} else {
-			return new Resources(EMPTY_RESOURCE_LIST);
+		Timer timer = startTimer(RequestPhase.RESOURCE_ASSEMBLY);
+
+		try {
+
+			if (source instanceof Page) {
+				Page<Object> page = (Page<Object>) source;
+				return entitiesToResources(page, assembler, domainType, baseLink);
+			} else if (source instanceof Iterable) {
+				return entitiesToResources((Iterable<Object>) source, assembler, domainType);
+			} else {
+				return new Resources(EMPTY_RESOURCE_LIST);
+			}
+
+		} finally {
+			timer.stop();
 		}
 	}
 
-	protected Resources<?> entitiesToResources(Page<Object> page, PersistentEntityResourceAssembler assembler,
-			Class<?> domainType, Link baseLink) {
+	/**
+	 * Turns the given source into a {@link PersistentEntityResource} using the given
+	 * {@link PersistentEntityResourceAssembler}, applying the excerpt projection if available.
+	 * 
+	 * @param source must not be {@literal null}.
+	 * @param assembler must not be {@literal null}.
+	 * @return
+	 * @since 2.7
+	 */
+	protected PersistentEntityResource toResource(Object source, PersistentEntityResourceAssembler assembler) {
+
+		Timer timer = startTimer(RequestPhase.RESOURCE_ASSEMBLY);
+
+		try {
+			return assembler.toResource(source);
+		} finally {
+			timer.stop();
+		}
+	}
+
+	/**
+	 * Turns the given source into a {@link PersistentEntityResource} using the given
+	 * {@link PersistentEntityResourceAssembler}, applying the requested projection if available.
+	 * 
+	 * @param source must not be {@literal null}.
+	 * @param assembler must not be {@literal null}.
+	 * @return
+	 * @since 2.7
+	 */
+	protected PersistentEntityResource toFullResource(Object source, PersistentEntityResourceAssembler assembler) {
+
+		Timer timer = startTimer(RequestPhase.RESOURCE_ASSEMBLY);
+
+		try {
+			return assembler.toFullResource(source);
+		} finally {
+			timer.stop();
+		}
+	}
+
+	protected Resources<?> entitiesToResources(Page<Object> page,
+			ResourceAssembler<Object, PersistentEntityResource> assembler, Class<?> domainType, Link baseLink) {
 
 		if (page.getContent().isEmpty()) {
 			return pagedResourcesAssembler.toEmptyResource(page, domainType, baseLink);
@@ -92,8 +169,8 @@ class AbstractRepositoryRestController {
 				: pagedResourcesAssembler.toResource(page, assembler, baseLink);
 	}
 
-	protected Resources<?> entitiesToResources(Iterable<Object> entities, PersistentEntityResourceAssembler assembler,
-			Class<?> domainType) {
+	protected Resources<?> entitiesToResources(Iterable<Object> entities,
+			ResourceAssembler<Object, PersistentEntityResource> assembler, Class<?> domainType) {
 
 		if (!entities.iterator().hasNext()) {
 
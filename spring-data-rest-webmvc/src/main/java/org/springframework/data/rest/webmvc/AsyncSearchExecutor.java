@@ -0,0 +1,276 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import javax.servlet.http.HttpServletRequest;
+
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.core.task.AsyncListenableTaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.core.task.support.TaskExecutorAdapter;
+import org.springframework.data.rest.core.config.AsyncSearchConfiguration;
+import org.springframework.data.rest.core.util.Supplier;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ReflectionUtils;
+import org.springframework.util.concurrent.CompletableToListenableFutureAdapter;
+import org.springframework.util.concurrent.ListenableFuture;
+import org.springframework.util.concurrent.ListenableFutureCallback;
+import org.springframework.util.concurrent.ListenableFutureTask;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.context.request.async.DeferredResult;
+
+/**
+ * Executes searches asynchronously and exposes their results as {@link DeferredResult}. Applies to query methods
+ * returning a {@link ListenableFuture}, {@link CompletableFuture} or plain {@link Future} and to query methods enabled
+ * for asynchronous execution via {@link AsyncSearchConfiguration}. The latter require an {@link Executor} to be
+ * configured explicitly. The {@code SecurityContext} and other thread-bound state are not propagated to its threads.
+ * Searches timing out, being cancelled or being rejected by a saturated {@link Executor} are answered with
+ * {@code 503 Service Unavailable}.
+ *
+ * @author agent
+ * @since 2.7
+ */
+class AsyncSearchExecutor {
+
+	private static final boolean IS_JAVA_8 = ClassUtils.isPresent("java.util.concurrent.CompletableFuture",
+			AsyncSearchExecutor.class.getClassLoader());
+
+	private final AsyncSearchConfiguration configuration;
+	private AsyncListenableTaskExecutor executor;
+
+	/**
+	 * Creates a new {@link AsyncSearchExecutor} for the given {@link AsyncSearchConfiguration}.
+	 *
+	 * @param configuration must not be {@literal null}.
+	 */
+	AsyncSearchExecutor(AsyncSearchConfiguration configuration) {
+
+		Assert.notNull(configuration, "AsyncSearchConfiguration must not be null!");
+		Assert.state(!configuration.hasAsynchronousSearches() || configuration.getExecutor() != null,
+				"An Executor has to be configured for searches enabled for asynchronous execution!");
+
+		this.configuration = configuration;
+	}
+
+	/**
+	 * Returns whether the search backed by the given query method is to be executed asynchronously.
+	 *
+	 * @param method must not be {@literal null}.
+	 * @return
+	 */
+	boolean isAsynchronous(Method method) {
+		return Future.class.isAssignableFrom(method.getReturnType()) || configuration.isEnabledFor(method);
+	}
+
+	/**
+	 * Executes the given query and turns its result into a response using the given {@link Converter} once it's
+	 * available. Query methods returning a {@link Future} are invoked on the current thread, all others on the
+	 * configured {@link Executor}. If the current request doesn't support asynchronous processing, e.g. as it's a
+	 * sub-request of a batch request, the query is executed on the current thread and its result is awaited there.
+	 *
+	 * @param method the query method backing the search, must not be {@literal null}.
+	 * @param query the invocation of the query method, must not be {@literal null}.
+	 * @param converter the {@link Converter} to create the response for the query result, must not be {@literal null}.
+	 * @return
+	 */
+	ResponseEntity<?> execute(Method method, Supplier<Object> query, Converter<Object, ResponseEntity<?>> converter) {
+
+		// Links are built from the current request so it has to be exposed to the thread completing the search
+		HttpServletRequest request = ((ServletRequestAttributes) RequestContextHolder.currentRequestAttributes())
+				.getRequest();
+
+		return request.isAsyncSupported() ? ResponseEntity.ok(executeAsynchronously(request, method, query, converter))
+				: executeSynchronously(method, query, converter);
+	}
+
+	private DeferredResult<Object> executeAsynchronously(final HttpServletRequest request, Method method,
+			final Supplier<Object> query, final Converter<Object, ResponseEntity<?>> converter) {
+
+		Long timeout = configuration.getTimeout();
+		final DeferredResult<Object> result = new DeferredResult<Object>(timeout,
+				new ResponseEntity<Object>(HttpStatus.SERVICE_UNAVAILABLE));
+		final ListenableFuture<Object> future;
+
+		try {
+
+			future = Future.class.isAssignableFrom(method.getReturnType()) ? toListenableFuture(query.get())
+					: getExecutor().submitListenable(new Callable<Object>() {
+
+						@Override
+						public Object call() {
+							return query.get();
+						}
+					});
+
+		} catch (TaskRejectedException o_O) {
+
+			// Executor saturated
+			result.setResult(new ResponseEntity<Object>(HttpStatus.SERVICE_UNAVAILABLE));
+			return result;
+		}
+
+		result.onTimeout(new Runnable() {
+
+			@Override
+			public void run() {
+				future.cancel(true);
+			}
+		});
+
+		future.addCallback(new ListenableFutureCallback<Object>() {
+
+			@Override
+			public void onSuccess(Object value) {
+
+				RequestAttributes previous = RequestContextHolder.getRequestAttributes();
+				RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+
+				try {
+					result.setResult(converter.convert(value));
+				} catch (RuntimeException o_O) {
+					result.setErrorResult(o_O);
+				} finally {
+					RequestContextHolder.setRequestAttributes(previous);
+				}
+			}
+
+			@Override
+			public void onFailure(Throwable o_O) {
+
+				if (o_O instanceof CancellationException) {
+					result.setResult(new ResponseEntity<Object>(HttpStatus.SERVICE_UNAVAILABLE));
+				} else {
+					result.setErrorResult(o_O);
+				}
+			}
+		});
+
+		return result;
+	}
+
+	private ResponseEntity<?> executeSynchronously(Method method, Supplier<Object> query,
+			Converter<Object, ResponseEntity<?>> converter) {
+
+		Object value = query.get();
+
+		if (!Future.class.isAssignableFrom(method.getReturnType())) {
+			return converter.convert(value);
+		}
+
+		if (value == null) {
+			throw new ResourceNotFoundException();
+		}
+
+		Future<?> future = (Future<?>) value;
+		Long timeout = configuration.getTimeout();
+
+		try {
+			value = timeout == null ? future.get() : future.get(timeout, TimeUnit.MILLISECONDS);
+		} catch (TimeoutException o_O) {
+			future.cancel(true);
+			return new ResponseEntity<Object>(HttpStatus.SERVICE_UNAVAILABLE);
+		} catch (CancellationException o_O) {
+			return new ResponseEntity<Object>(HttpStatus.SERVICE_UNAVAILABLE);
+		} catch (InterruptedException o_O) {
+			Thread.currentThread().interrupt();
+			return new ResponseEntity<Object>(HttpStatus.SERVICE_UNAVAILABLE);
+		} catch (ExecutionException o_O) {
+			ReflectionUtils.rethrowRuntimeException(o_O.getCause());
+		}
+
+		return converter.convert(value);
+	}
+
+	@SuppressWarnings("unchecked")
+	private ListenableFuture<Object> toListenableFuture(final Object source) {
+
+		if (source instanceof ListenableFuture) {
+			return (ListenableFuture<Object>) source;
+		}
+
+		if (IS_JAVA_8 && CompletableFutureAdapter.supports(source)) {
+			return CompletableFutureAdapter.adapt(source);
+		}
+
+		if (source == null) {
+			throw new ResourceNotFoundException();
+		}
+
+		Callable<Object> waitForResult = new Callable<Object>() {
+
+			@Override
+			public Object call() throws Exception {
+				return ((Future<?>) source).get();
+			}
+		};
+
+		// Plain Future, wait for it on the executor or on the request thread if none is configured
+		if (configuration.getExecutor() != null) {
+			return getExecutor().submitListenable(waitForResult);
+		}
+
+		ListenableFutureTask<Object> task = new ListenableFutureTask<Object>(waitForResult);
+		task.run();
+
+		return task;
+	}
+
+	private AsyncListenableTaskExecutor getExecutor() {
+
+		if (executor != null) {
+			return executor;
+		}
+
+		Executor configured = configuration.getExecutor();
+
+		this.executor = configured instanceof AsyncListenableTaskExecutor ? (AsyncListenableTaskExecutor) configured
+				: new TaskExecutorAdapter(configured);
+
+		return executor;
+	}
+
+	/**
+	 * Adapter for {@link CompletableFuture}s to be only loaded on Java 8.
+	 *
+	 * @author agent
+	 */
+	private static class CompletableFutureAdapter {
+
+		static boolean supports(Object source) {
+			return source instanceof CompletableFuture;
+		}
+
+		@SuppressWarnings("unchecked")
+		static ListenableFuture<Object> adapt(Object source) {
+			return new CompletableToListenableFutureAdapter<Object>((CompletableFuture<Object>) source);
+		}
+	}
+}
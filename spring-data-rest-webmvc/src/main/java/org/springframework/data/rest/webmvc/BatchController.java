@@ -0,0 +1,347 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc;
+
+import lombok.Data;
+import lombok.Value;
+
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.annotation.AnnotationAwareOrderComparator;
+import org.springframework.data.rest.core.config.BatchRequestConfiguration;
+import org.springframework.data.rest.core.config.RepositoryRestConfiguration;
+import org.springframework.data.rest.webmvc.BatchRequestDispatcher.BufferedResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.Assert;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.servlet.HandlerAdapter;
+import org.springframework.web.servlet.HandlerExceptionResolver;
+import org.springframework.web.servlet.HandlerMapping;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonInclude.Include;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Controller to execute an ordered list of requests against the resources exposed by Spring Data REST with a single
+ * HTTP request. Every operation consists of the HTTP method, the URI of the resource, optional headers and an optional
+ * body:
+ *
+ * <pre>
+ * [ { "method" : "POST", "href" : "/people", "body" : { "firstName" : "Dave" } },
+ *   { "method" : "DELETE", "href" : "/people/1" } ]
+ * </pre>
+ *
+ * The operations are dispatched to the Spring Data REST controllers in the given order. The response lists status,
+ * headers and body of each of them. With {@code atomic=true} all operations are executed in a single transaction which
+ * is rolled back as soon as one of them fails. The remaining operations are not executed in that case.
+ * <p>
+ * <b>Note:</b> the operations don't go through the servlet container again, i.e. servlet filters and URL based security
+ * rules are only applied to the batch request itself, not to the resources targeted by its operations. Batch requests
+ * are thus disabled by default and have to be enabled explicitly via
+ * {@link RepositoryRestConfiguration#getBatchRequestConfiguration()}. Batch requests exceeding
+ * {@link BatchRequestConfiguration#getMaxOperations()} and operations targeting the batch resource itself are rejected
+ * with {@code 400 Bad Request}.
+ *
+ * @author agent
+ * @since 2.7
+ */
+@BasePathAwareController
+class BatchController {
+
+	static final String BATCH_MAPPING = "/batch";
+
+	private final HandlerMapping mapping;
+	private final HandlerAdapter adapter;
+	private final ObjectMapper mapper;
+	private final PlatformTransactionManager transactionManager;
+	private final BatchRequestConfiguration configuration;
+
+	private List<HandlerExceptionResolver> exceptionResolvers = Collections.emptyList();
+
+	/**
+	 * Creates a new {@link BatchController} for the given {@link HandlerMapping}, {@link HandlerAdapter},
+	 * {@link ObjectMapper}, {@link PlatformTransactionManager} and {@link RepositoryRestConfiguration}.
+	 *
+	 * @param mapping must not be {@literal null}.
+	 * @param adapter must not be {@literal null}.
+	 * @param mapper must not be {@literal null}.
+	 * @param transactionManager must not be {@literal null}.
+	 * @param config must not be {@literal null}.
+	 */
+	@Autowired
+	public BatchController(@Qualifier("restHandlerMapping") HandlerMapping mapping,
+			@Qualifier("repositoryExporterHandlerAdapter") HandlerAdapter adapter,
+			@Qualifier("objectMapper") ObjectMapper mapper, ObjectProvider<PlatformTransactionManager> transactionManager,
+			RepositoryRestConfiguration config) {
+
+		Assert.notNull(mapping, "HandlerMapping must not be null!");
+		Assert.notNull(adapter, "HandlerAdapter must not be null!");
+		Assert.notNull(mapper, "ObjectMapper must not be null!");
+		Assert.notNull(transactionManager, "PlatformTransactionManager provider must not be null!");
+		Assert.notNull(config, "RepositoryRestConfiguration must not be null!");
+
+		this.mapping = mapping;
+		this.adapter = adapter;
+		this.mapper = mapper;
+		this.transactionManager = transactionManager.getIfUnique();
+		this.configuration = config.getBatchRequestConfiguration();
+	}
+
+	/**
+	 * Configures the {@link HandlerExceptionResolver}s to be used to translate exceptions thrown by the handlers of
+	 * individual operations into responses.
+	 *
+	 * @param exceptionResolvers must not be {@literal null}.
+	 */
+	@Autowired(required = false)
+	public void setExceptionResolvers(List<HandlerExceptionResolver> exceptionResolvers) {
+
+		Assert.notNull(exceptionResolvers, "HandlerExceptionResolvers must not be null!");
+
+		List<HandlerExceptionResolver> resolvers = new ArrayList<HandlerExceptionResolver>(exceptionResolvers);
+		AnnotationAwareOrderComparator.sort(resolvers);
+
+		this.exceptionResolvers = resolvers;
+	}
+
+	/**
+	 * <code>POST /batch</code> - Executes the given {@link BatchOperation}s in order. Answers with
+	 * {@code 404 Not Found} unless batch requests were enabled explicitly.
+	 *
+	 * @param operations must not be {@literal null}.
+	 * @param atomic whether to execute all operations in a single transaction.
+	 * @param request
+	 * @param response
+	 * @return
+	 */
+	@RequestMapping(value = BATCH_MAPPING, method = RequestMethod.POST)
+	public ResponseEntity<BatchResult> executeBatch(@RequestBody final List<BatchOperation> operations,
+			@RequestParam(value = "atomic", defaultValue = "false") boolean atomic, final HttpServletRequest request,
+			final HttpServletResponse response) {
+
+		if (!configuration.isEnabled()) {
+			return new ResponseEntity<BatchResult>(HttpStatus.NOT_FOUND);
+		}
+
+		final BatchRequestDispatcher dispatcher = new BatchRequestDispatcher(mapping, adapter, exceptionResolvers);
+
+		verify(operations, dispatcher, request);
+
+		if (!atomic) {
+			return ResponseEntity.ok(execute(operations, false, dispatcher, request, response));
+		}
+
+		if (transactionManager == null) {
+			return new ResponseEntity<BatchResult>(HttpStatus.NOT_IMPLEMENTED);
+		}
+
+		BatchResult result = new TransactionTemplate(transactionManager).execute(new TransactionCallback<BatchResult>() {
+
+			@Override
+			public BatchResult doInTransaction(TransactionStatus status) {
+
+				BatchResult result = execute(operations, true, dispatcher, request, response);
+
+				if (result.isRolledBack()) {
+					status.setRollbackOnly();
+				}
+
+				return result;
+			}
+		});
+
+		return ResponseEntity.ok(result);
+	}
+
+	/**
+	 * Rejects the given {@link BatchOperation}s before any of them gets executed if there are too many of them or one
+	 * of them is invalid or targets the batch resource itself.
+	 *
+	 * @param operations must not be {@literal null}.
+	 * @param dispatcher must not be {@literal null}.
+	 * @param request must not be {@literal null}.
+	 */
+	private void verify(List<BatchOperation> operations, BatchRequestDispatcher dispatcher, HttpServletRequest request) {
+
+		if (operations.size() > configuration.getMaxOperations()) {
+			throw new HttpMessageNotReadableException(
+					String.format("Batch requests must not contain more than %s operations!", configuration.getMaxOperations()));
+		}
+
+		for (BatchOperation operation : operations) {
+
+			if (operation.getMethod() == null || operation.getHref() == null) {
+				throw new HttpMessageNotReadableException("Batch operations require a method and an href!");
+			}
+
+			if (dispatcher.isBatchRequest(request, operation.getMethod(), operation.getHref())) {
+				throw new HttpMessageNotReadableException("Batch operations must not target the batch resource!");
+			}
+		}
+	}
+
+	private BatchResult execute(List<BatchOperation> operations, boolean stopOnFailure, BatchRequestDispatcher dispatcher,
+			HttpServletRequest request, HttpServletResponse response) {
+
+		List<OperationResult> results = new ArrayList<OperationResult>(operations.size());
+
+		for (BatchOperation operation : operations) {
+
+			OperationResult result = execute(operation, dispatcher, request, response);
+			results.add(result);
+
+			if (stopOnFailure && result.isFailure()) {
+				return new BatchResult(results, true);
+			}
+		}
+
+		return new BatchResult(results, false);
+	}
+
+	private OperationResult execute(BatchOperation operation, BatchRequestDispatcher dispatcher,
+			HttpServletRequest request, HttpServletResponse response) {
+
+		HttpHeaders headers = new HttpHeaders();
+
+		for (Entry<String, String> header : operation.getHeaders().entrySet()) {
+			headers.set(header.getKey(), header.getValue());
+		}
+
+		byte[] body = getBody(operation.getBody(), headers);
+		BufferedResponse result = dispatcher.dispatch(request, response, operation.getMethod(), operation.getHref(),
+				headers, body);
+
+		HttpHeaders resultHeaders = new HttpHeaders();
+		resultHeaders.putAll(result.getBufferedHeaders());
+		resultHeaders.remove(HttpHeaders.CONTENT_LENGTH);
+
+		return new OperationResult(result.getStatus(), resultHeaders, readBody(result.getBody(), resultHeaders));
+	}
+
+	private byte[] getBody(JsonNode body, HttpHeaders headers) {
+
+		if (body == null || body.isNull()) {
+			return null;
+		}
+
+		if (body.isTextual()) {
+			return body.asText().getBytes(Charset.forName("UTF-8"));
+		}
+
+		if (headers.getContentType() == null) {
+			headers.setContentType(MediaType.APPLICATION_JSON);
+		}
+
+		try {
+			return mapper.writeValueAsBytes(body);
+		} catch (IOException o_O) {
+			throw new HttpMessageNotReadableException("Could not write batch operation body!", o_O);
+		}
+	}
+
+	private Object readBody(byte[] body, HttpHeaders headers) {
+
+		if (body.length == 0) {
+			return null;
+		}
+
+		MediaType contentType = headers.getContentType();
+		Charset charset = contentType == null || contentType.getCharset() == null ? Charset.forName("UTF-8")
+				: contentType.getCharset();
+
+		if (contentType != null
+				&& (contentType.getSubtype().equals("json") || contentType.getSubtype().endsWith("+json"))) {
+
+			try {
+				return mapper.readTree(body);
+			} catch (IOException o_O) {
+				// Fall back to the plain body below
+			}
+		}
+
+		return new String(body, charset);
+	}
+
+	/**
+	 * A single operation of a batch request.
+	 *
+	 * @author agent
+	 */
+	@Data
+	static class BatchOperation {
+
+		private HttpMethod method;
+		private String href;
+		private Map<String, String> headers = new LinkedHashMap<String, String>();
+		private JsonNode body;
+	}
+
+	/**
+	 * The result of a batch request.
+	 *
+	 * @author agent
+	 */
+	@Value
+	static class BatchResult {
+
+		List<OperationResult> responses;
+		boolean rolledBack;
+	}
+
+	/**
+	 * The response of a single operation of a batch request.
+	 *
+	 * @author agent
+	 */
+	@Value
+	static class OperationResult {
+
+		int status;
+		HttpHeaders headers;
+		@JsonInclude(Include.NON_NULL) Object body;
+
+		boolean isFailure() {
+			return status >= 400;
+		}
+	}
+}
@@ -0,0 +1,745 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.io.UnsupportedEncodingException;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Map.Entry;
+
+import javax.servlet.AsyncContext;
+import javax.servlet.ServletInputStream;
+import javax.servlet.ServletOutputStream;
+import javax.servlet.ServletRequest;
+import javax.servlet.ServletResponse;
+import javax.servlet.http.Cookie;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletRequestWrapper;
+import javax.servlet.http.HttpServletResponse;
+import javax.servlet.http.HttpServletResponseWrapper;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.util.Assert;
+import org.springframework.util.MultiValueMap;
+import org.springframework.util.StringUtils;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerAdapter;
+import org.springframework.web.servlet.HandlerExceptionResolver;
+import org.springframework.web.servlet.HandlerExecutionChain;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.servlet.ModelAndView;
+import org.springframework.web.util.UriComponents;
+import org.springframework.web.util.UriComponentsBuilder;
+import org.springframework.web.util.UriUtils;
+
+/**
+ * Dispatches requests contained in a batch request to the Spring Data REST controllers directly, i.e. without going
+ * through the servlet container and its filter chain again. Servlet filters, including URL based security rules, only
+ * see the batch request, never the sub-requests, which is why batch requests have to be enabled explicitly. The
+ * sub-request inherits everything but the HTTP method, URI, headers explicitly given and body from the batch request and
+ * the response is buffered entirely to be included in the batch response. Nothing written to it reaches the response
+ * of the batch request.
+ *
+ * @author agent
+ * @since 2.7
+ */
+class BatchRequestDispatcher {
+
+	private static final Charset DEFAULT_CHARSET = Charset.forName("ISO-8859-1");
+
+	private final HandlerMapping mapping;
+	private final HandlerAdapter adapter;
+	private final List<HandlerExceptionResolver> exceptionResolvers;
+
+	/**
+	 * Creates a new {@link BatchRequestDispatcher} for the given {@link HandlerMapping}, {@link HandlerAdapter} and
+	 * {@link HandlerExceptionResolver}s.
+	 *
+	 * @param mapping must not be {@literal null}.
+	 * @param adapter must not be {@literal null}.
+	 * @param exceptionResolvers must not be {@literal null}.
+	 */
+	public BatchRequestDispatcher(HandlerMapping mapping, HandlerAdapter adapter,
+			List<HandlerExceptionResolver> exceptionResolvers) {
+
+		Assert.notNull(mapping, "HandlerMapping must not be null!");
+		Assert.notNull(adapter, "HandlerAdapter must not be null!");
+		Assert.notNull(exceptionResolvers, "HandlerExceptionResolvers must not be null!");
+
+		this.mapping = mapping;
+		this.adapter = adapter;
+		this.exceptionResolvers = exceptionResolvers;
+	}
+
+	/**
+	 * Dispatches a sub-request with the given {@link HttpMethod}, URI, {@link HttpHeaders} and body derived from the
+	 * given batch request and response.
+	 *
+	 * @param request the batch request, must not be {@literal null}.
+	 * @param batchResponse the response of the batch request, must not be {@literal null}.
+	 * @param method must not be {@literal null}.
+	 * @param uri an absolute URI or a path within the application, must not be {@literal null} or empty.
+	 * @param headers must not be {@literal null}.
+	 * @param body can be {@literal null}.
+	 * @return the buffered response of the sub-request.
+	 */
+	public BufferedResponse dispatch(HttpServletRequest request, HttpServletResponse batchResponse, HttpMethod method,
+			String uri, HttpHeaders headers, byte[] body) {
+
+		Assert.notNull(request, "HttpServletRequest must not be null!");
+		Assert.notNull(batchResponse, "HttpServletResponse must not be null!");
+		Assert.notNull(method, "HttpMethod must not be null!");
+		Assert.hasText(uri, "URI must not be null or empty!");
+		Assert.notNull(headers, "HttpHeaders must not be null!");
+
+		SubRequest subRequest = new SubRequest(request, method, uri, headers, body);
+		BufferedResponse response = new BufferedResponse(batchResponse);
+		RequestAttributes previous = RequestContextHolder.getRequestAttributes();
+
+		RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(subRequest, response));
+
+		try {
+			doDispatch(subRequest, response);
+		} catch (Exception o_O) {
+			response.reset();
+			response.setStatus(HttpStatus.INTERNAL_SERVER_ERROR.value());
+		} finally {
+			RequestContextHolder.setRequestAttributes(previous);
+		}
+
+		response.flushWriter();
+
+		return response;
+	}
+
+	/**
+	 * Returns whether a sub-request with the given {@link HttpMethod} and URI would be handled by the batch resource
+	 * itself.
+	 *
+	 * @param request the batch request, must not be {@literal null}.
+	 * @param method must not be {@literal null}.
+	 * @param uri an absolute URI or a path within the application, must not be {@literal null} or empty.
+	 * @return
+	 */
+	public boolean isBatchRequest(HttpServletRequest request, HttpMethod method, String uri) {
+
+		Assert.notNull(request, "HttpServletRequest must not be null!");
+		Assert.notNull(method, "HttpMethod must not be null!");
+		Assert.hasText(uri, "URI must not be null or empty!");
+
+		HandlerExecutionChain chain;
+
+		try {
+			chain = mapping.getHandler(new SubRequest(request, method, uri, new HttpHeaders(), null));
+		} catch (Exception o_O) {
+			// Not mappable at all, reported when the operation is executed
+			return false;
+		}
+
+		Object handler = chain == null ? null : chain.getHandler();
+
+		return handler instanceof HandlerMethod
+				&& BatchController.class.isAssignableFrom(((HandlerMethod) handler).getBeanType());
+	}
+
+	private void doDispatch(HttpServletRequest request, HttpServletResponse response) throws Exception {
+
+		HandlerExecutionChain chain = mapping.getHandler(request);
+
+		if (chain == null || !adapter.supports(chain.getHandler())) {
+			response.setStatus(HttpStatus.NOT_FOUND.value());
+			return;
+		}
+
+		Object handler = chain.getHandler();
+		HandlerInterceptor[] interceptors = chain.getInterceptors();
+		int applied = 0;
+		Exception exception = null;
+
+		try {
+
+			for (HandlerInterceptor interceptor : interceptors == null ? new HandlerInterceptor[0] : interceptors) {
+
+				if (!interceptor.preHandle(request, response, handler)) {
+					return;
+				}
+
+				applied++;
+			}
+
+			ModelAndView modelAndView = adapter.handle(request, response, handler);
+
+			for (int i = applied - 1; i >= 0; i--) {
+				interceptors[i].postHandle(request, response, handler, modelAndView);
+			}
+
+		} catch (Exception o_O) {
+
+			exception = o_O;
+
+			if (!resolveException(request, response, handler, o_O)) {
+				throw o_O;
+			}
+
+		} finally {
+
+			for (int i = applied - 1; i >= 0; i--) {
+				interceptors[i].afterCompletion(request, response, handler, exception);
+			}
+		}
+	}
+
+	private boolean resolveException(HttpServletRequest request, HttpServletResponse response, Object handler,
+			Exception exception) {
+
+		for (HandlerExceptionResolver resolver : exceptionResolvers) {
+			if (resolver.resolveException(request, response, handler, exception) != null) {
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	/**
+	 * A sub-request of a batch request. Sub-requests are handled synchronously within the handling of the batch request
+	 * and thus don't support asynchronous processing.
+	 *
+	 * @author agent
+	 */
+	private static class SubRequest extends HttpServletRequestWrapper {
+
+		private final HttpMethod method;
+		private final String requestUri, servletPath, pathInfo, queryString;
+		private final Map<String, String[]> parameters;
+		private final HttpHeaders headers;
+		private final byte[] body;
+		private final Map<String, Object> attributes;
+
+		public SubRequest(HttpServletRequest request, HttpMethod method, String uri, HttpHeaders headers, byte[] body) {
+
+			super(request);
+
+			UriComponents components = UriComponentsBuilder.fromUriString(uri).build();
+			String contextPath = request.getContextPath();
+			String path = components.getPath() == null ? "" : components.getPath();
+
+			if (StringUtils.hasText(contextPath) && path.startsWith(contextPath)) {
+				path = path.substring(contextPath.length());
+			}
+
+			String outerServletPath = request.getServletPath();
+			boolean prefixMapping = request.getPathInfo() != null && path.startsWith(outerServletPath);
+
+			this.method = method;
+			this.requestUri = contextPath.concat(path);
+			this.servletPath = prefixMapping ? outerServletPath : path;
+			this.pathInfo = prefixMapping ? decode(path.substring(outerServletPath.length())) : null;
+			this.queryString = components.getQuery();
+			this.parameters = getParameters(components.getQueryParams());
+			this.body = body == null ? new byte[0] : body;
+			this.headers = new HttpHeaders();
+			this.attributes = new HashMap<String, Object>();
+
+			for (String name : Collections.list(request.getHeaderNames())) {
+				if (!HttpHeaders.CONTENT_TYPE.equalsIgnoreCase(name) && !HttpHeaders.CONTENT_LENGTH.equalsIgnoreCase(name)) {
+					this.headers.put(name, Collections.list(request.getHeaders(name)));
+				}
+			}
+
+			this.headers.putAll(headers);
+			this.headers.setContentLength(this.body.length);
+
+			// Keep request-scoped infrastructure but drop the state the batch request was mapped and is processed with
+			for (String name : Collections.list(request.getAttributeNames())) {
+				if (!name.startsWith(HandlerMapping.class.getName())
+						&& !WebAsyncUtils.WEB_ASYNC_MANAGER_ATTRIBUTE.equals(name)) {
+					this.attributes.put(name, request.getAttribute(name));
+				}
+			}
+		}
+
+		private static Map<String, String[]> getParameters(MultiValueMap<String, String> source) {
+
+			Map<String, String[]> parameters = new LinkedHashMap<String, String[]>();
+
+			for (Entry<String, List<String>> entry : source.entrySet()) {
+
+				List<String> values = new ArrayList<String>(entry.getValue().size());
+
+				for (String value : entry.getValue()) {
+					values.add(value == null ? "" : decode(value));
+				}
+
+				parameters.put(decode(entry.getKey()), values.toArray(new String[values.size()]));
+			}
+
+			return Collections.unmodifiableMap(parameters);
+		}
+
+		private static String decode(String source) {
+
+			try {
+				return UriUtils.decode(source, "UTF-8");
+			} catch (UnsupportedEncodingException o_O) {
+				throw new IllegalStateException(o_O);
+			}
+		}
+
+		@Override
+		public String getMethod() {
+			return method.name();
+		}
+
+		@Override
+		public boolean isAsyncSupported() {
+			return false;
+		}
+
+		@Override
+		public boolean isAsyncStarted() {
+			return false;
+		}
+
+		@Override
+		public AsyncContext startAsync() {
+			throw new IllegalStateException("Sub-requests of a batch request don't support asynchronous processing!");
+		}
+
+		@Override
+		public AsyncContext startAsync(ServletRequest servletRequest, ServletResponse servletResponse) {
+			throw new IllegalStateException("Sub-requests of a batch request don't support asynchronous processing!");
+		}
+
+		@Override
+		public String getRequestURI() {
+			return requestUri;
+		}
+
+		@Override
+		public StringBuffer getRequestURL() {
+
+			StringBuffer url = super.getRequestURL();
+			url.setLength(url.length() - super.getRequestURI().length());
+
+			return url.append(requestUri);
+		}
+
+		@Override
+		public String getServletPath() {
+			return servletPath;
+		}
+
+		@Override
+		public String getPathInfo() {
+			return pathInfo;
+		}
+
+		@Override
+		public String getQueryString() {
+			return queryString;
+		}
+
+		@Override
+		public String getParameter(String name) {
+
+			String[] values = parameters.get(name);
+			return values == null || values.length == 0 ? null : values[0];
+		}
+
+		@Override
+		public Map<String, String[]> getParameterMap() {
+			return parameters;
+		}
+
+		@Override
+		public Enumeration<String> getParameterNames() {
+			return Collections.enumeration(parameters.keySet());
+		}
+
+		@Override
+		public String[] getParameterValues(String name) {
+			return parameters.get(name);
+		}
+
+		@Override
+		public String getHeader(String name) {
+			return headers.getFirst(name);
+		}
+
+		@Override
+		public Enumeration<String> getHeaders(String name) {
+
+			List<String> values = headers.get(name);
+			return Collections.enumeration(values == null ? Collections.<String> emptyList() : values);
+		}
+
+		@Override
+		public Enumeration<String> getHeaderNames() {
+			return Collections.enumeration(headers.keySet());
+		}
+
+		@Override
+		public int getIntHeader(String name) {
+
+			String value = getHeader(name);
+			return value == null ? -1 : Integer.parseInt(value);
+		}
+
+		@Override
+		public String getContentType() {
+			return headers.getFirst(HttpHeaders.CONTENT_TYPE);
+		}
+
+		@Override
+		public int getContentLength() {
+			return body.length;
+		}
+
+		@Override
+		public String getCharacterEncoding() {
+
+			MediaType contentType = headers.getContentType();
+			Charset charset = contentType == null ? null : contentType.getCharset();
+
+			return charset == null ? null : charset.name();
+		}
+
+		@Override
+		public ServletInputStream getInputStream() throws IOException {
+
+			final ByteArrayInputStream stream = new ByteArrayInputStream(body);
+
+			return new ServletInputStream() {
+
+				@Override
+				public int read() throws IOException {
+					return stream.read();
+				}
+			};
+		}
+
+		@Override
+		public BufferedReader getReader() throws IOException {
+
+			String encoding = getCharacterEncoding();
+			Charset charset = encoding == null ? DEFAULT_CHARSET : Charset.forName(encoding);
+
+			return new BufferedReader(new InputStreamReader(getInputStream(), charset));
+		}
+
+		@Override
+		public Object getAttribute(String name) {
+			return attributes.get(name);
+		}
+
+		@Override
+		public Enumeration<String> getAttributeNames() {
+			return Collections.enumeration(attributes.keySet());
+		}
+
+		@Override
+		public void setAttribute(String name, Object value) {
+
+			if (value == null) {
+				attributes.remove(name);
+			} else {
+				attributes.put(name, value);
+			}
+		}
+
+		@Override
+		public void removeAttribute(String name) {
+			attributes.remove(name);
+		}
+	}
+
+	/**
+	 * A {@link HttpServletResponse} buffering status, headers, cookies and body written to it. None of them are
+	 * propagated to the wrapped response.
+	 *
+	 * @author agent
+	 */
+	static class BufferedResponse extends HttpServletResponseWrapper {
+
+		private final ByteArrayOutputStream body = new ByteArrayOutputStream(1024);
+		private final HttpHeaders headers = new HttpHeaders();
+
+		private int status = HttpStatus.OK.value();
+		private String characterEncoding;
+		private PrintWriter writer;
+		private boolean committed;
+
+		BufferedResponse(HttpServletResponse response) {
+			super(response);
+		}
+
+		/**
+		 * Returns the buffered {@link HttpHeaders}.
+		 *
+		 * @return
+		 */
+		public HttpHeaders getBufferedHeaders() {
+			return headers;
+		}
+
+		/**
+		 * Returns the buffered body.
+		 *
+		 * @return
+		 */
+		public byte[] getBody() {
+			return body.toByteArray();
+		}
+
+		void flushWriter() {
+
+			if (writer != null) {
+				writer.flush();
+			}
+		}
+
+		@Override
+		public int getStatus() {
+			return status;
+		}
+
+		@Override
+		public void setStatus(int status) {
+			this.status = status;
+		}
+
+		@Override
+		@SuppressWarnings("deprecation")
+		public void setStatus(int status, String message) {
+			this.status = status;
+		}
+
+		@Override
+		public void sendError(int status) throws IOException {
+			sendError(status, null);
+		}
+
+		@Override
+		public void sendError(int status, String message) throws IOException {
+
+			this.status = status;
+			this.committed = true;
+		}
+
+		@Override
+		public void sendRedirect(String location) throws IOException {
+
+			this.status = HttpStatus.FOUND.value();
+			this.headers.set(HttpHeaders.LOCATION, location);
+			this.committed = true;
+		}
+
+		@Override
+		public boolean containsHeader(String name) {
+			return headers.containsKey(name);
+		}
+
+		@Override
+		public String getHeader(String name) {
+			return headers.getFirst(name);
+		}
+
+		@Override
+		public Collection<String> getHeaders(String name) {
+
+			List<String> values = headers.get(name);
+			return values == null ? Collections.<String> emptyList() : values;
+		}
+
+		@Override
+		public Collection<String> getHeaderNames() {
+			return headers.keySet();
+		}
+
+		@Override
+		public void setHeader(String name, String value) {
+			headers.set(name, value);
+		}
+
+		@Override
+		public void addHeader(String name, String value) {
+			headers.add(name, value);
+		}
+
+		@Override
+		public void setIntHeader(String name, int value) {
+			headers.set(name, String.valueOf(value));
+		}
+
+		@Override
+		public void addIntHeader(String name, int value) {
+			headers.add(name, String.valueOf(value));
+		}
+
+		@Override
+		public void setDateHeader(String name, long date) {
+			headers.setDate(name, date);
+		}
+
+		@Override
+		public void addDateHeader(String name, long date) {
+
+			HttpHeaders formatted = new HttpHeaders();
+			formatted.setDate(name, date);
+
+			headers.add(name, formatted.getFirst(name));
+		}
+
+		@Override
+		public String getContentType() {
+			return headers.getFirst(HttpHeaders.CONTENT_TYPE);
+		}
+
+		@Override
+		public void setContentType(String type) {
+
+			if (type == null) {
+				headers.remove(HttpHeaders.CONTENT_TYPE);
+			} else {
+				headers.set(HttpHeaders.CONTENT_TYPE, type);
+			}
+		}
+
+		@Override
+		public void addCookie(Cookie cookie) {
+
+			StringBuilder builder = new StringBuilder(cookie.getName()).append('=');
+			builder.append(cookie.getValue() == null ? "" : cookie.getValue());
+
+			if (cookie.getPath() != null) {
+				builder.append("; Path=").append(cookie.getPath());
+			}
+
+			if (cookie.getDomain() != null) {
+				builder.append("; Domain=").append(cookie.getDomain());
+			}
+
+			if (cookie.getMaxAge() >= 0) {
+				builder.append("; Max-Age=").append(cookie.getMaxAge());
+			}
+
+			if (cookie.getSecure()) {
+				builder.append("; Secure");
+			}
+
+			if (cookie.isHttpOnly()) {
+				builder.append("; HttpOnly");
+			}
+
+			headers.add(HttpHeaders.SET_COOKIE, builder.toString());
+		}
+
+		@Override
+		public void setContentLength(int length) {}
+
+		// Servlet 3.1, declared without @Override to keep compiling against the Servlet 3.0 API
+		public void setContentLengthLong(long length) {}
+
+		@Override
+		public void setBufferSize(int size) {}
+
+		@Override
+		public void setLocale(Locale locale) {}
+
+		@Override
+		public String getCharacterEncoding() {
+			return characterEncoding == null ? DEFAULT_CHARSET.name() : characterEncoding;
+		}
+
+		@Override
+		public void setCharacterEncoding(String characterEncoding) {
+			this.characterEncoding = characterEncoding;
+		}
+
+		@Override
+		public ServletOutputStream getOutputStream() throws IOException {
+
+			return new ServletOutputStream() {
+
+				@Override
+				public void write(int b) throws IOException {
+					body.write(b);
+				}
+			};
+		}
+
+		@Override
+		public PrintWriter getWriter() throws IOException {
+
+			if (writer == null) {
+				writer = new PrintWriter(new OutputStreamWriter(body, getCharacterEncoding()));
+			}
+
+			return writer;
+		}
+
+		@Override
+		public void flushBuffer() throws IOException {
+
+			flushWriter();
+			this.committed = true;
+		}
+
+		@Override
+		public boolean isCommitted() {
+			return committed;
+		}
+
+		@Override
+		public void reset() {
+
+			resetBuffer();
+			this.headers.clear();
+			this.status = HttpStatus.OK.value();
+		}
+
+		@Override
+		public void resetBuffer() {
+
+			flushWriter();
+			this.body.reset();
+		}
+	}
+}
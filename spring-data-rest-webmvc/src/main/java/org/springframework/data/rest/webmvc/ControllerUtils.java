@@ -17,6 +17,7 @@ package org.springframework.data.rest.webmvc;
 
 import java.util.Collections;
 
+import org.springframework.data.domain.Page;
 import org.springframework.hateoas.Resource;
 import org.springframework.hateoas.ResourceSupport;
 import org.springframework.http.HttpHeaders;
@@ -31,6 +32,13 @@ public class ControllerUtils {
 
 	public static final Iterable<Resource<?>> EMPTY_RESOURCE_LIST = Collections.emptyList();
 
+	/**
+	 * The header to expose the number of elements of a resource with.
+	 * 
+	 * @since 2.7
+	 */
+	public static final String TOTAL_COUNT_HEADER = "X-Total-Count";
+
 	/**
 	 * Wrap a resource as a {@link ResourceEntity} and attach given headers and status.
 	 * 
@@ -72,4 +80,38 @@ public class ControllerUtils {
 	public static ResponseEntity<ResourceSupport> toEmptyResponse(HttpStatus status, HttpHeaders headers) {
 		return toResponseEntity(status, headers, null);
 	}
+
+	/**
+	 * Returns a response carrying the given count as body and in the {@value #TOTAL_COUNT_HEADER} header.
+	 * 
+	 * @param count
+	 * @return
+	 * @since 2.7
+	 */
+	public static ResponseEntity<Object> toCountResponse(long count) {
+
+		HttpHeaders headers = new HttpHeaders();
+		headers.set(TOTAL_COUNT_HEADER, String.valueOf(count));
+
+		return new ResponseEntity<Object>(count, headers, HttpStatus.OK);
+	}
+
+	/**
+	 * Returns the number of elements the given count query or page query result represents.
+	 * 
+	 * @param result can be {@literal null}.
+	 * @return
+	 */
+	static long count(Object result) {
+
+		if (result == null) {
+			return 0;
+		} else if (result instanceof Number) {
+			return ((Number) result).longValue();
+		} else if (result instanceof Page) {
+			return ((Page<?>) result).getTotalElements();
+		}
+
+		throw new IllegalArgumentException(String.format("Cannot determine count from %s!", result.getClass()));
+	}
 }
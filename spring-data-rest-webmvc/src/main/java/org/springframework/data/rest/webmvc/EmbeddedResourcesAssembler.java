@@ -29,6 +29,7 @@ import org.springframework.data.mapping.PersistentPropertyAccessor;
 import org.springframework.data.mapping.SimpleAssociationHandler;
 import org.springframework.data.mapping.context.PersistentEntities;
 import org.springframework.data.rest.core.mapping.ResourceMetadata;
+import org.springframework.data.rest.webmvc.json.SparseFieldSet;
 import org.springframework.data.rest.webmvc.mapping.Associations;
 import org.springframework.data.rest.webmvc.support.ExcerptProjector;
 import org.springframework.hateoas.core.EmbeddedWrapper;
@@ -54,6 +55,18 @@ public class EmbeddedResourcesAssembler {
 	 * @return
 	 */
 	public Iterable<EmbeddedWrapper> getEmbeddedResources(Object instance) {
+		return getEmbeddedResources(instance, null);
+	}
+
+	/**
+	 * Returns the embedded resources to render for the associations included in the given {@link SparseFieldSet}.
+	 *
+	 * @param instance must not be {@literal null}.
+	 * @param fieldSet can be {@literal null}, in which case all associations are considered.
+	 * @return
+	 * @since 2.7
+	 */
+	public Iterable<EmbeddedWrapper> getEmbeddedResources(Object instance, final SparseFieldSet fieldSet) {
 
 		Assert.notNull(instance, "Entity instance must not be null!");
 
@@ -78,6 +91,10 @@ public class EmbeddedResourcesAssembler {
 					return;
 				}
 
+				if (fieldSet != null && !fieldSet.includes(property.getName())) {
+					return;
+				}
+
 				if (!projector.hasExcerptProjection(property.getActualType())) {
 					return;
 				}
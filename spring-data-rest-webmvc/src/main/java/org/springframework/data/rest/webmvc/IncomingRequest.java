@@ -15,9 +15,12 @@
  */
 package org.springframework.data.rest.webmvc;
 
+import java.io.FilterInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpInputMessage;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.MediaType;
 import org.springframework.http.server.ServerHttpRequest;
@@ -33,6 +36,7 @@ public class IncomingRequest {
 
 	private final ServerHttpRequest request;
 	private final MediaType contentType;
+	private final long maxBodySize;
 
 	/**
 	 * Creates a new {@link IncomingRequest} from {@link ServerHttpRequest}.
@@ -40,11 +44,24 @@ public class IncomingRequest {
 	 * @param request must not be {@literal null}.
 	 */
 	public IncomingRequest(ServerHttpRequest request) {
+		this(request, -1);
+	}
+
+	/**
+	 * Creates a new {@link IncomingRequest} from {@link ServerHttpRequest} limiting the size of the body to the given
+	 * number of bytes.
+	 * 
+	 * @param request must not be {@literal null}.
+	 * @param maxBodySize the maximum size of the body in bytes, a negative value to not limit the body size.
+	 * @since 2.7
+	 */
+	public IncomingRequest(ServerHttpRequest request, long maxBodySize) {
 
 		Assert.notNull(request, "ServerHttpRequest must not be null!");
 
 		this.request = request;
 		this.contentType = request.getHeaders().getContentType();
+		this.maxBodySize = maxBodySize;
 	}
 
 	/**
@@ -75,13 +92,47 @@ public class IncomingRequest {
 	}
 
 	/**
-	 * Returns the body of the request.
+	 * Returns the body of the request. In case a maximum body size is configured, requests declaring a larger
+	 * {@code Content-Length} are rejected right away and reading more bytes than allowed fails.
 	 * 
 	 * @return will never be {@literal null}.
 	 * @throws IOException
+	 * @throws RequestBodyTooLargeException in case the body exceeds the configured maximum size.
 	 */
 	public InputStream getBody() throws IOException {
-		return request.getBody();
+
+		if (maxBodySize < 0) {
+			return request.getBody();
+		}
+
+		if (request.getHeaders().getContentLength() > maxBodySize) {
+			throw new RequestBodyTooLargeException(maxBodySize);
+		}
+
+		return new SizeLimitingInputStream(request.getBody(), maxBodySize);
+	}
+
+	/**
+	 * Returns the request as {@link HttpInputMessage} exposing the potentially size limited body.
+	 * 
+	 * @return will never be {@literal null}.
+	 * @see #getBody()
+	 * @since 2.7
+	 */
+	public HttpInputMessage getInputMessage() {
+
+		return new HttpInputMessage() {
+
+			@Override
+			public HttpHeaders getHeaders() {
+				return request.getHeaders();
+			}
+
+			@Override
+			public InputStream getBody() throws IOException {
+				return IncomingRequest.this.getBody();
+			}
+		};
 	}
 
 	/**
@@ -92,4 +143,77 @@ public class IncomingRequest {
 	public ServerHttpRequest getServerHttpRequest() {
 		return request;
 	}
+
+	/**
+	 * {@link InputStream} throwing a {@link RequestBodyTooLargeException} as soon as more than the given number of bytes
+	 * are read.
+	 * 
+	 * @author agent
+	 */
+	private static class SizeLimitingInputStream extends FilterInputStream {
+
+		private final long maxSize;
+		private long bytesRead;
+
+		SizeLimitingInputStream(InputStream delegate, long maxSize) {
+
+			super(delegate);
+
+			this.maxSize = maxSize;
+		}
+
+		/* 
+		 * (non-Javadoc)
+		 * @see java.io.FilterInputStream#read()
+		 */
+		@Override
+		public int read() throws IOException {
+
+			int result = super.read();
+
+			if (result != -1) {
+				count(1);
+			}
+
+			return result;
+		}
+
+		/* 
+		 * (non-Javadoc)
+		 * @see java.io.FilterInputStream#read(byte[], int, int)
+		 */
+		@Override
+		public int read(byte[] b, int off, int len) throws IOException {
+
+			int result = super.read(b, off, len);
+
+			if (result > 0) {
+				count(result);
+			}
+
+			return result;
+		}
+
+		/* 
+		 * (non-Javadoc)
+		 * @see java.io.FilterInputStream#skip(long)
+		 */
+		@Override
+		public long skip(long n) throws IOException {
+
+			long result = super.skip(n);
+			count(result);
+
+			return result;
+		}
+
+		private void count(long bytes) {
+
+			this.bytesRead += bytes;
+
+			if (bytesRead > maxSize) {
+				throw new RequestBodyTooLargeException(maxSize);
+			}
+		}
+	}
 }
@@ -24,6 +24,7 @@ import java.util.List;
 import org.springframework.data.mapping.PersistentEntity;
 import org.springframework.data.mapping.PersistentProperty;
 import org.springframework.data.mapping.PersistentPropertyAccessor;
+import org.springframework.data.rest.webmvc.json.SparseFieldSet;
 import org.springframework.hateoas.Link;
 import org.springframework.hateoas.Resource;
 import org.springframework.hateoas.Resources;
@@ -45,6 +46,7 @@ public class PersistentEntityResource extends Resource<Object> {
 
 	private final PersistentEntity<?, ?> entity;
 	private final Iterable<EmbeddedWrapper> embeddeds;
+	private final SparseFieldSet fieldSet;
 
 	/**
 	 * Returns whether the content of the resource is a new entity about to be created. Used to distinguish between
@@ -63,9 +65,10 @@ public class PersistentEntityResource extends Resource<Object> {
 	 * @param content must not be {@literal null}.
 	 * @param links must not be {@literal null}.
 	 * @param embeddeds can be {@literal null}.
+	 * @param fieldSet can be {@literal null}.
 	 */
 	private PersistentEntityResource(PersistentEntity<?, ?> entity, Object content, Iterable<Link> links,
-			Iterable<EmbeddedWrapper> embeddeds, boolean isNew, boolean nested) {
+			Iterable<EmbeddedWrapper> embeddeds, SparseFieldSet fieldSet, boolean isNew, boolean nested) {
 
 		super(content, links);
 
@@ -73,6 +76,7 @@ public class PersistentEntityResource extends Resource<Object> {
 
 		this.entity = entity;
 		this.embeddeds = embeddeds == null ? NO_EMBEDDEDS : embeddeds;
+		this.fieldSet = fieldSet;
 		this.isNew = isNew;
 		this.nested = nested;
 	}
@@ -104,6 +108,16 @@ public class PersistentEntityResource extends Resource<Object> {
 		return embeddeds;
 	}
 
+	/**
+	 * Returns the {@link SparseFieldSet} restricting the properties to be rendered.
+	 * 
+	 * @return the {@link SparseFieldSet} or {@literal null} if all properties shall be rendered.
+	 * @since 2.7
+	 */
+	public SparseFieldSet getFieldSet() {
+		return fieldSet;
+	}
+
 	/**
 	 * Creates a new {@link Builder} to create {@link PersistentEntityResource}s eventually.
 	 * 
@@ -127,6 +141,7 @@ public class PersistentEntityResource extends Resource<Object> {
 		private final List<Link> links = new ArrayList<Link>();
 
 		private Iterable<EmbeddedWrapper> embeddeds;
+		private SparseFieldSet fieldSet;
 
 		/**
 		 * Creates a new {@link Builder} instance for the given content and {@link PersistentEntity}.
@@ -170,6 +185,19 @@ public class PersistentEntityResource extends Resource<Object> {
 			return this;
 		}
 
+		/**
+		 * Restricts the properties to be rendered to the ones contained in the given {@link SparseFieldSet}.
+		 * 
+		 * @param fieldSet can be {@literal null}.
+		 * @return the builder
+		 * @since 2.7
+		 */
+		public Builder withFieldSet(SparseFieldSet fieldSet) {
+
+			this.fieldSet = fieldSet;
+			return this;
+		}
+
 		public Builder withLinks(List<Link> links) {
 
 			Assert.notNull(links, "Links must not be null!");
@@ -184,7 +212,7 @@ public class PersistentEntityResource extends Resource<Object> {
 		 * @return
 		 */
 		public PersistentEntityResource build() {
-			return new PersistentEntityResource(entity, content, links, embeddeds, false, false);
+			return new PersistentEntityResource(entity, content, links, embeddeds, fieldSet, false, false);
 		}
 
 		/**
@@ -194,11 +222,11 @@ public class PersistentEntityResource extends Resource<Object> {
 		 * @return
 		 */
 		public PersistentEntityResource forCreation() {
-			return new PersistentEntityResource(entity, content, links, embeddeds, true, false);
+			return new PersistentEntityResource(entity, content, links, embeddeds, fieldSet, true, false);
 		}
 
 		public PersistentEntityResource buildNested() {
-			return new PersistentEntityResource(entity, content, links, embeddeds, false, true);
+			return new PersistentEntityResource(entity, content, links, embeddeds, fieldSet, false, true);
 		}
 	}
 
@@ -22,6 +22,8 @@ import org.springframework.data.mapping.PersistentEntity;
 import org.springframework.data.mapping.context.PersistentEntities;
 import org.springframework.data.rest.core.support.SelfLinkProvider;
 import org.springframework.data.rest.webmvc.PersistentEntityResource.Builder;
+import org.springframework.data.rest.webmvc.json.SparseFieldSet;
+import org.springframework.data.rest.webmvc.json.SparseFieldSets;
 import org.springframework.data.rest.webmvc.mapping.Associations;
 import org.springframework.data.rest.webmvc.support.Projector;
 import org.springframework.hateoas.Link;
@@ -44,6 +46,32 @@ public class PersistentEntityResourceAssembler implements ResourceAssembler<Obje
 	private final @NonNull SelfLinkProvider linkProvider;
 	private final @NonNull EmbeddedWrappers wrappers = new EmbeddedWrappers(false);
 
+	private SparseFieldSets fieldSets;
+	private String fields;
+
+	/**
+	 * Creates a new {@link PersistentEntityResourceAssembler} restricting the rendered properties to the ones selected by
+	 * the given field expression. Requested fields take precedence over projections.
+	 * 
+	 * @param entities must not be {@literal null}.
+	 * @param projector must not be {@literal null}.
+	 * @param associations must not be {@literal null}.
+	 * @param linkProvider must not be {@literal null}.
+	 * @param fieldSets must not be {@literal null}.
+	 * @param fields can be {@literal null} or empty.
+	 * @since 2.7
+	 */
+	public PersistentEntityResourceAssembler(PersistentEntities entities, Projector projector, Associations associations,
+			SelfLinkProvider linkProvider, SparseFieldSets fieldSets, String fields) {
+
+		this(entities, projector, associations, linkProvider);
+
+		Assert.notNull(fieldSets, "SparseFieldSets must not be null!");
+
+		this.fieldSets = fieldSets;
+		this.fields = fields;
+	}
+
 	/* 
 	 * (non-Javadoc)
 	 * @see org.springframework.hateoas.ResourceAssembler#toResource(java.lang.Object)
@@ -52,7 +80,11 @@ public class PersistentEntityResourceAssembler implements ResourceAssembler<Obje
 	public PersistentEntityResource toResource(Object instance) {
 
 		Assert.notNull(instance, "Entity instance must not be null!");
-		return wrap(projector.projectExcerpt(instance), instance).build();
+
+		SparseFieldSet fieldSet = getFieldSet(instance);
+
+		return fieldSet != null ? wrap(instance, instance, fieldSet).build()
+				: wrap(projector.projectExcerpt(instance), instance, null).build();
 	}
 
 	/**
@@ -64,15 +96,20 @@ public class PersistentEntityResourceAssembler implements ResourceAssembler<Obje
 	public PersistentEntityResource toFullResource(Object instance) {
 
 		Assert.notNull(instance, "Entity instance must not be null!");
-		return wrap(projector.project(instance), instance).build();
+
+		SparseFieldSet fieldSet = getFieldSet(instance);
+
+		return fieldSet != null ? wrap(instance, instance, fieldSet).build()
+				: wrap(projector.project(instance), instance, null).build();
 	}
 
-	private Builder wrap(Object instance, Object source) {
+	private Builder wrap(Object instance, Object source, SparseFieldSet fieldSet) {
 
 		PersistentEntity<?, ?> entity = entities.getPersistentEntity(source.getClass());
 
 		return PersistentEntityResource.build(instance, entity).//
-				withEmbedded(getEmbeddedResources(source)).//
+				withEmbedded(getEmbeddedResources(source, fieldSet)).//
+				withFieldSet(fieldSet).//
 				withLink(getSelfLinkFor(source)).//
 				withLink(linkProvider.createSelfLinkFor(source));
 	}
@@ -82,10 +119,21 @@ public class PersistentEntityResourceAssembler implements ResourceAssembler<Obje
 	 * they have an excerpt projection registered.
 	 * 
 	 * @param instance must not be {@literal null}.
+	 * @param fieldSet can be {@literal null}.
 	 * @return
 	 */
-	private Iterable<EmbeddedWrapper> getEmbeddedResources(Object instance) {
-		return new EmbeddedResourcesAssembler(entities, associations, projector).getEmbeddedResources(instance);
+	private Iterable<EmbeddedWrapper> getEmbeddedResources(Object instance, SparseFieldSet fieldSet) {
+		return new EmbeddedResourcesAssembler(entities, associations, projector).getEmbeddedResources(instance, fieldSet);
+	}
+
+	/**
+	 * Returns the {@link SparseFieldSet} requested for the given domain instance.
+	 * 
+	 * @param instance must not be {@literal null}.
+	 * @return the {@link SparseFieldSet} or {@literal null} if no fields were requested.
+	 */
+	private SparseFieldSet getFieldSet(Object instance) {
+		return fieldSets == null ? null : fieldSets.getFieldSet(instance.getClass(), fields);
 	}
 
 	/**
@@ -0,0 +1,468 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc;
+
+import lombok.Value;
+
+import java.io.IOException;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import javax.servlet.http.HttpServletRequest;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.ApplicationEventPublisherAware;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mapping.PersistentEntity;
+import org.springframework.data.mapping.PersistentProperty;
+import org.springframework.data.mapping.context.PersistentEntities;
+import org.springframework.data.querydsl.binding.QuerydslPredicate;
+import org.springframework.data.repository.support.Repositories;
+import org.springframework.data.repository.support.RepositoryInvoker;
+import org.springframework.data.rest.core.config.BulkOperationConfiguration;
+import org.springframework.data.rest.core.config.RepositoryRestConfiguration;
+import org.springframework.data.rest.core.event.AfterDeleteEvent;
+import org.springframework.data.rest.core.event.AfterSaveEvent;
+import org.springframework.data.rest.core.event.BeforeDeleteEvent;
+import org.springframework.data.rest.core.event.BeforeSaveEvent;
+import org.springframework.data.rest.core.mapping.ResourceType;
+import org.springframework.data.rest.core.support.RepositoryBatchLookup;
+import org.springframework.data.rest.webmvc.json.DomainObjectReader;
+import org.springframework.data.rest.webmvc.mapping.Associations;
+import org.springframework.data.rest.webmvc.spi.BackendIdConverter;
+import org.springframework.data.rest.webmvc.spi.BackendIdConverter.DefaultIdConverter;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.plugin.core.PluginRegistry;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionCallbackWithoutResult;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
+import org.springframework.web.HttpRequestMethodNotSupportedException;
+import org.springframework.web.bind.MissingServletRequestParameterException;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.bind.annotation.RequestParam;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonInclude.Include;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * Controller to delete or update multiple entities of a collection resource with a single request. The entities
+ * affected are selected by their identifiers ({@code ?id=1,2,3}) or, for repositories supporting Querydsl, by a
+ * predicate built from the request parameters. Requests neither carrying identifiers nor binding any filter criteria
+ * are rejected, as are requests selecting more entities than {@link BulkOperationConfiguration#getMaxEntities()}.
+ * The entities are processed in chunks of the size configured in {@link BulkOperationConfiguration}, each of which is
+ * processed in a transaction of its own if a {@link PlatformTransactionManager} is available. Every entity is deleted
+ * or saved through the {@link RepositoryInvoker}, so that security constraints and invoker decorations apply as for
+ * requests to the item resource. The usual {@link BeforeDeleteEvent}s, {@link AfterDeleteEvent}s,
+ * {@link BeforeSaveEvent}s and {@link AfterSaveEvent}s are published for every entity.
+ * <p>
+ * Bulk operations are disabled by default and have to be enabled per domain type via
+ * {@link RepositoryRestConfiguration#getBulkOperationConfiguration()}.
+ *
+ * @author agent
+ * @since 2.7
+ */
+@RepositoryRestController
+class RepositoryBulkController implements ApplicationEventPublisherAware {
+
+	private static final String BASE_MAPPING = "/{repository}";
+	private static final String ID_PARAMETER = "id";
+	private static final String QUERYDSL_EXECUTOR = "org.springframework.data.querydsl.QueryDslPredicateExecutor";
+	private static final String QUERYDSL_INVOKER = "org.springframework.data.querydsl.QuerydslRepositoryInvokerAdapter";
+
+	private final BulkOperationConfiguration configuration;
+	private final Repositories repositories;
+	private final RepositoryBatchLookup batchLookup;
+	private final PluginRegistry<BackendIdConverter, Class<?>> idConverters;
+	private final PersistentEntities entities;
+	private final DomainObjectReader reader;
+	private final ObjectMapper mapper;
+	private final PlatformTransactionManager transactionManager;
+	private final Class<?> querydslExecutor;
+	private final Class<?> querydslInvoker;
+
+	private ApplicationEventPublisher publisher;
+
+	/**
+	 * Creates a new {@link RepositoryBulkController} for the given {@link RepositoryRestConfiguration},
+	 * {@link Repositories}, {@link RepositoryBatchLookup}, {@link BackendIdConverter}s, {@link PersistentEntities},
+	 * {@link Associations}, {@link ObjectMapper} and {@link PlatformTransactionManager}.
+	 *
+	 * @param config must not be {@literal null}.
+	 * @param repositories must not be {@literal null}.
+	 * @param batchLookup must not be {@literal null}.
+	 * @param idConverters must not be {@literal null}.
+	 * @param entities must not be {@literal null}.
+	 * @param associations must not be {@literal null}.
+	 * @param mapper must not be {@literal null}.
+	 * @param transactionManager must not be {@literal null}.
+	 */
+	@Autowired
+	public RepositoryBulkController(RepositoryRestConfiguration config, Repositories repositories,
+			RepositoryBatchLookup batchLookup, PluginRegistry<BackendIdConverter, Class<?>> idConverters,
+			PersistentEntities entities, Associations associations, @Qualifier("objectMapper") ObjectMapper mapper,
+			ObjectProvider<PlatformTransactionManager> transactionManager) {
+
+		Assert.notNull(transactionManager, "PlatformTransactionManager provider must not be null!");
+
+		this.configuration = config.getBulkOperationConfiguration();
+		this.repositories = repositories;
+		this.batchLookup = batchLookup;
+		this.idConverters = idConverters;
+		this.entities = entities;
+		this.reader = new DomainObjectReader(entities, associations);
+		this.mapper = mapper;
+		this.transactionManager = transactionManager.getIfUnique();
+
+		ClassLoader classLoader = RepositoryBulkController.class.getClassLoader();
+		this.querydslExecutor = ClassUtils.isPresent(QUERYDSL_EXECUTOR, classLoader)
+				? ClassUtils.resolveClassName(QUERYDSL_EXECUTOR, classLoader) : null;
+		this.querydslInvoker = ClassUtils.isPresent(QUERYDSL_INVOKER, classLoader)
+				? ClassUtils.resolveClassName(QUERYDSL_INVOKER, classLoader) : null;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.context.ApplicationEventPublisherAware#setApplicationEventPublisher(org.springframework.context.ApplicationEventPublisher)
+	 */
+	@Override
+	public void setApplicationEventPublisher(ApplicationEventPublisher publisher) {
+		this.publisher = publisher;
+	}
+
+	/**
+	 * <code>DELETE /{repository}?id=1,2,3</code> - Deletes all entities selected by the given identifiers or the Querydsl
+	 * predicate bound to the request.
+	 *
+	 * @param information
+	 * @param ids
+	 * @return
+	 * @throws HttpRequestMethodNotSupportedException
+	 * @throws MissingServletRequestParameterException
+	 */
+	@RequestMapping(value = BASE_MAPPING, method = RequestMethod.DELETE)
+	public ResponseEntity<BulkOperationSummary> deleteCollectionResource(
+			@QuerydslPredicate RootResourceInformation information,
+			@RequestParam(value = ID_PARAMETER, required = false) List<String> ids)
+			throws HttpRequestMethodNotSupportedException, MissingServletRequestParameterException {
+
+		verify(information, HttpMethod.DELETE, ids);
+
+		return ResponseEntity.ok(process(information, ids, new ChunkHandler() {
+
+			@Override
+			public void handle(RepositoryInvoker invoker, List<Object> chunk) {
+
+				for (Object entity : chunk) {
+
+					publisher.publishEvent(new BeforeDeleteEvent(entity));
+					invoker.invokeDelete(getIdentifier(entity));
+					publisher.publishEvent(new AfterDeleteEvent(entity));
+				}
+			}
+		}));
+	}
+
+	/**
+	 * <code>PATCH /{repository}?id=1,2,3</code> - Applies the JSON document sent in the request body to all entities
+	 * selected by the given identifiers or the Querydsl predicate bound to the request using merge patch semantics.
+	 *
+	 * @param information
+	 * @param ids
+	 * @param request
+	 * @return
+	 * @throws HttpRequestMethodNotSupportedException
+	 * @throws MissingServletRequestParameterException
+	 */
+	@RequestMapping(value = BASE_MAPPING, method = RequestMethod.PATCH)
+	public ResponseEntity<BulkOperationSummary> patchCollectionResource(
+			@QuerydslPredicate RootResourceInformation information,
+			@RequestParam(value = ID_PARAMETER, required = false) List<String> ids, HttpServletRequest request)
+			throws HttpRequestMethodNotSupportedException, MissingServletRequestParameterException {
+
+		verify(information, HttpMethod.PATCH, ids);
+
+		final ObjectNode patch = readPatch(request);
+
+		return ResponseEntity.ok(process(information, ids, new ChunkHandler() {
+
+			@Override
+			public void handle(RepositoryInvoker invoker, List<Object> chunk) {
+
+				for (Object entity : chunk) {
+
+					Object patched = reader.merge(patch.deepCopy(), entity, mapper);
+
+					publisher.publishEvent(new BeforeSaveEvent(patched));
+					Object saved = invoker.invokeSave(patched);
+					publisher.publishEvent(new AfterSaveEvent(saved));
+				}
+			}
+		}));
+	}
+
+	private void verify(RootResourceInformation information, HttpMethod method, List<String> ids)
+			throws HttpRequestMethodNotSupportedException, MissingServletRequestParameterException {
+
+		// Collection resources don't support DELETE and PATCH unless enabled explicitly, rejects with the methods allowed
+		boolean enabled = configuration.isEnabledFor(information.getDomainType());
+		information.verifySupportedMethod(method, enabled ? ResourceType.ITEM : ResourceType.COLLECTION);
+
+		if (ids == null ? !isFiltered(information) : ids.isEmpty()) {
+			throw new MissingServletRequestParameterException(ID_PARAMETER, "List");
+		}
+
+		if (ids != null && ids.size() > configuration.getMaxEntities()) {
+			throw new TooManyIdentifiersException(configuration.getMaxEntities());
+		}
+	}
+
+	/**
+	 * Returns whether the {@link RepositoryInvoker} of the given {@link RootResourceInformation} is restricted by a
+	 * Querydsl predicate. The predicate is only applied if filter criteria could be bound from the request.
+	 *
+	 * @param information must not be {@literal null}.
+	 * @return
+	 */
+	private boolean isFiltered(RootResourceInformation information) {
+		return querydslExecutor != null && querydslInvoker != null
+				&& querydslExecutor.isInstance(repositories.getRepositoryFor(information.getDomainType()))
+				&& querydslInvoker.isInstance(information.getInvoker());
+	}
+
+	private ObjectNode readPatch(HttpServletRequest request) {
+
+		try {
+
+			JsonNode node = mapper.readTree(request.getInputStream());
+
+			if (!(node instanceof ObjectNode)) {
+				throw new HttpMessageNotReadableException("Bulk PATCH requests require a JSON object as request body!");
+			}
+
+			return (ObjectNode) node;
+
+		} catch (IOException o_O) {
+			throw new HttpMessageNotReadableException("Could not read bulk PATCH request body!", o_O);
+		}
+	}
+
+	/**
+	 * Looks up the entities selected by the given identifiers in chunks and hands each of them to the given
+	 * {@link ChunkHandler}.
+	 *
+	 * @param information must not be {@literal null}.
+	 * @param ids must not be {@literal null}.
+	 * @param handler must not be {@literal null}.
+	 * @return
+	 */
+	private BulkOperationSummary process(RootResourceInformation information, List<String> ids, ChunkHandler handler) {
+
+		if (ids == null) {
+			return processMatches(information, handler);
+		}
+
+		Class<?> domainType = information.getDomainType();
+		List<Serializable> backendIds = toBackendIds(domainType, ids);
+		List<String> missingIds = new ArrayList<String>();
+
+		int chunkSize = configuration.getChunkSize();
+		int processed = 0, chunks = 0;
+
+		for (int start = 0; start < ids.size(); start += chunkSize) {
+
+			int end = Math.min(start + chunkSize, ids.size());
+			List<Object> found = batchLookup.lookup(domainType, backendIds.subList(start, end));
+			List<Object> chunk = new ArrayList<Object>(found.size());
+
+			for (int i = 0; i < found.size(); i++) {
+
+				Object entity = found.get(i);
+
+				if (entity == null) {
+					missingIds.add(ids.get(start + i));
+				} else {
+					chunk.add(entity);
+				}
+			}
+
+			if (!chunk.isEmpty()) {
+				execute(handler, information.getInvoker(), chunk);
+				processed += chunk.size();
+				chunks++;
+			}
+		}
+
+		return new BulkOperationSummary(processed, chunks, missingIds);
+	}
+
+	/**
+	 * Reads the entities matching the predicate bound to the {@link RepositoryInvoker} page by page ordered by their
+	 * identifiers and hands each page to the given {@link ChunkHandler}. As processed entities might no longer match the
+	 * predicate and thus shift subsequent ones to earlier pages, the page just processed is read again and entities
+	 * already processed are skipped. Only the identifiers of processed entities are kept in memory.
+	 *
+	 * @param information must not be {@literal null}.
+	 * @param handler must not be {@literal null}.
+	 * @return
+	 * @throws TooManyIdentifiersException in case more entities than allowed per request match the predicate.
+	 */
+	@SuppressWarnings("unchecked")
+	private BulkOperationSummary processMatches(RootResourceInformation information, ChunkHandler handler) {
+
+		RepositoryInvoker invoker = information.getInvoker();
+		PersistentProperty<?> idProperty = information.getPersistentEntity().getIdProperty();
+		Sort sort = new Sort(idProperty.getName());
+
+		int chunkSize = configuration.getChunkSize();
+		int maxEntities = configuration.getMaxEntities();
+		Set<Object> processedIds = new HashSet<Object>();
+		int number = 0, chunks = 0;
+		boolean hasNext;
+
+		do {
+
+			Iterable<Object> result = invoker.invokeFindAll(new PageRequest(number, chunkSize, sort));
+
+			// Rejects requests selecting too many entities before any of them gets processed
+			if (processedIds.isEmpty() && result instanceof Page
+					&& ((Page<Object>) result).getTotalElements() > maxEntities) {
+				throw new TooManyIdentifiersException(maxEntities);
+			}
+
+			List<Object> chunk = new ArrayList<Object>(chunkSize);
+			List<Object> chunkIds = new ArrayList<Object>(chunkSize);
+
+			for (Object entity : result) {
+
+				Object id = getIdentifier(entity);
+
+				if (chunk.size() < chunkSize && !processedIds.contains(id)) {
+					chunk.add(entity);
+					chunkIds.add(id);
+				}
+			}
+
+			if (chunk.isEmpty()) {
+
+				hasNext = result instanceof Page && ((Page<Object>) result).hasNext();
+				number++;
+
+				continue;
+			}
+
+			if (processedIds.size() + chunk.size() > maxEntities) {
+				throw new TooManyIdentifiersException(maxEntities);
+			}
+
+			execute(handler, invoker, chunk);
+
+			processedIds.addAll(chunkIds);
+			chunks++;
+			hasNext = true;
+
+		} while (hasNext);
+
+		return new BulkOperationSummary(processedIds.size(), chunks, Collections.<String> emptyList());
+	}
+
+	/**
+	 * Hands the given chunk to the given {@link ChunkHandler} within a transaction if a
+	 * {@link PlatformTransactionManager} is available.
+	 *
+	 * @param handler must not be {@literal null}.
+	 * @param invoker must not be {@literal null}.
+	 * @param chunk must not be {@literal null}.
+	 */
+	private void execute(final ChunkHandler handler, final RepositoryInvoker invoker, final List<Object> chunk) {
+
+		if (transactionManager == null) {
+			handler.handle(invoker, chunk);
+			return;
+		}
+
+		new TransactionTemplate(transactionManager).execute(new TransactionCallbackWithoutResult() {
+
+			@Override
+			protected void doInTransactionWithoutResult(TransactionStatus status) {
+				handler.handle(invoker, chunk);
+			}
+		});
+	}
+
+	private List<Serializable> toBackendIds(Class<?> domainType, List<String> ids) {
+
+		BackendIdConverter converter = idConverters.getPluginFor(domainType, DefaultIdConverter.INSTANCE);
+		List<Serializable> backendIds = new ArrayList<Serializable>(ids.size());
+
+		for (String id : ids) {
+			backendIds.add(converter.fromRequestId(id, domainType));
+		}
+
+		return backendIds;
+	}
+
+	private Serializable getIdentifier(Object entity) {
+
+		PersistentEntity<?, ?> persistentEntity = entities.getPersistentEntity(ClassUtils.getUserClass(entity));
+		return (Serializable) persistentEntity.getIdentifierAccessor(entity).getIdentifier();
+	}
+
+	/**
+	 * Callback to apply a bulk operation to a chunk of entities.
+	 *
+	 * @author agent
+	 */
+	private interface ChunkHandler {
+
+		/**
+		 * Applies the operation to the given chunk of entities.
+		 *
+		 * @param invoker the {@link RepositoryInvoker} to delete or save the entities with.
+		 * @param chunk the entities to process, never empty.
+		 */
+		void handle(RepositoryInvoker invoker, List<Object> chunk);
+	}
+
+	/**
+	 * Summary of a bulk operation.
+	 *
+	 * @author agent
+	 */
+	@Value
+	static class BulkOperationSummary {
+
+		int processed, chunks;
+		@JsonInclude(Include.NON_EMPTY) List<String> missingIds;
+	}
+}
@@ -17,22 +17,35 @@ package org.springframework.data.rest.webmvc;
 
 import static org.springframework.http.HttpMethod.*;
 
+import java.beans.PropertyDescriptor;
+import java.io.IOException;
 import java.io.Serializable;
+import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import org.springframework.beans.BeanUtils;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.ApplicationEventPublisherAware;
 import org.springframework.core.convert.ConversionService;
 import org.springframework.data.auditing.AuditableBeanWrapperFactory;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.mapping.PersistentEntity;
+import org.springframework.data.mapping.PersistentProperty;
 import org.springframework.data.querydsl.binding.QuerydslPredicate;
+import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.core.CrudMethods;
 import org.springframework.data.repository.support.Repositories;
 import org.springframework.data.repository.support.RepositoryInvoker;
+import org.springframework.data.rest.core.config.ProjectionDefinitionConfiguration;
 import org.springframework.data.rest.core.config.RepositoryRestConfiguration;
 import org.springframework.data.rest.core.event.AfterCreateEvent;
 import org.springframework.data.rest.core.event.AfterDeleteEvent;
@@ -44,31 +57,49 @@ import org.springframework.data.rest.core.mapping.ResourceMetadata;
 import org.springframework.data.rest.core.mapping.ResourceType;
 import org.springframework.data.rest.core.mapping.SearchResourceMappings;
 import org.springframework.data.rest.core.mapping.SupportedHttpMethods;
+import org.springframework.data.rest.core.support.ProjectingRepositoryInvoker;
+import org.springframework.data.rest.core.support.RepositoryBatchLookup;
+import org.springframework.data.rest.core.support.SelfLinkProvider;
 import org.springframework.data.rest.core.util.Supplier;
+import org.springframework.data.rest.webmvc.spi.BackendIdConverter;
+import org.springframework.data.rest.webmvc.spi.BackendIdConverter.DefaultIdConverter;
 import org.springframework.data.rest.webmvc.support.BackendId;
 import org.springframework.data.rest.webmvc.support.DefaultedPageable;
 import org.springframework.data.rest.webmvc.support.ETag;
 import org.springframework.data.rest.webmvc.support.ETagDoesntMatchException;
+import org.springframework.data.rest.webmvc.support.ItemResourceResponseCache;
+import org.springframework.data.rest.webmvc.support.ItemResourceResponseCache.CacheKey;
 import org.springframework.data.rest.webmvc.support.RepositoryEntityLinks;
 import org.springframework.data.web.PagedResourcesAssembler;
 import org.springframework.hateoas.Link;
 import org.springframework.hateoas.Links;
 import org.springframework.hateoas.PagedResources;
 import org.springframework.hateoas.Resource;
+import org.springframework.hateoas.ResourceAssembler;
 import org.springframework.hateoas.ResourceSupport;
 import org.springframework.hateoas.Resources;
 import org.springframework.hateoas.UriTemplate;
+import org.springframework.hateoas.core.EmbeddedWrappers;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.plugin.core.PluginRegistry;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ReflectionUtils;
+import org.springframework.util.StringUtils;
 import org.springframework.web.HttpRequestMethodNotSupportedException;
+import org.springframework.web.bind.ServletRequestBindingException;
 import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseBody;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonInclude.Include;
+
 /**
  * @author Jon Brisbin
  * @author Oliver Gierke
@@ -84,6 +115,13 @@ class RepositoryEntityController extends AbstractRepositoryRestController implem
 			RestMediaTypes.JSON_PATCH_JSON.toString(), //
 			MediaType.APPLICATION_JSON_VALUE);
 
+	private static final String ID_PARAMETER = "id";
+	private static final String QUERYDSL_EXECUTOR = "org.springframework.data.querydsl.QueryDslPredicateExecutor";
+	private static final String QUERYDSL_INVOKER = "org.springframework.data.querydsl.QuerydslRepositoryInvokerAdapter";
+	private static final String QUERYDSL_ID_LOOKUP = "Looking up %s by identifiers is not supported for repositories filtering by Querydsl predicates!";
+
+	private static final EmbeddedWrappers WRAPPERS = new EmbeddedWrappers(false);
+
 	private static final String ACCEPT_HEADER = "Accept";
 	private static final String LINK_HEADER = "Link";
 
@@ -91,24 +129,38 @@ class RepositoryEntityController extends AbstractRepositoryRestController implem
 	private final RepositoryRestConfiguration config;
 	private final HttpHeadersPreparer headersPreparer;
 	private final ResourceStatus resourceStatus;
+	private final ItemResourceResponseCache responseCache;
+	private final Repositories repositories;
+	private final RepositoryBatchLookup batchLookup;
+	private final UriListWriter uriListWriter;
+	private final PluginRegistry<BackendIdConverter, Class<?>> idConverters;
+	private final Class<?> querydslExecutor;
+	private final Class<?> querydslInvoker;
 
 	private ApplicationEventPublisher publisher;
 
 	/**
 	 * Creates a new {@link RepositoryEntityController} for the given {@link Repositories},
 	 * {@link RepositoryRestConfiguration}, {@link RepositoryEntityLinks}, {@link PagedResourcesAssembler},
-	 * {@link ConversionService} and {@link AuditableBeanWrapperFactory}.
+	 * {@link HttpHeadersPreparer}, {@link ItemResourceResponseCache}, {@link RepositoryBatchLookup},
+	 * {@link BackendIdConverter}s and {@link SelfLinkProvider}.
 	 * 
 	 * @param repositories must not be {@literal null}.
 	 * @param config must not be {@literal null}.
 	 * @param entityLinks must not be {@literal null}.
 	 * @param assembler must not be {@literal null}.
-	 * @param auditableBeanWrapperFactory must not be {@literal null}.
+	 * @param headersPreparer must not be {@literal null}.
+	 * @param responseCache must not be {@literal null}.
+	 * @param batchLookup must not be {@literal null}.
+	 * @param idConverters must not be {@literal null}.
+	 * @param selfLinks must not be {@literal null}.
 	 */
 	@Autowired
 	public RepositoryEntityController(Repositories repositories, RepositoryRestConfiguration config,
 			RepositoryEntityLinks entityLinks, PagedResourcesAssembler<Object> assembler,
-			HttpHeadersPreparer headersPreparer) {
+			HttpHeadersPreparer headersPreparer, ItemResourceResponseCache responseCache,
+			RepositoryBatchLookup batchLookup, PluginRegistry<BackendIdConverter, Class<?>> idConverters,
+			SelfLinkProvider selfLinks) {
 
 		super(assembler);
 
@@ -116,6 +168,17 @@ class RepositoryEntityController extends AbstractRepositoryRestController implem
 		this.config = config;
 		this.headersPreparer = headersPreparer;
 		this.resourceStatus = ResourceStatus.of(headersPreparer);
+		this.responseCache = responseCache;
+		this.repositories = repositories;
+		this.batchLookup = batchLookup;
+		this.idConverters = idConverters;
+		this.uriListWriter = new UriListWriter(selfLinks);
+
+		ClassLoader classLoader = RepositoryEntityController.class.getClassLoader();
+		this.querydslExecutor = ClassUtils.isPresent(QUERYDSL_EXECUTOR, classLoader)
+				? ClassUtils.resolveClassName(QUERYDSL_EXECUTOR, classLoader) : null;
+		this.querydslInvoker = ClassUtils.isPresent(QUERYDSL_INVOKER, classLoader)
+				? ClassUtils.resolveClassName(QUERYDSL_INVOKER, classLoader) : null;
 	}
 
 	/*
@@ -146,7 +209,9 @@ class RepositoryEntityController extends AbstractRepositoryRestController implem
 	}
 
 	/**
-	 * <code>HEAD /{repository}</code>
+	 * <code>HEAD /{repository}</code> - Exposes the links of the collection resource and, if it can be determined with
+	 * a count query, the number of entities matching the Querydsl predicate given in the
+	 * {@value ControllerUtils#TOTAL_COUNT_HEADER} header.
 	 * 
 	 * @param resourceInformation
 	 * @return
@@ -154,7 +219,7 @@ class RepositoryEntityController extends AbstractRepositoryRestController implem
 	 * @since 2.2
 	 */
 	@RequestMapping(value = BASE_MAPPING, method = RequestMethod.HEAD)
-	public ResponseEntity<?> headCollectionResource(RootResourceInformation resourceInformation,
+	public ResponseEntity<?> headCollectionResource(@QuerydslPredicate RootResourceInformation resourceInformation,
 			DefaultedPageable pageable) throws HttpRequestMethodNotSupportedException {
 
 		resourceInformation.verifySupportedMethod(HttpMethod.HEAD, ResourceType.COLLECTION);
@@ -171,6 +236,12 @@ class RepositoryEntityController extends AbstractRepositoryRestController implem
 		HttpHeaders headers = new HttpHeaders();
 		headers.add(LINK_HEADER, new Links(links).toString());
 
+		Long count = getCount(resourceInformation);
+
+		if (count != null) {
+			headers.set(ControllerUtils.TOTAL_COUNT_HEADER, count.toString());
+		}
+
 		return new ResponseEntity<Object>(headers, HttpStatus.NO_CONTENT);
 	}
 
@@ -181,6 +252,7 @@ class RepositoryEntityController extends AbstractRepositoryRestController implem
 	 * @param pageable
 	 * @param sort
 	 * @param assembler
+	 * @param request
 	 * @return
 	 * @throws ResourceNotFoundException
 	 * @throws HttpRequestMethodNotSupportedException
@@ -188,7 +260,7 @@ class RepositoryEntityController extends AbstractRepositoryRestController implem
 	@ResponseBody
 	@RequestMapping(value = BASE_MAPPING, method = RequestMethod.GET)
 	public Resources<?> getCollectionResource(@QuerydslPredicate RootResourceInformation resourceInformation,
-			DefaultedPageable pageable, Sort sort, PersistentEntityResourceAssembler assembler)
+			DefaultedPageable pageable, Sort sort, PersistentEntityResourceAssembler assembler, HttpServletRequest request)
 			throws ResourceNotFoundException, HttpRequestMethodNotSupportedException {
 
 		resourceInformation.verifySupportedMethod(HttpMethod.GET, ResourceType.COLLECTION);
@@ -199,18 +271,179 @@ class RepositoryEntityController extends AbstractRepositoryRestController implem
 			throw new ResourceNotFoundException();
 		}
 
-		Iterable<?> results = pageable.getPageable() != null ? invoker.invokeFindAll(pageable.getPageable())
-				: invoker.invokeFindAll(sort);
-
 		ResourceMetadata metadata = resourceInformation.getResourceMetadata();
 		Link baseLink = entityLinks.linkToPagedResource(resourceInformation.getDomainType(),
 				pageable.isDefault() ? null : pageable.getPageable());
 
-		Resources<?> result = toResources(results, assembler, metadata.getDomainType(), baseLink);
+		// Invokers restricted by a Querydsl predicate don't read projections, as the query method would ignore it
+		Class<?> projectionType = getRequestedProjection(resourceInformation, request);
+		Iterable<?> projections = projectionType == null || !(invoker instanceof ProjectingRepositoryInvoker) ? null
+				: ((ProjectingRepositoryInvoker) invoker).invokeFindAll(projectionType, pageable.getPageable(), sort);
+
+		Resources<?> result;
+
+		if (projections != null) {
+
+			ProjectionResourceAssembler projectionAssembler = new ProjectionResourceAssembler(
+					resourceInformation.getPersistentEntity(), projectionType);
+			result = toResources(projections, projectionAssembler, metadata.getDomainType(), baseLink);
+
+		} else {
+
+			Iterable<?> results = pageable.getPageable() != null ? invoker.invokeFindAll(pageable.getPageable())
+					: invoker.invokeFindAll(sort);
+
+			result = toResources(results, assembler, metadata.getDomainType(), baseLink);
+		}
+
 		result.add(getCollectionResourceLinks(resourceInformation, pageable));
 		return result;
 	}
 
+	/**
+	 * <code>GET /{repository}?id=1,2,3</code> - Returns the entities with the given identifiers in the order requested.
+	 * All of them are looked up with a single repository call where possible. Domain types with an
+	 * {@link org.springframework.data.rest.core.support.EntityLookup} registered are looked up through it, one identifier
+	 * at a time. Identifiers that could not be found are reported in the {@code missingIds} property of the response.
+	 * Requests for repositories filtering the collection resource using Querydsl predicates are rejected with
+	 * {@code 400 Bad Request}, as {@code id} would be ambiguous for them.
+	 * 
+	 * @param resourceInformation
+	 * @param ids
+	 * @param pageable
+	 * @param assembler
+	 * @return
+	 * @throws ResourceNotFoundException
+	 * @throws HttpRequestMethodNotSupportedException
+	 * @throws ServletRequestBindingException in case the repository filters the collection resource using Querydsl.
+	 * @since 2.7
+	 */
+	@ResponseBody
+	@RequestMapping(value = BASE_MAPPING, method = RequestMethod.GET, params = ID_PARAMETER)
+	public Resources<?> getCollectionResourceByIds(RootResourceInformation resourceInformation,
+			@RequestParam(ID_PARAMETER) List<String> ids, DefaultedPageable pageable,
+			PersistentEntityResourceAssembler assembler)
+			throws ResourceNotFoundException, HttpRequestMethodNotSupportedException, ServletRequestBindingException {
+
+		Class<?> domainType = resourceInformation.getDomainType();
+
+		if (querydslExecutor != null && querydslExecutor.isInstance(repositories.getRepositoryFor(domainType))) {
+			throw new ServletRequestBindingException(String.format(QUERYDSL_ID_LOOKUP, domainType.getName()));
+		}
+
+		resourceInformation.verifySupportedMethod(HttpMethod.GET, ResourceType.COLLECTION);
+
+		if (ids.size() > config.getMaxIdsPerRequest()) {
+			throw new TooManyIdentifiersException(config.getMaxIdsPerRequest());
+		}
+
+		BackendIdConverter converter = idConverters.getPluginFor(domainType, DefaultIdConverter.INSTANCE);
+		List<Serializable> backendIds = new ArrayList<Serializable>(ids.size());
+
+		for (String id : ids) {
+			backendIds.add(converter.fromRequestId(id, domainType));
+		}
+
+		List<Object> entities = batchLookup.lookup(domainType, backendIds);
+		List<Resource<Object>> resources = new ArrayList<Resource<Object>>(entities.size());
+		List<String> missingIds = new ArrayList<String>();
+
+		for (int i = 0; i < entities.size(); i++) {
+
+			Object entity = entities.get(i);
+
+			if (entity == null) {
+				missingIds.add(ids.get(i));
+			} else {
+				resources.add(toResource(entity, assembler));
+			}
+		}
+
+		List<Object> content = resources.isEmpty()
+				? Collections.<Object> singletonList(WRAPPERS.emptyCollectionOf(domainType))
+				: new ArrayList<Object>(resources);
+
+		IdLookupResources result = new IdLookupResources(content, missingIds, getDefaultSelfLink());
+		result.add(getCollectionResourceLinks(resourceInformation, pageable));
+
+		return result;
+	}
+
+	/**
+	 * Returns the projection type requested by the given request in case it can be read from the repository directly,
+	 * i.e. it exposes the identifier of the underlying entity so that links can be created for it and doesn't expose any
+	 * associations, as those would have to be rendered from the entity. Requested fields take precedence over projections
+	 * and are applied to the entities, so the projection isn't read from the repository in that case.
+	 * 
+	 * @param information must not be {@literal null}.
+	 * @param request must not be {@literal null}.
+	 * @return the projection type or {@literal null} if no projection was requested or it cannot be read directly.
+	 */
+	private Class<?> getRequestedProjection(RootResourceInformation information, HttpServletRequest request) {
+
+		ProjectionDefinitionConfiguration projections = config.getProjectionConfiguration();
+		String name = request.getParameter(projections.getParameterName());
+
+		if (!StringUtils.hasText(name) || StringUtils.hasText(request.getParameter(config.getFieldsParamName()))) {
+			return null;
+		}
+
+		PersistentEntity<?, ?> entity = information.getPersistentEntity();
+		Class<?> projectionType = projections.getProjectionType(information.getDomainType(), name);
+
+		if (projectionType == null || !projectionType.isInterface() || !entity.hasIdProperty()) {
+			return null;
+		}
+
+		PropertyDescriptor descriptor = BeanUtils.getPropertyDescriptor(projectionType,
+				entity.getIdProperty().getName());
+
+		if (descriptor == null || descriptor.getReadMethod() == null) {
+			return null;
+		}
+
+		for (PropertyDescriptor projected : BeanUtils.getPropertyDescriptors(projectionType)) {
+
+			PersistentProperty<?> property = entity.getPersistentProperty(projected.getName());
+
+			if (property != null && property.isAssociation()) {
+				return null;
+			}
+		}
+
+		return projectionType;
+	}
+
+	/**
+	 * Returns the number of entities of the collection resource if it can be determined with a count query, i.e. via
+	 * the Querydsl predicate bound, {@link CrudRepository#count()} or the total number of elements of a {@link Page}
+	 * returned by the repository's find-all method.
+	 * 
+	 * @param information must not be {@literal null}.
+	 * @return the number of entities or {@literal null} if it could only be determined by reading all of them.
+	 */
+	private Long getCount(RootResourceInformation information) {
+
+		RepositoryInvoker invoker = information.getInvoker();
+		Object repository = repositories.getRepositoryFor(information.getDomainType());
+
+		if (querydslInvoker != null && querydslInvoker.isInstance(invoker)) {
+			return ((Page<?>) invoker.invokeFindAll(new PageRequest(0, 1))).getTotalElements();
+		}
+
+		if (repository instanceof CrudRepository) {
+			return ((CrudRepository<?, ?>) repository).count();
+		}
+
+		CrudMethods methods = repositories.getRepositoryInformationFor(information.getDomainType()).getCrudMethods();
+
+		if (methods.hasFindAllMethod() && Page.class.isAssignableFrom(methods.getFindAllMethod().getReturnType())) {
+			return ((Page<?>) invoker.invokeFindAll(new PageRequest(0, 1))).getTotalElements();
+		}
+
+		return null;
+	}
+
 	private List<Link> getCollectionResourceLinks(RootResourceInformation resourceInformation,
 			DefaultedPageable pageable) {
 
@@ -231,12 +464,12 @@ class RepositoryEntityController extends AbstractRepositoryRestController implem
 	@ResponseBody
 	@SuppressWarnings({ "unchecked" })
 	@RequestMapping(value = BASE_MAPPING, method = RequestMethod.GET,
-			produces = { "application/x-spring-data-compact+json", "text/uri-list" })
+			produces = { "application/x-spring-data-compact+json" })
 	public Resources<?> getCollectionResourceCompact(@QuerydslPredicate RootResourceInformation resourceinformation,
-			DefaultedPageable pageable, Sort sort, PersistentEntityResourceAssembler assembler)
+			DefaultedPageable pageable, Sort sort, PersistentEntityResourceAssembler assembler, HttpServletRequest request)
 			throws ResourceNotFoundException, HttpRequestMethodNotSupportedException {
 
-		Resources<?> resources = getCollectionResource(resourceinformation, pageable, sort, assembler);
+		Resources<?> resources = getCollectionResource(resourceinformation, pageable, sort, assembler, request);
 		List<Link> links = new ArrayList<Link>(resources.getLinks());
 
 		for (Resource<?> resource : ((Resources<Resource<?>>) resources).getContent()) {
@@ -250,6 +483,38 @@ class RepositoryEntityController extends AbstractRepositoryRestController implem
 		}
 	}
 
+	/**
+	 * <code>GET /{repository}</code> with {@code text/uri-list} - Writes the URIs of the item resources of the collection
+	 * resource to the response, one per line. The URIs are created from the entities' identifiers as they are read from
+	 * the repository.
+	 * 
+	 * @param resourceInformation
+	 * @param pageable
+	 * @param sort
+	 * @param response
+	 * @throws HttpRequestMethodNotSupportedException
+	 * @throws IOException
+	 * @since 2.7
+	 */
+	@RequestMapping(value = BASE_MAPPING, method = RequestMethod.GET, produces = RestMediaTypes.TEXT_URI_LIST_VALUE)
+	public void getCollectionResourceUriList(@QuerydslPredicate RootResourceInformation resourceInformation,
+			DefaultedPageable pageable, Sort sort, HttpServletResponse response)
+			throws HttpRequestMethodNotSupportedException, IOException {
+
+		resourceInformation.verifySupportedMethod(HttpMethod.GET, ResourceType.COLLECTION);
+
+		RepositoryInvoker invoker = resourceInformation.getInvoker();
+
+		if (null == invoker) {
+			throw new ResourceNotFoundException();
+		}
+
+		Iterable<?> results = pageable.getPageable() != null ? invoker.invokeFindAll(pageable.getPageable())
+				: invoker.invokeFindAll(sort);
+
+		uriListWriter.write(results, response);
+	}
+
 	/**
 	 * <code>POST /{repository}</code> - Creates a new entity instances from the collection resource.
 	 * 
@@ -311,7 +576,7 @@ class RepositoryEntityController extends AbstractRepositoryRestController implem
 			throw new ResourceNotFoundException();
 		}
 
-		Links links = new Links(assembler.toResource(domainObject).getLinks());
+		Links links = new Links(toResource(domainObject, assembler).getLinks());
 
 		HttpHeaders headers = headersPreparer.prepareHeaders(resourceInformation.getPersistentEntity(), domainObject);
 		headers.add(LINK_HEADER, links.toString());
@@ -320,17 +585,23 @@ class RepositoryEntityController extends AbstractRepositoryRestController implem
 	}
 
 	/**
-	 * <code>GET /{repository}/{id}</code> - Returns a single entity.
+	 * <code>GET /{repository}/{id}</code> - Returns a single entity. Serves a previously rendered representation if the
+	 * {@link ItemResourceResponseCache} is enabled for the domain type. The entity is looked up in any case, so that
+	 * security constraints declared on the repository's {@code findOne(…)} method apply to cached representations, too.
 	 * 
 	 * @param resourceInformation
 	 * @param id
 	 * @return
 	 * @throws HttpRequestMethodNotSupportedException
+	 * @throws IOException
 	 */
 	@RequestMapping(value = BASE_MAPPING + "/{id}", method = RequestMethod.GET)
 	public ResponseEntity<Resource<?>> getItemResource(RootResourceInformation resourceInformation,
-			@BackendId Serializable id, final PersistentEntityResourceAssembler assembler, @RequestHeader HttpHeaders headers)
-			throws HttpRequestMethodNotSupportedException {
+			@BackendId Serializable id, final PersistentEntityResourceAssembler assembler, @RequestHeader HttpHeaders headers,
+			HttpServletRequest request, HttpServletResponse response)
+			throws HttpRequestMethodNotSupportedException, IOException {
+
+		resourceInformation.verifySupportedMethod(HttpMethod.GET, ResourceType.ITEM);
 
 		final Object domainObj = getItemResource(resourceInformation, id);
 
@@ -338,13 +609,19 @@ class RepositoryEntityController extends AbstractRepositoryRestController implem
 			return new ResponseEntity<Resource<?>>(HttpStatus.NOT_FOUND);
 		}
 
+		CacheKey cacheKey = responseCache.getKeyFor(resourceInformation.getDomainType(), id, request);
+
+		if (responseCache.writeCachedResponse(cacheKey, request, response)) {
+			return null;
+		}
+
 		PersistentEntity<?, ?> entity = resourceInformation.getPersistentEntity();
 
 		return resourceStatus.getStatusAndHeaders(headers, domainObj, entity).toResponseEntity(//
 				new Supplier<PersistentEntityResource>() {
 					@Override
 					public PersistentEntityResource get() {
-						return assembler.toFullResource(domainObj);
+						return toFullResource(domainObj, assembler);
 					}
 				});
 	}
@@ -457,7 +734,7 @@ class RepositoryEntityController extends AbstractRepositoryRestController implem
 		Object obj = invoker.invokeSave(domainObject);
 		publisher.publishEvent(new AfterSaveEvent(obj));
 
-		PersistentEntityResource resource = assembler.toFullResource(obj);
+		PersistentEntityResource resource = toFullResource(obj, assembler);
 		HttpHeaders headers = headersPreparer.prepareHeaders(resource);
 
 		if (PUT.equals(httpMethod)) {
@@ -485,7 +762,7 @@ class RepositoryEntityController extends AbstractRepositoryRestController implem
 		Object savedObject = invoker.invokeSave(domainObject);
 		publisher.publishEvent(new AfterCreateEvent(savedObject));
 
-		PersistentEntityResource resource = returnBody ? assembler.toFullResource(savedObject) : null;
+		PersistentEntityResource resource = returnBody ? toFullResource(savedObject, assembler) : null;
 
 		HttpHeaders headers = headersPreparer.prepareHeaders(resource);
 		addLocationHeader(headers, assembler, savedObject);
@@ -523,4 +800,67 @@ class RepositoryEntityController extends AbstractRepositoryRestController implem
 
 		return resourceInformation.getInvoker().invokeFindOne(id);
 	}
+
+	/**
+	 * {@link ResourceAssembler} for projections read from the repository directly. Links are created from the entity
+	 * identifier exposed by the projection.
+	 *
+	 * @author agent
+	 */
+	private class ProjectionResourceAssembler implements ResourceAssembler<Object, PersistentEntityResource> {
+
+		private final PersistentEntity<?, ?> entity;
+		private final Method idAccessor;
+
+		/**
+		 * Creates a new {@link ProjectionResourceAssembler} for the given {@link PersistentEntity} and projection type.
+		 * 
+		 * @param entity must not be {@literal null}.
+		 * @param projectionType must expose a getter for the entity's identifier property, must not be {@literal null}.
+		 */
+		ProjectionResourceAssembler(PersistentEntity<?, ?> entity, Class<?> projectionType) {
+
+			this.entity = entity;
+			this.idAccessor = BeanUtils.getPropertyDescriptor(projectionType, entity.getIdProperty().getName())
+					.getReadMethod();
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.hateoas.ResourceAssembler#toResource(java.lang.Object)
+		 */
+		@Override
+		public PersistentEntityResource toResource(Object projection) {
+
+			Object id = ReflectionUtils.invokeMethod(idAccessor, projection);
+			Link link = entityLinks.linkToSingleResource(entity.getType(), id);
+
+			return PersistentEntityResource.build(projection, entity).//
+					withLink(new Link(link.expand().getHref(), Link.REL_SELF)).//
+					withLink(link).//
+					build();
+		}
+	}
+
+	/**
+	 * {@link Resources} for entities looked up by identifier, reporting the identifiers that could not be found.
+	 *
+	 * @author agent
+	 */
+	static class IdLookupResources extends Resources<Object> {
+
+		private final List<String> missingIds;
+
+		IdLookupResources(Iterable<Object> content, List<String> missingIds, Link... links) {
+
+			super(content, links);
+
+			this.missingIds = missingIds;
+		}
+
+		@JsonInclude(Include.NON_EMPTY)
+		public List<String> getMissingIds() {
+			return missingIds;
+		}
+	}
 }
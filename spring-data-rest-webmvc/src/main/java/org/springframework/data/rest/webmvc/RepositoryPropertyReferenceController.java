@@ -20,21 +20,30 @@ import static org.springframework.data.rest.webmvc.RestMediaTypes.*;
 import static org.springframework.hateoas.mvc.ControllerLinkBuilder.*;
 import static org.springframework.web.bind.annotation.RequestMethod.*;
 
+import java.io.IOException;
 import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 
+import javax.servlet.http.HttpServletResponse;
+
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.ApplicationEventPublisherAware;
 import org.springframework.core.CollectionFactory;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Sort.Order;
 import org.springframework.data.mapping.IdentifierAccessor;
 import org.springframework.data.mapping.PersistentEntity;
 import org.springframework.data.mapping.PersistentProperty;
@@ -42,6 +51,7 @@ import org.springframework.data.mapping.PersistentPropertyAccessor;
 import org.springframework.data.repository.support.Repositories;
 import org.springframework.data.repository.support.RepositoryInvoker;
 import org.springframework.data.repository.support.RepositoryInvokerFactory;
+import org.springframework.data.rest.core.config.RepositoryRestConfiguration;
 import org.springframework.data.rest.core.event.AfterLinkDeleteEvent;
 import org.springframework.data.rest.core.event.AfterLinkSaveEvent;
 import org.springframework.data.rest.core.event.BeforeLinkDeleteEvent;
@@ -49,8 +59,12 @@ import org.springframework.data.rest.core.event.BeforeLinkSaveEvent;
 import org.springframework.data.rest.core.mapping.PropertyAwareResourceMapping;
 import org.springframework.data.rest.core.mapping.ResourceMapping;
 import org.springframework.data.rest.core.mapping.ResourceMetadata;
+import org.springframework.data.rest.core.support.SelfLinkProvider;
 import org.springframework.data.rest.core.util.Function;
+import org.springframework.data.rest.webmvc.spi.AssociationMutations;
+import org.springframework.data.rest.webmvc.spi.AssociationQueries;
 import org.springframework.data.rest.webmvc.support.BackendId;
+import org.springframework.data.rest.webmvc.support.DefaultedPageable;
 import org.springframework.data.web.PagedResourcesAssembler;
 import org.springframework.hateoas.Link;
 import org.springframework.hateoas.Resource;
@@ -62,6 +76,8 @@ import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.plugin.core.OrderAwarePluginRegistry;
+import org.springframework.plugin.core.PluginRegistry;
 import org.springframework.web.HttpRequestMethodNotSupportedException;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestBody;
@@ -84,6 +100,12 @@ class RepositoryPropertyReferenceController extends AbstractRepositoryRestContro
 	private final RepositoryInvokerFactory repositoryInvokerFactory;
 
 	private ApplicationEventPublisher publisher;
+	private UriListWriter uriListWriter;
+	private PluginRegistry<AssociationQueries, PersistentProperty<?>> associationQueries = OrderAwarePluginRegistry
+			.create(Collections.<AssociationQueries> emptyList());
+	private PluginRegistry<AssociationMutations, PersistentProperty<?>> associationMutations = OrderAwarePluginRegistry
+			.create(Collections.<AssociationMutations> emptyList());
+	private RepositoryRestConfiguration config;
 
 	@Autowired
 	public RepositoryPropertyReferenceController(Repositories repositories,
@@ -104,10 +126,71 @@ class RepositoryPropertyReferenceController extends AbstractRepositoryRestContro
 		this.publisher = applicationEventPublisher;
 	}
 
+	/**
+	 * Configures the {@link SelfLinkProvider} to create the URIs of the entities associations point to.
+	 * 
+	 * @param selfLinks must not be {@literal null}.
+	 * @since 2.7
+	 */
+	@Autowired
+	public void setSelfLinkProvider(SelfLinkProvider selfLinks) {
+		this.uriListWriter = new UriListWriter(selfLinks);
+	}
+
+	/**
+	 * Configures the {@link AssociationQueries} to be used to read pages of collection associations.
+	 * 
+	 * @param associationQueries must not be {@literal null}.
+	 * @since 2.7
+	 */
+	@Autowired(required = false)
+	public void setAssociationQueries(PluginRegistry<AssociationQueries, PersistentProperty<?>> associationQueries) {
+		this.associationQueries = associationQueries;
+	}
+
+	/**
+	 * Configures the {@link AssociationMutations} to be used to add entities to or remove them from collection
+	 * associations.
+	 * 
+	 * @param associationMutations must not be {@literal null}.
+	 * @since 2.7
+	 */
+	@Autowired(required = false)
+	public void setAssociationMutations(PluginRegistry<AssociationMutations, PersistentProperty<?>> associationMutations) {
+		this.associationMutations = associationMutations;
+	}
+
+	/**
+	 * Configures the {@link RepositoryRestConfiguration} to determine whether the {@link AssociationMutations} shall be
+	 * used at all.
+	 * 
+	 * @param config must not be {@literal null}.
+	 * @since 2.7
+	 * @see RepositoryRestConfiguration#isIncrementalAssociationUpdates()
+	 */
+	@Autowired(required = false)
+	public void setRepositoryRestConfiguration(RepositoryRestConfiguration config) {
+		this.config = config;
+	}
+
+	/**
+	 * <code>GET /{repository}/{id}/{property}</code> - Returns the resource the given property points to. Collection
+	 * associations are returned as a page if paging or sort parameters are given. The page is read from the store via
+	 * {@link AssociationQueries} if possible and created from the collection in memory otherwise.
+	 * 
+	 * @param repoRequest
+	 * @param id
+	 * @param property
+	 * @param pageable
+	 * @param sort
+	 * @param assembler
+	 * @return
+	 * @throws Exception
+	 */
 	@RequestMapping(value = BASE_MAPPING, method = GET)
 	public ResponseEntity<ResourceSupport> followPropertyReference(final RootResourceInformation repoRequest,
-			@BackendId Serializable id, final @PathVariable String property,
-			final PersistentEntityResourceAssembler assembler) throws Exception {
+			@BackendId Serializable id, final @PathVariable String property, final DefaultedPageable pageable,
+			final Sort sort, final PersistentEntityResourceAssembler assembler) throws Exception {
 
 		final HttpHeaders headers = new HttpHeaders();
 
@@ -122,21 +205,21 @@ class RepositoryPropertyReferenceController extends AbstractRepositoryRestContro
 
 				if (prop.property.isCollectionLike()) {
 
-					return toResources((Iterable<?>) prop.propertyValue, assembler, prop.propertyType, null);
+					return toResources(getAssociationContent(prop, pageable, sort), assembler, prop.propertyType, null);
 
 				} else if (prop.property.isMap()) {
 
 					Map<Object, Resource<?>> resources = new HashMap<Object, Resource<?>>();
 
 					for (Map.Entry<Object, Object> entry : ((Map<Object, Object>) prop.propertyValue).entrySet()) {
-						resources.put(entry.getKey(), assembler.toResource(entry.getValue()));
+						resources.put(entry.getKey(), toResource(entry.getValue(), assembler));
 					}
 
 					return new Resource<Object>(resources);
 
 				} else {
 
-					PersistentEntityResource resource = assembler.toResource(prop.propertyValue);
+					PersistentEntityResource resource = toResource(prop.propertyValue, assembler);
 					headers.set("Content-Location", resource.getId().getHref());
 					return resource;
 				}
@@ -183,6 +266,49 @@ class RepositoryPropertyReferenceController extends AbstractRepositoryRestContro
 		return ControllerUtils.toEmptyResponse(HttpStatus.NO_CONTENT);
 	}
 
+	/**
+	 * <code>HEAD /{repository}/{id}/{property}</code> - Exposes the number of entities the given collection association
+	 * refers to in the {@value ControllerUtils#TOTAL_COUNT_HEADER} header. The header is only exposed if the association
+	 * can be counted using {@link AssociationQueries}, as inspecting the property value would load the entire
+	 * association.
+	 * 
+	 * @param repoRequest
+	 * @param id
+	 * @param property
+	 * @return
+	 * @throws Exception
+	 * @since 2.7
+	 */
+	@RequestMapping(value = BASE_MAPPING, method = HEAD)
+	public ResponseEntity<Object> headPropertyReference(RootResourceInformation repoRequest,
+			@BackendId Serializable id, @PathVariable String property) throws Exception {
+
+		Function<ReferencedProperty, ResourceSupport> handler = new Function<ReferencedProperty, ResourceSupport>() {
+
+			@Override
+			public ResourceSupport apply(ReferencedProperty prop) {
+
+				if (null == prop.propertyValue) {
+					throw new ResourceNotFoundException();
+				}
+
+				AssociationQueries queries = prop.property.isCollectionLike()
+						? associationQueries.getPluginFor(prop.property) : null;
+
+				return queries == null ? null : new Resource<Long>(queries.count(prop.property, prop.accessor.getBean()));
+			}
+		};
+
+		Resource<?> result = (Resource<?>) doWithReferencedProperty(repoRequest, id, property, handler, HttpMethod.GET);
+		HttpHeaders headers = new HttpHeaders();
+
+		if (result != null) {
+			headers.set(TOTAL_COUNT_HEADER, result.getContent().toString());
+		}
+
+		return new ResponseEntity<Object>(headers, HttpStatus.NO_CONTENT);
+	}
+
 	@RequestMapping(value = BASE_MAPPING + "/{propertyId}", method = GET)
 	public ResponseEntity<ResourceSupport> followPropertyReference(final RootResourceInformation repoRequest,
 			@BackendId Serializable id, @PathVariable String property, final @PathVariable String propertyId,
@@ -198,28 +324,17 @@ class RepositoryPropertyReferenceController extends AbstractRepositoryRestContro
 				if (null == prop.propertyValue) {
 					throw new ResourceNotFoundException();
 				}
-				if (prop.property.isCollectionLike()) {
-					for (Object obj : (Iterable<?>) prop.propertyValue) {
-
-						IdentifierAccessor accessor = prop.entity.getIdentifierAccessor(obj);
-						if (propertyId.equals(accessor.getIdentifier().toString())) {
+				if (prop.property.isCollectionLike() || prop.property.isMap()) {
 
-							PersistentEntityResource resource = assembler.toResource(obj);
-							headers.set("Content-Location", resource.getId().getHref());
-							return resource;
-						}
-					}
-				} else if (prop.property.isMap()) {
-					for (Map.Entry<Object, Object> entry : ((Map<Object, Object>) prop.propertyValue).entrySet()) {
+					Object value = findAssociatedEntity(prop, propertyId);
 
-						IdentifierAccessor accessor = prop.entity.getIdentifierAccessor(entry.getValue());
-						if (propertyId.equals(accessor.getIdentifier().toString())) {
+					if (value != null) {
 
-							PersistentEntityResource resource = assembler.toResource(entry.getValue());
-							headers.set("Content-Location", resource.getId().getHref());
-							return resource;
-						}
+						PersistentEntityResource resource = toResource(value, assembler);
+						headers.set("Content-Location", resource.getId().getHref());
+						return resource;
 					}
+
 				} else {
 					return new Resource<Object>(prop.propertyValue);
 				}
@@ -232,13 +347,13 @@ class RepositoryPropertyReferenceController extends AbstractRepositoryRestContro
 		return ControllerUtils.toResponseEntity(HttpStatus.OK, headers, responseResource);
 	}
 
-	@RequestMapping(value = BASE_MAPPING, method = GET,
-			produces = { SPRING_DATA_COMPACT_JSON_VALUE, TEXT_URI_LIST_VALUE })
+	@RequestMapping(value = BASE_MAPPING, method = GET, produces = SPRING_DATA_COMPACT_JSON_VALUE)
 	public ResponseEntity<ResourceSupport> followPropertyReferenceCompact(RootResourceInformation repoRequest,
-			@BackendId Serializable id, @PathVariable String property, PersistentEntityResourceAssembler assembler)
-					throws Exception {
+			@BackendId Serializable id, @PathVariable String property, DefaultedPageable pageable, Sort sort,
+			PersistentEntityResourceAssembler assembler) throws Exception {
 
-		ResponseEntity<ResourceSupport> response = followPropertyReference(repoRequest, id, property, assembler);
+		ResponseEntity<ResourceSupport> response = followPropertyReference(repoRequest, id, property, pageable, sort,
+				assembler);
 
 		if (response.getStatusCode() != HttpStatus.OK) {
 			return response;
@@ -253,7 +368,7 @@ class RepositoryPropertyReferenceController extends AbstractRepositoryRestContro
 		List<Link> links = new ArrayList<Link>();
 
 		ControllerLinkBuilder linkBuilder = linkTo(methodOn(RepositoryPropertyReferenceController.class)
-				.followPropertyReference(repoRequest, id, property, assembler));
+				.followPropertyReference(repoRequest, id, property, null, null, assembler));
 
 		if (resource instanceof Resource) {
 
@@ -281,6 +396,47 @@ class RepositoryPropertyReferenceController extends AbstractRepositoryRestContro
 		return ControllerUtils.toResponseEntity(HttpStatus.OK, null, new Resource<Object>(EMPTY_RESOURCE_LIST, links));
 	}
 
+	/**
+	 * <code>GET /{repository}/{id}/{property}</code> with {@code text/uri-list} - Writes the URIs of the item resources
+	 * the given property points to to the response, one per line. Collection associations are paged and sorted the same
+	 * way as for the JSON representation.
+	 * 
+	 * @param repoRequest
+	 * @param id
+	 * @param property
+	 * @param pageable
+	 * @param sort
+	 * @param response
+	 * @throws Exception
+	 * @since 2.7
+	 */
+	@RequestMapping(value = BASE_MAPPING, method = GET, produces = TEXT_URI_LIST_VALUE)
+	public void followPropertyReferenceUriList(RootResourceInformation repoRequest, @BackendId Serializable id,
+			@PathVariable String property, final DefaultedPageable pageable, final Sort sort,
+			final HttpServletResponse response) throws Exception {
+
+		Function<ReferencedProperty, ResourceSupport> handler = new Function<ReferencedProperty, ResourceSupport>() {
+
+			@Override
+			public ResourceSupport apply(ReferencedProperty prop) throws IOException {
+
+				if (null == prop.propertyValue) {
+					throw new ResourceNotFoundException();
+				}
+
+				Iterable<?> values = prop.property.isCollectionLike() ? getAssociationContent(prop, pageable, sort)
+						: prop.property.isMap() ? ((Map<Object, Object>) prop.propertyValue).values()
+								: Collections.singleton(prop.propertyValue);
+
+				uriListWriter.write(values, response);
+
+				return null;
+			}
+		};
+
+		doWithReferencedProperty(repoRequest, id, property, handler, HttpMethod.GET);
+	}
+
 	@RequestMapping(value = BASE_MAPPING, method = { PATCH, PUT, POST }, //
 			consumes = { MediaType.APPLICATION_JSON_VALUE, SPRING_DATA_COMPACT_JSON_VALUE, TEXT_URI_LIST_VALUE })
 	public ResponseEntity<? extends ResourceSupport> createPropertyReference(
@@ -297,6 +453,22 @@ class RepositoryPropertyReferenceController extends AbstractRepositoryRestContro
 			public ResourceSupport apply(ReferencedProperty prop) throws HttpRequestMethodNotSupportedException {
 
 				Class<?> propertyType = prop.property.getType();
+				AssociationMutations mutations = getAssociationMutations(prop.property);
+
+				if (prop.property.isCollectionLike() && mutations != null && AUGMENTING_METHODS.contains(requestMethod)) {
+
+					List<Object> added = new ArrayList<Object>();
+
+					for (Link l : source.getLinks()) {
+						added.add(loadPropertyValue(prop.propertyType, l));
+					}
+
+					publisher.publishEvent(new BeforeLinkSaveEvent(prop.accessor.getBean(), added));
+					Object result = mutations.add(prop.property, prop.accessor.getBean(), added);
+					publisher.publishEvent(new AfterLinkSaveEvent(result, added));
+
+					return null;
+				}
 
 				if (prop.property.isCollectionLike()) {
 
@@ -368,10 +540,31 @@ class RepositoryPropertyReferenceController extends AbstractRepositoryRestContro
 					return null;
 				}
 
-				if (prop.property.isCollectionLike()) {
+				AssociationMutations mutations = getAssociationMutations(prop.property);
+
+				if (prop.property.isCollectionLike() && mutations != null) {
+
+					Object value = findAssociatedEntity(prop, propertyId);
+
+					if (value == null) {
+						return null;
+					}
+
+					List<Object> removed = Collections.singletonList(value);
+
+					publisher.publishEvent(new BeforeLinkDeleteEvent(prop.accessor.getBean(), removed));
+					Object result = mutations.remove(prop.property, prop.accessor.getBean(), removed);
+					publisher.publishEvent(new AfterLinkDeleteEvent(result, removed));
+
+					return null;
+
+				} else if (prop.property.isCollectionLike()) {
+
 					Collection<Object> coll = (Collection<Object>) prop.propertyValue;
 					Iterator<Object> itr = coll.iterator();
+
 					while (itr.hasNext()) {
+
 						Object obj = itr.next();
 
 						IdentifierAccessor accessor = prop.entity.getIdentifierAccessor(obj);
@@ -381,6 +574,7 @@ class RepositoryPropertyReferenceController extends AbstractRepositoryRestContro
 							itr.remove();
 						}
 					}
+
 				} else if (prop.property.isMap()) {
 
 					Map<Object, Object> m = (Map<Object, Object>) prop.propertyValue;
@@ -415,6 +609,18 @@ class RepositoryPropertyReferenceController extends AbstractRepositoryRestContro
 		return ControllerUtils.toEmptyResponse(HttpStatus.NO_CONTENT);
 	}
 
+	/**
+	 * Returns the {@link AssociationMutations} to apply changes to the given association with or {@literal null} if
+	 * the owning entity is supposed to be saved as a whole.
+	 * 
+	 * @param property must not be {@literal null}.
+	 * @return
+	 */
+	private AssociationMutations getAssociationMutations(PersistentProperty<?> property) {
+		return config != null && config.isIncrementalAssociationUpdates() ? associationMutations.getPluginFor(property)
+				: null;
+	}
+
 	private Object loadPropertyValue(Class<?> type, Link link) {
 
 		String href = link.expand().getHref();
@@ -449,6 +655,136 @@ class RepositoryPropertyReferenceController extends AbstractRepositoryRestContro
 		return handler.apply(new ReferencedProperty(property, accessor.getProperty(property), accessor));
 	}
 
+	/**
+	 * Returns the entity with the given identifier referred to by the given collection or map property. Uses a targeted
+	 * store query if {@link AssociationQueries} support the property and looks up the entity from the identifier index
+	 * of the loaded property value otherwise.
+	 * 
+	 * @param prop must not be {@literal null}.
+	 * @param propertyId must not be {@literal null}.
+	 * @return the associated entity or {@literal null} if the property does not refer to an entity with the given
+	 *         identifier.
+	 */
+	private Object findAssociatedEntity(ReferencedProperty prop, String propertyId) {
+
+		if (prop.property.isCollectionLike()) {
+
+			AssociationQueries queries = associationQueries.getPluginFor(prop.property);
+
+			if (queries != null) {
+				return queries.findOne(prop.property, prop.accessor.getBean(), propertyId);
+			}
+		}
+
+		return prop.getIdentifierIndex().get(propertyId);
+	}
+
+	/**
+	 * Returns the content of the given collection property, paged and sorted if requested.
+	 * 
+	 * @param prop must not be {@literal null}.
+	 * @param pageable can be {@literal null}.
+	 * @param sort can be {@literal null}.
+	 * @return
+	 */
+	private Iterable<?> getAssociationContent(ReferencedProperty prop, DefaultedPageable pageable, Sort sort) {
+
+		Iterable<?> values = (Iterable<?>) prop.propertyValue;
+
+		if (pageable == null || pageable.isDefault()) {
+			return sort == null ? values : sort(values, prop.entity, sort);
+		}
+
+		Pageable request = pageable.getPageable();
+		AssociationQueries queries = associationQueries.getPluginFor(prop.property);
+		Page<Object> page = queries == null ? null : queries.findAll(prop.property, prop.accessor.getBean(), request);
+
+		if (page != null) {
+			return page;
+		}
+
+		List<Object> content = sort(values, prop.entity, request.getSort());
+		int start = Math.min(request.getOffset(), content.size());
+		int end = Math.min(start + request.getPageSize(), content.size());
+
+		return new PageImpl<Object>(content.subList(start, end), request, content.size());
+	}
+
+	private static List<Object> sort(Iterable<?> values, PersistentEntity<?, ?> entity, Sort sort) {
+
+		List<Object> result = new ArrayList<Object>();
+
+		for (Object value : values) {
+			result.add(value);
+		}
+
+		if (sort != null && entity != null) {
+			Collections.sort(result, new SortComparator(entity, sort));
+		}
+
+		return result;
+	}
+
+	/**
+	 * {@link Comparator} to sort entities in memory according to a {@link Sort}. Properties unknown to the
+	 * {@link PersistentEntity} are ignored.
+	 *
+	 * @author agent
+	 */
+	private static class SortComparator implements Comparator<Object> {
+
+		private final PersistentEntity<?, ?> entity;
+		private final Sort sort;
+
+		SortComparator(PersistentEntity<?, ?> entity, Sort sort) {
+
+			this.entity = entity;
+			this.sort = sort;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.util.Comparator#compare(java.lang.Object, java.lang.Object)
+		 */
+		@Override
+		@SuppressWarnings({ "unchecked", "rawtypes" })
+		public int compare(Object left, Object right) {
+
+			for (Order order : sort) {
+
+				PersistentProperty<?> property = entity.getPersistentProperty(order.getProperty());
+
+				if (property == null) {
+					continue;
+				}
+
+				Object leftValue = entity.getPropertyAccessor(left).getProperty(property);
+				Object rightValue = entity.getPropertyAccessor(right).getProperty(property);
+
+				if (order.isIgnoreCase() && leftValue instanceof String && rightValue instanceof String) {
+					leftValue = ((String) leftValue).toLowerCase();
+					rightValue = ((String) rightValue).toLowerCase();
+				}
+
+				int result;
+
+				if (leftValue == null || rightValue == null) {
+					result = leftValue == rightValue ? 0 : leftValue == null ? 1 : -1;
+				} else if (leftValue instanceof Comparable) {
+					result = ((Comparable) leftValue).compareTo(rightValue);
+				} else {
+					continue;
+				}
+
+				if (result != 0) {
+					return order.isAscending() ? result : -result;
+				}
+			}
+
+			return 0;
+		}
+	}
+
 	private class ReferencedProperty {
 
 		final PersistentEntity<?, ?> entity;
@@ -457,6 +793,8 @@ class RepositoryPropertyReferenceController extends AbstractRepositoryRestContro
 		final Object propertyValue;
 		final PersistentPropertyAccessor accessor;
 
+		private Map<String, Object> identifierIndex;
+
 		private ReferencedProperty(PersistentProperty<?> property, Object propertyValue,
 				PersistentPropertyAccessor wrapper) {
 
@@ -466,5 +804,35 @@ class RepositoryPropertyReferenceController extends AbstractRepositoryRestContro
 			this.propertyType = property.getActualType();
 			this.entity = repositories.getPersistentEntity(propertyType);
 		}
+
+		/**
+		 * Returns the entities referred to by the collection or map property keyed by the {@link String} representation of
+		 * their identifier. The index is built on first access.
+		 * 
+		 * @return
+		 */
+		@SuppressWarnings("unchecked")
+		Map<String, Object> getIdentifierIndex() {
+
+			if (identifierIndex != null) {
+				return identifierIndex;
+			}
+
+			Iterable<?> values = property.isMap() ? ((Map<Object, Object>) propertyValue).values()
+					: (Iterable<?>) propertyValue;
+
+			identifierIndex = new HashMap<String, Object>();
+
+			for (Object value : values) {
+
+				Object identifier = entity.getIdentifierAccessor(value).getIdentifier();
+
+				if (identifier != null && !identifierIndex.containsKey(identifier.toString())) {
+					identifierIndex.put(identifier.toString(), value);
+				}
+			}
+
+			return identifierIndex;
+		}
 	}
 }
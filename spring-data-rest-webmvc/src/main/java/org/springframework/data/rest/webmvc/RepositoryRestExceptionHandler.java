@@ -25,6 +25,7 @@ import org.springframework.core.convert.ConversionFailedException;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.data.rest.core.RepositoryConstraintViolationException;
+import org.springframework.data.rest.webmvc.json.InvalidFieldSetException;
 import org.springframework.data.rest.webmvc.support.ETagDoesntMatchException;
 import org.springframework.data.rest.webmvc.support.ExceptionMessage;
 import org.springframework.data.rest.webmvc.support.RepositoryConstraintViolationExceptionMessage;
@@ -84,6 +85,18 @@ public class RepositoryRestExceptionHandler {
 		return badRequest(new HttpHeaders(), o_O);
 	}
 
+	/**
+	 * Handles {@link InvalidFieldSetException} by returning {@code 400 Bad Request}.
+	 * 
+	 * @param o_O the exception to handle.
+	 * @return
+	 * @since 2.7
+	 */
+	@ExceptionHandler
+	ResponseEntity<ExceptionMessage> handleInvalidFieldSet(InvalidFieldSetException o_O) {
+		return badRequest(new HttpHeaders(), o_O);
+	}
+
 	/**
 	 * Handle failures commonly thrown from code tries to read incoming data and convert or cast it to the right type by
 	 * returning {@code 500 Internal Server Error} and the thrown exception marshalled into JSON.
@@ -1,5 +1,5 @@
 /*
- * Copyright 2012-2016 the original author or authors.
+ * Copyright 2012-2017 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -15,19 +15,50 @@
  */
 package org.springframework.data.rest.webmvc;
 
+import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executor;
 
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import org.springframework.core.MethodParameter;
 import org.springframework.core.Ordered;
 import org.springframework.core.annotation.AnnotationUtils;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.support.TaskExecutorAdapter;
+import org.springframework.data.rest.core.config.RequestExecutionConfiguration;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpMethod;
+import org.springframework.util.Assert;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.context.request.async.DeferredResult;
+import org.springframework.web.context.request.async.WebAsyncManager;
+import org.springframework.web.context.request.async.WebAsyncTask;
+import org.springframework.web.context.request.async.WebAsyncUtils;
 import org.springframework.web.method.HandlerMethod;
 import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.method.support.HandlerMethodReturnValueHandler;
+import org.springframework.web.method.support.HandlerMethodReturnValueHandlerComposite;
+import org.springframework.web.method.support.ModelAndViewContainer;
+import org.springframework.web.servlet.mvc.method.annotation.DeferredResultMethodReturnValueHandler;
 import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerAdapter;
+import org.springframework.web.servlet.mvc.method.annotation.ServletInvocableHandlerMethod;
 
 /**
  * {@link RequestMappingHandlerAdapter} implementation that adds a couple argument resolvers for controller method
  * parameters used in the REST exporter controller. Also only looks for handler methods in the Spring Data REST provided
  * controller classes to help isolate this handler adapter from other handler adapters the user might have configured in
  * their Spring MVC context.
+ * <p>
+ * If an {@link Executor} is configured via {@link RequestExecutionConfiguration}, controller methods working with a
+ * repository are invoked on it using the Servlet container's asynchronous request processing and the request thread is
+ * released in the meantime. {@code HEAD} and {@code OPTIONS} requests as well as all other controller methods, e.g. the
+ * ones listing the exported repositories, are still invoked on the request thread.
  * 
  * @author Jon Brisbin
  * @author Oliver Gierke
@@ -37,6 +68,9 @@ public class RepositoryRestHandlerAdapter
 
 	private final List<HandlerMethodArgumentResolver> argumentResolvers;
 
+	private AsyncTaskExecutor executor;
+	private Long timeout;
+
 	/**
 	 * Creates a new {@link RepositoryRestHandlerAdapter} using the given {@link HandlerMethodArgumentResolver} and
 	 * {@link org.springframework.hateoas.mvc.ResourceProcessorInvoker}.
@@ -51,14 +85,68 @@ public class RepositoryRestHandlerAdapter
 		this.argumentResolvers = argumentResolvers;
 	}
 
+	/**
+	 * Configures the {@link RequestExecutionConfiguration} to determine the {@link Executor} controller methods are
+	 * invoked on.
+	 *
+	 * @param configuration must not be {@literal null}.
+	 * @since 2.7
+	 */
+	public void setRequestExecutionConfiguration(RequestExecutionConfiguration configuration) {
+
+		Assert.notNull(configuration, "RequestExecutionConfiguration must not be null!");
+
+		Executor executor = configuration.getExecutor();
+
+		this.executor = executor == null ? null
+				: executor instanceof AsyncTaskExecutor ? (AsyncTaskExecutor) executor : new TaskExecutorAdapter(executor);
+		this.timeout = configuration.getTimeout();
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.data.rest.webmvc.ResourceProcessorInvokingHandlerAdapter#afterPropertiesSet()
 	 */
 	@Override
 	public void afterPropertiesSet() {
+
 		setCustomArgumentResolvers(argumentResolvers);
 		super.afterPropertiesSet();
+
+		HandlerMethodReturnValueHandlerComposite handlers = new HandlerMethodReturnValueHandlerComposite()
+				.addHandlers(getReturnValueHandlers());
+
+		setReturnValueHandlers(Collections
+				.<HandlerMethodReturnValueHandler> singletonList(new DeferredResultUnwrappingReturnValueHandler(handlers)));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerAdapter#createInvocableHandlerMethod(org.springframework.web.method.HandlerMethod)
+	 */
+	@Override
+	protected ServletInvocableHandlerMethod createInvocableHandlerMethod(HandlerMethod handlerMethod) {
+
+		return executor == null || !usesRepository(handlerMethod) ? super.createInvocableHandlerMethod(handlerMethod)
+				: new ExecutorInvocableHandlerMethod(handlerMethod, executor, timeout);
+	}
+
+	/**
+	 * Returns whether the given {@link HandlerMethod} works with a repository, i.e. takes a
+	 * {@link RootResourceInformation} exposing the {@link org.springframework.data.repository.support.RepositoryInvoker}.
+	 * 
+	 * @param handlerMethod must not be {@literal null}.
+	 * @return
+	 */
+	private static boolean usesRepository(HandlerMethod handlerMethod) {
+
+		for (MethodParameter parameter : handlerMethod.getMethodParameters()) {
+			if (RootResourceInformation.class.equals(parameter.getParameterType())) {
+				return true;
+			}
+		}
+
+		return false;
 	}
 
 	/*
@@ -81,4 +169,113 @@ public class RepositoryRestHandlerAdapter
 
 		return AnnotationUtils.findAnnotation(controllerType, BasePathAwareController.class) != null;
 	}
+
+	/**
+	 * {@link ServletInvocableHandlerMethod} to invoke the controller method on an {@link AsyncTaskExecutor}. The result
+	 * is handled in the asynchronous dispatch the Servlet container triggers once the invocation has completed.
+	 * {@code HEAD} and {@code OPTIONS} requests only expose metadata and are invoked on the request thread.
+	 *
+	 * @author agent
+	 * @since 2.7
+	 */
+	private static class ExecutorInvocableHandlerMethod extends ServletInvocableHandlerMethod {
+
+		private final AsyncTaskExecutor executor;
+		private final Long timeout;
+
+		ExecutorInvocableHandlerMethod(HandlerMethod handlerMethod, AsyncTaskExecutor executor, Long timeout) {
+
+			super(handlerMethod);
+
+			this.executor = executor;
+			this.timeout = timeout;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.web.method.support.InvocableHandlerMethod#invokeForRequest(org.springframework.web.context.request.NativeWebRequest, org.springframework.web.method.support.ModelAndViewContainer, java.lang.Object[])
+		 */
+		@Override
+		public Object invokeForRequest(final NativeWebRequest request, final ModelAndViewContainer mavContainer,
+				final Object... providedArgs) throws Exception {
+
+			HttpServletRequest servletRequest = request.getNativeRequest(HttpServletRequest.class);
+			WebAsyncManager asyncManager = WebAsyncUtils.getAsyncManager(request);
+
+			if (servletRequest == null || !servletRequest.isAsyncSupported() || asyncManager.isConcurrentHandlingStarted()
+					|| HttpMethod.HEAD.matches(servletRequest.getMethod())
+					|| HttpMethod.OPTIONS.matches(servletRequest.getMethod())) {
+				return super.invokeForRequest(request, mavContainer, providedArgs);
+			}
+
+			// Links are built from the current request so it has to be exposed to the invoking thread
+			final RequestAttributes attributes = new ServletRequestAttributes(servletRequest,
+					request.getNativeResponse(HttpServletResponse.class));
+
+			Callable<Object> invocation = new Callable<Object>() {
+
+				@Override
+				public Object call() throws Exception {
+
+					RequestAttributes previous = RequestContextHolder.getRequestAttributes();
+					RequestContextHolder.setRequestAttributes(attributes);
+
+					try {
+						return ExecutorInvocableHandlerMethod.super.invokeForRequest(request, mavContainer, providedArgs);
+					} finally {
+						RequestContextHolder.setRequestAttributes(previous);
+					}
+				}
+			};
+
+			asyncManager.startCallableProcessing(new WebAsyncTask<Object>(timeout, executor, invocation), mavContainer);
+			mavContainer.setRequestHandled(true);
+
+			return null;
+		}
+	}
+
+	/**
+	 * {@link HandlerMethodReturnValueHandler} to hand {@link DeferredResult}s returned as body of an {@link HttpEntity} to
+	 * Spring MVC's asynchronous request processing. The value eventually set on the {@link DeferredResult} is handled by
+	 * the delegate.
+	 *
+	 * @author agent
+	 * @since 2.7
+	 */
+	private static class DeferredResultUnwrappingReturnValueHandler implements HandlerMethodReturnValueHandler {
+
+		private final HandlerMethodReturnValueHandler delegate;
+		private final HandlerMethodReturnValueHandler deferredResultHandler = new DeferredResultMethodReturnValueHandler();
+
+		DeferredResultUnwrappingReturnValueHandler(HandlerMethodReturnValueHandler delegate) {
+			this.delegate = delegate;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.web.method.support.HandlerMethodReturnValueHandler#supportsReturnType(org.springframework.core.MethodParameter)
+		 */
+		@Override
+		public boolean supportsReturnType(MethodParameter returnType) {
+			return delegate.supportsReturnType(returnType);
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.web.method.support.HandlerMethodReturnValueHandler#handleReturnValue(java.lang.Object, org.springframework.core.MethodParameter, org.springframework.web.method.support.ModelAndViewContainer, org.springframework.web.context.request.NativeWebRequest)
+		 */
+		@Override
+		public void handleReturnValue(Object returnValue, MethodParameter returnType, ModelAndViewContainer mavContainer,
+				NativeWebRequest webRequest) throws Exception {
+
+			Object body = returnValue instanceof HttpEntity ? ((HttpEntity<?>) returnValue).getBody() : null;
+
+			if (body instanceof DeferredResult) {
+				deferredResultHandler.handleReturnValue(body, returnType, mavContainer, webRequest);
+			} else {
+				delegate.handleReturnValue(returnValue, returnType, mavContainer, webRequest);
+			}
+		}
+	}
 }
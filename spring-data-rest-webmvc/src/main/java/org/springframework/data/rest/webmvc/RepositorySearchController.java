@@ -22,15 +22,23 @@ import java.net.URI;
 import java.net.URISyntaxException;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
-import java.util.Map.Entry;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.core.MethodParameter;
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.mapping.PersistentEntity;
 import org.springframework.data.repository.query.Param;
 import org.springframework.data.repository.support.RepositoryInvoker;
+import org.springframework.data.rest.core.config.RepositoryRestConfiguration;
 import org.springframework.data.rest.core.mapping.MethodResourceMapping;
 import org.springframework.data.rest.core.mapping.ResourceMappings;
 import org.springframework.data.rest.core.mapping.ResourceMetadata;
@@ -56,8 +64,10 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.util.Assert;
 import org.springframework.util.ClassUtils;
+import org.springframework.util.ConcurrentReferenceHashMap;
 import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.util.MultiValueMap;
+import org.springframework.util.ReflectionUtils;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -76,31 +86,39 @@ class RepositorySearchController extends AbstractRepositoryRestController {
 
 	private static final String SEARCH = "/search";
 	private static final String BASE_MAPPING = "/{repository}" + SEARCH;
+	private static final Pattern QUERY_METHOD_PREFIX = Pattern
+			.compile("^(find|read|get|query|stream)(?=(\\p{Lu}.*?)??By)");
 
 	private final RepositoryEntityLinks entityLinks;
 	private final ResourceMappings mappings;
 	private ResourceStatus resourceStatus;
+	private final AsyncSearchExecutor asyncSearchExecutor;
+
+	private final Map<Method, Set<String>> uriParameterNames = new ConcurrentReferenceHashMap<Method, Set<String>>();
 
 	/**
 	 * Creates a new {@link RepositorySearchController} using the given {@link PagedResourcesAssembler},
-	 * {@link EntityLinks} and {@link ResourceMappings}.
+	 * {@link EntityLinks}, {@link ResourceMappings} and {@link RepositoryRestConfiguration}.
 	 * 
 	 * @param assembler must not be {@literal null}.
 	 * @param entityLinks must not be {@literal null}.
 	 * @param mappings must not be {@literal null}.
+	 * @param config must not be {@literal null}.
 	 */
 	@Autowired
 	public RepositorySearchController(PagedResourcesAssembler<Object> assembler, RepositoryEntityLinks entityLinks,
-			ResourceMappings mappings, HttpHeadersPreparer headersPreparer) {
+			ResourceMappings mappings, HttpHeadersPreparer headersPreparer, RepositoryRestConfiguration config) {
 
 		super(assembler);
 
 		Assert.notNull(entityLinks, "EntityLinks must not be null!");
 		Assert.notNull(mappings, "ResourceMappings must not be null!");
+		Assert.notNull(config, "RepositoryRestConfiguration must not be null!");
 
 		this.entityLinks = entityLinks;
 		this.mappings = mappings;
 		this.resourceStatus = ResourceStatus.of(headersPreparer);
+		this.asyncSearchExecutor = new AsyncSearchExecutor(config.getAsyncSearchConfiguration());
 	}
 
 	/**
@@ -162,7 +180,11 @@ class RepositorySearchController extends AbstractRepositoryRestController {
 	}
 
 	/**
-	 * Executes the search with the given name.
+	 * Executes the search with the given name. Searches backed by query methods returning a
+	 * {@link java.util.concurrent.Future} or enabled for asynchronous execution via
+	 * {@link RepositoryRestConfiguration#getAsyncSearchConfiguration()} are answered with a
+	 * {@link org.springframework.web.context.request.async.DeferredResult} so that the request thread is released while
+	 * the query runs.
 	 * 
 	 * @param resourceInformation
 	 * @param parameters
@@ -175,20 +197,74 @@ class RepositorySearchController extends AbstractRepositoryRestController {
 	 */
 	@ResponseBody
 	@RequestMapping(value = BASE_MAPPING + "/{search}", method = RequestMethod.GET)
-	public ResponseEntity<?> executeSearch(RootResourceInformation resourceInformation,
-			@RequestParam MultiValueMap<String, Object> parameters, @PathVariable String search, DefaultedPageable pageable,
-			Sort sort, PersistentEntityResourceAssembler assembler, @RequestHeader HttpHeaders headers) {
+	public ResponseEntity<?> executeSearch(final RootResourceInformation resourceInformation,
+			final @RequestParam MultiValueMap<String, Object> parameters, @PathVariable String search,
+			final DefaultedPageable pageable, final Sort sort, final PersistentEntityResourceAssembler assembler,
+			final @RequestHeader HttpHeaders headers) {
 
-		Method method = checkExecutability(resourceInformation, search);
-		Object result = executeQueryMethod(resourceInformation.getInvoker(), parameters, method, pageable, sort, assembler);
+		final Method method = checkExecutability(resourceInformation, search);
 
 		SearchResourceMappings searchMappings = resourceInformation.getSearchMappings();
 		MethodResourceMapping methodMapping = searchMappings.getExportedMethodMappingForPath(search);
-		Class<?> domainType = methodMapping.getReturnedDomainType();
+		final Class<?> domainType = methodMapping.getReturnedDomainType();
+
+		if (asyncSearchExecutor.isAsynchronous(method)) {
+
+			return asyncSearchExecutor.execute(method, new Supplier<Object>() {
+
+				@Override
+				public Object get() {
+					return executeQueryMethod(resourceInformation.getInvoker(), parameters, method, pageable.getPageable(),
+							sort);
+				}
+
+			}, new Converter<Object, ResponseEntity<?>>() {
+
+				@Override
+				public ResponseEntity<?> convert(Object source) {
+					return toResource(source, assembler, domainType, null, headers, resourceInformation);
+				}
+			});
+		}
+
+		Object result = executeQueryMethod(resourceInformation.getInvoker(), parameters, method, pageable.getPageable(),
+				sort);
 
 		return toResource(result, assembler, domainType, null, headers, resourceInformation);
 	}
 
+	/**
+	 * <code>GET /{repository}/search/{search}/count</code> - Returns the number of results of the given search as body
+	 * and in the {@value ControllerUtils#TOTAL_COUNT_HEADER} header. Executes the count query method corresponding to the
+	 * query method backing the search (e.g. {@code countByLastname(…)} for {@code findByLastname(…)}) if the repository
+	 * declares one. Falls back to reading the total number of elements from the first page if the query method returns
+	 * a {@link Page}. Answers with {@code 404 Not Found} otherwise, as the results would have to be read completely.
+	 * 
+	 * @param resourceInformation
+	 * @param parameters
+	 * @param search
+	 * @return
+	 * @since 2.7
+	 */
+	@RequestMapping(value = BASE_MAPPING + "/{search}/count", method = RequestMethod.GET)
+	public ResponseEntity<Object> executeSearchCount(RootResourceInformation resourceInformation,
+			@RequestParam MultiValueMap<String, Object> parameters, @PathVariable String search) {
+
+		Method method = checkExecutability(resourceInformation, search);
+		Method countMethod = getCountMethod(method);
+		RepositoryInvoker invoker = resourceInformation.getInvoker();
+
+		if (countMethod != null) {
+			return toCountResponse(count(executeQueryMethod(invoker, parameters, countMethod, null, null)));
+		}
+
+		if (!Page.class.isAssignableFrom(method.getReturnType())) {
+			throw new ResourceNotFoundException();
+		}
+
+		return toCountResponse(count(executeQueryMethod(invoker, parameters, method, new PageRequest(0, 1), null)));
+	}
+
 	/**
 	 * Turns the given source into a {@link ResourceSupport} if needed and possible. Uses the given
 	 * {@link PersistentEntityResourceAssembler} for the actual conversion.
@@ -217,7 +293,7 @@ class RepositorySearchController extends AbstractRepositoryRestController {
 
 					@Override
 					public PersistentEntityResource get() {
-						return assembler.toFullResource(source);
+						return toFullResource(source, assembler);
 					}
 				});
 	}
@@ -243,7 +319,8 @@ class RepositorySearchController extends AbstractRepositoryRestController {
 			PersistentEntityResourceAssembler assembler) {
 
 		Method method = checkExecutability(resourceInformation, search);
-		Object result = executeQueryMethod(resourceInformation.getInvoker(), parameters, method, pageable, sort, assembler);
+		Object result = executeQueryMethod(resourceInformation.getInvoker(), parameters, method, pageable.getPageable(),
+				sort);
 		ResourceMetadata metadata = resourceInformation.getResourceMetadata();
 		ResponseEntity<?> entity = toResource(result, assembler, metadata.getDomainType(), null, headers,
 				resourceInformation);
@@ -332,34 +409,100 @@ class RepositorySearchController extends AbstractRepositoryRestController {
 	 * @return
 	 */
 	private Object executeQueryMethod(final RepositoryInvoker invoker,
-			@RequestParam MultiValueMap<String, Object> parameters, Method method, DefaultedPageable pageable, Sort sort,
-			PersistentEntityResourceAssembler assembler) {
+			@RequestParam MultiValueMap<String, Object> parameters, Method method, Pageable pageable, Sort sort) {
+
+		Set<String> uriParameters = getUriParameterNames(method);
+
+		if (uriParameters.isEmpty()) {
+			return invoker.invokeQueryMethod(method, parameters, pageable, sort);
+		}
 
 		MultiValueMap<String, Object> result = new LinkedMultiValueMap<String, Object>(parameters);
+
+		for (String name : uriParameters) {
+
+			List<Object> values = parameters.get(name);
+
+			if (values != null) {
+				result.put(name, prepareUris(values));
+			}
+		}
+
+		return invoker.invokeQueryMethod(method, result, pageable, sort);
+	}
+
+	/**
+	 * Returns the count query method corresponding to the given query method, i.e. a method with the query method's
+	 * prefix replaced by {@code count}, the same parameters except {@link Pageable} and {@link Sort} and a numeric return
+	 * type.
+	 * 
+	 * @param method must not be {@literal null}.
+	 * @return the count query method or {@literal null} if the repository doesn't declare one.
+	 */
+	private static Method getCountMethod(Method method) {
+
+		if (!QUERY_METHOD_PREFIX.matcher(method.getName()).find()) {
+			return null;
+		}
+
+		String name = QUERY_METHOD_PREFIX.matcher(method.getName()).replaceFirst("count");
+		List<Class<?>> parameterTypes = new ArrayList<Class<?>>();
+
+		for (Class<?> type : method.getParameterTypes()) {
+			if (!Pageable.class.isAssignableFrom(type) && !Sort.class.isAssignableFrom(type)) {
+				parameterTypes.add(type);
+			}
+		}
+
+		Method countMethod = ReflectionUtils.findMethod(method.getDeclaringClass(), name,
+				parameterTypes.toArray(new Class<?>[parameterTypes.size()]));
+
+		return countMethod != null
+				&& Number.class.isAssignableFrom(ClassUtils.resolvePrimitiveIfNecessary(countMethod.getReturnType()))
+						? countMethod : null;
+	}
+
+	/**
+	 * Returns the names of the parameters of the given query method that refer to exported domain types and can thus be
+	 * given as URIs. The names are calculated once per method as the mappings don't change at runtime.
+	 * 
+	 * @param method must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	private Set<String> getUriParameterNames(Method method) {
+
+		Set<String> names = uriParameterNames.get(method);
+
+		if (names != null) {
+			return names;
+		}
+
 		MethodParameters methodParameters = new MethodParameters(method, new AnnotationAttribute(Param.class));
-		List<MethodParameter> parameterList = methodParameters.getParameters();
 		List<TypeInformation<?>> parameterTypeInformations = ClassTypeInformation.from(method.getDeclaringClass())
 				.getParameterTypes(method);
 
-		for (Entry<String, List<Object>> entry : parameters.entrySet()) {
+		names = new HashSet<String>();
 
-			MethodParameter parameter = methodParameters.getParameter(entry.getKey());
+		for (MethodParameter parameter : methodParameters.getParameters()) {
 
-			if (parameter == null) {
+			String name = parameter.getParameterName();
+
+			if (name == null) {
 				continue;
 			}
 
-			int parameterIndex = parameterList.indexOf(parameter);
-			TypeInformation<?> domainType = parameterTypeInformations.get(parameterIndex).getActualType();
-
+			TypeInformation<?> domainType = parameterTypeInformations.get(parameter.getParameterIndex()).getActualType();
 			ResourceMetadata metadata = mappings.getMetadataFor(domainType.getType());
 
 			if (metadata != null && metadata.isExported()) {
-				result.put(parameter.getParameterName(), prepareUris(entry.getValue()));
+				names.add(name);
 			}
 		}
 
-		return invoker.invokeQueryMethod(method, result, pageable.getPageable(), sort);
+		names = Collections.unmodifiableSet(names);
+		uriParameterNames.put(method, names);
+
+		return names;
 	}
 
 	/**
@@ -0,0 +1,36 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * Indicates a request body exceeding the configured maximum size.
+ * 
+ * @author agent
+ * @since 2.7
+ * @see org.springframework.data.rest.core.config.RepositoryRestConfiguration#setMaxRequestBodySize(long)
+ */
+@ResponseStatus(HttpStatus.PAYLOAD_TOO_LARGE)
+public class RequestBodyTooLargeException extends RuntimeException {
+
+	private static final long serialVersionUID = -2245409342785207449L;
+
+	public RequestBodyTooLargeException(long maxSize) {
+		super(String.format("Request body exceeds the maximum size of %s bytes!", maxSize));
+	}
+}
@@ -0,0 +1,36 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * Indicates a request trying to look up more entities by identifier than configured.
+ * 
+ * @author agent
+ * @since 2.7
+ * @see org.springframework.data.rest.core.config.RepositoryRestConfiguration#setMaxIdsPerRequest(int)
+ */
+@ResponseStatus(HttpStatus.BAD_REQUEST)
+public class TooManyIdentifiersException extends RuntimeException {
+
+	private static final long serialVersionUID = 6248019716452703945L;
+
+	public TooManyIdentifiersException(int maxIds) {
+		super(String.format("Requested more than the maximum of %s identifiers!", maxIds));
+	}
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+
+import javax.servlet.http.HttpServletResponse;
+
+import org.springframework.data.rest.core.support.SelfLinkProvider;
+import org.springframework.data.rest.webmvc.convert.UriListHttpMessageConverter;
+import org.springframework.util.Assert;
+
+/**
+ * Writes the item resource URIs of entities as {@code text/uri-list} directly to the response. Other than rendering a
+ * {@link org.springframework.hateoas.ResourceSupport} using the {@link UriListHttpMessageConverter}, the URIs are
+ * obtained from the {@link SelfLinkProvider} without building a {@link PersistentEntityResource} per entity and are
+ * written as the entities are iterated. Thus they match the self links of the JSON representations, including the
+ * ones of entities exposed via an {@link org.springframework.data.rest.core.support.EntityLookup}.
+ *
+ * @author agent
+ * @since 2.7
+ */
+class UriListWriter {
+
+	private final SelfLinkProvider selfLinks;
+
+	/**
+	 * Creates a new {@link UriListWriter} using the given {@link SelfLinkProvider}.
+	 *
+	 * @param selfLinks must not be {@literal null}.
+	 */
+	UriListWriter(SelfLinkProvider selfLinks) {
+
+		Assert.notNull(selfLinks, "SelfLinkProvider must not be null!");
+
+		this.selfLinks = selfLinks;
+	}
+
+	/**
+	 * Writes the URIs of the item resources of the given entities to the given {@link HttpServletResponse}, one per line.
+	 * The URI of each entity is derived from its own type, so that collections of subtypes get the URIs of the
+	 * repositories actually exporting them.
+	 *
+	 * @param entities must not be {@literal null}.
+	 * @param response must not be {@literal null}.
+	 * @throws IOException
+	 */
+	void write(Iterable<?> entities, HttpServletResponse response) throws IOException {
+
+		Assert.notNull(entities, "Entities must not be null!");
+		Assert.notNull(response, "HttpServletResponse must not be null!");
+
+		response.setContentType(RestMediaTypes.TEXT_URI_LIST_VALUE);
+
+		BufferedWriter writer = new BufferedWriter(new OutputStreamWriter(response.getOutputStream(), "UTF-8"));
+
+		for (Object value : entities) {
+
+			if (value == null) {
+				continue;
+			}
+
+			writer.write(selfLinks.createSelfLinkFor(value).expand().getHref());
+			writer.newLine();
+		}
+
+		writer.flush();
+	}
+}
@@ -99,6 +99,10 @@ class JsonPatchHandler {
 		return reader.readPut(source, existingObject, mapper);
 	}
 
+	<T> T applyPut(InputStream source, T existingObject) {
+		return reader.readPut(source, existingObject, mapper);
+	}
+
 	/**
 	 * Returns all {@link JsonPatchOperation}s to be applied.
 	 * 
@@ -24,8 +24,13 @@ import org.springframework.data.projection.ProjectionFactory;
 import org.springframework.data.rest.core.projection.ProjectionDefinitions;
 import org.springframework.data.rest.core.support.SelfLinkProvider;
 import org.springframework.data.rest.webmvc.PersistentEntityResourceAssembler;
+import org.springframework.data.rest.webmvc.json.SparseFieldSets;
 import org.springframework.data.rest.webmvc.mapping.Associations;
+import org.springframework.data.rest.webmvc.spi.RequestPhaseInstrumentation;
+import org.springframework.data.rest.webmvc.spi.RequestPhaseInstrumentation.NoOpInstrumentation;
+import org.springframework.data.rest.webmvc.support.InstrumentingProjector;
 import org.springframework.data.rest.webmvc.support.PersistentEntityProjector;
+import org.springframework.data.rest.webmvc.support.Projector;
 import org.springframework.web.bind.support.WebDataBinderFactory;
 import org.springframework.web.context.request.NativeWebRequest;
 import org.springframework.web.method.support.HandlerMethodArgumentResolver;
@@ -44,6 +49,9 @@ public class PersistentEntityResourceAssemblerArgumentResolver implements Handle
 	private final @NonNull ProjectionDefinitions projectionDefinitions;
 	private final @NonNull ProjectionFactory projectionFactory;
 	private final @NonNull Associations links;
+	private final @NonNull RequestPhaseInstrumentation instrumentation;
+	private final @NonNull SparseFieldSets fieldSets;
+	private final @NonNull String fieldsParameterName;
 
 	/* 
 	 * (non-Javadoc)
@@ -63,9 +71,15 @@ public class PersistentEntityResourceAssemblerArgumentResolver implements Handle
 			NativeWebRequest webRequest, WebDataBinderFactory binderFactory) throws Exception {
 
 		String projectionParameter = webRequest.getParameter(projectionDefinitions.getParameterName());
-		PersistentEntityProjector projector = new PersistentEntityProjector(projectionDefinitions, projectionFactory,
-				projectionParameter, links.getMappings());
+		Projector projector = new PersistentEntityProjector(projectionDefinitions, projectionFactory, projectionParameter,
+				links.getMappings());
 
-		return new PersistentEntityResourceAssembler(entities, projector, links, linkProvider);
+		if (!NoOpInstrumentation.INSTANCE.equals(instrumentation)) {
+			projector = new InstrumentingProjector(projector, instrumentation);
+		}
+
+		String fields = webRequest.getParameter(fieldsParameterName);
+
+		return new PersistentEntityResourceAssembler(entities, projector, links, linkProvider, fieldSets, fields);
 	}
 }
@@ -22,13 +22,16 @@ import java.util.List;
 import javax.servlet.http.HttpServletRequest;
 
 import org.springframework.core.MethodParameter;
+import org.springframework.core.convert.ConversionException;
 import org.springframework.data.mapping.PersistentEntity;
 import org.springframework.data.repository.support.RepositoryInvoker;
 import org.springframework.data.rest.webmvc.IncomingRequest;
 import org.springframework.data.rest.webmvc.PersistentEntityResource;
 import org.springframework.data.rest.webmvc.PersistentEntityResource.Builder;
+import org.springframework.data.rest.webmvc.RequestBodyTooLargeException;
 import org.springframework.data.rest.webmvc.ResourceNotFoundException;
 import org.springframework.data.rest.webmvc.RootResourceInformation;
+import org.springframework.data.rest.webmvc.json.DeferredAssociations;
 import org.springframework.data.rest.webmvc.json.DomainObjectReader;
 import org.springframework.data.rest.webmvc.support.BackendIdHandlerMethodArgumentResolver;
 import org.springframework.http.MediaType;
@@ -43,9 +46,7 @@ import org.springframework.web.context.request.NativeWebRequest;
 import org.springframework.web.method.support.HandlerMethodArgumentResolver;
 import org.springframework.web.method.support.ModelAndViewContainer;
 
-import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.node.ObjectNode;
 
 /**
  * Custom {@link HandlerMethodArgumentResolver} to create {@link PersistentEntityResource} instances.
@@ -63,6 +64,7 @@ public class PersistentEntityResourceHandlerMethodArgumentResolver implements Ha
 	private final BackendIdHandlerMethodArgumentResolver idResolver;
 	private final DomainObjectReader reader;
 	private final List<HttpMessageConverter<?>> messageConverters;
+	private final long maxRequestBodySize;
 
 	/**
 	 * Creates a new {@link PersistentEntityResourceHandlerMethodArgumentResolver} for the given
@@ -76,6 +78,24 @@ public class PersistentEntityResourceHandlerMethodArgumentResolver implements Ha
 	public PersistentEntityResourceHandlerMethodArgumentResolver(List<HttpMessageConverter<?>> messageConverters,
 			RootResourceInformationHandlerMethodArgumentResolver resourceInformationResolver,
 			BackendIdHandlerMethodArgumentResolver idResolver, DomainObjectReader reader) {
+		this(messageConverters, resourceInformationResolver, idResolver, reader, -1);
+	}
+
+	/**
+	 * Creates a new {@link PersistentEntityResourceHandlerMethodArgumentResolver} for the given
+	 * {@link HttpMessageConverter}s and {@link RootResourceInformationHandlerMethodArgumentResolver} rejecting request
+	 * bodies larger than the given number of bytes.
+	 * 
+	 * @param messageConverters must not be {@literal null}.
+	 * @param resourceInformationResolver must not be {@literal null}.
+	 * @param idResolver must not be {@literal null}.
+	 * @param reader must not be {@literal null}.
+	 * @param maxRequestBodySize the maximum size of request bodies in bytes, a negative value to not limit it.
+	 * @since 2.7
+	 */
+	public PersistentEntityResourceHandlerMethodArgumentResolver(List<HttpMessageConverter<?>> messageConverters,
+			RootResourceInformationHandlerMethodArgumentResolver resourceInformationResolver,
+			BackendIdHandlerMethodArgumentResolver idResolver, DomainObjectReader reader, long maxRequestBodySize) {
 
 		Assert.notEmpty(messageConverters, "MessageConverters must not be null or empty!");
 		Assert.notNull(resourceInformationResolver,
@@ -87,6 +107,7 @@ public class PersistentEntityResourceHandlerMethodArgumentResolver implements Ha
 		this.resourceInformationResolver = resourceInformationResolver;
 		this.idResolver = idResolver;
 		this.reader = reader;
+		this.maxRequestBodySize = maxRequestBodySize;
 	}
 
 	/*
@@ -112,7 +133,7 @@ public class PersistentEntityResourceHandlerMethodArgumentResolver implements Ha
 
 		HttpServletRequest nativeRequest = webRequest.getNativeRequest(HttpServletRequest.class);
 		ServletServerHttpRequest request = new ServletServerHttpRequest(nativeRequest);
-		IncomingRequest incoming = new IncomingRequest(request);
+		IncomingRequest incoming = new IncomingRequest(request, maxRequestBodySize);
 
 		Class<?> domainType = resourceInformation.getDomainType();
 		MediaType contentType = request.getHeaders().getContentType();
@@ -135,7 +156,19 @@ public class PersistentEntityResourceHandlerMethodArgumentResolver implements Ha
 				entityIdentifier = entity.getIdentifierAccessor(objectToUpdate).getIdentifier();
 			}
 
-			Object obj = read(resourceInformation, incoming, converter, objectToUpdate);
+			DeferredAssociations associations = DeferredAssociations.start();
+			Object obj;
+
+			try {
+
+				obj = read(resourceInformation, incoming, converter, objectToUpdate);
+				associations.resolve();
+
+			} catch (ConversionException o_O) {
+				throw new HttpMessageNotReadableException(String.format(ERROR_MESSAGE, domainType), o_O);
+			} finally {
+				associations.close();
+			}
 
 			if (obj == null) {
 				throw new HttpMessageNotReadableException(String.format(ERROR_MESSAGE, domainType));
@@ -199,6 +232,8 @@ public class PersistentEntityResourceHandlerMethodArgumentResolver implements Ha
 
 		} catch (Exception o_O) {
 
+			rethrowIfBodyTooLarge(o_O);
+
 			if (o_O instanceof HttpMessageNotReadableException) {
 				throw (HttpMessageNotReadableException) o_O;
 			}
@@ -212,11 +247,12 @@ public class PersistentEntityResourceHandlerMethodArgumentResolver implements Ha
 		try {
 
 			JsonPatchHandler handler = new JsonPatchHandler(mapper, reader);
-			JsonNode jsonNode = mapper.readTree(request.getBody());
-
-			return handler.applyPut((ObjectNode) jsonNode, existingObject);
+			return handler.applyPut(request.getBody(), existingObject);
 
 		} catch (Exception o_O) {
+
+			rethrowIfBodyTooLarge(o_O);
+
 			throw new HttpMessageNotReadableException(String.format(ERROR_MESSAGE, existingObject.getClass()), o_O);
 		}
 	}
@@ -225,12 +261,32 @@ public class PersistentEntityResourceHandlerMethodArgumentResolver implements Ha
 			RootResourceInformation information) {
 
 		try {
-			return converter.read(information.getDomainType(), request.getServerHttpRequest());
+			return converter.read(information.getDomainType(), request.getInputMessage());
 		} catch (IOException o_O) {
 			throw new HttpMessageNotReadableException(String.format(ERROR_MESSAGE, information.getDomainType()), o_O);
 		}
 	}
 
+	/**
+	 * Rethrows the {@link RequestBodyTooLargeException} contained in the cause chain of the given {@link Exception} so
+	 * that it's not turned into a generic {@link HttpMessageNotReadableException}.
+	 * 
+	 * @param exception must not be {@literal null}.
+	 */
+	private static void rethrowIfBodyTooLarge(Exception exception) {
+
+		Throwable cause = exception;
+
+		while (cause != null) {
+
+			if (cause instanceof RequestBodyTooLargeException) {
+				throw (RequestBodyTooLargeException) cause;
+			}
+
+			cause = cause.getCause();
+		}
+	}
+
 	/**
 	 * Returns the object to be updated identified by the given id using the given {@link RootResourceInformation}.
 	 * 
@@ -91,6 +91,11 @@ class QuerydslAwareRootResourceInformationHandlerMethodArgumentResolver
 		QuerydslBindings bindings = factory.createBindingsFor(null, type);
 		Predicate predicate = predicateBuilder.getPredicate(type, toMultiValueMap(parameters), bindings);
 
+		// No filter criteria bound, so that the plain invoker already exposes all entities
+		if (predicate == null) {
+			return invoker;
+		}
+
 		return new QuerydslRepositoryInvokerAdapter(invoker, (QueryDslPredicateExecutor<Object>) repository, predicate);
 	}
 
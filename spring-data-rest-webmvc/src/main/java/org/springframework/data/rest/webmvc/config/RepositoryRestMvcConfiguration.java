@@ -47,9 +47,10 @@ import org.springframework.data.auditing.AuditableBeanWrapperFactory;
 import org.springframework.data.auditing.MappingAuditableBeanWrapperFactory;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.geo.GeoModule;
+import org.springframework.data.mapping.PersistentProperty;
 import org.springframework.data.mapping.context.MappingContext;
 import org.springframework.data.mapping.context.PersistentEntities;
-import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
+import org.springframework.data.projection.ProjectionFactory;
 import org.springframework.data.querydsl.QueryDslUtils;
 import org.springframework.data.querydsl.binding.QuerydslBindingsFactory;
 import org.springframework.data.querydsl.binding.QuerydslPredicateBuilder;
@@ -69,6 +70,10 @@ import org.springframework.data.rest.core.mapping.ResourceMappings;
 import org.springframework.data.rest.core.support.DefaultSelfLinkProvider;
 import org.springframework.data.rest.core.support.DomainObjectMerger;
 import org.springframework.data.rest.core.support.EntityLookup;
+import org.springframework.data.rest.core.support.IdentifierExtractor;
+import org.springframework.data.rest.core.support.QueryMethodProjectingRepositoryInvokerFactory;
+import org.springframework.data.rest.core.support.RepositoryBatchLookup;
+import org.springframework.data.rest.core.support.RepositoryInvocationMetrics;
 import org.springframework.data.rest.core.support.RepositoryRelProvider;
 import org.springframework.data.rest.core.support.SelfLinkProvider;
 import org.springframework.data.rest.core.support.UnwrappingRepositoryInvokerFactory;
@@ -99,17 +104,31 @@ import org.springframework.data.rest.webmvc.json.PersistentEntityJackson2Module;
 import org.springframework.data.rest.webmvc.json.PersistentEntityJackson2Module.LookupObjectSerializer;
 import org.springframework.data.rest.webmvc.json.PersistentEntityToJsonSchemaConverter;
 import org.springframework.data.rest.webmvc.json.PersistentEntityToJsonSchemaConverter.ValueTypeSchemaPropertyCustomizerFactory;
+import org.springframework.data.rest.webmvc.json.SparseFieldSets;
 import org.springframework.data.rest.webmvc.mapping.Associations;
 import org.springframework.data.rest.webmvc.mapping.LinkCollector;
+import org.springframework.data.rest.webmvc.spi.AssociationMutations;
+import org.springframework.data.rest.webmvc.spi.AssociationQueries;
 import org.springframework.data.rest.webmvc.spi.BackendIdConverter;
 import org.springframework.data.rest.webmvc.spi.BackendIdConverter.DefaultIdConverter;
+import org.springframework.data.rest.webmvc.spi.RequestPhaseInstrumentation;
+import org.springframework.data.rest.webmvc.spi.RequestPhaseInstrumentation.NoOpInstrumentation;
 import org.springframework.data.rest.webmvc.support.BackendIdHandlerMethodArgumentResolver;
+import org.springframework.data.rest.webmvc.support.CachingProjectionFactory;
 import org.springframework.data.rest.webmvc.support.DefaultExcerptProjector;
 import org.springframework.data.rest.webmvc.support.DelegatingHandlerMapping;
 import org.springframework.data.rest.webmvc.support.DomainClassResolver;
 import org.springframework.data.rest.webmvc.support.ETagArgumentResolver;
 import org.springframework.data.rest.webmvc.support.ExcerptProjector;
+import org.springframework.data.rest.webmvc.support.HibernateIdentifierExtractor;
 import org.springframework.data.rest.webmvc.support.HttpMethodHandlerMethodArgumentResolver;
+import org.springframework.data.rest.webmvc.support.InstrumentingHandlerMethodArgumentResolver;
+import org.springframework.data.rest.webmvc.support.InstrumentingRepositoryInvokerFactory;
+import org.springframework.data.rest.webmvc.support.InstrumentingResourceProcessorInvoker;
+import org.springframework.data.rest.webmvc.support.ItemResourceResponseCache;
+import org.springframework.data.rest.webmvc.support.ItemResourceResponseCacheAdvice;
+import org.springframework.data.rest.webmvc.support.JpaAssociationMutations;
+import org.springframework.data.rest.webmvc.support.JpaAssociationQueries;
 import org.springframework.data.rest.webmvc.support.JpaHelper;
 import org.springframework.data.rest.webmvc.support.PagingAndSortingTemplateVariables;
 import org.springframework.data.rest.webmvc.support.RepositoryEntityLinks;
@@ -177,15 +196,22 @@ public class RepositoryRestMvcConfiguration extends HateoasAwareSpringDataWebCon
 
 	private static final boolean IS_JPA_AVAILABLE = ClassUtils.isPresent("javax.persistence.EntityManager",
 			RepositoryRestMvcConfiguration.class.getClassLoader());
+	private static final boolean IS_HIBERNATE_AVAILABLE = ClassUtils.isPresent("org.hibernate.proxy.HibernateProxy",
+			RepositoryRestMvcConfiguration.class.getClassLoader());
 
 	@Autowired ApplicationContext applicationContext;
 
 	@Autowired(required = false) List<BackendIdConverter> idConverters = Collections.emptyList();
 	@Autowired(required = false) List<RepositoryRestConfigurer> configurers = Collections.emptyList();
 	@Autowired(required = false) List<EntityLookup<?>> lookups = Collections.emptyList();
+	@Autowired(required = false) List<AssociationQueries> associationQueries = Collections.emptyList();
+	@Autowired(required = false) List<AssociationMutations> associationMutations = Collections.emptyList();
+	@Autowired(required = false) List<IdentifierExtractor> identifierExtractors = Collections.emptyList();
 
 	@Autowired(required = false) RelProvider relProvider;
 	@Autowired(required = false) CurieProvider curieProvider;
+	@Autowired(required = false) RequestPhaseInstrumentation requestPhaseInstrumentation;
+	@Autowired(required = false) RepositoryInvocationMetrics repositoryInvocationMetrics;
 
 	private RepositoryRestConfigurerDelegate configurerDelegate;
 
@@ -393,7 +419,7 @@ public class RepositoryRestMvcConfiguration extends HateoasAwareSpringDataWebCon
 
 		return new PersistentEntityResourceHandlerMethodArgumentResolver(defaultMessageConverters(),
 				repoRequestArgumentResolver(), backendIdHandlerMethodArgumentResolver(),
-				new DomainObjectReader(persistentEntities(), associationLinks()));
+				new DomainObjectReader(persistentEntities(), associationLinks()), config().getMaxRequestBodySize());
 	}
 
 	/**
@@ -542,7 +568,10 @@ public class RepositoryRestMvcConfiguration extends HateoasAwareSpringDataWebCon
 			processors.add(bean);
 		}
 
-		return new ResourceProcessorInvoker(processors);
+		RequestPhaseInstrumentation instrumentation = getRequestPhaseInstrumentation();
+
+		return NoOpInstrumentation.INSTANCE.equals(instrumentation) ? new ResourceProcessorInvoker(processors)
+				: new InstrumentingResourceProcessorInvoker(processors, instrumentation);
 	}
 
 	/**
@@ -559,15 +588,32 @@ public class RepositoryRestMvcConfiguration extends HateoasAwareSpringDataWebCon
 		ConfigurableWebBindingInitializer initializer = new ConfigurableWebBindingInitializer();
 		initializer.setConversionService(defaultConversionService());
 
-		RepositoryRestHandlerAdapter handlerAdapter = new RepositoryRestHandlerAdapter(defaultMethodArgumentResolvers(),
+		RequestPhaseInstrumentation instrumentation = getRequestPhaseInstrumentation();
+
+		RepositoryRestHandlerAdapter handlerAdapter = new RepositoryRestHandlerAdapter(
+				InstrumentingHandlerMethodArgumentResolver.decorate(defaultMethodArgumentResolvers(), instrumentation),
 				resourceProcessorInvoker());
 		handlerAdapter.setWebBindingInitializer(initializer);
 		handlerAdapter.setMessageConverters(defaultMessageConverters());
+		handlerAdapter.setRequestExecutionConfiguration(config().getRequestExecutionConfiguration());
+
+		List<ResponseBodyAdvice<?>> advices = new ArrayList<ResponseBodyAdvice<?>>();
 
 		if (config().getMetadataConfiguration().alpsEnabled()) {
-			handlerAdapter.setResponseBodyAdvice(Arrays.<ResponseBodyAdvice<?>> asList(alpsJsonHttpMessageConverter()));
+			advices.add(alpsJsonHttpMessageConverter());
+		}
+
+		// Needs to be invoked before the response cache advice writes the body
+		if (instrumentation instanceof ResponseBodyAdvice) {
+			advices.add((ResponseBodyAdvice<?>) instrumentation);
 		}
 
+		if (config().getResponseCacheConfiguration().isEnabled()) {
+			advices.add(new ItemResourceResponseCacheAdvice(itemResourceResponseCache(), defaultMessageConverters()));
+		}
+
+		handlerAdapter.setResponseBodyAdvice(advices);
+
 		return handlerAdapter;
 	}
 
@@ -638,7 +684,8 @@ public class RepositoryRestMvcConfiguration extends HateoasAwareSpringDataWebCon
 				OrderAwarePluginRegistry.create(getEntityLookups()));
 
 		return new PersistentEntityJackson2Module(associationLinks(), entities, uriToEntityConverter, linkCollector(),
-				repositoryInvokerFactory, lookupObjectSerializer, resourceProcessorInvoker(), assembler);
+				repositoryInvokerFactory, lookupObjectSerializer, resourceProcessorInvoker(), assembler,
+				getRequestPhaseInstrumentation());
 	}
 
 	@Bean
@@ -646,18 +693,44 @@ public class RepositoryRestMvcConfiguration extends HateoasAwareSpringDataWebCon
 		return new LinkCollector(persistentEntities(), selfLinkProvider(), associationLinks());
 	}
 
+	/**
+	 * Parses and caches the field sets requested by clients to restrict the properties rendered.
+	 * 
+	 * @return
+	 * @since 2.7
+	 */
+	@Bean
+	public SparseFieldSets sparseFieldSets() {
+		return new SparseFieldSets(persistentEntities(), objectMapper());
+	}
+
 	protected UriToEntityConverter uriToEntityConverter(ConversionService conversionService) {
-		return new UriToEntityConverter(persistentEntities(), repositoryInvokerFactory(conversionService), repositories());
+		return new UriToEntityConverter(persistentEntities(), repositoryInvokerFactory(conversionService), repositories(),
+				conversionService, getEntityLookups());
 	}
 
+	/**
+	 * The {@link ProjectionFactory} to create projections and excerpt projections with. Shared so that the parsed
+	 * expressions of a projection interface are reused. Not named {@code projectionFactory} to not clash with user
+	 * defined beans.
+	 * 
+	 * @return
+	 * @since 2.7
+	 */
 	@Bean
-	public ExcerptProjector excerptProjector() {
+	public CachingProjectionFactory repositoryRestProjectionFactory() {
 
-		SpelAwareProxyProjectionFactory projectionFactory = new SpelAwareProxyProjectionFactory();
+		CachingProjectionFactory projectionFactory = new CachingProjectionFactory();
 		projectionFactory.setBeanFactory(applicationContext);
 		projectionFactory.setResourceLoader(applicationContext);
 
-		return new DefaultExcerptProjector(projectionFactory, resourceMappings());
+		return projectionFactory;
+	}
+
+	@Bean
+	public ExcerptProjector excerptProjector() {
+
+		return new DefaultExcerptProjector(repositoryRestProjectionFactory(), resourceMappings());
 	}
 
 	/* 
@@ -681,11 +754,28 @@ public class RepositoryRestMvcConfiguration extends HateoasAwareSpringDataWebCon
 		return new RepositoryRestExceptionHandler(applicationContext);
 	}
 
+	/**
+	 * Looks up multiple entities by identifier with a single repository call where possible.
+	 * 
+	 * @return
+	 * @since 2.7
+	 */
+	@Bean
+	public RepositoryBatchLookup repositoryBatchLookup() {
+		return new RepositoryBatchLookup(persistentEntities(), repositories(),
+				repositoryInvokerFactory(defaultConversionService()), defaultConversionService(), getEntityLookups());
+	}
+
 	@Bean
 	public RepositoryInvokerFactory repositoryInvokerFactory(@Qualifier ConversionService defaultConversionService) {
 
-		return new UnwrappingRepositoryInvokerFactory(
-				new DefaultRepositoryInvokerFactory(repositories(), defaultConversionService), getEntityLookups());
+		RepositoryInvokerFactory factory = new UnwrappingRepositoryInvokerFactory(
+				new QueryMethodProjectingRepositoryInvokerFactory(
+						new DefaultRepositoryInvokerFactory(repositories(), defaultConversionService), repositories()),
+				getEntityLookups());
+
+		return InstrumentingRepositoryInvokerFactory.decorate(factory, getRequestPhaseInstrumentation(),
+				repositoryInvocationMetrics);
 	}
 
 	@Bean
@@ -762,6 +852,57 @@ public class RepositoryRestMvcConfiguration extends HateoasAwareSpringDataWebCon
 		return OrderAwarePluginRegistry.create(converters);
 	}
 
+	/**
+	 * The {@link AssociationQueries} to read pages of collection associations or individual entities contained in them
+	 * with. Registers a JPA based implementation
+	 * in case JPA is available.
+	 * 
+	 * @return
+	 * @since 2.7
+	 */
+	@Bean
+	public PluginRegistry<AssociationQueries, PersistentProperty<?>> associationQueriesRegistry() {
+
+		List<AssociationQueries> queries = new ArrayList<AssociationQueries>(this.associationQueries);
+
+		if (IS_JPA_AVAILABLE) {
+			queries.add(new JpaAssociationQueries(applicationContext, persistentEntities(), defaultConversionService()));
+		}
+
+		return OrderAwarePluginRegistry.create(queries);
+	}
+
+	/**
+	 * The {@link AssociationMutations} to incrementally add entities to or remove them from collection associations.
+	 * Registers a JPA based implementation in case JPA is available. Only used if enabled via
+	 * {@link RepositoryRestConfiguration#setIncrementalAssociationUpdates(boolean)}.
+	 * 
+	 * @return
+	 * @since 2.7
+	 */
+	@Bean
+	public PluginRegistry<AssociationMutations, PersistentProperty<?>> associationMutationsRegistry() {
+
+		List<AssociationMutations> mutations = new ArrayList<AssociationMutations>(this.associationMutations);
+
+		if (IS_JPA_AVAILABLE) {
+			mutations.add(new JpaAssociationMutations(applicationContext, persistentEntities()));
+		}
+
+		return OrderAwarePluginRegistry.create(mutations);
+	}
+
+	/**
+	 * The cache for rendered item resources. Inactive unless enabled for individual domain types via
+	 * {@link RepositoryRestConfiguration#getResponseCacheConfiguration()}.
+	 * 
+	 * @return
+	 */
+	@Bean
+	public ItemResourceResponseCache itemResourceResponseCache() {
+		return new ItemResourceResponseCache(config().getResponseCacheConfiguration(), persistentEntities());
+	}
+
 	@Bean
 	public AuditableBeanWrapperFactory auditableBeanWrapperFactory() {
 		return new MappingAuditableBeanWrapperFactory(persistentEntities());
@@ -774,7 +915,8 @@ public class RepositoryRestMvcConfiguration extends HateoasAwareSpringDataWebCon
 
 	@Bean
 	public SelfLinkProvider selfLinkProvider() {
-		return new DefaultSelfLinkProvider(persistentEntities(), entityLinks(), getEntityLookups());
+		return new DefaultSelfLinkProvider(persistentEntities(), entityLinks(), getEntityLookups(),
+				getIdentifierExtractors());
 	}
 
 	@Bean
@@ -791,15 +933,40 @@ public class RepositoryRestMvcConfiguration extends HateoasAwareSpringDataWebCon
 		return lookups;
 	}
 
-	protected List<HandlerMethodArgumentResolver> defaultMethodArgumentResolvers() {
+	/**
+	 * Returns the {@link IdentifierExtractor}s registered in the {@link ApplicationContext} and a Hibernate based one in
+	 * case Hibernate is available.
+	 * 
+	 * @return
+	 * @since 2.7
+	 */
+	protected List<IdentifierExtractor> getIdentifierExtractors() {
 
-		SpelAwareProxyProjectionFactory projectionFactory = new SpelAwareProxyProjectionFactory();
-		projectionFactory.setBeanFactory(applicationContext);
-		projectionFactory.setResourceLoader(applicationContext);
+		List<IdentifierExtractor> extractors = new ArrayList<IdentifierExtractor>(this.identifierExtractors);
+
+		if (IS_HIBERNATE_AVAILABLE) {
+			extractors.add(new HibernateIdentifierExtractor());
+		}
+
+		return extractors;
+	}
+
+	/**
+	 * Returns the {@link RequestPhaseInstrumentation} registered in the {@link ApplicationContext} or a no-op one if none
+	 * is registered.
+	 * 
+	 * @return will never be {@literal null}.
+	 */
+	protected RequestPhaseInstrumentation getRequestPhaseInstrumentation() {
+		return requestPhaseInstrumentation == null ? NoOpInstrumentation.INSTANCE : requestPhaseInstrumentation;
+	}
+
+	protected List<HandlerMethodArgumentResolver> defaultMethodArgumentResolvers() {
 
 		PersistentEntityResourceAssemblerArgumentResolver peraResolver = new PersistentEntityResourceAssemblerArgumentResolver(
-				persistentEntities(), selfLinkProvider(), config().getProjectionConfiguration(), projectionFactory,
-				associationLinks());
+				persistentEntities(), selfLinkProvider(), config().getProjectionConfiguration(),
+				repositoryRestProjectionFactory(), associationLinks(), getRequestPhaseInstrumentation(), sparseFieldSets(),
+				config().getFieldsParamName());
 
 		PageableHandlerMethodArgumentResolver pageableResolver = pageableResolver();
 
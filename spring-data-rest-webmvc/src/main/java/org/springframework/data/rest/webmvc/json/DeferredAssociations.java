@@ -0,0 +1,179 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc.json;
+
+import lombok.NonNull;
+import lombok.Value;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+
+import org.springframework.core.convert.TypeDescriptor;
+import org.springframework.data.rest.core.UriToEntityConverter;
+
+/**
+ * Collects the association URIs found in a request payload while it's deserialized, so that they can be resolved using a
+ * single lookup per target type once the payload has been read completely, instead of one lookup per URI. Usage:
+ * 
+ * <pre>
+ * DeferredAssociations associations = DeferredAssociations.start();
+ * 
+ * try {
+ * 	Object result = … // read payload
+ * 	associations.resolve();
+ * 	return result;
+ * } finally {
+ * 	associations.close();
+ * }
+ * </pre>
+ * 
+ * Scopes started while another one is active for the current thread are no-ops, i.e. the associations are resolved by
+ * the outermost one.
+ * 
+ * @author agent
+ * @since 2.7
+ * @see UriToEntityConverter#convertAll(List, TypeDescriptor)
+ */
+public class DeferredAssociations {
+
+	private static final ThreadLocal<DeferredAssociations> CURRENT = new ThreadLocal<DeferredAssociations>();
+	private static final DeferredAssociations NESTED = new DeferredAssociations(false);
+
+	private final boolean owner;
+	private final List<PendingAssociation> pending = new ArrayList<PendingAssociation>();
+
+	private DeferredAssociations(boolean owner) {
+		this.owner = owner;
+	}
+
+	/**
+	 * Starts deferring the resolution of association URIs for the current thread.
+	 * 
+	 * @return will never be {@literal null}.
+	 */
+	public static DeferredAssociations start() {
+
+		if (CURRENT.get() != null) {
+			return NESTED;
+		}
+
+		DeferredAssociations associations = new DeferredAssociations(true);
+		CURRENT.set(associations);
+
+		return associations;
+	}
+
+	/**
+	 * Returns the {@link DeferredAssociations} currently active for the current thread.
+	 * 
+	 * @return the currently active {@link DeferredAssociations} or {@literal null} if resolution is not deferred.
+	 */
+	static DeferredAssociations getCurrent() {
+		return CURRENT.get();
+	}
+
+	/**
+	 * Registers the given {@link Collection} to be populated with the entities the given {@link URI}s point to.
+	 * 
+	 * @param target must not be {@literal null}.
+	 * @param uris must not be {@literal null}.
+	 * @param type the type of the entities to look up, must not be {@literal null}.
+	 * @param converter the {@link UriToEntityConverter} to resolve the {@link URI}s with, must not be {@literal null}.
+	 */
+	void defer(Collection<Object> target, List<URI> uris, TypeDescriptor type, UriToEntityConverter converter) {
+		pending.add(new PendingAssociation(target, uris, new LookupKey(type, converter)));
+	}
+
+	/**
+	 * Resolves all association {@link URI}s registered so far, issuing a single lookup per target type and populating
+	 * the registered {@link Collection}s with the results.
+	 */
+	public void resolve() {
+
+		if (!owner || pending.isEmpty()) {
+			return;
+		}
+
+		Map<LookupKey, List<PendingAssociation>> byType = new LinkedHashMap<LookupKey, List<PendingAssociation>>();
+
+		for (PendingAssociation association : pending) {
+
+			List<PendingAssociation> associations = byType.get(association.getKey());
+
+			if (associations == null) {
+				associations = new ArrayList<PendingAssociation>();
+				byType.put(association.getKey(), associations);
+			}
+
+			associations.add(association);
+		}
+
+		pending.clear();
+
+		for (Entry<LookupKey, List<PendingAssociation>> entry : byType.entrySet()) {
+
+			List<URI> uris = new ArrayList<URI>();
+
+			for (PendingAssociation association : entry.getValue()) {
+				uris.addAll(association.getUris());
+			}
+
+			LookupKey key = entry.getKey();
+			List<Object> entities = key.getConverter().convertAll(uris, key.getType());
+			int index = 0;
+
+			for (PendingAssociation association : entry.getValue()) {
+
+				int next = index + association.getUris().size();
+				association.getTarget().addAll(entities.subList(index, next));
+				index = next;
+			}
+		}
+	}
+
+	/**
+	 * Ends the deferral of association resolution for the current thread. Associations not resolved yet are discarded.
+	 */
+	public void close() {
+
+		if (!owner) {
+			return;
+		}
+
+		pending.clear();
+		CURRENT.remove();
+	}
+
+	@Value
+	private static class LookupKey {
+
+		@NonNull TypeDescriptor type;
+		@NonNull UriToEntityConverter converter;
+	}
+
+	@Value
+	private static class PendingAssociation {
+
+		@NonNull Collection<Object> target;
+		@NonNull List<URI> uris;
+		@NonNull LookupKey key;
+	}
+}
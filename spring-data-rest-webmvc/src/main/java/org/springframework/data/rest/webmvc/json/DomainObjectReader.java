@@ -15,10 +15,11 @@
  */
 package org.springframework.data.rest.webmvc.json;
 
-import lombok.Getter;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
+import lombok.Value;
 
+import java.io.IOException;
 import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -28,25 +29,24 @@ import java.util.Iterator;
 import java.util.Map;
 import java.util.Map.Entry;
 
-import org.springframework.beans.PropertyAccessor;
-import org.springframework.beans.PropertyAccessorFactory;
 import org.springframework.core.CollectionFactory;
+import org.springframework.core.convert.ConversionService;
 import org.springframework.core.convert.support.DefaultConversionService;
-import org.springframework.data.mapping.Association;
 import org.springframework.data.mapping.PersistentEntity;
 import org.springframework.data.mapping.PersistentProperty;
 import org.springframework.data.mapping.PersistentPropertyAccessor;
-import org.springframework.data.mapping.SimpleAssociationHandler;
-import org.springframework.data.mapping.SimplePropertyHandler;
 import org.springframework.data.mapping.context.PersistentEntities;
 import org.springframework.data.mapping.model.ConvertingPropertyAccessor;
+import org.springframework.data.rest.webmvc.json.MergePlan.MergeStep;
 import org.springframework.data.rest.webmvc.mapping.Associations;
 import org.springframework.data.util.ClassTypeInformation;
 import org.springframework.data.util.TypeInformation;
 import org.springframework.http.converter.HttpMessageNotReadableException;
 import org.springframework.util.Assert;
+import org.springframework.util.ConcurrentReferenceHashMap;
 import org.springframework.util.ObjectUtils;
 
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ArrayNode;
@@ -66,8 +66,11 @@ import com.fasterxml.jackson.databind.node.ObjectNode;
 @RequiredArgsConstructor
 public class DomainObjectReader {
 
+	private static final ConversionService CONVERSION_SERVICE = new DefaultConversionService();
+
 	private final @NonNull PersistentEntities entities;
 	private final @NonNull Associations associationLinks;
+	private final Map<MergePlanKey, MergePlan> plans = new ConcurrentReferenceHashMap<MergePlanKey, MergePlan>();
 
 	/**
 	 * Reads the given input stream into an {@link ObjectNode} and applies that to the given existing instance.
@@ -83,10 +86,19 @@ public class DomainObjectReader {
 		Assert.notNull(source, "InputStream must not be null!");
 		Assert.notNull(mapper, "ObjectMapper must not be null!");
 
+		DeferredAssociations associations = DeferredAssociations.start();
+
 		try {
-			return doMerge((ObjectNode) mapper.readTree(source), target, mapper);
+
+			T result = doMerge((ObjectNode) mapper.readTree(source), target, mapper);
+			associations.resolve();
+
+			return result;
+
 		} catch (Exception o_O) {
 			throw new HttpMessageNotReadableException("Could not read payload!", o_O);
+		} finally {
+			associations.close();
 		}
 	}
 
@@ -98,26 +110,68 @@ public class DomainObjectReader {
 	 * @param mapper
 	 * @return
 	 */
-	@SuppressWarnings("unchecked")
 	public <T> T readPut(final ObjectNode source, T target, final ObjectMapper mapper) {
 
 		Assert.notNull(source, "ObjectNode must not be null!");
-		Assert.notNull(target, "Existing object instance must not be null!");
 		Assert.notNull(mapper, "ObjectMapper must not be null!");
 
+		return doReadPut(mapper.treeAsTokens(source), target, mapper);
+	}
+
+	/**
+	 * Reads the given {@link InputStream} onto the given target object and applies PUT semantics. Binds the payload
+	 * directly from the stream, i.e. without building an intermediate {@link ObjectNode}.
+	 * 
+	 * @param source must not be {@literal null}.
+	 * @param target must not be {@literal null}.
+	 * @param mapper must not be {@literal null}.
+	 * @return
+	 * @since 2.7
+	 */
+	public <T> T readPut(InputStream source, T target, ObjectMapper mapper) {
+
+		Assert.notNull(source, "InputStream must not be null!");
+		Assert.notNull(mapper, "ObjectMapper must not be null!");
+
+		try {
+			return doReadPut(mapper.getFactory().createParser(source), target, mapper);
+		} catch (IOException o_O) {
+			throw new HttpMessageNotReadableException("Could not read payload!", o_O);
+		}
+	}
+
+	/**
+	 * Binds the content of the given {@link JsonParser} to a new instance of the target's type and merges it onto the
+	 * target applying PUT semantics.
+	 * 
+	 * @param parser must not be {@literal null}.
+	 * @param target must not be {@literal null}.
+	 * @param mapper must not be {@literal null}.
+	 * @return
+	 */
+	@SuppressWarnings("unchecked")
+	private <T> T doReadPut(JsonParser parser, T target, ObjectMapper mapper) {
+
+		Assert.notNull(target, "Existing object instance must not be null!");
+
 		Class<? extends Object> type = target.getClass();
 
-		final PersistentEntity<?, ?> entity = entities.getPersistentEntity(type);
+		Assert.notNull(entities.getPersistentEntity(type),
+				"No PersistentEntity found for ".concat(type.getName()).concat("!"));
 
-		Assert.notNull(entity, "No PersistentEntity found for ".concat(type.getName()).concat("!"));
+		DeferredAssociations associations = DeferredAssociations.start();
 
 		try {
 
-			Object intermediate = mapper.readerFor(target.getClass()).readValue(source);
+			Object intermediate = mapper.readerFor(type).readValue(parser);
+			associations.resolve();
+
 			return (T) mergeForPut(intermediate, target, mapper);
 
 		} catch (Exception o_O) {
 			throw new HttpMessageNotReadableException("Could not read payload!", o_O);
+		} finally {
+			associations.close();
 		}
 	}
 
@@ -147,53 +201,80 @@ public class DomainObjectReader {
 
 		Assert.notNull(entity, "No PersistentEntity found for ".concat(type.getName()).concat("!"));
 
-		MergingPropertyHandler propertyHandler = new MergingPropertyHandler(source, target, entity, mapper);
+		MergePlan plan = getMergePlan(entity, mapper);
+
+		PersistentPropertyAccessor targetAccessor = new ConvertingPropertyAccessor(entity.getPropertyAccessor(target),
+				CONVERSION_SERVICE);
+		PersistentPropertyAccessor sourceAccessor = entity.getPropertyAccessor(source);
+
+		for (MergeStep step : plan.getSteps()) {
+
+			PersistentProperty<?> property = step.getProperty();
 
-		entity.doWithProperties(propertyHandler);
-		entity.doWithAssociations(new LinkedAssociationSkippingAssociationHandler(associationLinks, propertyHandler));
+			Object sourceValue = sourceAccessor.getProperty(property);
+			Object targetValue = targetAccessor.getProperty(property);
+			Object result = null;
+
+			switch (step.getStrategy()) {
+				case MAP:
+					result = mergeMaps(property, sourceValue, targetValue, mapper);
+					break;
+				case COLLECTION:
+					result = mergeCollections(property, sourceValue, targetValue, mapper);
+					break;
+				case ENTITY:
+					result = mergeForPut(sourceValue, targetValue, mapper);
+					break;
+				default:
+					result = sourceValue;
+			}
+
+			targetAccessor.setProperty(property, result);
+		}
 
 		// Need to copy unmapped properties as the PersistentProperty model currently does not contain any transient
 		// properties
-		copyRemainingProperties(propertyHandler.getProperties(), source, target);
+		plan.copyUnmappedProperties(source, target);
 
 		return target;
 	}
 
 	/**
-	 * Copies the unmapped properties of the given {@link MappedProperties} from the source object to the target instance.
+	 * Returns the {@link MergePlan} for the given {@link PersistentEntity} and {@link ObjectMapper}, creating and caching
+	 * it if necessary.
 	 * 
-	 * @param properties must not be {@literal null}.
-	 * @param source must not be {@literal null}.
-	 * @param target must not be {@literal null}.
+	 * @param entity must not be {@literal null}.
+	 * @param mapper must not be {@literal null}.
+	 * @return
 	 */
-	private static void copyRemainingProperties(MappedProperties properties, Object source, Object target) {
-
-		PropertyAccessor sourceFieldAccessor = PropertyAccessorFactory.forDirectFieldAccess(source);
-		PropertyAccessor sourcePropertyAccessor = PropertyAccessorFactory.forBeanPropertyAccess(source);
-		PropertyAccessor targetFieldAccessor = PropertyAccessorFactory.forDirectFieldAccess(target);
-		PropertyAccessor targetPropertyAccessor = PropertyAccessorFactory.forBeanPropertyAccess(target);
-
-		for (String property : properties.getSpringDataUnmappedProperties()) {
+	private MergePlan getMergePlan(PersistentEntity<?, ?> entity, ObjectMapper mapper) {
 
-			// If there's a field we can just copy it.
-			if (targetFieldAccessor.isWritableProperty(property)) {
-				targetFieldAccessor.setPropertyValue(property, sourceFieldAccessor.getPropertyValue(property));
-				continue;
-			}
+		MergePlanKey key = new MergePlanKey(entity.getType(), mapper);
+		MergePlan plan = plans.get(key);
 
-			// Otherwise only copy if there's both a getter and setter.
-			if (targetPropertyAccessor.isWritableProperty(property) && sourcePropertyAccessor.isReadableProperty(property)) {
-				targetPropertyAccessor.setPropertyValue(property, sourcePropertyAccessor.getPropertyValue(property));
-			}
+		if (plan == null) {
+			plan = MergePlan.of(entity, mapper, associationLinks);
+			plans.put(key, plan);
 		}
+
+		return plan;
 	}
 
 	public <T> T merge(ObjectNode source, T target, ObjectMapper mapper) {
 
+		DeferredAssociations associations = DeferredAssociations.start();
+
 		try {
-			return doMerge(source, target, mapper);
+
+			T result = doMerge(source, target, mapper);
+			associations.resolve();
+
+			return result;
+
 		} catch (Exception o_O) {
 			throw new HttpMessageNotReadableException("Could not read payload!", o_O);
+		} finally {
+			associations.close();
 		}
 	}
 
@@ -219,7 +300,8 @@ public class DomainObjectReader {
 			return mapper.readerForUpdating(target).readValue(root);
 		}
 
-		MappedProperties mappedProperties = MappedProperties.fromJacksonProperties(entity, mapper);
+		MappedProperties mappedProperties = getMergePlan(entity, mapper).getMappedProperties();
+		PersistentPropertyAccessor accessor = entity.getPropertyAccessor(target);
 
 		for (Iterator<Entry<String, JsonNode>> i = root.fields(); i.hasNext();) {
 
@@ -232,7 +314,6 @@ public class DomainObjectReader {
 			}
 
 			PersistentProperty<?> property = mappedProperties.getPersistentProperty(fieldName);
-			PersistentPropertyAccessor accessor = entity.getPropertyAccessor(target);
 			Object rawValue = accessor.getProperty(property);
 
 			if (rawValue == null) {
@@ -566,97 +647,14 @@ public class DomainObjectReader {
 	}
 
 	/**
-	 * {@link SimpleAssociationHandler} that skips linkable associations and forwards handling for all other ones to the
-	 * delegate {@link SimplePropertyHandler}.
+	 * Cache key for {@link MergePlan}s.
 	 * 
 	 * @author Oliver Gierke
 	 */
-	@RequiredArgsConstructor
-	private final class LinkedAssociationSkippingAssociationHandler implements SimpleAssociationHandler {
+	@Value
+	private static class MergePlanKey {
 
-		private final @NonNull Associations associations;
-		private final @NonNull SimplePropertyHandler delegate;
-
-		/*
-		 * (non-Javadoc)
-		 * @see org.springframework.data.mapping.SimpleAssociationHandler#doWithAssociation(org.springframework.data.mapping.Association)
-		 */
-		@Override
-		public void doWithAssociation(Association<? extends PersistentProperty<?>> association) {
-
-			if (associationLinks.isLinkableAssociation(association)) {
-				return;
-			}
-
-			delegate.doWithPersistentProperty(association.getInverse());
-		}
-	}
-
-	/**
-	 * {@link SimplePropertyHandler} to merge the states of the given objects.
-	 * 
-	 * @author Oliver Gierke
-	 */
-	private class MergingPropertyHandler implements SimplePropertyHandler {
-
-		private final @Getter MappedProperties properties;
-		private final PersistentPropertyAccessor targetAccessor;
-		private final PersistentPropertyAccessor sourceAccessor;
-		private final ObjectMapper mapper;
-
-		/**
-		 * Creates a new {@link MergingPropertyHandler} for the given source, target, {@link PersistentEntity} and
-		 * {@link ObjectMapper}.
-		 * 
-		 * @param source must not be {@literal null}.
-		 * @param target must not be {@literal null}.
-		 * @param entity must not be {@literal null}.
-		 * @param mapper must not be {@literal null}.
-		 */
-		public MergingPropertyHandler(Object source, Object target, PersistentEntity<?, ?> entity, ObjectMapper mapper) {
-
-			Assert.notNull(source, "Source instance must not be null!");
-			Assert.notNull(target, "Target instance must not be null!");
-			Assert.notNull(entity, "PersistentEntity must not be null!");
-			Assert.notNull(mapper, "ObjectMapper must not be null!");
-
-			this.properties = MappedProperties.fromJacksonProperties(entity, mapper);
-			this.targetAccessor = new ConvertingPropertyAccessor(entity.getPropertyAccessor(target),
-					new DefaultConversionService());
-			this.sourceAccessor = entity.getPropertyAccessor(source);
-			this.mapper = mapper;
-		}
-
-		/*
-		 * (non-Javadoc)
-		 * @see org.springframework.data.mapping.SimplePropertyHandler#doWithPersistentProperty(org.springframework.data.mapping.PersistentProperty)
-		 */
-		@Override
-		public void doWithPersistentProperty(PersistentProperty<?> property) {
-
-			if (property.isIdProperty() || property.isVersionProperty() || !property.isWritable()) {
-				return;
-			}
-
-			if (!properties.isMappedProperty(property)) {
-				return;
-			}
-
-			Object sourceValue = sourceAccessor.getProperty(property);
-			Object targetValue = targetAccessor.getProperty(property);
-			Object result = null;
-
-			if (property.isMap()) {
-				result = mergeMaps(property, sourceValue, targetValue, mapper);
-			} else if (property.isCollectionLike()) {
-				result = mergeCollections(property, sourceValue, targetValue, mapper);
-			} else if (property.isEntity()) {
-				result = mergeForPut(sourceValue, targetValue, mapper);
-			} else {
-				result = sourceValue;
-			}
-
-			targetAccessor.setProperty(property, result);
-		}
+		Class<?> type;
+		ObjectMapper mapper;
 	}
 }
@@ -0,0 +1,36 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc.json;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * Indicates a requested field set referring to properties not present on the domain type.
+ * 
+ * @author agent
+ * @since 2.7
+ * @see SparseFieldSets
+ */
+@ResponseStatus(HttpStatus.BAD_REQUEST)
+public class InvalidFieldSetException extends RuntimeException {
+
+	private static final long serialVersionUID = 3917683958472912034L;
+
+	public InvalidFieldSetException(String message) {
+		super(message);
+	}
+}
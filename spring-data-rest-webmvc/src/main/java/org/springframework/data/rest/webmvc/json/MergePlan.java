@@ -0,0 +1,262 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc.json;
+
+import java.beans.PropertyDescriptor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.springframework.beans.BeanUtils;
+import org.springframework.data.mapping.Association;
+import org.springframework.data.mapping.PersistentEntity;
+import org.springframework.data.mapping.PersistentProperty;
+import org.springframework.data.mapping.SimpleAssociationHandler;
+import org.springframework.data.mapping.SimplePropertyHandler;
+import org.springframework.data.rest.webmvc.mapping.Associations;
+import org.springframework.util.Assert;
+import org.springframework.util.ReflectionUtils;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Precomputed information about how to merge instances of a particular {@link PersistentEntity}: the Jackson
+ * {@link MappedProperties}, the {@link PersistentProperty}s to be merged alongside the strategy to merge them and the
+ * means to copy properties only known to Jackson. Built once per type and {@link ObjectMapper} so that merging
+ * subsequent payloads doesn't have to inspect the mapping metadata again.
+ *
+ * @author agent
+ * @since 2.7
+ */
+class MergePlan {
+
+	private final MappedProperties mappedProperties;
+	private final List<MergeStep> steps;
+	private final List<UnmappedPropertyCopier> copiers;
+
+	private MergePlan(MappedProperties mappedProperties, List<MergeStep> steps, List<UnmappedPropertyCopier> copiers) {
+
+		this.mappedProperties = mappedProperties;
+		this.steps = steps;
+		this.copiers = copiers;
+	}
+
+	/**
+	 * Creates a new {@link MergePlan} for the given {@link PersistentEntity}, {@link ObjectMapper} and
+	 * {@link Associations}.
+	 *
+	 * @param entity must not be {@literal null}.
+	 * @param mapper must not be {@literal null}.
+	 * @param associations must not be {@literal null}.
+	 * @return
+	 */
+	public static MergePlan of(PersistentEntity<?, ?> entity, ObjectMapper mapper, final Associations associations) {
+
+		Assert.notNull(entity, "PersistentEntity must not be null!");
+		Assert.notNull(mapper, "ObjectMapper must not be null!");
+		Assert.notNull(associations, "Associations must not be null!");
+
+		final MappedProperties mappedProperties = MappedProperties.fromJacksonProperties(entity, mapper);
+		final List<MergeStep> steps = new ArrayList<MergeStep>();
+
+		entity.doWithProperties(new SimplePropertyHandler() {
+
+			@Override
+			public void doWithPersistentProperty(PersistentProperty<?> property) {
+				addStepFor(property, mappedProperties, steps);
+			}
+		});
+
+		entity.doWithAssociations(new SimpleAssociationHandler() {
+
+			@Override
+			public void doWithAssociation(Association<? extends PersistentProperty<?>> association) {
+
+				if (!associations.isLinkableAssociation(association)) {
+					addStepFor(association.getInverse(), mappedProperties, steps);
+				}
+			}
+		});
+
+		List<UnmappedPropertyCopier> copiers = new ArrayList<UnmappedPropertyCopier>();
+
+		for (String property : mappedProperties.getSpringDataUnmappedProperties()) {
+
+			UnmappedPropertyCopier copier = UnmappedPropertyCopier.of(entity.getType(), property);
+
+			if (copier != null) {
+				copiers.add(copier);
+			}
+		}
+
+		return new MergePlan(mappedProperties, Collections.unmodifiableList(steps),
+				Collections.unmodifiableList(copiers));
+	}
+
+	private static void addStepFor(PersistentProperty<?> property, MappedProperties mappedProperties,
+			List<MergeStep> steps) {
+
+		if (property.isIdProperty() || property.isVersionProperty() || !property.isWritable()) {
+			return;
+		}
+
+		if (!mappedProperties.isMappedProperty(property)) {
+			return;
+		}
+
+		steps.add(new MergeStep(property, MergeStrategy.of(property)));
+	}
+
+	/**
+	 * Returns the {@link MappedProperties} for the type.
+	 *
+	 * @return
+	 */
+	public MappedProperties getMappedProperties() {
+		return mappedProperties;
+	}
+
+	/**
+	 * Returns the {@link MergeStep}s to apply for PUT requests.
+	 *
+	 * @return
+	 */
+	public List<MergeStep> getSteps() {
+		return steps;
+	}
+
+	/**
+	 * Copies all properties only known to Jackson from the given source to the given target.
+	 *
+	 * @param source must not be {@literal null}.
+	 * @param target must not be {@literal null}.
+	 */
+	public void copyUnmappedProperties(Object source, Object target) {
+
+		for (UnmappedPropertyCopier copier : copiers) {
+			copier.copy(source, target);
+		}
+	}
+
+	/**
+	 * How to merge the values of a particular {@link PersistentProperty}.
+	 *
+	 * @author agent
+	 */
+	enum MergeStrategy {
+
+		MAP, COLLECTION, ENTITY, VALUE;
+
+		static MergeStrategy of(PersistentProperty<?> property) {
+
+			if (property.isMap()) {
+				return MAP;
+			}
+
+			if (property.isCollectionLike()) {
+				return COLLECTION;
+			}
+
+			return property.isEntity() ? ENTITY : VALUE;
+		}
+	}
+
+	/**
+	 * A {@link PersistentProperty} to merge alongside the {@link MergeStrategy} to use.
+	 *
+	 * @author agent
+	 */
+	static class MergeStep {
+
+		private final PersistentProperty<?> property;
+		private final MergeStrategy strategy;
+
+		MergeStep(PersistentProperty<?> property, MergeStrategy strategy) {
+
+			this.property = property;
+			this.strategy = strategy;
+		}
+
+		public PersistentProperty<?> getProperty() {
+			return property;
+		}
+
+		public MergeStrategy getStrategy() {
+			return strategy;
+		}
+	}
+
+	/**
+	 * Copies a single property only known to Jackson, preferring direct field access and falling back to an accessor
+	 * method pair.
+	 *
+	 * @author agent
+	 */
+	private static class UnmappedPropertyCopier {
+
+		private final Field field;
+		private final Method getter, setter;
+
+		private UnmappedPropertyCopier(Field field, Method getter, Method setter) {
+
+			this.field = field;
+			this.getter = getter;
+			this.setter = setter;
+		}
+
+		/**
+		 * Creates a new {@link UnmappedPropertyCopier} for the given type and property or {@literal null} in case the
+		 * property can't be copied.
+		 *
+		 * @param type must not be {@literal null}.
+		 * @param property must not be {@literal null}.
+		 * @return
+		 */
+		static UnmappedPropertyCopier of(Class<?> type, String property) {
+
+			Field field = ReflectionUtils.findField(type, property);
+
+			// If there's a field we can just copy it.
+			if (field != null) {
+				ReflectionUtils.makeAccessible(field);
+				return new UnmappedPropertyCopier(field, null, null);
+			}
+
+			// Otherwise only copy if there's both a getter and setter.
+			PropertyDescriptor descriptor = BeanUtils.getPropertyDescriptor(type, property);
+
+			if (descriptor == null || descriptor.getReadMethod() == null || descriptor.getWriteMethod() == null) {
+				return null;
+			}
+
+			ReflectionUtils.makeAccessible(descriptor.getReadMethod());
+			ReflectionUtils.makeAccessible(descriptor.getWriteMethod());
+
+			return new UnmappedPropertyCopier(null, descriptor.getReadMethod(), descriptor.getWriteMethod());
+		}
+
+		void copy(Object source, Object target) {
+
+			if (field != null) {
+				ReflectionUtils.setField(field, target, ReflectionUtils.getField(field, source));
+			} else {
+				ReflectionUtils.invokeMethod(setter, target, ReflectionUtils.invokeMethod(getter, source));
+			}
+		}
+	}
+}
@@ -26,6 +26,7 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -48,6 +49,10 @@ import org.springframework.data.rest.webmvc.EmbeddedResourcesAssembler;
 import org.springframework.data.rest.webmvc.PersistentEntityResource;
 import org.springframework.data.rest.webmvc.mapping.Associations;
 import org.springframework.data.rest.webmvc.mapping.LinkCollector;
+import org.springframework.data.rest.webmvc.spi.RequestPhase;
+import org.springframework.data.rest.webmvc.spi.RequestPhaseInstrumentation;
+import org.springframework.data.rest.webmvc.spi.RequestPhaseInstrumentation.NoOpInstrumentation;
+import org.springframework.data.rest.webmvc.spi.RequestPhaseInstrumentation.Timer;
 import org.springframework.hateoas.Link;
 import org.springframework.hateoas.Links;
 import org.springframework.hateoas.Resource;
@@ -62,6 +67,7 @@ import com.fasterxml.jackson.core.JsonGenerationException;
 import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.core.Version;
 import com.fasterxml.jackson.databind.BeanDescription;
 import com.fasterxml.jackson.databind.DeserializationConfig;
@@ -75,6 +81,7 @@ import com.fasterxml.jackson.databind.deser.BeanDeserializerBuilder;
 import com.fasterxml.jackson.databind.deser.BeanDeserializerModifier;
 import com.fasterxml.jackson.databind.deser.SettableBeanProperty;
 import com.fasterxml.jackson.databind.deser.ValueInstantiator;
+import com.fasterxml.jackson.databind.deser.impl.FieldProperty;
 import com.fasterxml.jackson.databind.deser.std.CollectionDeserializer;
 import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
 import com.fasterxml.jackson.databind.deser.std.StdScalarDeserializer;
@@ -123,15 +130,40 @@ public class PersistentEntityJackson2Module extends SimpleModule {
 			LookupObjectSerializer lookupObjectSerializer, ResourceProcessorInvoker invoker,
 			EmbeddedResourcesAssembler assembler) {
 
+		this(associations, entities, converter, collector, factory, lookupObjectSerializer, invoker, assembler,
+				NoOpInstrumentation.INSTANCE);
+	}
+
+	/**
+	 * Creates a new {@link PersistentEntityJackson2Module} additionally timing the serialization of top-level
+	 * {@link PersistentEntityResource}s using the given {@link RequestPhaseInstrumentation}.
+	 * 
+	 * @param associations must not be {@literal null}.
+	 * @param entities must not be {@literal null}.
+	 * @param converter must not be {@literal null}.
+	 * @param collector must not be {@literal null}.
+	 * @param factory must not be {@literal null}.
+	 * @param lookupObjectSerializer must not be {@literal null}.
+	 * @param invoker must not be {@literal null}.
+	 * @param assembler must not be {@literal null}.
+	 * @param instrumentation must not be {@literal null}.
+	 * @since 2.7
+	 */
+	public PersistentEntityJackson2Module(Associations associations, PersistentEntities entities,
+			UriToEntityConverter converter, LinkCollector collector, RepositoryInvokerFactory factory,
+			LookupObjectSerializer lookupObjectSerializer, ResourceProcessorInvoker invoker,
+			EmbeddedResourcesAssembler assembler, RequestPhaseInstrumentation instrumentation) {
+
 		super(new Version(2, 0, 0, null, "org.springframework.data.rest", "jackson-module"));
 
 		Assert.notNull(associations, "AssociationLinks must not be null!");
 		Assert.notNull(entities, "Repositories must not be null!");
 		Assert.notNull(converter, "UriToEntityConverter must not be null!");
 		Assert.notNull(collector, "LinkCollector must not be null!");
+		Assert.notNull(instrumentation, "RequestPhaseInstrumentation must not be null!");
 
 		NestedEntitySerializer serializer = new NestedEntitySerializer(entities, assembler, invoker);
-		addSerializer(new PersistentEntityResourceSerializer(collector));
+		addSerializer(new PersistentEntityResourceSerializer(collector, instrumentation));
 		addSerializer(new ProjectionSerializer(collector, associations, invoker, false));
 		addSerializer(new ProjectionResourceContentSerializer(false));
 
@@ -151,18 +183,22 @@ public class PersistentEntityJackson2Module extends SimpleModule {
 	private static class PersistentEntityResourceSerializer extends StdSerializer<PersistentEntityResource> {
 
 		private final LinkCollector collector;
+		private final RequestPhaseInstrumentation instrumentation;
+		private final Map<Class<?>, Boolean> scalarTypes = new ConcurrentHashMap<Class<?>, Boolean>();
 
 		/**
-		 * Creates a new {@link PersistentEntityResourceSerializer} using the given {@link PersistentEntities} and
-		 * {@link Associations}.
+		 * Creates a new {@link PersistentEntityResourceSerializer} using the given {@link LinkCollector} and
+		 * {@link RequestPhaseInstrumentation}.
 		 * 
-		 * @param entities must not be {@literal null}.
+		 * @param collector must not be {@literal null}.
+		 * @param instrumentation must not be {@literal null}.
 		 */
-		private PersistentEntityResourceSerializer(LinkCollector collector) {
+		private PersistentEntityResourceSerializer(LinkCollector collector, RequestPhaseInstrumentation instrumentation) {
 
 			super(PersistentEntityResource.class);
 
 			this.collector = collector;
+			this.instrumentation = instrumentation;
 		}
 
 		/*
@@ -173,6 +209,23 @@ public class PersistentEntityJackson2Module extends SimpleModule {
 		public void serialize(final PersistentEntityResource resource, final JsonGenerator jgen,
 				final SerializerProvider provider) throws IOException, JsonGenerationException {
 
+			if (resource.isNested()) {
+				doSerialize(resource, jgen, provider);
+				return;
+			}
+
+			Timer timer = instrumentation.start(RequestPhase.SERIALIZATION);
+
+			try {
+				doSerialize(resource, jgen, provider);
+			} finally {
+				timer.stop();
+			}
+		}
+
+		private void doSerialize(final PersistentEntityResource resource, final JsonGenerator jgen,
+				final SerializerProvider provider) throws IOException {
+
 			LOG.debug("Serializing PersistentEntity {}.", resource.getPersistentEntity());
 
 			Object content = resource.getContent();
@@ -191,7 +244,7 @@ public class PersistentEntityJackson2Module extends SimpleModule {
 				return;
 			}
 
-			Resource<Object> resourceToRender = new Resource<Object>(resource.getContent(), links) {
+			Resource<Object> resourceToRender = new Resource<Object>(content, links) {
 
 				@JsonUnwrapped
 				public Iterable<?> getEmbedded() {
@@ -199,30 +252,66 @@ public class PersistentEntityJackson2Module extends SimpleModule {
 				}
 			};
 
-			provider.defaultSerializeValue(resourceToRender, jgen);
+			if (resource.isNested()) {
+				provider.defaultSerializeValue(resourceToRender, jgen);
+				return;
+			}
+
+			// Nested entities inherit the field set of the property they're rendered for
+			Object fieldSet = provider.getAttribute(SparseFieldSet.class);
+			provider.setAttribute(SparseFieldSet.class, resource.getFieldSet());
+
+			try {
+				provider.defaultSerializeValue(resourceToRender, jgen);
+			} finally {
+				provider.setAttribute(SparseFieldSet.class, fieldSet);
+			}
 		}
 
 		private Links getLinks(PersistentEntityResource resource) {
 
 			Object source = getLinkSource(resource.getContent());
 
-			return resource.isNested() ? collector.getLinksForNested(source, resource.getLinks())
-					: collector.getLinksFor(source, resource.getLinks());
+			if (resource.isNested()) {
+				return collector.getLinksForNested(source, resource.getLinks());
+			}
+
+			return collector.getLinksFor(source, resource.getPersistentEntity(), resource.getLinks(), resource.getFieldSet());
 		}
 
 		private Object getLinkSource(Object object) {
 			return TargetAware.class.isInstance(object) ? ((TargetAware) object).getTarget() : object;
 		}
 
-		private static boolean hasScalarSerializer(Object source, SerializerProvider provider) throws JsonMappingException {
+		/**
+		 * Returns whether the given source is rendered using a scalar {@link JsonSerializer}. The decision is cached per
+		 * type as it's needed for every resource rendered.
+		 * 
+		 * @param source must not be {@literal null}.
+		 * @param provider must not be {@literal null}.
+		 * @return
+		 * @throws JsonMappingException
+		 */
+		private boolean hasScalarSerializer(Object source, SerializerProvider provider) throws JsonMappingException {
+
+			Class<?> type = source.getClass();
+			Boolean scalar = scalarTypes.get(type);
+
+			if (scalar == null) {
+
+				JsonSerializer<Object> serializer = provider.findValueSerializer(type);
+				scalar = serializer instanceof ToStringSerializer || serializer instanceof StdScalarSerializer;
+
+				scalarTypes.put(type, scalar);
+			}
 
-			JsonSerializer<Object> serializer = provider.findValueSerializer(source.getClass());
-			return serializer instanceof ToStringSerializer || serializer instanceof StdScalarSerializer;
+			return scalar;
 		}
 	}
 
 	/**
-	 * {@link BeanSerializerModifier} to drop the property descriptors for associations.
+	 * {@link BeanSerializerModifier} to drop the property descriptors for associations. The remaining properties are
+	 * rendered only if they're included in the {@link SparseFieldSet} currently active for the bean, if any.
 	 * 
 	 * @author Oliver Gierke
 	 */
@@ -256,7 +345,7 @@ public class PersistentEntityJackson2Module extends SimpleModule {
 				PersistentProperty<?> persistentProperty = findProperty(writer.getName(), entity, beanDesc);
 
 				if (persistentProperty == null) {
-					result.add(writer);
+					result.add(withFieldSetSupport(writer, writer.getName()));
 					continue;
 				}
 
@@ -264,7 +353,7 @@ public class PersistentEntityJackson2Module extends SimpleModule {
 
 					LOG.debug("Assigning lookup object serializer for {}.", persistentProperty);
 					writer.assignSerializer(lookupObjectSerializer);
-					result.add(writer);
+					result.add(withFieldSetSupport(writer, persistentProperty.getName()));
 					continue;
 				}
 
@@ -290,7 +379,7 @@ public class PersistentEntityJackson2Module extends SimpleModule {
 					writer.assignSerializer(nestedEntitySerializer);
 				}
 
-				result.add(writer);
+				result.add(withFieldSetSupport(writer, persistentProperty.getName()));
 			}
 
 			builder.setProperties(result);
@@ -298,6 +387,10 @@ public class PersistentEntityJackson2Module extends SimpleModule {
 			return builder;
 		}
 
+		private static BeanPropertyWriter withFieldSetSupport(BeanPropertyWriter writer, String property) {
+			return writer.isUnwrapping() ? writer : new SparseFieldSetPropertyWriter(writer, property);
+		}
+
 		/**
 		 * Returns the {@link PersistentProperty} for the property with the given final name (the name that it will be
 		 * rendered under eventually).
@@ -320,6 +413,64 @@ public class PersistentEntityJackson2Module extends SimpleModule {
 		}
 	}
 
+	/**
+	 * {@link BeanPropertyWriter} to skip the property if it's not included in the {@link SparseFieldSet} registered as
+	 * attribute with the {@link SerializerProvider}. Registers the nested {@link SparseFieldSet} for the property while
+	 * its value is rendered.
+	 *
+	 * @author agent
+	 * @since 2.7
+	 */
+	static class SparseFieldSetPropertyWriter extends BeanPropertyWriter {
+
+		private static final long serialVersionUID = 5143853286624325217L;
+
+		private final String property;
+
+		/**
+		 * Creates a new {@link SparseFieldSetPropertyWriter} for the given {@link BeanPropertyWriter} and name of the
+		 * persistent property it writes.
+		 * 
+		 * @param writer must not be {@literal null}.
+		 * @param property must not be {@literal null}.
+		 */
+		SparseFieldSetPropertyWriter(BeanPropertyWriter writer, String property) {
+
+			super(writer);
+
+			this.property = property;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see com.fasterxml.jackson.databind.ser.BeanPropertyWriter#serializeAsField(java.lang.Object, com.fasterxml.jackson.core.JsonGenerator, com.fasterxml.jackson.databind.SerializerProvider)
+		 */
+		@Override
+		public void serializeAsField(Object bean, JsonGenerator gen, SerializerProvider prov) throws Exception {
+
+			Object attribute = prov.getAttribute(SparseFieldSet.class);
+
+			if (!(attribute instanceof SparseFieldSet) || !((SparseFieldSet) attribute).appliesTo(bean)) {
+				super.serializeAsField(bean, gen, prov);
+				return;
+			}
+
+			SparseFieldSet fieldSet = (SparseFieldSet) attribute;
+
+			if (!fieldSet.includes(property)) {
+				return;
+			}
+
+			prov.setAttribute(SparseFieldSet.class, fieldSet.getNested(property));
+
+			try {
+				super.serializeAsField(bean, gen, prov);
+			} finally {
+				prov.setAttribute(SparseFieldSet.class, fieldSet);
+			}
+		}
+	}
+
 	/**
 	 * Serializer to wrap values into an {@link Resource} instance and collecting all association links.
 	 *
@@ -448,8 +599,10 @@ public class PersistentEntityJackson2Module extends SimpleModule {
 					continue;
 				}
 
-				UriStringDeserializer uriStringDeserializer = new UriStringDeserializer(persistentProperty, converter);
-				JsonDeserializer<?> deserializer = wrapIfCollection(persistentProperty, uriStringDeserializer, config);
+				// Only fields are guaranteed to keep the collection instance we populate once deferred URIs are resolved
+				JsonDeserializer<?> deserializer = persistentProperty.isCollectionLike()
+						? new UriListDeserializer(persistentProperty, converter, property instanceof FieldProperty)
+						: new UriStringDeserializer(persistentProperty, converter);
 
 				builder.addOrReplaceProperty(property.withValueDeserializer(deserializer), false);
 			}
@@ -539,6 +692,127 @@ public class PersistentEntityJackson2Module extends SimpleModule {
 		}
 	}
 
+	/**
+	 * Deserializer for collections of association URIs. Resolves all URIs with a single lookup or registers them with the
+	 * currently active {@link DeferredAssociations} so that they're resolved once the entire payload has been read. The
+	 * latter is only done for properties that are bound by assigning the collection to a field directly, as setters and
+	 * constructors might copy the still empty collection. Collections exposed through a getter only are populated in
+	 * place.
+	 * 
+	 * @author agent
+	 * @since 2.7
+	 */
+	static class UriListDeserializer extends StdDeserializer<Object> {
+
+		private static final long serialVersionUID = 4796353624440207442L;
+		private static final String UNEXPECTED_VALUE = "Expected URIs cause property %s points to the managed domain type!";
+
+		private final PersistentProperty<?> property;
+		private final UriToEntityConverter converter;
+		private final TypeDescriptor elementType;
+		private final boolean deferrable;
+
+		/**
+		 * Creates a new {@link UriListDeserializer} for the given collection {@link PersistentProperty} using the given
+		 * {@link UriToEntityConverter}.
+		 * 
+		 * @param property must not be {@literal null}.
+		 * @param converter must not be {@literal null}.
+		 * @param deferrable whether the resolution of the URIs can be deferred to the currently active
+		 *          {@link DeferredAssociations}.
+		 */
+		public UriListDeserializer(PersistentProperty<?> property, UriToEntityConverter converter, boolean deferrable) {
+
+			super(property.getType());
+
+			this.property = property;
+			this.converter = converter;
+			this.elementType = TypeDescriptor.valueOf(property.getActualType());
+			this.deferrable = deferrable;
+		}
+
+		/* 
+		 * (non-Javadoc)
+		 * @see com.fasterxml.jackson.databind.JsonDeserializer#deserialize(com.fasterxml.jackson.core.JsonParser, com.fasterxml.jackson.databind.DeserializationContext)
+		 */
+		@Override
+		public Object deserialize(JsonParser jp, DeserializationContext ctxt) throws IOException, JsonProcessingException {
+
+			List<URI> uris = readUris(jp, ctxt);
+			Collection<Object> result = CollectionFactory.createCollection(property.getType(), uris.size());
+			DeferredAssociations associations = deferrable ? DeferredAssociations.getCurrent() : null;
+
+			if (associations == null) {
+				result.addAll(converter.convertAll(uris, elementType));
+			} else {
+				associations.defer(result, uris, elementType, converter);
+			}
+
+			return result;
+		}
+
+		/**
+		 * Populates the given collection in place, used for collections exposed through a getter only.
+		 * 
+		 * @see com.fasterxml.jackson.databind.JsonDeserializer#deserialize(com.fasterxml.jackson.core.JsonParser, com.fasterxml.jackson.databind.DeserializationContext, java.lang.Object)
+		 */
+		@Override
+		@SuppressWarnings("unchecked")
+		public Object deserialize(JsonParser jp, DeserializationContext ctxt, Object intoValue) throws IOException {
+
+			List<URI> uris = readUris(jp, ctxt);
+			Collection<Object> collection = (Collection<Object>) intoValue;
+
+			collection.clear();
+			collection.addAll(converter.convertAll(uris, elementType));
+
+			return collection;
+		}
+
+		private List<URI> readUris(JsonParser jp, DeserializationContext ctxt) throws IOException {
+
+			if (!jp.isExpectedStartArrayToken()) {
+				throw ctxt.mappingException(property.getType());
+			}
+
+			List<URI> uris = new ArrayList<URI>();
+
+			for (JsonToken token = jp.nextToken(); token != JsonToken.END_ARRAY; token = jp.nextToken()) {
+
+				if (token == JsonToken.START_ARRAY || token == JsonToken.START_OBJECT) {
+					throw ctxt.mappingException(String.format(UNEXPECTED_VALUE, property));
+				}
+
+				String source = jp.getValueAsString();
+
+				if (!StringUtils.hasText(source)) {
+					continue;
+				}
+
+				try {
+					uris.add(new UriTemplate(source).expand());
+				} catch (IllegalArgumentException o_O) {
+					throw ctxt.weirdStringException(source, URI.class, String.format(UNEXPECTED_VALUE, property));
+				}
+			}
+
+			return uris;
+		}
+
+		/**
+		 * Deserialize by ignoring the {@link TypeDeserializer}, as the URIs will resolve to concrete instances anyway.
+		 * 
+		 * @see com.fasterxml.jackson.databind.deser.std.StdDeserializer#deserializeWithType(com.fasterxml.jackson.core.JsonParser,
+		 *      com.fasterxml.jackson.databind.DeserializationContext,
+		 *      com.fasterxml.jackson.databind.jsontype.TypeDeserializer)
+		 */
+		@Override
+		public Object deserializeWithType(JsonParser jp, DeserializationContext ctxt, TypeDeserializer typeDeserializer)
+				throws IOException {
+			return deserialize(jp, ctxt);
+		}
+	}
+
 	@SuppressWarnings("serial")
 	static class ProjectionSerializer extends StdSerializer<TargetAware> {
 
@@ -0,0 +1,91 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc.json;
+
+import java.util.Collections;
+import java.util.Map;
+
+import org.springframework.util.Assert;
+
+/**
+ * The set of properties of a domain type requested to be rendered by a client. Properties pointing to other entities
+ * can carry a nested {@link SparseFieldSet} to restrict the properties rendered for the related entity.
+ *
+ * @author agent
+ * @since 2.7
+ * @see SparseFieldSets
+ */
+public final class SparseFieldSet {
+
+	private final Class<?> type;
+	private final Map<String, SparseFieldSet> fields;
+
+	/**
+	 * Creates a new {@link SparseFieldSet} for the given type and fields.
+	 *
+	 * @param type must not be {@literal null}.
+	 * @param fields must not be {@literal null}. Values can be {@literal null} to indicate the property is rendered
+	 *          completely.
+	 */
+	SparseFieldSet(Class<?> type, Map<String, SparseFieldSet> fields) {
+
+		Assert.notNull(type, "Type must not be null!");
+		Assert.notNull(fields, "Fields must not be null!");
+
+		this.type = type;
+		this.fields = Collections.unmodifiableMap(fields);
+	}
+
+	/**
+	 * Returns whether the {@link SparseFieldSet} applies to the given object.
+	 *
+	 * @param object can be {@literal null}.
+	 * @return
+	 */
+	public boolean appliesTo(Object object) {
+		return type.isInstance(object);
+	}
+
+	/**
+	 * Returns whether the property with the given name shall be rendered.
+	 *
+	 * @param property must not be {@literal null}.
+	 * @return
+	 */
+	public boolean includes(String property) {
+		return fields.containsKey(property);
+	}
+
+	/**
+	 * Returns the {@link SparseFieldSet} to apply to the value of the given property.
+	 *
+	 * @param property must not be {@literal null}.
+	 * @return the nested {@link SparseFieldSet} or {@literal null} in case the value is supposed to be rendered
+	 *         completely.
+	 */
+	public SparseFieldSet getNested(String property) {
+		return fields.get(property);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString() {
+		return String.format("SparseFieldSet for %s: %s", type.getName(), fields);
+	}
+}
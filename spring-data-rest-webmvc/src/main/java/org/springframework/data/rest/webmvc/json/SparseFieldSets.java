@@ -0,0 +1,200 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc.json;
+
+import lombok.Value;
+
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.data.mapping.PersistentEntity;
+import org.springframework.data.mapping.PersistentProperty;
+import org.springframework.data.mapping.context.PersistentEntities;
+import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ConcurrentReferenceHashMap;
+import org.springframework.util.StringUtils;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Parses field expressions like {@code name,price,customer.name} into {@link SparseFieldSet}s. The fields are the names
+ * of the properties as rendered by Jackson and are resolved to the persistent properties of the domain type. The parsed
+ * {@link SparseFieldSet}s are cached per type and expression.
+ *
+ * @author agent
+ * @since 2.7
+ */
+public class SparseFieldSets {
+
+	private static final String UNKNOWN_FIELD = "Unknown field %s for type %s!";
+	private static final String NO_NESTED_FIELDS = "Field %s of type %s does not point to an entity and thus does not have nested fields!";
+
+	private final PersistentEntities entities;
+	private final ObjectMapper mapper;
+	private final Map<FieldSetKey, SparseFieldSet> cache = new ConcurrentReferenceHashMap<FieldSetKey, SparseFieldSet>();
+
+	/**
+	 * Creates a new {@link SparseFieldSets} for the given {@link PersistentEntities} and {@link ObjectMapper}.
+	 *
+	 * @param entities must not be {@literal null}.
+	 * @param mapper must not be {@literal null}.
+	 */
+	public SparseFieldSets(PersistentEntities entities, ObjectMapper mapper) {
+
+		Assert.notNull(entities, "PersistentEntities must not be null!");
+		Assert.notNull(mapper, "ObjectMapper must not be null!");
+
+		this.entities = entities;
+		this.mapper = mapper;
+	}
+
+	/**
+	 * Returns the {@link SparseFieldSet} for the given domain type and field expression. Proxy classes are resolved to
+	 * the user class they were created for.
+	 *
+	 * @param type must not be {@literal null}.
+	 * @param expression can be {@literal null} or empty.
+	 * @return the {@link SparseFieldSet} or {@literal null} if no fields were requested.
+	 * @throws InvalidFieldSetException in case the expression refers to properties not present on the type.
+	 */
+	public SparseFieldSet getFieldSet(Class<?> type, String expression) {
+
+		Assert.notNull(type, "Type must not be null!");
+
+		if (!StringUtils.hasText(expression)) {
+			return null;
+		}
+
+		Class<?> userType = ClassUtils.getUserClass(type);
+		FieldSetKey key = new FieldSetKey(userType, expression);
+		SparseFieldSet fieldSet = cache.get(key);
+
+		if (fieldSet == null) {
+			fieldSet = parse(userType, expression);
+			cache.put(key, fieldSet);
+		}
+
+		return fieldSet;
+	}
+
+	private SparseFieldSet parse(Class<?> type, String expression) {
+
+		Node root = new Node(getRequiredEntity(type));
+
+		for (String path : StringUtils.commaDelimitedListToStringArray(expression)) {
+
+			String trimmed = path.trim();
+
+			if (!trimmed.isEmpty()) {
+				root.add(trimmed.split("\\."), 0);
+			}
+		}
+
+		return root.toFieldSet();
+	}
+
+	private PersistentEntity<?, ?> getRequiredEntity(Class<?> type) {
+
+		PersistentEntity<?, ?> entity = entities.getPersistentEntity(type);
+
+		if (entity == null) {
+			throw new IllegalArgumentException(String.format("No PersistentEntity found for %s!", type.getName()));
+		}
+
+		return entity;
+	}
+
+	/**
+	 * Intermediate representation of a {@link SparseFieldSet} while parsing an expression.
+	 *
+	 * @author agent
+	 */
+	private class Node {
+
+		private final PersistentEntity<?, ?> entity;
+		private final MappedProperties properties;
+		private final Map<String, Node> children = new LinkedHashMap<String, Node>();
+		private final Set<String> complete = new LinkedHashSet<String>();
+
+		Node(PersistentEntity<?, ?> entity) {
+
+			this.entity = entity;
+			this.properties = MappedProperties.fromJacksonProperties(entity, mapper);
+		}
+
+		void add(String[] segments, int index) {
+
+			String field = segments[index];
+			PersistentProperty<?> property = StringUtils.hasText(field) && properties.hasPersistentPropertyForField(field)
+					? properties.getPersistentProperty(field) : null;
+
+			if (property == null) {
+				throw new InvalidFieldSetException(String.format(UNKNOWN_FIELD, field, entity.getType().getName()));
+			}
+
+			// Field sets are keyed by persistent property name, as that's what the serializers look them up with
+			String name = property.getName();
+
+			if (index == segments.length - 1) {
+				complete.add(name);
+				return;
+			}
+
+			PersistentEntity<?, ?> nested = property.isEntity() ? entities.getPersistentEntity(property.getActualType())
+					: null;
+
+			if (nested == null) {
+				throw new InvalidFieldSetException(String.format(NO_NESTED_FIELDS, field, entity.getType().getName()));
+			}
+
+			Node child = children.get(name);
+
+			if (child == null) {
+				child = new Node(nested);
+				children.put(name, child);
+			}
+
+			child.add(segments, index + 1);
+		}
+
+		SparseFieldSet toFieldSet() {
+
+			Map<String, SparseFieldSet> fields = new LinkedHashMap<String, SparseFieldSet>();
+
+			for (String name : complete) {
+				fields.put(name, null);
+			}
+
+			for (Map.Entry<String, Node> child : children.entrySet()) {
+				if (!complete.contains(child.getKey())) {
+					fields.put(child.getKey(), child.getValue().toFieldSet());
+				}
+			}
+
+			return new SparseFieldSet(entity.getType(), fields);
+		}
+	}
+
+	@Value
+	private static class FieldSetKey {
+
+		Class<?> type;
+		String expression;
+	}
+}
@@ -35,6 +35,7 @@ import org.springframework.data.rest.core.Path;
 import org.springframework.data.rest.core.mapping.ResourceMapping;
 import org.springframework.data.rest.core.mapping.ResourceMetadata;
 import org.springframework.data.rest.core.support.SelfLinkProvider;
+import org.springframework.data.rest.webmvc.json.SparseFieldSet;
 import org.springframework.hateoas.Link;
 import org.springframework.hateoas.Links;
 import org.springframework.util.Assert;
@@ -86,11 +87,45 @@ public class LinkCollector {
 	 * @return
 	 */
 	public Links getLinksFor(Object object, List<Link> existingLinks) {
+		return getLinksFor(object, existingLinks, null);
+	}
+
+	/**
+	 * Returns all {@link Links} for the given object and already existing {@link Link}s, skipping the links for
+	 * associations not included in the given {@link SparseFieldSet}.
+	 *
+	 * @param object must not be {@literal null}.
+	 * @param existingLinks must not be {@literal null}.
+	 * @param fieldSet can be {@literal null}, in which case links for all associations are collected.
+	 * @return
+	 * @since 2.7
+	 */
+	public Links getLinksFor(Object object, List<Link> existingLinks, SparseFieldSet fieldSet) {
 
 		Assert.notNull(object, "Object must not be null!");
-		Assert.notNull(existingLinks, "Existing links must not be null!");
 
-		PersistentEntity<?, ?> entity = entities.getPersistentEntity(object.getClass());
+		return getLinksFor(object, entities.getPersistentEntity(object.getClass()), existingLinks, fieldSet);
+	}
+
+	/**
+	 * Returns all {@link Links} for the given object of the given {@link PersistentEntity} and already existing
+	 * {@link Link}s, skipping the links for associations not included in the given {@link SparseFieldSet}. Allows to
+	 * collect the links for objects not being instances of the entity, e.g. projections read from the store directly,
+	 * as the association links are derived from the self link.
+	 *
+	 * @param object must not be {@literal null}.
+	 * @param entity must not be {@literal null}.
+	 * @param existingLinks must not be {@literal null}.
+	 * @param fieldSet can be {@literal null}, in which case links for all associations are collected.
+	 * @return
+	 * @since 2.7
+	 */
+	public Links getLinksFor(Object object, PersistentEntity<?, ?> entity, List<Link> existingLinks,
+			SparseFieldSet fieldSet) {
+
+		Assert.notNull(object, "Object must not be null!");
+		Assert.notNull(entity, "PersistentEntity must not be null!");
+		Assert.notNull(existingLinks, "Existing links must not be null!");
 
 		Links links = new Links(existingLinks);
 		Link selfLink = createSelfLink(object, links);
@@ -101,7 +136,8 @@ public class LinkCollector {
 
 		Path path = new Path(selfLink.expand().getHref());
 
-		LinkCollectingAssociationHandler handler = new LinkCollectingAssociationHandler(entities, path, associationLinks);
+		LinkCollectingAssociationHandler handler = new LinkCollectingAssociationHandler(entities, path, associationLinks,
+				fieldSet);
 		entity.doWithAssociations(handler);
 
 		List<Link> result = new ArrayList<Link>(existingLinks);
@@ -150,7 +186,8 @@ public class LinkCollector {
 	}
 
 	/**
-	 * {@link SimpleAssociationHandler} that will collect {@link Link}s for all linkable associations.
+	 * {@link SimpleAssociationHandler} that will collect {@link Link}s for all linkable associations. The links are
+	 * derived from the owner's path, so the associated entities are never accessed.
 	 *
 	 * @author Oliver Gierke
 	 * @since 2.1
@@ -163,6 +200,7 @@ public class LinkCollector {
 		private final @NonNull PersistentEntities entities;
 		private final @NonNull Path basePath;
 		private final @NonNull Associations associationLinks;
+		private final SparseFieldSet fieldSet;
 		private final @NonNull List<Link> links = new ArrayList<Link>();
 
 		/**
@@ -184,6 +222,11 @@ public class LinkCollector {
 			if (associationLinks.isLinkableAssociation(association)) {
 
 				PersistentProperty<?> property = association.getInverse();
+
+				if (fieldSet != null && !fieldSet.includes(property.getName())) {
+					return;
+				}
+
 				Links existingLinks = new Links(links);
 
 				for (Link link : associationLinks.getLinksFor(association, basePath)) {
@@ -197,6 +240,13 @@ public class LinkCollector {
 		}
 	}
 
+	/**
+	 * {@link SimpleAssociationHandler} that will collect the self {@link Link}s of the entities linkable associations of
+	 * nested objects point to. Lazy-loading references are not initialized as long as an
+	 * {@link org.springframework.data.rest.core.support.IdentifierExtractor} supports them.
+	 *
+	 * @author agent
+	 */
 	@RequiredArgsConstructor
 	private static class NestedLinkCollectingAssociationHandler implements SimpleAssociationHandler {
 
@@ -0,0 +1,55 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc.spi;
+
+import java.util.Collection;
+
+import org.springframework.data.mapping.PersistentProperty;
+import org.springframework.plugin.core.Plugin;
+
+/**
+ * SPI to let the store add entities to or remove them from a collection association by only applying the change
+ * instead of saving the entire owning aggregate. Implementations are expected to persist the change themselves. Changes
+ * applied to the owner by event handlers for {@link org.springframework.data.rest.core.event.BeforeLinkSaveEvent}s or
+ * {@link org.springframework.data.rest.core.event.BeforeLinkDeleteEvent}s that do not affect the association are not
+ * persisted, which is why implementations are only used if enabled via
+ * {@link org.springframework.data.rest.core.config.RepositoryRestConfiguration#setIncrementalAssociationUpdates(boolean)}.
+ *
+ * @author agent
+ * @since 2.7
+ */
+public interface AssociationMutations extends Plugin<PersistentProperty<?>> {
+
+	/**
+	 * Adds the given entities to the given collection association of the given owner.
+	 *
+	 * @param association the collection association, will never be {@literal null}.
+	 * @param owner the entity owning the association, will never be {@literal null}.
+	 * @param entities the entities to add, will never be {@literal null}.
+	 * @return the updated owner.
+	 */
+	Object add(PersistentProperty<?> association, Object owner, Collection<?> entities);
+
+	/**
+	 * Removes the given entities from the given collection association of the given owner.
+	 *
+	 * @param association the collection association, will never be {@literal null}.
+	 * @param owner the entity owning the association, will never be {@literal null}.
+	 * @param entities the entities to remove, will never be {@literal null}.
+	 * @return the updated owner.
+	 */
+	Object remove(PersistentProperty<?> association, Object owner, Collection<?> entities);
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc.spi;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.mapping.PersistentProperty;
+import org.springframework.plugin.core.Plugin;
+
+/**
+ * SPI to let the store read a page of the entities referred to by a collection association or an individual one of them
+ * with a query instead of loading the entire collection into memory.
+ *
+ * @author agent
+ * @since 2.7
+ */
+public interface AssociationQueries extends Plugin<PersistentProperty<?>> {
+
+	/**
+	 * Returns the {@link Page} of entities referred to by the given collection association of the given owner.
+	 *
+	 * @param association the collection association, will never be {@literal null}.
+	 * @param owner the entity owning the association, will never be {@literal null}.
+	 * @param pageable the page to read, will never be {@literal null}.
+	 * @return the {@link Page} or {@literal null} in case the given {@link Pageable} cannot be applied by the store, e.g.
+	 *         because it sorts by a nested property.
+	 */
+	Page<Object> findAll(PersistentProperty<?> association, Object owner, Pageable pageable);
+
+	/**
+	 * Returns the entity with the given identifier if it is referred to by the given collection association of the given
+	 * owner.
+	 *
+	 * @param association the collection association, will never be {@literal null}.
+	 * @param owner the entity owning the association, will never be {@literal null}.
+	 * @param id the identifier of the associated entity as used in the URI, will never be {@literal null}.
+	 * @return the associated entity or {@literal null} if the association does not contain an entity with the given
+	 *         identifier.
+	 */
+	Object findOne(PersistentProperty<?> association, Object owner, String id);
+
+	/**
+	 * Returns the number of entities referred to by the given collection association of the given owner.
+	 *
+	 * @param association the collection association, will never be {@literal null}.
+	 * @param owner the entity owning the association, will never be {@literal null}.
+	 * @return
+	 */
+	long count(PersistentProperty<?> association, Object owner);
+}
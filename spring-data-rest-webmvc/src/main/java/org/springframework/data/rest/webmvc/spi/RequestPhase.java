@@ -0,0 +1,71 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc.spi;
+
+/**
+ * The phases of the processing of a request to a Spring Data REST resource that can be observed by a
+ * {@link RequestPhaseInstrumentation}.
+ *
+ * @author agent
+ * @since 2.7
+ */
+public enum RequestPhase {
+
+	/**
+	 * Resolving controller method arguments, including reading the request body.
+	 */
+	ARGUMENT_RESOLUTION("args"),
+
+	/**
+	 * Invoking the repository.
+	 */
+	REPOSITORY_INVOCATION("repository"),
+
+	/**
+	 * Applying projections to the domain objects to be rendered.
+	 */
+	PROJECTION("projection"),
+
+	/**
+	 * Turning domain objects into resources.
+	 */
+	RESOURCE_ASSEMBLY("assembly"),
+
+	/**
+	 * Invoking the {@link org.springframework.hateoas.ResourceProcessor}s registered.
+	 */
+	RESOURCE_PROCESSING("processing"),
+
+	/**
+	 * Serializing resources into the response.
+	 */
+	SERIALIZATION("serialization");
+
+	private final String metricName;
+
+	private RequestPhase(String metricName) {
+		this.metricName = metricName;
+	}
+
+	/**
+	 * Returns the short name to be used for the phase in metrics or response headers.
+	 *
+	 * @return
+	 */
+	public String getMetricName() {
+		return metricName;
+	}
+}
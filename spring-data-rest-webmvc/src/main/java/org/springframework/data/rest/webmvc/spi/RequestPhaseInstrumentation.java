@@ -0,0 +1,75 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc.spi;
+
+/**
+ * SPI to observe the time spent in the individual {@link RequestPhase}s of a request handled by Spring Data REST.
+ * Phases might be nested, e.g. {@link RequestPhase#RESOURCE_PROCESSING} can happen during
+ * {@link RequestPhase#SERIALIZATION} for nested resources. Implementations are invoked on the hot path and thus should
+ * be cheap.
+ *
+ * @author agent
+ * @since 2.7
+ */
+public interface RequestPhaseInstrumentation {
+
+	/**
+	 * Starts a {@link Timer} for the given {@link RequestPhase}.
+	 *
+	 * @param phase will never be {@literal null}.
+	 * @return must not be {@literal null}.
+	 */
+	Timer start(RequestPhase phase);
+
+	/**
+	 * A running measurement of a {@link RequestPhase}.
+	 *
+	 * @author agent
+	 */
+	interface Timer {
+
+		/**
+		 * Stops the measurement.
+		 */
+		void stop();
+	}
+
+	/**
+	 * The default {@link RequestPhaseInstrumentation} that doesn't measure anything.
+	 *
+	 * @author agent
+	 */
+	public enum NoOpInstrumentation implements RequestPhaseInstrumentation, Timer {
+
+		INSTANCE;
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.rest.webmvc.spi.RequestPhaseInstrumentation#start(org.springframework.data.rest.webmvc.spi.RequestPhase)
+		 */
+		@Override
+		public Timer start(RequestPhase phase) {
+			return this;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.rest.webmvc.spi.RequestPhaseInstrumentation.Timer#stop()
+		 */
+		@Override
+		public void stop() {}
+	}
+}
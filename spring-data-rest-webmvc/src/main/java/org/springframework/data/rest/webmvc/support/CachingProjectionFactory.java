@@ -0,0 +1,203 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc.support;
+
+import java.lang.reflect.Method;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.expression.BeanFactoryResolver;
+import org.springframework.context.expression.MapAccessor;
+import org.springframework.core.annotation.AnnotationUtils;
+import org.springframework.data.projection.ProjectionFactory;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
+import org.springframework.expression.Expression;
+import org.springframework.expression.ParserContext;
+import org.springframework.expression.spel.SpelCompilerMode;
+import org.springframework.expression.spel.SpelParserConfiguration;
+import org.springframework.expression.spel.standard.SpelExpressionParser;
+import org.springframework.expression.spel.support.StandardEvaluationContext;
+import org.springframework.util.Assert;
+import org.springframework.util.ConcurrentReferenceHashMap;
+
+/**
+ * {@link ProjectionFactory} that parses the {@link Value} expressions of a projection interface only once and reuses
+ * them for every projection created for that interface, whereas {@link SpelAwareProxyProjectionFactory} parses them for
+ * every single projection instance. The expressions are compiled by the SpEL compiler where possible. Note, that no
+ * implementation classes are generated: every projection is still a proxy and accessor invocations still pass through
+ * the interceptor chain of {@link SpelAwareProxyProjectionFactory}, which also keeps the property access and the
+ * conversion of accessor results, so that the semantics of projections stay the same.
+ * 
+ * @author agent
+ * @since 2.7
+ */
+public class CachingProjectionFactory extends SpelAwareProxyProjectionFactory {
+
+	private static final Map<Method, Expression> NO_EXPRESSIONS = Collections.emptyMap();
+
+	private final Map<Class<?>, Map<Method, Expression>> expressions = new ConcurrentReferenceHashMap<Class<?>, Map<Method, Expression>>();
+	private final SpelExpressionParser parser;
+
+	private BeanFactory beanFactory;
+
+	/**
+	 * Creates a new {@link CachingProjectionFactory} compiling expressions in {@link SpelCompilerMode#MIXED} mode.
+	 */
+	public CachingProjectionFactory() {
+		this(new SpelExpressionParser(new SpelParserConfiguration(SpelCompilerMode.MIXED, null)));
+	}
+
+	/**
+	 * Creates a new {@link CachingProjectionFactory} using the given {@link SpelExpressionParser}.
+	 * 
+	 * @param parser must not be {@literal null}.
+	 */
+	CachingProjectionFactory(SpelExpressionParser parser) {
+
+		Assert.notNull(parser, "SpelExpressionParser must not be null!");
+
+		this.parser = parser;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.projection.SpelAwareProxyProjectionFactory#setBeanFactory(org.springframework.beans.factory.BeanFactory)
+	 */
+	@Override
+	public void setBeanFactory(BeanFactory beanFactory) throws BeansException {
+
+		super.setBeanFactory(beanFactory);
+		this.beanFactory = beanFactory;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.projection.SpelAwareProxyProjectionFactory#postProcessAccessorInterceptor(org.aopalliance.intercept.MethodInterceptor, java.lang.Object, java.lang.Class)
+	 */
+	@Override
+	protected MethodInterceptor postProcessAccessorInterceptor(MethodInterceptor interceptor, Object source,
+			Class<?> projectionType) {
+
+		Map<Method, Expression> expressions = getExpressions(projectionType);
+
+		return expressions.isEmpty() ? interceptor : new ExpressionEvaluatingMethodInterceptor(interceptor, source,
+				expressions);
+	}
+
+	/**
+	 * Returns the parsed {@link Value} expressions of the given projection type, parsing them if necessary.
+	 * 
+	 * @param projectionType must not be {@literal null}.
+	 * @return
+	 */
+	private Map<Method, Expression> getExpressions(Class<?> projectionType) {
+
+		Map<Method, Expression> result = expressions.get(projectionType);
+
+		if (result == null) {
+			result = parseExpressions(projectionType);
+			expressions.put(projectionType, result);
+		}
+
+		return result;
+	}
+
+	private Map<Method, Expression> parseExpressions(Class<?> projectionType) {
+
+		Map<Method, Expression> result = new HashMap<Method, Expression>();
+
+		for (Method method : projectionType.getMethods()) {
+
+			Value value = AnnotationUtils.findAnnotation(method, Value.class);
+
+			if (value != null) {
+				result.put(method, parser.parseExpression(value.value(), ParserContext.TEMPLATE_EXPRESSION));
+			}
+		}
+
+		return result.isEmpty() ? NO_EXPRESSIONS : Collections.unmodifiableMap(result);
+	}
+
+	/**
+	 * {@link MethodInterceptor} to evaluate the pre-parsed {@link Value} expressions of a projection against its target
+	 * and delegate to the given {@link MethodInterceptor} for all other methods. The results are converted or projected
+	 * by the interceptor wrapping this one.
+	 *
+	 * @author agent
+	 */
+	private class ExpressionEvaluatingMethodInterceptor implements MethodInterceptor {
+
+		private final MethodInterceptor delegate;
+		private final Object target;
+		private final Map<Method, Expression> expressions;
+
+		private StandardEvaluationContext evaluationContext;
+
+		ExpressionEvaluatingMethodInterceptor(MethodInterceptor delegate, Object target,
+				Map<Method, Expression> expressions) {
+
+			this.delegate = delegate;
+			this.target = target;
+			this.expressions = expressions;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.aopalliance.intercept.MethodInterceptor#invoke(org.aopalliance.intercept.MethodInvocation)
+		 */
+		@Override
+		public Object invoke(MethodInvocation invocation) throws Throwable {
+
+			Expression expression = expressions.get(invocation.getMethod());
+
+			return expression == null ? delegate.invoke(invocation) : expression.getValue(getEvaluationContext());
+		}
+
+		private StandardEvaluationContext getEvaluationContext() {
+
+			if (evaluationContext == null) {
+
+				StandardEvaluationContext context = new StandardEvaluationContext(new TargetWrapper(target));
+				context.addPropertyAccessor(new MapAccessor());
+
+				if (beanFactory != null) {
+					context.setBeanResolver(new BeanFactoryResolver(beanFactory));
+				}
+
+				this.evaluationContext = context;
+			}
+
+			return evaluationContext;
+		}
+	}
+
+	/**
+	 * Root object for {@link Value} expressions, exposing the projection target as {@code target}.
+	 *
+	 * @author agent
+	 */
+	@lombok.Value
+	public static class TargetWrapper {
+
+		Object target;
+	}
+}
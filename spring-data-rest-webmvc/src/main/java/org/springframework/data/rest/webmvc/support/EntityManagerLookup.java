@@ -0,0 +1,132 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc.support;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+import javax.persistence.metamodel.Attribute;
+import javax.persistence.metamodel.EntityType;
+import javax.persistence.metamodel.Metamodel;
+import javax.persistence.metamodel.PluralAttribute;
+
+import org.springframework.beans.factory.BeanFactoryUtils;
+import org.springframework.beans.factory.ListableBeanFactory;
+import org.springframework.data.mapping.PersistentProperty;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.springframework.util.Assert;
+
+/**
+ * Looks up the shared {@link EntityManager} managing a given domain type from the {@link EntityManagerFactory}s
+ * available in a {@link ListableBeanFactory}.
+ *
+ * @author agent
+ * @since 2.7
+ */
+class EntityManagerLookup {
+
+	private final ListableBeanFactory beanFactory;
+	private final Map<Class<?>, EntityManager> entityManagers = new ConcurrentHashMap<Class<?>, EntityManager>();
+
+	/**
+	 * Creates a new {@link EntityManagerLookup} for the given {@link ListableBeanFactory}.
+	 *
+	 * @param beanFactory must not be {@literal null}.
+	 */
+	EntityManagerLookup(ListableBeanFactory beanFactory) {
+
+		Assert.notNull(beanFactory, "BeanFactory must not be null!");
+
+		this.beanFactory = beanFactory;
+	}
+
+	/**
+	 * Returns the shared {@link EntityManager} for the given domain type or {@literal null} if the type is not managed
+	 * by any {@link EntityManagerFactory}.
+	 *
+	 * @param type must not be {@literal null}.
+	 * @return
+	 */
+	EntityManager getEntityManager(Class<?> type) {
+
+		EntityManager em = entityManagers.get(type);
+
+		if (em != null) {
+			return em;
+		}
+
+		for (EntityManagerFactory factory : BeanFactoryUtils
+				.beansOfTypeIncludingAncestors(beanFactory, EntityManagerFactory.class).values()) {
+
+			if (isEntity(factory.getMetamodel(), type)) {
+
+				em = SharedEntityManagerCreator.createSharedEntityManager(factory);
+				entityManagers.put(type, em);
+
+				return em;
+			}
+		}
+
+		return null;
+	}
+
+	/**
+	 * Returns whether the given {@link PersistentProperty} is a collection association between JPA entities managed by
+	 * an {@link EntityManager} available.
+	 *
+	 * @param association must not be {@literal null}.
+	 * @return
+	 */
+	boolean isEntityCollection(PersistentProperty<?> association) {
+
+		if (!association.isCollectionLike() || !association.isAssociation()) {
+			return false;
+		}
+
+		EntityManager em = getEntityManager(association.getOwner().getType());
+
+		if (em == null) {
+			return false;
+		}
+
+		Metamodel metamodel = em.getMetamodel();
+
+		return getAttribute(metamodel, association) instanceof PluralAttribute
+				&& isEntity(metamodel, association.getActualType());
+	}
+
+	private static Attribute<?, ?> getAttribute(Metamodel metamodel, PersistentProperty<?> property) {
+
+		try {
+			EntityType<?> type = metamodel.entity(property.getOwner().getType());
+			return type.getAttribute(property.getName());
+		} catch (IllegalArgumentException o_O) {
+			return null;
+		}
+	}
+
+	private static boolean isEntity(Metamodel metamodel, Class<?> type) {
+
+		try {
+			metamodel.entity(type);
+			return true;
+		} catch (IllegalArgumentException o_O) {
+			return false;
+		}
+	}
+}
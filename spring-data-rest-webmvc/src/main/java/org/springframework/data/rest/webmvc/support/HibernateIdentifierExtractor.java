@@ -0,0 +1,56 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc.support;
+
+import org.hibernate.proxy.HibernateProxy;
+import org.springframework.data.rest.core.support.IdentifierExtractor;
+
+/**
+ * {@link IdentifierExtractor} reading type and identifier of Hibernate proxies from their {@code LazyInitializer}, which
+ * keeps the foreign key the proxy was created for, so that the proxy doesn't get initialized.
+ *
+ * @author agent
+ * @since 2.7
+ */
+public class HibernateIdentifierExtractor implements IdentifierExtractor {
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.plugin.core.Plugin#supports(java.lang.Object)
+	 */
+	@Override
+	public boolean supports(Object reference) {
+		return reference instanceof HibernateProxy;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.rest.core.support.IdentifierExtractor#getType(java.lang.Object)
+	 */
+	@Override
+	public Class<?> getType(Object reference) {
+		return ((HibernateProxy) reference).getHibernateLazyInitializer().getPersistentClass();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.rest.core.support.IdentifierExtractor#getIdentifier(java.lang.Object)
+	 */
+	@Override
+	public Object getIdentifier(Object reference) {
+		return ((HibernateProxy) reference).getHibernateLazyInitializer().getIdentifier();
+	}
+}
@@ -0,0 +1,178 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc.support;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import org.springframework.data.rest.webmvc.spi.RequestPhase;
+import org.springframework.util.Assert;
+
+/**
+ * {@link NanoTimeRequestPhaseInstrumentation} that keeps a simple histogram per {@link RequestPhase} in memory. Buckets
+ * grow exponentially so that percentiles are reported with an upper bound at most twice the actual value. Primarily
+ * useful for tests and ad-hoc diagnostics.
+ *
+ * @author agent
+ * @since 2.7
+ */
+public class InMemoryHistogramRequestPhaseInstrumentation extends NanoTimeRequestPhaseInstrumentation {
+
+	private final Map<RequestPhase, Histogram> histograms = new EnumMap<RequestPhase, Histogram>(RequestPhase.class);
+
+	/**
+	 * Creates a new {@link InMemoryHistogramRequestPhaseInstrumentation}.
+	 */
+	public InMemoryHistogramRequestPhaseInstrumentation() {
+
+		for (RequestPhase phase : RequestPhase.values()) {
+			histograms.put(phase, new Histogram());
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.rest.webmvc.support.NanoTimeRequestPhaseInstrumentation#record(org.springframework.data.rest.webmvc.spi.RequestPhase, long)
+	 */
+	@Override
+	protected void record(RequestPhase phase, long durationInNanos) {
+		histograms.get(phase).record(durationInNanos);
+	}
+
+	/**
+	 * Returns the {@link Histogram} for the given {@link RequestPhase}.
+	 *
+	 * @param phase must not be {@literal null}.
+	 * @return
+	 */
+	public Histogram getHistogram(RequestPhase phase) {
+
+		Assert.notNull(phase, "Request phase must not be null!");
+
+		return histograms.get(phase);
+	}
+
+	/**
+	 * Resets all recorded values.
+	 */
+	public void reset() {
+
+		for (Histogram histogram : histograms.values()) {
+			histogram.reset();
+		}
+	}
+
+	/**
+	 * Histogram of durations using buckets of exponentially growing size, i.e. bucket {@code n} contains durations
+	 * smaller than {@code 2^(n+1)} nanoseconds.
+	 *
+	 * @author agent
+	 */
+	public static class Histogram {
+
+		private static final int BUCKETS = 64;
+
+		private final AtomicLongArray buckets = new AtomicLongArray(BUCKETS);
+		private final AtomicLong count = new AtomicLong();
+		private final AtomicLong total = new AtomicLong();
+		private final AtomicLong max = new AtomicLong();
+
+		void record(long durationInNanos) {
+
+			long duration = Math.max(durationInNanos, 0);
+
+			buckets.incrementAndGet(duration == 0 ? 0 : BUCKETS - 1 - Long.numberOfLeadingZeros(duration));
+			count.incrementAndGet();
+			total.addAndGet(duration);
+
+			long currentMax = max.get();
+
+			while (duration > currentMax && !max.compareAndSet(currentMax, duration)) {
+				currentMax = max.get();
+			}
+		}
+
+		void reset() {
+
+			for (int i = 0; i < BUCKETS; i++) {
+				buckets.set(i, 0);
+			}
+
+			count.set(0);
+			total.set(0);
+			max.set(0);
+		}
+
+		/**
+		 * Returns the number of recorded durations.
+		 *
+		 * @return
+		 */
+		public long getCount() {
+			return count.get();
+		}
+
+		/**
+		 * Returns the sum of all recorded durations in the given {@link TimeUnit}.
+		 *
+		 * @param unit must not be {@literal null}.
+		 * @return
+		 */
+		public long getTotalTime(TimeUnit unit) {
+			return unit.convert(total.get(), TimeUnit.NANOSECONDS);
+		}
+
+		/**
+		 * Returns the largest recorded duration in the given {@link TimeUnit}.
+		 *
+		 * @param unit must not be {@literal null}.
+		 * @return
+		 */
+		public long getMax(TimeUnit unit) {
+			return unit.convert(max.get(), TimeUnit.NANOSECONDS);
+		}
+
+		/**
+		 * Returns the upper bound of the bucket containing the given percentile in the given {@link TimeUnit}.
+		 *
+		 * @param percentile between 0 and 1.
+		 * @param unit must not be {@literal null}.
+		 * @return
+		 */
+		public long getPercentile(double percentile, TimeUnit unit) {
+
+			Assert.isTrue(percentile >= 0 && percentile <= 1, "Percentile must be between 0 and 1!");
+
+			long threshold = (long) Math.ceil(count.get() * percentile);
+			long seen = 0;
+
+			for (int i = 0; i < BUCKETS; i++) {
+
+				seen += buckets.get(i);
+
+				if (seen >= threshold && seen > 0) {
+					long upperBound = i == BUCKETS - 1 ? Long.MAX_VALUE : 1L << (i + 1);
+					return unit.convert(Math.min(upperBound, max.get()), TimeUnit.NANOSECONDS);
+				}
+			}
+
+			return 0;
+		}
+	}
+}
@@ -0,0 +1,189 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc.support;
+
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.data.rest.core.support.RepositoryInvocationMetrics;
+import org.springframework.data.rest.webmvc.support.InMemoryHistogramRequestPhaseInstrumentation.Histogram;
+import org.springframework.util.Assert;
+
+/**
+ * {@link RepositoryInvocationMetrics} keeping counters and latency histograms in memory. Primarily meant to be used in
+ * tests and for simple setups not using a dedicated metrics backend.
+ *
+ * @author agent
+ * @since 2.7
+ */
+public class InMemoryRepositoryInvocationMetrics implements RepositoryInvocationMetrics {
+
+	private final ConcurrentMap<Invocation, Meter> meters = new ConcurrentHashMap<Invocation, Meter>();
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.rest.core.support.RepositoryInvocationMetrics#recordInvocation(org.springframework.data.rest.core.support.RepositoryInvocationMetrics.Invocation, long, boolean)
+	 */
+	@Override
+	public void recordInvocation(Invocation invocation, long durationInNanos, boolean failed) {
+		getOrCreateMeter(invocation).recordInvocation(durationInNanos, failed);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.rest.core.support.RepositoryInvocationMetrics#recordResultSize(org.springframework.data.rest.core.support.RepositoryInvocationMetrics.Invocation, long)
+	 */
+	@Override
+	public void recordResultSize(Invocation invocation, long size) {
+		getOrCreateMeter(invocation).recordResultSize(size);
+	}
+
+	/**
+	 * Returns all {@link Invocation}s recorded so far.
+	 *
+	 * @return
+	 */
+	public Set<Invocation> getInvocations() {
+		return Collections.unmodifiableSet(meters.keySet());
+	}
+
+	/**
+	 * Returns the {@link Meter} for the given {@link Invocation}.
+	 *
+	 * @param invocation must not be {@literal null}.
+	 * @return the {@link Meter} or {@literal null} if the given {@link Invocation} was not recorded yet.
+	 */
+	public Meter getMeter(Invocation invocation) {
+
+		Assert.notNull(invocation, "Invocation must not be null!");
+
+		return meters.get(invocation);
+	}
+
+	/**
+	 * Removes all recorded values.
+	 */
+	public void reset() {
+		meters.clear();
+	}
+
+	private Meter getOrCreateMeter(Invocation invocation) {
+
+		Meter meter = meters.get(invocation);
+
+		if (meter != null) {
+			return meter;
+		}
+
+		Meter newMeter = new Meter();
+		meter = meters.putIfAbsent(invocation, newMeter);
+
+		return meter == null ? newMeter : meter;
+	}
+
+	/**
+	 * A latency {@link Histogram}, an error counter and a result size summary for a single {@link Invocation}.
+	 *
+	 * @author agent
+	 */
+	public static class Meter {
+
+		private final Histogram latencies = new Histogram();
+		private final AtomicLong errorCount = new AtomicLong();
+
+		private final AtomicLong resultCount = new AtomicLong();
+		private final AtomicLong totalResultSize = new AtomicLong();
+		private final AtomicLong maxResultSize = new AtomicLong();
+
+		void recordInvocation(long durationInNanos, boolean failed) {
+
+			latencies.record(durationInNanos);
+
+			if (failed) {
+				errorCount.incrementAndGet();
+			}
+		}
+
+		void recordResultSize(long size) {
+
+			resultCount.incrementAndGet();
+			totalResultSize.addAndGet(size);
+
+			long currentMax = maxResultSize.get();
+
+			while (size > currentMax && !maxResultSize.compareAndSet(currentMax, size)) {
+				currentMax = maxResultSize.get();
+			}
+		}
+
+		/**
+		 * Returns the {@link Histogram} of the durations of all recorded invocations, including failed ones.
+		 *
+		 * @return
+		 */
+		public Histogram getLatencies() {
+			return latencies;
+		}
+
+		/**
+		 * Returns the number of recorded invocations, including failed ones.
+		 *
+		 * @return
+		 */
+		public long getCount() {
+			return latencies.getCount();
+		}
+
+		/**
+		 * Returns the number of invocations that have thrown an exception.
+		 *
+		 * @return
+		 */
+		public long getErrorCount() {
+			return errorCount.get();
+		}
+
+		/**
+		 * Returns the number of invocations a result size was recorded for.
+		 *
+		 * @return
+		 */
+		public long getResultCount() {
+			return resultCount.get();
+		}
+
+		/**
+		 * Returns the total number of elements returned.
+		 *
+		 * @return
+		 */
+		public long getTotalResultSize() {
+			return totalResultSize.get();
+		}
+
+		/**
+		 * Returns the largest number of elements returned by a single invocation.
+		 *
+		 * @return
+		 */
+		public long getMaxResultSize() {
+			return maxResultSize.get();
+		}
+	}
+}
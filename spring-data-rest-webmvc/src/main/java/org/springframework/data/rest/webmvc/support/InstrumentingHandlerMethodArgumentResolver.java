@@ -0,0 +1,97 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc.support;
+
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.core.MethodParameter;
+import org.springframework.data.rest.webmvc.spi.RequestPhase;
+import org.springframework.data.rest.webmvc.spi.RequestPhaseInstrumentation;
+import org.springframework.data.rest.webmvc.spi.RequestPhaseInstrumentation.NoOpInstrumentation;
+import org.springframework.data.rest.webmvc.spi.RequestPhaseInstrumentation.Timer;
+import org.springframework.web.bind.support.WebDataBinderFactory;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.method.support.ModelAndViewContainer;
+
+/**
+ * {@link HandlerMethodArgumentResolver} to measure the time spent in a delegate resolver as
+ * {@link RequestPhase#ARGUMENT_RESOLUTION}.
+ *
+ * @author agent
+ * @since 2.7
+ */
+@RequiredArgsConstructor
+public class InstrumentingHandlerMethodArgumentResolver implements HandlerMethodArgumentResolver {
+
+	private final @NonNull HandlerMethodArgumentResolver delegate;
+	private final @NonNull RequestPhaseInstrumentation instrumentation;
+
+	/**
+	 * Decorates all given {@link HandlerMethodArgumentResolver}s with an
+	 * {@link InstrumentingHandlerMethodArgumentResolver} unless the given {@link RequestPhaseInstrumentation} is the
+	 * {@link NoOpInstrumentation}.
+	 *
+	 * @param resolvers must not be {@literal null}.
+	 * @param instrumentation must not be {@literal null}.
+	 * @return
+	 */
+	public static List<HandlerMethodArgumentResolver> decorate(List<HandlerMethodArgumentResolver> resolvers,
+			RequestPhaseInstrumentation instrumentation) {
+
+		if (NoOpInstrumentation.INSTANCE.equals(instrumentation)) {
+			return resolvers;
+		}
+
+		List<HandlerMethodArgumentResolver> result = new ArrayList<HandlerMethodArgumentResolver>(resolvers.size());
+
+		for (HandlerMethodArgumentResolver resolver : resolvers) {
+			result.add(new InstrumentingHandlerMethodArgumentResolver(resolver, instrumentation));
+		}
+
+		return result;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.web.method.support.HandlerMethodArgumentResolver#supportsParameter(org.springframework.core.MethodParameter)
+	 */
+	@Override
+	public boolean supportsParameter(MethodParameter parameter) {
+		return delegate.supportsParameter(parameter);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.web.method.support.HandlerMethodArgumentResolver#resolveArgument(org.springframework.core.MethodParameter, org.springframework.web.method.support.ModelAndViewContainer, org.springframework.web.context.request.NativeWebRequest, org.springframework.web.bind.support.WebDataBinderFactory)
+	 */
+	@Override
+	public Object resolveArgument(MethodParameter parameter, ModelAndViewContainer mavContainer,
+			NativeWebRequest webRequest, WebDataBinderFactory binderFactory) throws Exception {
+
+		Timer timer = instrumentation.start(RequestPhase.ARGUMENT_RESOLUTION);
+
+		try {
+			return delegate.resolveArgument(parameter, mavContainer, webRequest, binderFactory);
+		} finally {
+			timer.stop();
+		}
+	}
+}
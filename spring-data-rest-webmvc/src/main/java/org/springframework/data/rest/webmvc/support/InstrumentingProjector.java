@@ -0,0 +1,77 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc.support;
+
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+
+import org.springframework.data.rest.webmvc.spi.RequestPhase;
+import org.springframework.data.rest.webmvc.spi.RequestPhaseInstrumentation;
+import org.springframework.data.rest.webmvc.spi.RequestPhaseInstrumentation.Timer;
+
+/**
+ * {@link Projector} to measure the time spent in a delegate {@link Projector} as {@link RequestPhase#PROJECTION}.
+ *
+ * @author agent
+ * @since 2.7
+ */
+@RequiredArgsConstructor
+public class InstrumentingProjector implements Projector {
+
+	private final @NonNull Projector delegate;
+	private final @NonNull RequestPhaseInstrumentation instrumentation;
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.rest.webmvc.support.Projector#project(java.lang.Object)
+	 */
+	@Override
+	public Object project(Object source) {
+
+		Timer timer = instrumentation.start(RequestPhase.PROJECTION);
+
+		try {
+			return delegate.project(source);
+		} finally {
+			timer.stop();
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.rest.webmvc.support.ExcerptProjector#projectExcerpt(java.lang.Object)
+	 */
+	@Override
+	public Object projectExcerpt(Object source) {
+
+		Timer timer = instrumentation.start(RequestPhase.PROJECTION);
+
+		try {
+			return delegate.projectExcerpt(source);
+		} finally {
+			timer.stop();
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.rest.webmvc.support.ExcerptProjector#hasExcerptProjection(java.lang.Class)
+	 */
+	@Override
+	public boolean hasExcerptProjection(Class<?> type) {
+		return delegate.hasExcerptProjection(type);
+	}
+}
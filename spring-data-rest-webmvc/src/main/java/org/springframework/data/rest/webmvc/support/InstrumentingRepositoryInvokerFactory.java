@@ -0,0 +1,408 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc.support;
+
+import java.io.Serializable;
+import java.lang.reflect.Method;
+import java.util.Collection;
+import java.util.Map;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.repository.support.RepositoryInvoker;
+import org.springframework.data.repository.support.RepositoryInvokerFactory;
+import org.springframework.data.rest.core.support.ProjectingRepositoryInvoker;
+import org.springframework.data.rest.core.support.RepositoryInvocationMetrics;
+import org.springframework.data.rest.core.support.RepositoryInvocationMetrics.Invocation;
+import org.springframework.data.rest.core.support.RepositoryInvocationMetrics.Operation;
+import org.springframework.data.rest.webmvc.spi.RequestPhase;
+import org.springframework.data.rest.webmvc.spi.RequestPhaseInstrumentation;
+import org.springframework.data.rest.webmvc.spi.RequestPhaseInstrumentation.NoOpInstrumentation;
+import org.springframework.data.rest.webmvc.spi.RequestPhaseInstrumentation.Timer;
+import org.springframework.util.Assert;
+import org.springframework.util.MultiValueMap;
+
+/**
+ * {@link RepositoryInvokerFactory} that decorates the {@link RepositoryInvoker}s returned by a delegate to measure the
+ * time spent in repository invocations as {@link RequestPhase#REPOSITORY_INVOCATION} and, if configured, to record
+ * {@link RepositoryInvocationMetrics} for them.
+ *
+ * @author agent
+ * @since 2.7
+ */
+public class InstrumentingRepositoryInvokerFactory implements RepositoryInvokerFactory {
+
+	private final RepositoryInvokerFactory delegate;
+	private final RequestPhaseInstrumentation instrumentation;
+	private final RepositoryInvocationMetrics metrics;
+
+	/**
+	 * Creates a new {@link InstrumentingRepositoryInvokerFactory} for the given delegate
+	 * {@link RepositoryInvokerFactory} and {@link RequestPhaseInstrumentation}.
+	 *
+	 * @param delegate must not be {@literal null}.
+	 * @param instrumentation must not be {@literal null}.
+	 */
+	public InstrumentingRepositoryInvokerFactory(RepositoryInvokerFactory delegate,
+			RequestPhaseInstrumentation instrumentation) {
+		this(delegate, instrumentation, null);
+	}
+
+	/**
+	 * Creates a new {@link InstrumentingRepositoryInvokerFactory} for the given delegate
+	 * {@link RepositoryInvokerFactory}, {@link RequestPhaseInstrumentation} and {@link RepositoryInvocationMetrics}.
+	 *
+	 * @param delegate must not be {@literal null}.
+	 * @param instrumentation must not be {@literal null}.
+	 * @param metrics can be {@literal null}.
+	 */
+	public InstrumentingRepositoryInvokerFactory(RepositoryInvokerFactory delegate,
+			RequestPhaseInstrumentation instrumentation, RepositoryInvocationMetrics metrics) {
+
+		Assert.notNull(delegate, "Delegate RepositoryInvokerFactory must not be null!");
+		Assert.notNull(instrumentation, "RequestPhaseInstrumentation must not be null!");
+
+		this.delegate = delegate;
+		this.instrumentation = instrumentation;
+		this.metrics = metrics;
+	}
+
+	/**
+	 * Decorates the given {@link RepositoryInvokerFactory} with an {@link InstrumentingRepositoryInvokerFactory} unless
+	 * neither an actual {@link RequestPhaseInstrumentation} nor {@link RepositoryInvocationMetrics} are given.
+	 *
+	 * @param factory must not be {@literal null}.
+	 * @param instrumentation must not be {@literal null}.
+	 * @param metrics can be {@literal null}.
+	 * @return
+	 */
+	public static RepositoryInvokerFactory decorate(RepositoryInvokerFactory factory,
+			RequestPhaseInstrumentation instrumentation, RepositoryInvocationMetrics metrics) {
+
+		return NoOpInstrumentation.INSTANCE.equals(instrumentation) && metrics == null ? factory
+				: new InstrumentingRepositoryInvokerFactory(factory, instrumentation, metrics);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.repository.support.RepositoryInvokerFactory#getInvokerFor(java.lang.Class)
+	 */
+	@Override
+	public RepositoryInvoker getInvokerFor(Class<?> domainType) {
+		return new InstrumentingRepositoryInvoker(delegate.getInvokerFor(domainType), domainType, instrumentation,
+				metrics);
+	}
+
+	/**
+	 * {@link RepositoryInvoker} measuring all invocations of the delegate. Projections read via a
+	 * {@link ProjectingRepositoryInvoker} are recorded as {@link Operation#FIND_ALL}.
+	 *
+	 * @author agent
+	 */
+	private static class InstrumentingRepositoryInvoker implements ProjectingRepositoryInvoker {
+
+		private final RepositoryInvoker delegate;
+		private final Class<?> domainType;
+		private final RequestPhaseInstrumentation instrumentation;
+		private final RepositoryInvocationMetrics metrics;
+
+		private final Invocation findOne, findAll, save, delete;
+
+		InstrumentingRepositoryInvoker(RepositoryInvoker delegate, Class<?> domainType,
+				RequestPhaseInstrumentation instrumentation, RepositoryInvocationMetrics metrics) {
+
+			this.delegate = delegate;
+			this.domainType = domainType;
+			this.instrumentation = instrumentation;
+			this.metrics = metrics;
+
+			this.findOne = new Invocation(domainType, Operation.FIND_ONE, null);
+			this.findAll = new Invocation(domainType, Operation.FIND_ALL, null);
+			this.save = new Invocation(domainType, Operation.SAVE, null);
+			this.delete = new Invocation(domainType, Operation.DELETE, null);
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.repository.support.RepositoryInvoker#invokeFindOne(java.io.Serializable)
+		 */
+		@Override
+		public <T> T invokeFindOne(Serializable id) {
+
+			Timer timer = instrumentation.start(RequestPhase.REPOSITORY_INVOCATION);
+			long start = System.nanoTime();
+			boolean failed = true;
+
+			try {
+
+				T result = delegate.invokeFindOne(id);
+				failed = false;
+				return result;
+
+			} finally {
+				timer.stop();
+				recordInvocation(findOne, start, failed);
+			}
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.repository.support.RepositoryInvoker#invokeFindAll(org.springframework.data.domain.Pageable)
+		 */
+		@Override
+		public Iterable<Object> invokeFindAll(Pageable pageable) {
+
+			Timer timer = instrumentation.start(RequestPhase.REPOSITORY_INVOCATION);
+			long start = System.nanoTime();
+			boolean failed = true;
+
+			try {
+
+				Iterable<Object> result = delegate.invokeFindAll(pageable);
+				failed = false;
+				recordResultSize(findAll, result);
+				return result;
+
+			} finally {
+				timer.stop();
+				recordInvocation(findAll, start, failed);
+			}
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.repository.support.RepositoryInvoker#invokeFindAll(org.springframework.data.domain.Sort)
+		 */
+		@Override
+		public Iterable<Object> invokeFindAll(Sort sort) {
+
+			Timer timer = instrumentation.start(RequestPhase.REPOSITORY_INVOCATION);
+			long start = System.nanoTime();
+			boolean failed = true;
+
+			try {
+
+				Iterable<Object> result = delegate.invokeFindAll(sort);
+				failed = false;
+				recordResultSize(findAll, result);
+				return result;
+
+			} finally {
+				timer.stop();
+				recordInvocation(findAll, start, failed);
+			}
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.rest.core.support.ProjectingRepositoryInvoker#invokeFindAll(java.lang.Class, org.springframework.data.domain.Pageable, org.springframework.data.domain.Sort)
+		 */
+		@Override
+		public Iterable<?> invokeFindAll(Class<?> projectionType, Pageable pageable, Sort sort) {
+
+			if (!(delegate instanceof ProjectingRepositoryInvoker)) {
+				return null;
+			}
+
+			Timer timer = instrumentation.start(RequestPhase.REPOSITORY_INVOCATION);
+			long start = System.nanoTime();
+			boolean failed = true;
+			Iterable<?> result = null;
+
+			try {
+
+				result = ((ProjectingRepositoryInvoker) delegate).invokeFindAll(projectionType, pageable, sort);
+				failed = false;
+				recordResultSize(findAll, result);
+				return result;
+
+			} finally {
+
+				timer.stop();
+
+				// No result means the repository couldn't read the projection and the entities are read instead
+				if (failed || result != null) {
+					recordInvocation(findAll, start, failed);
+				}
+			}
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.repository.support.RepositoryInvoker#invokeSave(java.lang.Object)
+		 */
+		@Override
+		public <T> T invokeSave(T object) {
+
+			Timer timer = instrumentation.start(RequestPhase.REPOSITORY_INVOCATION);
+			long start = System.nanoTime();
+			boolean failed = true;
+
+			try {
+
+				T result = delegate.invokeSave(object);
+				failed = false;
+				return result;
+
+			} finally {
+				timer.stop();
+				recordInvocation(save, start, failed);
+			}
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.repository.support.RepositoryInvoker#invokeDelete(java.io.Serializable)
+		 */
+		@Override
+		public void invokeDelete(Serializable id) {
+
+			Timer timer = instrumentation.start(RequestPhase.REPOSITORY_INVOCATION);
+			long start = System.nanoTime();
+			boolean failed = true;
+
+			try {
+
+				delegate.invokeDelete(id);
+				failed = false;
+
+			} finally {
+				timer.stop();
+				recordInvocation(delete, start, failed);
+			}
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.repository.support.RepositoryInvoker#invokeQueryMethod(java.lang.reflect.Method, org.springframework.util.MultiValueMap, org.springframework.data.domain.Pageable, org.springframework.data.domain.Sort)
+		 */
+		@Override
+		public Object invokeQueryMethod(Method method, MultiValueMap<String, ? extends Object> parameters,
+				Pageable pageable, Sort sort) {
+
+			Invocation invocation = getQueryMethodInvocation(method);
+			Timer timer = instrumentation.start(RequestPhase.REPOSITORY_INVOCATION);
+			long start = System.nanoTime();
+			boolean failed = true;
+
+			try {
+
+				Object result = delegate.invokeQueryMethod(method, parameters, pageable, sort);
+				failed = false;
+				recordResultSize(invocation, result);
+				return result;
+
+			} finally {
+				timer.stop();
+				recordInvocation(invocation, start, failed);
+			}
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.repository.support.RepositoryInvoker#invokeQueryMethod(java.lang.reflect.Method, java.util.Map, org.springframework.data.domain.Pageable, org.springframework.data.domain.Sort)
+		 */
+		@Override
+		@SuppressWarnings("deprecation")
+		public Object invokeQueryMethod(Method method, Map<String, String[]> parameters, Pageable pageable, Sort sort) {
+
+			Invocation invocation = getQueryMethodInvocation(method);
+			Timer timer = instrumentation.start(RequestPhase.REPOSITORY_INVOCATION);
+			long start = System.nanoTime();
+			boolean failed = true;
+
+			try {
+
+				Object result = delegate.invokeQueryMethod(method, parameters, pageable, sort);
+				failed = false;
+				recordResultSize(invocation, result);
+				return result;
+
+			} finally {
+				timer.stop();
+				recordInvocation(invocation, start, failed);
+			}
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.repository.support.RepositoryInvocationInformation#hasDeleteMethod()
+		 */
+		@Override
+		public boolean hasDeleteMethod() {
+			return delegate.hasDeleteMethod();
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.repository.support.RepositoryInvocationInformation#hasFindAllMethod()
+		 */
+		@Override
+		public boolean hasFindAllMethod() {
+			return delegate.hasFindAllMethod();
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.repository.support.RepositoryInvocationInformation#hasFindOneMethod()
+		 */
+		@Override
+		public boolean hasFindOneMethod() {
+			return delegate.hasFindOneMethod();
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.repository.support.RepositoryInvocationInformation#hasSaveMethod()
+		 */
+		@Override
+		public boolean hasSaveMethod() {
+			return delegate.hasSaveMethod();
+		}
+
+		private Invocation getQueryMethodInvocation(Method method) {
+			return metrics == null ? null : new Invocation(domainType, Operation.QUERY_METHOD, method.getName());
+		}
+
+		private void recordInvocation(Invocation invocation, long start, boolean failed) {
+
+			if (metrics != null) {
+				metrics.recordInvocation(invocation, System.nanoTime() - start, failed);
+			}
+		}
+
+		/**
+		 * Records the size of the given result if it's a {@link Slice} or {@link Collection}. Other {@link Iterable}s are
+		 * not inspected as iterating them might trigger additional work.
+		 *
+		 * @param invocation can be {@literal null} in case no metrics are recorded.
+		 * @param result can be {@literal null}.
+		 */
+		private void recordResultSize(Invocation invocation, Object result) {
+
+			if (metrics == null) {
+				return;
+			}
+
+			if (result instanceof Slice) {
+				metrics.recordResultSize(invocation, ((Slice<?>) result).getNumberOfElements());
+			} else if (result instanceof Collection) {
+				metrics.recordResultSize(invocation, ((Collection<?>) result).size());
+			}
+		}
+	}
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc.support;
+
+import java.util.Collection;
+
+import org.springframework.core.ResolvableType;
+import org.springframework.data.rest.webmvc.spi.RequestPhase;
+import org.springframework.data.rest.webmvc.spi.RequestPhaseInstrumentation;
+import org.springframework.data.rest.webmvc.spi.RequestPhaseInstrumentation.Timer;
+import org.springframework.hateoas.ResourceProcessor;
+import org.springframework.hateoas.ResourceSupport;
+import org.springframework.hateoas.mvc.ResourceProcessorInvoker;
+import org.springframework.util.Assert;
+
+/**
+ * {@link ResourceProcessorInvoker} to measure the time spent in {@link ResourceProcessor}s as
+ * {@link RequestPhase#RESOURCE_PROCESSING}.
+ *
+ * @author agent
+ * @since 2.7
+ */
+public class InstrumentingResourceProcessorInvoker extends ResourceProcessorInvoker {
+
+	private final RequestPhaseInstrumentation instrumentation;
+
+	/**
+	 * Creates a new {@link InstrumentingResourceProcessorInvoker} for the given {@link ResourceProcessor}s and
+	 * {@link RequestPhaseInstrumentation}.
+	 *
+	 * @param processors must not be {@literal null}.
+	 * @param instrumentation must not be {@literal null}.
+	 */
+	public InstrumentingResourceProcessorInvoker(Collection<ResourceProcessor<?>> processors,
+			RequestPhaseInstrumentation instrumentation) {
+
+		super(processors);
+
+		Assert.notNull(instrumentation, "RequestPhaseInstrumentation must not be null!");
+
+		this.instrumentation = instrumentation;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.hateoas.mvc.ResourceProcessorInvoker#invokeProcessorsFor(org.springframework.hateoas.ResourceSupport, org.springframework.core.ResolvableType)
+	 */
+	@Override
+	public <T extends ResourceSupport> T invokeProcessorsFor(T value, ResolvableType referenceType) {
+
+		Timer timer = instrumentation.start(RequestPhase.RESOURCE_PROCESSING);
+
+		try {
+			return super.invokeProcessorsFor(value, referenceType);
+		} finally {
+			timer.stop();
+		}
+	}
+}
@@ -0,0 +1,458 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc.support;
+
+import lombok.NonNull;
+import lombok.Value;
+
+import java.io.IOException;
+import java.io.Serializable;
+import java.security.Principal;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import org.springframework.context.ApplicationListener;
+import org.springframework.data.mapping.PersistentEntity;
+import org.springframework.data.mapping.context.PersistentEntities;
+import org.springframework.data.rest.core.config.ResponseCacheConfiguration;
+import org.springframework.data.rest.core.event.AfterDeleteEvent;
+import org.springframework.data.rest.core.event.AfterLinkDeleteEvent;
+import org.springframework.data.rest.core.event.AfterLinkSaveEvent;
+import org.springframework.data.rest.core.event.AfterSaveEvent;
+import org.springframework.data.rest.core.event.RepositoryEvent;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.StreamUtils;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+/**
+ * Cache for the serialized representations of item resources. Entries are keyed by domain type, identifier, query string
+ * (which carries the requested projection and fields), {@code Accept} header, the request URI as resolved for link
+ * building (i.e. taking {@code Forwarded} and {@code X-Forwarded-*} headers into account, so that it carries the base
+ * URI links are rendered against) and the name of the authenticated principal, so that representations customized
+ * for a user are never served to another one. Entries are evicted in least-recently-used order once the configured
+ * maximum size is reached.
+ * <p>
+ * The cache only replaces rendering the representation. The entity is still looked up for every request so that access
+ * rules on the repository's {@code findOne(…)} method are applied before a cached representation is served.
+ * <p>
+ * Entries for an individual entity are invalidated on {@link AfterSaveEvent}, {@link AfterDeleteEvent},
+ * {@link AfterLinkSaveEvent} and {@link AfterLinkDeleteEvent}. As only events published by the current application
+ * instance are seen, the cache is not suitable for setups in which the data is changed by other means. Also, changes to
+ * related entities rendered as part of a projection do not invalidate the representation of the owning entity.
+ * <p>
+ * Every invalidation bumps a generation counter for the invalidated entity. Responses rendered by requests that started
+ * before an invalidation are not stored so that a request racing a write cannot put a stale representation back into
+ * the cache.
+ * <p>
+ * Access to the entries is guarded by a {@link Lock} rather than {@code synchronized} blocks so that requests executed
+ * on virtual threads don't pin their carrier thread while waiting for it.
+ *
+ * @author agent
+ * @since 2.7
+ * @see ResponseCacheConfiguration
+ */
+public class ItemResourceResponseCache implements ApplicationListener<RepositoryEvent> {
+
+	static final String CACHE_KEY_ATTRIBUTE = ItemResourceResponseCache.class.getName().concat(".CACHE_KEY");
+	static final String GENERATION_ATTRIBUTE = ItemResourceResponseCache.class.getName().concat(".GENERATION");
+
+	private static final int GENERATION_STRIPES = 256;
+
+	private final ResponseCacheConfiguration configuration;
+	private final PersistentEntities entities;
+	private final Map<CacheKey, CachedResponse> entries;
+	private final long[] generations = new long[GENERATION_STRIPES];
+	private final Lock lock = new ReentrantLock();
+
+	private final AtomicLong hits = new AtomicLong();
+	private final AtomicLong misses = new AtomicLong();
+	private final AtomicLong evictions = new AtomicLong();
+	private final AtomicLong invalidations = new AtomicLong();
+
+	/**
+	 * Creates a new {@link ItemResourceResponseCache} for the given {@link ResponseCacheConfiguration} and
+	 * {@link PersistentEntities}.
+	 *
+	 * @param configuration must not be {@literal null}.
+	 * @param entities must not be {@literal null}.
+	 */
+	@SuppressWarnings("serial")
+	public ItemResourceResponseCache(ResponseCacheConfiguration configuration, PersistentEntities entities) {
+
+		Assert.notNull(configuration, "ResponseCacheConfiguration must not be null!");
+		Assert.notNull(entities, "PersistentEntities must not be null!");
+
+		final int maximumSize = configuration.getMaximumSize();
+
+		this.configuration = configuration;
+		this.entities = entities;
+		this.entries = new LinkedHashMap<CacheKey, CachedResponse>(16, 0.75f, true) {
+
+			@Override
+			protected boolean removeEldestEntry(Entry<CacheKey, CachedResponse> eldest) {
+
+				boolean evict = size() > maximumSize;
+
+				if (evict) {
+					evictions.incrementAndGet();
+				}
+
+				return evict;
+			}
+		};
+	}
+
+	/**
+	 * Returns whether caching is enabled for the given domain type.
+	 *
+	 * @param domainType must not be {@literal null}.
+	 * @return
+	 */
+	public boolean isCacheable(Class<?> domainType) {
+		return configuration.isEnabledFor(domainType);
+	}
+
+	/**
+	 * Returns the {@link CacheKey} for the item resource of the given domain type and identifier requested with the
+	 * given {@link HttpServletRequest} or {@literal null} if the domain type is not cached.
+	 *
+	 * @param domainType must not be {@literal null}.
+	 * @param id must not be {@literal null}.
+	 * @param request must not be {@literal null}.
+	 * @return
+	 */
+	public CacheKey getKeyFor(Class<?> domainType, Serializable id, HttpServletRequest request) {
+
+		Assert.notNull(request, "HttpServletRequest must not be null!");
+
+		if (!isCacheable(domainType)) {
+			return null;
+		}
+
+		// Resolved like the links in the representation, so that forwarded headers don't share entries with direct requests
+		String requestUri = ServletUriComponentsBuilder.fromRequestUri(request).build().toUriString();
+		Principal principal = request.getUserPrincipal();
+
+		return new CacheKey(domainType, String.valueOf(id), request.getQueryString(),
+				request.getHeader(HttpHeaders.ACCEPT), requestUri, principal == null ? null : principal.getName());
+	}
+
+	/**
+	 * Writes the cached response for the given {@link CacheKey} to the given {@link HttpServletResponse} if present. Will
+	 * answer with {@code 304 Not Modified} in case the cached response's {@code ETag} matches the request's
+	 * {@code If-None-Match} header (see {@link ServletWebRequest#checkNotModified(String)} for the supported syntax).
+	 * Registers the key and the current generation of the entity with the request otherwise so that the rendered response
+	 * can be added to the cache eventually.
+	 *
+	 * @param key can be {@literal null}.
+	 * @param request must not be {@literal null}.
+	 * @param response must not be {@literal null}.
+	 * @return whether a cached response was written.
+	 * @throws IOException
+	 */
+	public boolean writeCachedResponse(CacheKey key, HttpServletRequest request, HttpServletResponse response)
+			throws IOException {
+
+		if (key == null) {
+			return false;
+		}
+
+		CachedResponse cached = get(key);
+
+		if (cached == null) {
+			request.setAttribute(CACHE_KEY_ATTRIBUTE, key);
+			request.setAttribute(GENERATION_ATTRIBUTE, getGeneration(key));
+			return false;
+		}
+
+		for (Entry<String, List<String>> header : cached.getHeaders().entrySet()) {
+			for (String value : header.getValue()) {
+				response.addHeader(header.getKey(), value);
+			}
+		}
+
+		String eTag = cached.getHeaders().getETag();
+
+		if (eTag != null && new ServletWebRequest(request, response).checkNotModified(eTag)) {
+			return true;
+		}
+
+		response.setStatus(HttpStatus.OK.value());
+		response.setContentLength(cached.getBody().length);
+		StreamUtils.copy(cached.getBody(), response.getOutputStream());
+
+		return true;
+	}
+
+	/**
+	 * Returns the {@link CachedResponse} for the given {@link CacheKey}.
+	 *
+	 * @param key must not be {@literal null}.
+	 * @return the {@link CachedResponse} or {@literal null} if no response is cached for the given key.
+	 */
+	public CachedResponse get(CacheKey key) {
+
+		Assert.notNull(key, "Cache key must not be null!");
+
+		CachedResponse response;
+
+		lock.lock();
+
+		try {
+			response = entries.get(key);
+		} finally {
+			lock.unlock();
+		}
+
+		(response == null ? misses : hits).incrementAndGet();
+
+		return response;
+	}
+
+	/**
+	 * Returns the current generation of the entity the given {@link CacheKey} belongs to. The generation changes whenever
+	 * cached responses for the entity are invalidated.
+	 *
+	 * @param key must not be {@literal null}.
+	 * @return
+	 * @see #put(CacheKey, CachedResponse, long)
+	 */
+	public long getGeneration(CacheKey key) {
+
+		Assert.notNull(key, "Cache key must not be null!");
+
+		lock.lock();
+
+		try {
+			return generations[getStripe(key.getDomainType(), key.getId())];
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Caches the given {@link CachedResponse} under the given {@link CacheKey}.
+	 *
+	 * @param key must not be {@literal null}.
+	 * @param response must not be {@literal null}.
+	 */
+	public void put(CacheKey key, CachedResponse response) {
+
+		Assert.notNull(key, "Cache key must not be null!");
+		Assert.notNull(response, "Cached response must not be null!");
+
+		lock.lock();
+
+		try {
+			entries.put(key, response);
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Caches the given {@link CachedResponse} under the given {@link CacheKey} unless the entity it belongs to was
+	 * invalidated since the given generation was obtained via {@link #getGeneration(CacheKey)}.
+	 *
+	 * @param key must not be {@literal null}.
+	 * @param response must not be {@literal null}.
+	 * @param generation the generation of the entity at the time the response started to be rendered.
+	 * @return whether the response was cached.
+	 */
+	public boolean put(CacheKey key, CachedResponse response, long generation) {
+
+		Assert.notNull(key, "Cache key must not be null!");
+		Assert.notNull(response, "Cached response must not be null!");
+
+		lock.lock();
+
+		try {
+
+			if (generations[getStripe(key.getDomainType(), key.getId())] != generation) {
+				return false;
+			}
+
+			entries.put(key, response);
+			return true;
+
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Removes all cached responses for the given entity.
+	 *
+	 * @param entity must not be {@literal null}.
+	 */
+	public void invalidate(Object entity) {
+
+		Assert.notNull(entity, "Entity must not be null!");
+
+		Class<?> type = ClassUtils.getUserClass(entity);
+
+		if (!isCacheable(type)) {
+			return;
+		}
+
+		PersistentEntity<?, ?> persistentEntity = entities.getPersistentEntity(type);
+
+		if (persistentEntity == null) {
+			return;
+		}
+
+		String id = String.valueOf(persistentEntity.getIdentifierAccessor(entity).getIdentifier());
+
+		lock.lock();
+
+		try {
+
+			generations[getStripe(type, id)]++;
+
+			Iterator<CacheKey> iterator = entries.keySet().iterator();
+
+			while (iterator.hasNext()) {
+
+				CacheKey key = iterator.next();
+
+				if (key.getDomainType().equals(type) && key.getId().equals(id)) {
+					iterator.remove();
+					invalidations.incrementAndGet();
+				}
+			}
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Removes all cached responses.
+	 */
+	public void clear() {
+
+		lock.lock();
+
+		try {
+			entries.clear();
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Returns the current {@link Statistics} of the cache.
+	 *
+	 * @return
+	 */
+	public Statistics getStatistics() {
+
+		int size;
+
+		lock.lock();
+
+		try {
+			size = entries.size();
+		} finally {
+			lock.unlock();
+		}
+
+		return new Statistics(hits.get(), misses.get(), evictions.get(), invalidations.get(), size);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.context.ApplicationListener#onApplicationEvent(org.springframework.context.ApplicationEvent)
+	 */
+	@Override
+	public void onApplicationEvent(RepositoryEvent event) {
+
+		if (!configuration.isEnabled()) {
+			return;
+		}
+
+		if (event instanceof AfterSaveEvent || event instanceof AfterDeleteEvent || event instanceof AfterLinkSaveEvent
+				|| event instanceof AfterLinkDeleteEvent) {
+			invalidate(event.getSource());
+		}
+	}
+
+	private static int getStripe(Class<?> type, String id) {
+		return (31 * type.hashCode() + id.hashCode()) & (GENERATION_STRIPES - 1);
+	}
+
+	/**
+	 * Key of a cached item resource representation.
+	 *
+	 * @author agent
+	 */
+	@Value
+	public static class CacheKey {
+
+		@NonNull Class<?> domainType;
+		@NonNull String id;
+		String query, accept;
+		@NonNull String requestUri;
+		String principal;
+	}
+
+	/**
+	 * A serialized item resource representation alongside the headers to be sent with it.
+	 *
+	 * @author agent
+	 */
+	@Value
+	public static class CachedResponse {
+
+		@NonNull HttpHeaders headers;
+		@NonNull byte[] body;
+	}
+
+	/**
+	 * Snapshot of the cache's hit, miss, eviction and invalidation counters.
+	 *
+	 * @author agent
+	 */
+	@Value
+	public static class Statistics {
+
+		long hitCount, missCount, evictionCount, invalidationCount;
+		int size;
+
+		/**
+		 * Returns the ratio of requests that could be served from the cache.
+		 *
+		 * @return
+		 */
+		public double getHitRate() {
+
+			long requests = hitCount + missCount;
+			return requests == 0 ? 1.0 : (double) hitCount / requests;
+		}
+	}
+}
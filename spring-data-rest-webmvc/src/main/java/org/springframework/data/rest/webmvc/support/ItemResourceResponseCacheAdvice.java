@@ -0,0 +1,171 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc.support;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+
+import javax.servlet.http.HttpServletRequest;
+
+import org.springframework.core.MethodParameter;
+import org.springframework.data.rest.webmvc.PersistentEntityResource;
+import org.springframework.data.rest.webmvc.support.ItemResourceResponseCache.CacheKey;
+import org.springframework.data.rest.webmvc.support.ItemResourceResponseCache.CachedResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.util.Assert;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * {@link ResponseBodyAdvice} to render {@link PersistentEntityResource}s into the {@link ItemResourceResponseCache} for
+ * requests that were registered for caching by the controller. The rendered bytes are written to the response directly
+ * so that the representation is only serialized once.
+ *
+ * @author agent
+ * @since 2.7
+ */
+public class ItemResourceResponseCacheAdvice implements ResponseBodyAdvice<Object> {
+
+	private final ItemResourceResponseCache cache;
+	private final List<HttpMessageConverter<?>> converters;
+
+	/**
+	 * Creates a new {@link ItemResourceResponseCacheAdvice} for the given {@link ItemResourceResponseCache} and
+	 * {@link HttpMessageConverter}s.
+	 *
+	 * @param cache must not be {@literal null}.
+	 * @param converters must not be {@literal null}.
+	 */
+	public ItemResourceResponseCacheAdvice(ItemResourceResponseCache cache, List<HttpMessageConverter<?>> converters) {
+
+		Assert.notNull(cache, "ItemResourceResponseCache must not be null!");
+		Assert.notNull(converters, "HttpMessageConverters must not be null!");
+
+		this.cache = cache;
+		this.converters = converters;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice#supports(org.springframework.core.MethodParameter, java.lang.Class)
+	 */
+	@Override
+	public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+		return true;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice#beforeBodyWrite(java.lang.Object, org.springframework.core.MethodParameter, org.springframework.http.MediaType, java.lang.Class, org.springframework.http.server.ServerHttpRequest, org.springframework.http.server.ServerHttpResponse)
+	 */
+	@Override
+	public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+			Class<? extends HttpMessageConverter<?>> selectedConverterType, ServerHttpRequest request,
+			ServerHttpResponse response) {
+
+		if (!(body instanceof PersistentEntityResource) || !(request instanceof ServletServerHttpRequest)) {
+			return body;
+		}
+
+		HttpServletRequest servletRequest = ((ServletServerHttpRequest) request).getServletRequest();
+		Object key = servletRequest.getAttribute(ItemResourceResponseCache.CACHE_KEY_ATTRIBUTE);
+		Object generation = servletRequest.getAttribute(ItemResourceResponseCache.GENERATION_ATTRIBUTE);
+		HttpMessageConverter<Object> converter = getConverter(selectedConverterType);
+
+		if (!(key instanceof CacheKey) || !(generation instanceof Long) || converter == null) {
+			return body;
+		}
+
+		servletRequest.removeAttribute(ItemResourceResponseCache.CACHE_KEY_ATTRIBUTE);
+		servletRequest.removeAttribute(ItemResourceResponseCache.GENERATION_ATTRIBUTE);
+
+		try {
+
+			BufferingHttpOutputMessage message = new BufferingHttpOutputMessage();
+			converter.write(body, selectedContentType, message);
+
+			HttpHeaders headers = new HttpHeaders();
+			headers.putAll(response.getHeaders());
+			headers.putAll(message.getHeaders());
+			headers.remove(ServerTimingRequestPhaseInstrumentation.SERVER_TIMING_HEADER);
+
+			byte[] bytes = message.toByteArray();
+
+			cache.put((CacheKey) key, new CachedResponse(headers, bytes), (Long) generation);
+
+			response.getHeaders().putAll(message.getHeaders());
+			response.getBody().write(bytes);
+
+		} catch (IOException o_O) {
+			throw new HttpMessageNotWritableException("Could not write cached item resource!", o_O);
+		}
+
+		return null;
+	}
+
+	@SuppressWarnings("unchecked")
+	private HttpMessageConverter<Object> getConverter(Class<?> converterType) {
+
+		for (HttpMessageConverter<?> converter : converters) {
+			if (converter.getClass().equals(converterType)) {
+				return (HttpMessageConverter<Object>) converter;
+			}
+		}
+
+		return null;
+	}
+
+	/**
+	 * {@link HttpOutputMessage} buffering the body written into it.
+	 *
+	 * @author agent
+	 */
+	private static class BufferingHttpOutputMessage implements HttpOutputMessage {
+
+		private final HttpHeaders headers = new HttpHeaders();
+		private final ByteArrayOutputStream body = new ByteArrayOutputStream(1024);
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.http.HttpMessage#getHeaders()
+		 */
+		@Override
+		public HttpHeaders getHeaders() {
+			return headers;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.http.HttpOutputMessage#getBody()
+		 */
+		@Override
+		public OutputStream getBody() throws IOException {
+			return body;
+		}
+
+		byte[] toByteArray() {
+			return body.toByteArray();
+		}
+	}
+}
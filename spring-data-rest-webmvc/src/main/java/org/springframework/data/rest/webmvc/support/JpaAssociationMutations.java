@@ -0,0 +1,332 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc.support;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+
+import org.hibernate.Hibernate;
+import org.hibernate.SQLQuery;
+import org.hibernate.Session;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.metadata.ClassMetadata;
+import org.hibernate.persister.collection.CollectionPersister;
+import org.hibernate.persister.collection.QueryableCollection;
+import org.hibernate.type.BagType;
+import org.hibernate.type.CollectionType;
+import org.hibernate.type.SetType;
+import org.springframework.beans.factory.BeanFactoryUtils;
+import org.springframework.beans.factory.ListableBeanFactory;
+import org.springframework.data.mapping.PersistentEntity;
+import org.springframework.data.mapping.PersistentProperty;
+import org.springframework.data.mapping.context.PersistentEntities;
+import org.springframework.data.rest.webmvc.ResourceNotFoundException;
+import org.springframework.data.rest.webmvc.spi.AssociationMutations;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
+
+/**
+ * {@link AssociationMutations} applying changes to JPA collection associations by inserting or deleting the affected
+ * rows of the association's join table within a transaction. Neither the collection is initialized nor the rows of a
+ * bag are recreated, so that adding or removing an entity results in a single statement per entity besides the lookup
+ * of the owner. Only supports owning, unindexed many-to-many style associations mapped to a join table by Hibernate
+ * and requires a unique {@link PlatformTransactionManager} to be available. Only used if enabled via
+ * {@link org.springframework.data.rest.core.config.RepositoryRestConfiguration#setIncrementalAssociationUpdates(boolean)}
+ * as changes applied to the owner by event handlers are not persisted.
+ *
+ * @author agent
+ * @since 2.7
+ */
+public class JpaAssociationMutations implements AssociationMutations {
+
+	private static final boolean IS_HIBERNATE_AVAILABLE = ClassUtils.isPresent("org.hibernate.Session",
+			JpaAssociationMutations.class.getClassLoader());
+
+	private final ListableBeanFactory beanFactory;
+	private final EntityManagerLookup entityManagers;
+	private final PersistentEntities entities;
+	private final Map<PersistentProperty<?>, Boolean> supported = new ConcurrentHashMap<PersistentProperty<?>, Boolean>();
+	private final Map<PersistentProperty<?>, JoinTable> joinTables = new ConcurrentHashMap<PersistentProperty<?>, JoinTable>();
+
+	private TransactionTemplate transactionTemplate;
+
+	/**
+	 * Creates a new {@link JpaAssociationMutations} looking up {@link EntityManagerFactory}s and the
+	 * {@link PlatformTransactionManager} from the given {@link ListableBeanFactory}.
+	 *
+	 * @param beanFactory must not be {@literal null}.
+	 * @param entities must not be {@literal null}.
+	 */
+	public JpaAssociationMutations(ListableBeanFactory beanFactory, PersistentEntities entities) {
+
+		Assert.notNull(beanFactory, "BeanFactory must not be null!");
+		Assert.notNull(entities, "PersistentEntities must not be null!");
+
+		this.beanFactory = beanFactory;
+		this.entityManagers = new EntityManagerLookup(beanFactory);
+		this.entities = entities;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.plugin.core.Plugin#supports(java.lang.Object)
+	 */
+	@Override
+	public boolean supports(PersistentProperty<?> association) {
+
+		Boolean result = supported.get(association);
+
+		if (result == null) {
+
+			result = IS_HIBERNATE_AVAILABLE && entityManagers.isEntityCollection(association)
+					&& association.getOwner().hasIdProperty() && getJoinTable(association) != null;
+			supported.put(association, result);
+		}
+
+		return result && getTransactionTemplate() != null;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.rest.webmvc.spi.AssociationMutations#add(org.springframework.data.mapping.PersistentProperty, java.lang.Object, java.util.Collection)
+	 */
+	@Override
+	public Object add(PersistentProperty<?> association, Object owner, Collection<?> entities) {
+		return apply(association, owner, entities, true);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.rest.webmvc.spi.AssociationMutations#remove(org.springframework.data.mapping.PersistentProperty, java.lang.Object, java.util.Collection)
+	 */
+	@Override
+	public Object remove(PersistentProperty<?> association, Object owner, Collection<?> entities) {
+		return apply(association, owner, entities, false);
+	}
+
+	private Object apply(final PersistentProperty<?> association, final Object owner, final Collection<?> values,
+			final boolean add) {
+
+		final PersistentEntity<?, ?> ownerEntity = association.getOwner();
+		final PersistentEntity<?, ?> targetEntity = entities.getPersistentEntity(association.getActualType());
+		final EntityManager em = entityManagers.getEntityManager(ownerEntity.getType());
+		final JoinTable joinTable = getJoinTable(association);
+
+		Assert.state(joinTable != null, String.format("Association %s is not supported!", association));
+
+		return getTransactionTemplate().execute(new TransactionCallback<Object>() {
+
+			@Override
+			public Object doInTransaction(TransactionStatus status) {
+
+				Object ownerId = ownerEntity.getIdentifierAccessor(owner).getIdentifier();
+				Object managedOwner = em.find(ownerEntity.getType(), ownerId);
+
+				if (managedOwner == null) {
+					throw new ResourceNotFoundException();
+				}
+
+				for (Object value : values) {
+
+					Object valueId = value == null ? null : targetEntity.getIdentifierAccessor(value).getIdentifier();
+
+					if (valueId == null) {
+						continue;
+					}
+
+					if (add) {
+						joinTable.add(em, ownerId, valueId);
+					} else {
+						joinTable.remove(em, ownerId, valueId);
+					}
+				}
+
+				// Re-read the collection in case it had already been loaded into the persistence context
+				if (joinTable.isInitialized(ownerEntity.getPropertyAccessor(managedOwner).getProperty(association))) {
+					em.refresh(managedOwner);
+				}
+
+				return managedOwner;
+			}
+		});
+	}
+
+	private JoinTable getJoinTable(PersistentProperty<?> association) {
+
+		JoinTable joinTable = joinTables.get(association);
+
+		if (joinTable != null || !IS_HIBERNATE_AVAILABLE) {
+			return joinTable;
+		}
+
+		EntityManager em = entityManagers.getEntityManager(association.getOwner().getType());
+		joinTable = em == null ? null : JoinTable.of(em.getEntityManagerFactory(), association);
+
+		if (joinTable != null) {
+			joinTables.put(association, joinTable);
+		}
+
+		return joinTable;
+	}
+
+	private TransactionTemplate getTransactionTemplate() {
+
+		if (transactionTemplate != null) {
+			return transactionTemplate;
+		}
+
+		Map<String, PlatformTransactionManager> managers = BeanFactoryUtils.beansOfTypeIncludingAncestors(beanFactory,
+				PlatformTransactionManager.class);
+
+		if (managers.size() == 1) {
+			this.transactionTemplate = new TransactionTemplate(managers.values().iterator().next());
+		}
+
+		return transactionTemplate;
+	}
+
+	/**
+	 * The join table backing a collection association mapped by Hibernate. Only covers owning, unindexed bags and sets
+	 * with single column keys and elements, as only for those the rows can be inserted and deleted without touching the
+	 * rest of the collection. The statements are registered for the join table so that Hibernate only flushes and
+	 * evicts the cached state affected.
+	 *
+	 * @author agent
+	 */
+	private static class JoinTable {
+
+		private final String tableName, insert, delete, count;
+		private final boolean unique;
+
+		private JoinTable(String tableName, String keyColumn, String elementColumn, boolean unique) {
+
+			String where = String.format(" where %s = :owner and %s = :element", keyColumn, elementColumn);
+
+			this.tableName = tableName;
+			this.insert = String.format("insert into %s (%s, %s) values (:owner, :element)", tableName, keyColumn,
+					elementColumn);
+			this.delete = "delete from ".concat(tableName).concat(where);
+			this.count = "select count(*) from ".concat(tableName).concat(where);
+			this.unique = unique;
+		}
+
+		/**
+		 * Returns the {@link JoinTable} for the given association or {@literal null} if the association is not mapped to
+		 * a join table the changes can be applied to directly.
+		 *
+		 * @param factory must not be {@literal null}.
+		 * @param association must not be {@literal null}.
+		 * @return
+		 */
+		static JoinTable of(EntityManagerFactory factory, PersistentProperty<?> association) {
+
+			EntityManager em = factory.createEntityManager();
+
+			try {
+
+				SessionFactoryImplementor sessionFactory = (SessionFactoryImplementor) em.unwrap(Session.class)
+						.getSessionFactory();
+				ClassMetadata metadata = sessionFactory.getClassMetadata(association.getOwner().getType());
+
+				if (metadata == null) {
+					return null;
+				}
+
+				CollectionPersister persister = sessionFactory
+						.getCollectionPersister(metadata.getEntityName().concat(".").concat(association.getName()));
+				CollectionType type = persister.getCollectionType();
+
+				if (!(persister instanceof QueryableCollection) || persister.isInverse() || persister.isOneToMany()
+						|| persister.hasIndex() || type.getLHSPropertyName() != null
+						|| !(type instanceof BagType || type instanceof SetType)) {
+					return null;
+				}
+
+				QueryableCollection collection = (QueryableCollection) persister;
+				String[] keyColumns = collection.getKeyColumnNames();
+				String[] elementColumns = collection.getElementColumnNames();
+
+				if (keyColumns.length != 1 || elementColumns.length != 1) {
+					return null;
+				}
+
+				return new JoinTable(collection.getTableName(), keyColumns[0], elementColumns[0], type instanceof SetType);
+
+			} catch (RuntimeException o_O) {
+				return null;
+			} finally {
+				em.close();
+			}
+		}
+
+		/**
+		 * Adds the entity with the given identifier to the collection of the owner with the given identifier. Skips
+		 * entities already contained in sets.
+		 *
+		 * @param em must not be {@literal null}.
+		 * @param ownerId must not be {@literal null}.
+		 * @param elementId must not be {@literal null}.
+		 */
+		void add(EntityManager em, Object ownerId, Object elementId) {
+
+			if (unique && ((Number) createQuery(em, count, ownerId, elementId).uniqueResult()).longValue() > 0) {
+				return;
+			}
+
+			createQuery(em, insert, ownerId, elementId).executeUpdate();
+		}
+
+		/**
+		 * Removes all occurrences of the entity with the given identifier from the collection of the owner with the given
+		 * identifier.
+		 *
+		 * @param em must not be {@literal null}.
+		 * @param ownerId must not be {@literal null}.
+		 * @param elementId must not be {@literal null}.
+		 */
+		void remove(EntityManager em, Object ownerId, Object elementId) {
+			createQuery(em, delete, ownerId, elementId).executeUpdate();
+		}
+
+		/**
+		 * Returns whether the given collection value has been loaded.
+		 *
+		 * @param collection can be {@literal null}.
+		 * @return
+		 */
+		boolean isInitialized(Object collection) {
+			return collection != null && Hibernate.isInitialized(collection);
+		}
+
+		private SQLQuery createQuery(EntityManager em, String sql, Object ownerId, Object elementId) {
+
+			SQLQuery query = em.unwrap(Session.class).createSQLQuery(sql);
+			query.addSynchronizedQuerySpace(tableName);
+			query.setParameter("owner", ownerId);
+			query.setParameter("element", elementId);
+
+			return query;
+		}
+	}
+}
@@ -0,0 +1,224 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc.support;
+
+import java.util.Collections;
+import java.util.List;
+
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+import javax.persistence.Query;
+
+import org.springframework.beans.factory.ListableBeanFactory;
+import org.springframework.core.convert.ConversionException;
+import org.springframework.core.convert.ConversionService;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Sort.Order;
+import org.springframework.data.mapping.PersistentEntity;
+import org.springframework.data.mapping.PersistentProperty;
+import org.springframework.data.mapping.context.PersistentEntities;
+import org.springframework.data.rest.webmvc.spi.AssociationQueries;
+import org.springframework.util.Assert;
+
+/**
+ * {@link AssociationQueries} reading pages of JPA collection associations or individual entities contained in them
+ * with a JPQL query joining the owning entity and the association. Pages without explicit sort are sorted by the
+ * identifier of the associated entities to get a stable order across pages.
+ *
+ * @author agent
+ * @since 2.7
+ */
+public class JpaAssociationQueries implements AssociationQueries {
+
+	private final EntityManagerLookup entityManagers;
+	private final PersistentEntities entities;
+	private final ConversionService conversionService;
+
+	/**
+	 * Creates a new {@link JpaAssociationQueries} looking up {@link EntityManagerFactory}s from the given
+	 * {@link ListableBeanFactory} and using the given {@link ConversionService} to convert identifiers given in URIs.
+	 *
+	 * @param beanFactory must not be {@literal null}.
+	 * @param entities must not be {@literal null}.
+	 * @param conversionService must not be {@literal null}.
+	 */
+	public JpaAssociationQueries(ListableBeanFactory beanFactory, PersistentEntities entities,
+			ConversionService conversionService) {
+
+		Assert.notNull(beanFactory, "BeanFactory must not be null!");
+		Assert.notNull(entities, "PersistentEntities must not be null!");
+		Assert.notNull(conversionService, "ConversionService must not be null!");
+
+		this.entityManagers = new EntityManagerLookup(beanFactory);
+		this.entities = entities;
+		this.conversionService = conversionService;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.plugin.core.Plugin#supports(java.lang.Object)
+	 */
+	@Override
+	public boolean supports(PersistentProperty<?> association) {
+		return entityManagers.isEntityCollection(association);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.rest.webmvc.spi.AssociationQueries#findAll(org.springframework.data.mapping.PersistentProperty, java.lang.Object, org.springframework.data.domain.Pageable)
+	 */
+	@Override
+	@SuppressWarnings("unchecked")
+	public Page<Object> findAll(PersistentProperty<?> association, Object owner, Pageable pageable) {
+
+		PersistentEntity<?, ?> ownerEntity = association.getOwner();
+		PersistentEntity<?, ?> targetEntity = entities.getPersistentEntity(association.getActualType());
+		String orderBy = getOrderBy(targetEntity, pageable.getSort());
+
+		if (targetEntity == null || orderBy == null || !ownerEntity.hasIdProperty()) {
+			return null;
+		}
+
+		EntityManager em = entityManagers.getEntityManager(ownerEntity.getType());
+		Object id = ownerEntity.getIdentifierAccessor(owner).getIdentifier();
+
+		String from = getFromClause(em, association);
+
+		Query query = em.createQuery("select t ".concat(from).concat(orderBy));
+		query.setParameter("id", id);
+		query.setFirstResult(pageable.getOffset());
+		query.setMaxResults(pageable.getPageSize());
+
+		List<Object> content = query.getResultList();
+
+		if (pageable.getOffset() == 0 && content.size() < pageable.getPageSize()) {
+			return new PageImpl<Object>(content, pageable, content.size());
+		}
+
+		Query count = em.createQuery("select count(t) ".concat(from));
+		count.setParameter("id", id);
+
+		return new PageImpl<Object>(content, pageable, ((Number) count.getSingleResult()).longValue());
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.rest.webmvc.spi.AssociationQueries#findOne(org.springframework.data.mapping.PersistentProperty, java.lang.Object, java.lang.String)
+	 */
+	@Override
+	public Object findOne(PersistentProperty<?> association, Object owner, String id) {
+
+		PersistentEntity<?, ?> ownerEntity = association.getOwner();
+		PersistentEntity<?, ?> targetEntity = entities.getPersistentEntity(association.getActualType());
+
+		if (targetEntity == null || !targetEntity.hasIdProperty() || !ownerEntity.hasIdProperty()) {
+			return null;
+		}
+
+		Object targetId;
+
+		try {
+			targetId = conversionService.convert(id, targetEntity.getIdProperty().getType());
+		} catch (ConversionException o_O) {
+			return null;
+		}
+
+		EntityManager em = entityManagers.getEntityManager(ownerEntity.getType());
+
+		Query query = em.createQuery(String.format("select t %s and t.%s = :targetId", getFromClause(em, association),
+				targetEntity.getIdProperty().getName()));
+		query.setParameter("id", ownerEntity.getIdentifierAccessor(owner).getIdentifier());
+		query.setParameter("targetId", targetId);
+		query.setMaxResults(1);
+
+		List<?> result = query.getResultList();
+
+		return result.isEmpty() ? null : result.get(0);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.rest.webmvc.spi.AssociationQueries#count(org.springframework.data.mapping.PersistentProperty, java.lang.Object)
+	 */
+	@Override
+	public long count(PersistentProperty<?> association, Object owner) {
+
+		PersistentEntity<?, ?> ownerEntity = association.getOwner();
+		EntityManager em = entityManagers.getEntityManager(ownerEntity.getType());
+
+		Query query = em.createQuery("select count(t) ".concat(getFromClause(em, association)));
+		query.setParameter("id", ownerEntity.getIdentifierAccessor(owner).getIdentifier());
+
+		return ((Number) query.getSingleResult()).longValue();
+	}
+
+	/**
+	 * Returns the JPQL from clause joining the given association of the owning entity restricted to the owner with the
+	 * identifier bound to the {@code id} parameter.
+	 *
+	 * @param em must not be {@literal null}.
+	 * @param association must not be {@literal null}.
+	 * @return
+	 */
+	private static String getFromClause(EntityManager em, PersistentProperty<?> association) {
+
+		PersistentEntity<?, ?> ownerEntity = association.getOwner();
+
+		return String.format("from %s o join o.%s t where o.%s = :id",
+				em.getMetamodel().entity(ownerEntity.getType()).getName(), association.getName(),
+				ownerEntity.getIdProperty().getName());
+	}
+
+	/**
+	 * Returns the JPQL order by clause for the given {@link Sort} or {@literal null} if it refers to properties that are
+	 * not plain persistent properties of the given {@link PersistentEntity}. Falls back to sorting by identifier.
+	 *
+	 * @param entity can be {@literal null}.
+	 * @param sort can be {@literal null}.
+	 * @return
+	 */
+	private static String getOrderBy(PersistentEntity<?, ?> entity, Sort sort) {
+
+		if (entity == null) {
+			return null;
+		}
+
+		StringBuilder builder = new StringBuilder();
+		Iterable<Order> orders = sort == null ? Collections.<Order> emptyList() : sort;
+
+		for (Order order : orders) {
+
+			PersistentProperty<?> property = entity.getPersistentProperty(order.getProperty());
+
+			if (property == null || property.isAssociation() || property.isEntity() || property.isCollectionLike()) {
+				return null;
+			}
+
+			builder.append(builder.length() == 0 ? " order by " : ", ");
+			builder.append(order.isIgnoreCase() ? "lower(t." + property.getName() + ")" : "t." + property.getName());
+			builder.append(order.isAscending() ? " asc" : " desc");
+		}
+
+		if (builder.length() == 0 && entity.hasIdProperty()) {
+			builder.append(" order by t.").append(entity.getIdProperty().getName());
+		}
+
+		return builder.toString();
+	}
+}
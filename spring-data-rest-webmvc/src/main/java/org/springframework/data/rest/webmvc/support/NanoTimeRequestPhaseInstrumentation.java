@@ -0,0 +1,95 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc.support;
+
+import org.springframework.data.rest.webmvc.spi.RequestPhase;
+import org.springframework.data.rest.webmvc.spi.RequestPhaseInstrumentation;
+
+/**
+ * Base class for {@link RequestPhaseInstrumentation} implementations that measure the duration of a
+ * {@link RequestPhase} using {@link System#nanoTime()}. Durations are recorded exclusively, i.e. the time spent in a
+ * phase nested into another one on the same thread is subtracted from the enclosing phase, so that the durations
+ * recorded for a request add up to the total time spent in all phases.
+ *
+ * @author agent
+ * @since 2.7
+ */
+public abstract class NanoTimeRequestPhaseInstrumentation implements RequestPhaseInstrumentation {
+
+	private final ThreadLocal<NanoTimeTimer> current = new ThreadLocal<NanoTimeTimer>();
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.rest.webmvc.spi.RequestPhaseInstrumentation#start(org.springframework.data.rest.webmvc.spi.RequestPhase)
+	 */
+	@Override
+	public Timer start(RequestPhase phase) {
+		NanoTimeTimer timer = new NanoTimeTimer(phase, current.get(), System.nanoTime());
+		current.set(timer);
+
+		return timer;
+	}
+
+	/**
+	 * Records the given duration for the given {@link RequestPhase}.
+	 *
+	 * @param phase will never be {@literal null}.
+	 * @param durationInNanos the duration of the phase in nanoseconds.
+	 */
+	protected abstract void record(RequestPhase phase, long durationInNanos);
+
+	/**
+	 * Returns the {@link Timer} currently running on the calling thread, if any.
+	 *
+	 * @return
+	 */
+	NanoTimeTimer getCurrentTimer() {
+		return current.get();
+	}
+
+	class NanoTimeTimer implements Timer {
+
+		private final RequestPhase phase;
+		private final NanoTimeTimer parent;
+		private final long start;
+		private long nestedDuration;
+
+		NanoTimeTimer(RequestPhase phase, NanoTimeTimer parent, long start) {
+			this.phase = phase;
+			this.parent = parent;
+			this.start = start;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.rest.webmvc.spi.RequestPhaseInstrumentation.Timer#stop()
+		 */
+		@Override
+		public void stop() {
+
+			long duration = System.nanoTime() - start;
+
+			if (parent == null) {
+				current.remove();
+			} else {
+				current.set(parent);
+				parent.nestedDuration += duration;
+			}
+
+			record(phase, duration - nestedDuration);
+		}
+	}
+}
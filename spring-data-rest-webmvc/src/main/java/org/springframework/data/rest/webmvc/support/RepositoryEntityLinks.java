@@ -1,5 +1,5 @@
 /*
- * Copyright 2012-2015 the original author or authors.
+ * Copyright 2012-2017 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -19,10 +19,14 @@ import static org.springframework.hateoas.TemplateVariable.VariableType.*;
 
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
+import lombok.Value;
 
 import java.io.Serializable;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
 
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
@@ -49,6 +53,9 @@ import org.springframework.hateoas.UriTemplate;
 import org.springframework.hateoas.core.AbstractEntityLinks;
 import org.springframework.plugin.core.PluginRegistry;
 import org.springframework.util.Assert;
+import org.springframework.util.ConcurrentReferenceHashMap;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.util.UriComponents;
 import org.springframework.web.util.UriComponentsBuilder;
 
@@ -62,12 +69,17 @@ import org.springframework.web.util.UriComponentsBuilder;
 @RequiredArgsConstructor
 public class RepositoryEntityLinks extends AbstractEntityLinks {
 
+	private static final String ITEM_LINK_TEMPLATES_ATTRIBUTE = RepositoryEntityLinks.class.getName()
+			.concat(".ITEM_LINK_TEMPLATES");
+
 	private final @NonNull Repositories repositories;
 	private final @NonNull ResourceMappings mappings;
 	private final @NonNull RepositoryRestConfiguration config;
 	private final @NonNull PagingAndSortingTemplateVariables templateVariables;
 	private final @NonNull PluginRegistry<BackendIdConverter, Class<?>> idConverters;
 
+	private final Map<LinkKey, Link> linkCache = new ConcurrentReferenceHashMap<LinkKey, Link>();
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.plugin.core.Plugin#supports(java.lang.Object)
@@ -106,8 +118,26 @@ public class RepositoryEntityLinks extends AbstractEntityLinks {
 	 */
 	public Link linkToPagedResource(Class<?> type, Pageable pageable) {
 
-		ResourceMetadata metadata = mappings.getMetadataFor(type);
 		String href = linkFor(type).toString();
+
+		if (pageable != null) {
+			return createPagedResourceLink(type, href, pageable);
+		}
+
+		LinkKey key = new LinkKey(type, null, href);
+		Link link = linkCache.get(key);
+
+		if (link == null) {
+			link = createPagedResourceLink(type, href, null);
+			linkCache.put(key, link);
+		}
+
+		return link;
+	}
+
+	private Link createPagedResourceLink(Class<?> type, String href, Pageable pageable) {
+
+		ResourceMetadata metadata = mappings.getMetadataFor(type);
 		UriComponents components = prepareUri(href, metadata, pageable);
 
 		TemplateVariables variables = getTemplateVariables(components, metadata, pageable).//
@@ -137,6 +167,15 @@ public class RepositoryEntityLinks extends AbstractEntityLinks {
 		ResourceMetadata metadata = mappings.getMetadataFor(type);
 		String mappedId = idConverters.getPluginFor(type, DefaultIdConverter.INSTANCE).toRequestId((Serializable) id, type);
 
+		if (ItemLinkTemplate.canBeAppended(mappedId)) {
+
+			ItemLinkTemplate template = getItemLinkTemplate(type, metadata);
+
+			if (template != null) {
+				return template.createLink(mappedId);
+			}
+		}
+
 		Link link = linkFor(type).slash(mappedId).withRel(metadata.getItemResourceRel());
 		return new Link(new UriTemplate(link.getHref(), getProjectionVariable(type)).toString(),
 				metadata.getItemResourceRel());
@@ -232,9 +271,10 @@ public class RepositoryEntityLinks extends AbstractEntityLinks {
 		List<Link> links = new ArrayList<Link>();
 
 		SearchResourceMappings searchMappings = mappings.getSearchResourceMappings(type);
+		String collectionHref = linkFor(type).toString();
 
 		for (MethodResourceMapping mapping : searchMappings.getExportedMappings()) {
-			links.add(getSearchResourceLinkFor(type, mapping.getRel(), pageable, sort));
+			links.add(getSearchResourceLinkFor(type, collectionHref, mapping.getRel(), pageable, sort));
 		}
 
 		return new Links(links);
@@ -252,9 +292,51 @@ public class RepositoryEntityLinks extends AbstractEntityLinks {
 	 */
 	private Link getSearchResourceLinkFor(Class<?> type, String rel, Pageable pageable, Sort sort) {
 
+		Assert.notNull(type, "Domain type must not be null!");
+
+		return getSearchResourceLinkFor(type, linkFor(type).toString(), rel, pageable, sort);
+	}
+
+	/**
+	 * Returns the link pointing to the search resource with the given rel of the given type below the given collection
+	 * resource href. Links not pre-expanded with a {@link Pageable} or {@link Sort} are cached per collection resource
+	 * href, i.e. per base URI.
+	 * 
+	 * @param type must not be {@literal null}.
+	 * @param collectionHref must not be {@literal null}.
+	 * @param rel must not be {@literal null} or empty.
+	 * @param pageable can be {@literal null}.
+	 * @param sort can be {@literal null}.
+	 * @return
+	 */
+	private Link getSearchResourceLinkFor(Class<?> type, String collectionHref, String rel, Pageable pageable,
+			Sort sort) {
+
 		Assert.notNull(type, "Domain type must not be null!");
 		Assert.hasText(rel, "Relation name must not be null or empty!");
 
+		if (pageable != null || sort != null) {
+			return createSearchResourceLink(type, collectionHref, rel, pageable, sort);
+		}
+
+		LinkKey key = new LinkKey(type, rel, collectionHref);
+		Link link = linkCache.get(key);
+
+		if (link == null) {
+
+			link = createSearchResourceLink(type, collectionHref, rel, null, null);
+
+			if (link != null) {
+				linkCache.put(key, link);
+			}
+		}
+
+		return link;
+	}
+
+	private Link createSearchResourceLink(Class<?> type, String collectionHref, String rel, Pageable pageable,
+			Sort sort) {
+
 		SearchResourceMappings searchMappings = mappings.getSearchResourceMappings(type);
 		MethodResourceMapping mapping = searchMappings.getExportedMethodMappingForRel(rel);
 
@@ -262,11 +344,13 @@ public class RepositoryEntityLinks extends AbstractEntityLinks {
 			return null;
 		}
 
-		LinkBuilder builder = linkFor(type).//
-				slash(mappings.getSearchResourceMappings(type).getPath()).//
-				slash(mapping.getPath());
+		UriComponentsBuilder builder = UriComponentsBuilder.fromUriString(collectionHref);
+		appendPathSegments(builder, searchMappings.getPath());
+		appendPathSegments(builder, mapping.getPath());
+
+		String href = builder.build().toUriString();
 
-		UriComponents uriComponents = prepareUri(builder.toString(), mapping, pageable, sort);
+		UriComponents uriComponents = prepareUri(href, mapping, pageable, sort);
 
 		TemplateVariables variables = getParameterVariables(mapping).//
 				concat(getTemplateVariables(uriComponents, mapping, pageable, sort)).//
@@ -331,6 +415,42 @@ public class RepositoryEntityLinks extends AbstractEntityLinks {
 		}
 	}
 
+	/**
+	 * Returns the {@link ItemLinkTemplate} for the given type, caching it for the current request as the base URI of the
+	 * links only changes between requests.
+	 * 
+	 * @param type must not be {@literal null}.
+	 * @param metadata must not be {@literal null}.
+	 * @return the {@link ItemLinkTemplate} or {@literal null} if not invoked in the context of a request.
+	 */
+	@SuppressWarnings("unchecked")
+	private ItemLinkTemplate getItemLinkTemplate(Class<?> type, ResourceMetadata metadata) {
+
+		RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+
+		if (attributes == null) {
+			return null;
+		}
+
+		Map<Class<?>, ItemLinkTemplate> templates = (Map<Class<?>, ItemLinkTemplate>) attributes
+				.getAttribute(ITEM_LINK_TEMPLATES_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+
+		if (templates == null) {
+			templates = new HashMap<Class<?>, ItemLinkTemplate>();
+			attributes.setAttribute(ITEM_LINK_TEMPLATES_ATTRIBUTE, templates, RequestAttributes.SCOPE_REQUEST);
+		}
+
+		ItemLinkTemplate template = templates.get(type);
+
+		if (template == null) {
+			template = new ItemLinkTemplate(linkFor(type).toString(), getProjectionVariable(type),
+					metadata.getItemResourceRel());
+			templates.put(type, template);
+		}
+
+		return template;
+	}
+
 	/**
 	 * Returns the {@link TemplateVariables} for all parameters of the given {@link MethodResourceMapping}.
 	 * 
@@ -348,6 +468,20 @@ public class RepositoryEntityLinks extends AbstractEntityLinks {
 		return new TemplateVariables(variables);
 	}
 
+	/**
+	 * Appends the segments of the given path to the given {@link UriComponentsBuilder} the same way
+	 * {@link LinkBuilder#slash(Object)} does.
+	 * 
+	 * @param builder must not be {@literal null}.
+	 * @param path must not be {@literal null}.
+	 */
+	private static void appendPathSegments(UriComponentsBuilder builder, Object path) {
+
+		for (String segment : UriComponentsBuilder.fromUriString(path.toString()).build().getPathSegments()) {
+			builder.pathSegment(segment);
+		}
+	}
+
 	private UriComponents prepareUri(String uri, MethodResourceMapping mapping, Pageable pageable, Sort sort) {
 
 		if (mapping.isSortableResource()) {
@@ -369,4 +503,72 @@ public class RepositoryEntityLinks extends AbstractEntityLinks {
 
 		return uriBuilder.build();
 	}
+
+	/**
+	 * Cache key for links that only depend on the domain type, the relation and the collection resource href they're
+	 * created for.
+	 * 
+	 * @author agent
+	 */
+	@Value
+	private static class LinkKey {
+
+		@NonNull Class<?> type;
+		String rel;
+		@NonNull String collectionHref;
+	}
+
+	/**
+	 * The already encoded href prefix and template suffix of item resource links for a type, so that the links for
+	 * individual items can be created by simply appending the identifier.
+	 * 
+	 * @author agent
+	 */
+	static class ItemLinkTemplate {
+
+		private static final Pattern UNRESERVED = Pattern.compile("[A-Za-z0-9\\-._~]+");
+		private static final String PLACEHOLDER = "id";
+
+		private final String prefix, suffix;
+		private final String rel;
+
+		/**
+		 * Creates a new {@link ItemLinkTemplate} for the given collection resource href, projection
+		 * {@link TemplateVariables} and item resource rel.
+		 * 
+		 * @param collectionHref must not be {@literal null}.
+		 * @param variables must not be {@literal null}.
+		 * @param rel must not be {@literal null}.
+		 */
+		ItemLinkTemplate(String collectionHref, TemplateVariables variables, String rel) {
+
+			String href = collectionHref.concat("/").concat(PLACEHOLDER);
+			String template = new UriTemplate(href, variables).toString();
+
+			this.prefix = collectionHref.concat("/");
+			this.suffix = template.substring(href.length());
+			this.rel = rel;
+		}
+
+		/**
+		 * Returns whether the given identifier can be appended to the prefix as is, i.e. it neither needs encoding nor is
+		 * subject to path normalization.
+		 * 
+		 * @param id can be {@literal null}.
+		 * @return
+		 */
+		static boolean canBeAppended(String id) {
+			return id != null && !".".equals(id) && !"..".equals(id) && UNRESERVED.matcher(id).matches();
+		}
+
+		/**
+		 * Creates the item resource {@link Link} for the given identifier.
+		 * 
+		 * @param id must be an identifier accepted by {@link #canBeAppended(String)}.
+		 * @return
+		 */
+		Link createLink(String id) {
+			return new Link(prefix.concat(id).concat(suffix), rel);
+		}
+	}
 }
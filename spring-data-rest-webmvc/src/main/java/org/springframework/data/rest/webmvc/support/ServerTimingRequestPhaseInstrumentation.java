@@ -0,0 +1,137 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc.support;
+
+import java.util.Locale;
+
+import org.springframework.core.MethodParameter;
+import org.springframework.data.rest.webmvc.spi.RequestPhase;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * {@link NanoTimeRequestPhaseInstrumentation} that accumulates the durations of the {@link RequestPhase}s per request
+ * and exposes them in a {@code Server-Timing} response header. As the header has to be written before the response
+ * body, the time spent in {@link RequestPhase#SERIALIZATION} is not included.
+ *
+ * @author agent
+ * @since 2.7
+ * @see <a href="https://www.w3.org/TR/server-timing/">Server Timing</a>
+ */
+public class ServerTimingRequestPhaseInstrumentation extends NanoTimeRequestPhaseInstrumentation
+		implements ResponseBodyAdvice<Object> {
+
+	public static final String SERVER_TIMING_HEADER = "Server-Timing";
+
+	private static final String DURATIONS_ATTRIBUTE = ServerTimingRequestPhaseInstrumentation.class.getName()
+			.concat(".DURATIONS");
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.rest.webmvc.support.NanoTimeRequestPhaseInstrumentation#record(org.springframework.data.rest.webmvc.spi.RequestPhase, long)
+	 */
+	@Override
+	protected void record(RequestPhase phase, long durationInNanos) {
+
+		RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+
+		if (attributes == null) {
+			return;
+		}
+
+		long[] durations = (long[]) attributes.getAttribute(DURATIONS_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+
+		if (durations == null) {
+			durations = new long[RequestPhase.values().length];
+			attributes.setAttribute(DURATIONS_ATTRIBUTE, durations, RequestAttributes.SCOPE_REQUEST);
+		}
+
+		durations[phase.ordinal()] += durationInNanos;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice#supports(org.springframework.core.MethodParameter, java.lang.Class)
+	 */
+	@Override
+	public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+		return true;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice#beforeBodyWrite(java.lang.Object, org.springframework.core.MethodParameter, org.springframework.http.MediaType, java.lang.Class, org.springframework.http.server.ServerHttpRequest, org.springframework.http.server.ServerHttpResponse)
+	 */
+	@Override
+	public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+			Class<? extends HttpMessageConverter<?>> selectedConverterType, ServerHttpRequest request,
+			ServerHttpResponse response) {
+
+		String header = getServerTimingHeader();
+
+		if (header != null) {
+			response.getHeaders().add(SERVER_TIMING_HEADER, header);
+		}
+
+		return body;
+	}
+
+	/**
+	 * Returns the value for the {@code Server-Timing} header for the current request or {@literal null} if no durations
+	 * were recorded.
+	 *
+	 * @return
+	 */
+	String getServerTimingHeader() {
+
+		RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+
+		if (attributes == null) {
+			return null;
+		}
+
+		long[] durations = (long[]) attributes.getAttribute(DURATIONS_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+
+		if (durations == null) {
+			return null;
+		}
+
+		StringBuilder builder = new StringBuilder();
+
+		for (RequestPhase phase : RequestPhase.values()) {
+
+			long duration = durations[phase.ordinal()];
+
+			if (duration == 0) {
+				continue;
+			}
+
+			if (builder.length() != 0) {
+				builder.append(", ");
+			}
+
+			builder.append(phase.getMetricName()).append(";dur=")
+					.append(String.format(Locale.US, "%.3f", duration / 1000000d));
+		}
+
+		return builder.length() == 0 ? null : builder.toString();
+	}
+}
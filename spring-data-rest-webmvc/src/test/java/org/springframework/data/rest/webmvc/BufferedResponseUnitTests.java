@@ -0,0 +1,82 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.junit.Assert.*;
+
+import javax.servlet.http.Cookie;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.data.rest.webmvc.BatchRequestDispatcher.BufferedResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+/**
+ * Unit tests for {@link BufferedResponse}.
+ *
+ * @author agent
+ */
+public class BufferedResponseUnitTests {
+
+	MockHttpServletResponse delegate;
+	BufferedResponse response;
+
+	@Before
+	public void setUp() {
+
+		this.delegate = new MockHttpServletResponse();
+		this.response = new BufferedResponse(delegate);
+	}
+
+	@Test
+	public void buffersCookies() {
+
+		Cookie cookie = new Cookie("session", "4711");
+		cookie.setPath("/");
+		cookie.setHttpOnly(true);
+
+		response.addCookie(cookie);
+
+		assertThat(response.getBufferedHeaders().getFirst(HttpHeaders.SET_COOKIE), is("session=4711; Path=/; HttpOnly"));
+		assertThat(delegate.getCookies().length, is(0));
+		assertThat(delegate.getHeaderNames().isEmpty(), is(true));
+	}
+
+	@Test
+	public void buffersHeadersAndStatus() throws Exception {
+
+		response.setHeader("Foo", "bar");
+		response.addIntHeader("Count", 1);
+		response.addDateHeader(HttpHeaders.LAST_MODIFIED, 0);
+		response.setContentType("application/json");
+		response.setCharacterEncoding("UTF-8");
+		response.setContentLength(42);
+		response.sendError(409);
+
+		assertThat(response.getStatus(), is(409));
+		assertThat(response.getBufferedHeaders().getFirst("Foo"), is("bar"));
+		assertThat(response.getBufferedHeaders().getFirst("Count"), is("1"));
+		assertThat(response.getBufferedHeaders().getLastModified(), is(0L));
+
+		assertThat(delegate.getStatus(), is(200));
+		assertThat(delegate.getHeaderNames().isEmpty(), is(true));
+		assertThat(delegate.getContentType(), is(nullValue()));
+		assertThat(delegate.getContentLength(), is(0));
+		assertThat(delegate.isCommitted(), is(false));
+	}
+}
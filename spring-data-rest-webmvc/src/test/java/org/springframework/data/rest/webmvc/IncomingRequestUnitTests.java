@@ -17,11 +17,17 @@ package org.springframework.data.rest.webmvc;
 
 import static org.hamcrest.CoreMatchers.*;
 import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+import java.io.ByteArrayInputStream;
 
 import org.junit.Before;
 import org.junit.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.server.ServerHttpRequest;
 import org.springframework.http.server.ServletServerHttpRequest;
 import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.util.StreamUtils;
 
 /**
  * Unit tests for {@link IncomingRequest}.
@@ -58,4 +64,32 @@ public class IncomingRequestUnitTests {
 		assertThat(incomingRequest.isJsonPatchRequest(), is(false));
 		assertThat(incomingRequest.isJsonMergePatchRequest(), is(true));
 	}
+
+	@Test(expected = RequestBodyTooLargeException.class)
+	public void rejectsBodyWithContentLengthExceedingMaximumSize() throws Exception {
+
+		request.setContent(new byte[11]);
+
+		new IncomingRequest(new ServletServerHttpRequest(request), 10).getBody();
+	}
+
+	@Test
+	public void exposesBodyWithinMaximumSize() throws Exception {
+
+		request.setContent(new byte[10]);
+
+		IncomingRequest incomingRequest = new IncomingRequest(new ServletServerHttpRequest(request), 10);
+
+		assertThat(StreamUtils.copyToByteArray(incomingRequest.getBody()).length, is(10));
+	}
+
+	@Test(expected = RequestBodyTooLargeException.class)
+	public void rejectsBodyWithoutContentLengthOnceMaximumSizeIsExceeded() throws Exception {
+
+		ServerHttpRequest serverRequest = mock(ServerHttpRequest.class);
+		when(serverRequest.getHeaders()).thenReturn(new HttpHeaders());
+		when(serverRequest.getBody()).thenReturn(new ByteArrayInputStream(new byte[11]));
+
+		StreamUtils.copyToByteArray(new IncomingRequest(serverRequest, 10).getBody());
+	}
 }
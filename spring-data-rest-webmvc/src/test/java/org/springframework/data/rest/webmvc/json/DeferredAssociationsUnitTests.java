@@ -0,0 +1,110 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc.json;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+import org.springframework.core.convert.TypeDescriptor;
+import org.springframework.data.rest.core.UriToEntityConverter;
+
+/**
+ * Unit tests for {@link DeferredAssociations}.
+ *
+ * @author agent
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class DeferredAssociationsUnitTests {
+
+	static final TypeDescriptor TYPE = TypeDescriptor.valueOf(Object.class);
+
+	@Mock UriToEntityConverter converter;
+
+	DeferredAssociations associations;
+
+	@After
+	public void tearDown() {
+
+		if (associations != null) {
+			associations.close();
+		}
+	}
+
+	@Test
+	public void isNotActiveByDefault() {
+		assertThat(DeferredAssociations.getCurrent(), is(nullValue()));
+	}
+
+	@Test
+	public void resolvesAllUrisOfTheSameTypeWithASingleLookup() {
+
+		URI first = URI.create("/foo/1"), second = URI.create("/foo/2"), third = URI.create("/foo/3");
+
+		doReturn(Arrays.<Object> asList("1", "2", "3")).when(converter)
+				.convertAll(Arrays.asList(first, second, third), TYPE);
+
+		associations = DeferredAssociations.start();
+
+		Collection<Object> left = new ArrayList<Object>();
+		Collection<Object> right = new ArrayList<Object>();
+
+		DeferredAssociations.getCurrent().defer(left, Arrays.asList(first, second), TYPE, converter);
+		DeferredAssociations.getCurrent().defer(right, Arrays.asList(third), TYPE, converter);
+
+		associations.resolve();
+
+		assertThat(left, hasItems((Object) "1", "2"));
+		assertThat(right, hasItems((Object) "3"));
+		verify(converter, times(1)).convertAll(anyListOf(URI.class), eq(TYPE));
+	}
+
+	@Test
+	public void nestedScopeDoesNotResolveOrEndDeferral() {
+
+		associations = DeferredAssociations.start();
+
+		DeferredAssociations nested = DeferredAssociations.start();
+		List<URI> uris = Arrays.asList(URI.create("/foo/1"));
+
+		DeferredAssociations.getCurrent().defer(new ArrayList<Object>(), uris, TYPE, converter);
+
+		nested.resolve();
+		nested.close();
+
+		verifyZeroInteractions(converter);
+		assertThat(DeferredAssociations.getCurrent(), is(associations));
+	}
+
+	@Test
+	public void closeEndsDeferral() {
+
+		DeferredAssociations.start().close();
+
+		assertThat(DeferredAssociations.getCurrent(), is(nullValue()));
+	}
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc.json;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Test;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.Transient;
+import org.springframework.data.annotation.Version;
+import org.springframework.data.keyvalue.core.mapping.KeyValuePersistentEntity;
+import org.springframework.data.keyvalue.core.mapping.context.KeyValueMappingContext;
+import org.springframework.data.rest.core.config.RepositoryRestConfiguration;
+import org.springframework.data.rest.core.mapping.ResourceMappings;
+import org.springframework.data.rest.webmvc.json.MergePlan.MergeStep;
+import org.springframework.data.rest.webmvc.json.MergePlan.MergeStrategy;
+import org.springframework.data.rest.webmvc.mapping.Associations;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Unit tests for {@link MergePlan}.
+ *
+ * @author agent
+ */
+public class MergePlanUnitTests {
+
+	KeyValueMappingContext context = new KeyValueMappingContext();
+	KeyValuePersistentEntity<?> entity = context.getPersistentEntity(Sample.class);
+	MergePlan plan = MergePlan.of(entity, new ObjectMapper(),
+			new Associations(mock(ResourceMappings.class), mock(RepositoryRestConfiguration.class)));
+
+	@Test
+	public void excludesIdentifierAndVersionProperties() {
+
+		Map<String, MergeStrategy> strategies = getStrategies();
+
+		assertThat(strategies.containsKey("id"), is(false));
+		assertThat(strategies.containsKey("version"), is(false));
+	}
+
+	@Test
+	public void precomputesMergeStrategies() {
+
+		Map<String, MergeStrategy> strategies = getStrategies();
+
+		assertThat(strategies.get("name"), is(MergeStrategy.VALUE));
+		assertThat(strategies.get("tags"), is(MergeStrategy.COLLECTION));
+		assertThat(strategies.get("attributes"), is(MergeStrategy.MAP));
+		assertThat(strategies.get("nested"), is(MergeStrategy.ENTITY));
+	}
+
+	@Test
+	public void copiesPropertiesUnknownToSpringData() {
+
+		Sample source = new Sample();
+		source.transientValue = "value";
+
+		Sample target = new Sample();
+
+		plan.copyUnmappedProperties(source, target);
+
+		assertThat(target.transientValue, is("value"));
+	}
+
+	private Map<String, MergeStrategy> getStrategies() {
+
+		Map<String, MergeStrategy> strategies = new HashMap<String, MergeStrategy>();
+
+		for (MergeStep step : plan.getSteps()) {
+			strategies.put(step.getProperty().getName(), step.getStrategy());
+		}
+
+		return strategies;
+	}
+
+	static class Sample {
+
+		public @Id Long id;
+		public @Version Long version;
+		public String name;
+		public List<String> tags = new ArrayList<String>();
+		public Map<String, String> attributes = new HashMap<String, String>();
+		public Nested nested;
+		public @Transient String transientValue;
+	}
+
+	static class Nested {
+		public String value;
+	}
+}
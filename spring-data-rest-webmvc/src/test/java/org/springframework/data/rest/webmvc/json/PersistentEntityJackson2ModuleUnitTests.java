@@ -21,8 +21,10 @@ import static org.mockito.Mockito.*;
 
 import java.io.IOException;
 import java.net.URI;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
 
 import org.junit.Before;
 import org.junit.Test;
@@ -53,6 +55,7 @@ import org.springframework.plugin.core.OrderAwarePluginRegistry;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import com.fasterxml.jackson.databind.MapperFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.module.SimpleModule;
 import com.jayway.jsonpath.JsonPath;
@@ -82,6 +85,8 @@ public class PersistentEntityJackson2ModuleUnitTests {
 		mappingContext.getPersistentEntity(Sample.class);
 		mappingContext.getPersistentEntity(SampleWithAdditionalGetters.class);
 		mappingContext.getPersistentEntity(PersistentEntityJackson2ModuleUnitTests.PetOwner.class);
+		mappingContext.getPersistentEntity(PetOwnerWithCopyingSetter.class);
+		mappingContext.getPersistentEntity(PetOwnerWithoutSetter.class);
 
 		this.persistentEntities = new PersistentEntities(Arrays.asList(mappingContext));
 
@@ -138,13 +143,131 @@ public class PersistentEntityJackson2ModuleUnitTests {
 		assertThat(petOwner.getPet(), is(notNullValue()));
 	}
 
+	@Test
+	public void resolvesCollectionOfReferencesWithSingleLookup() throws IOException {
+
+		PersistentProperty<?> property = persistentEntities.getPersistentEntity(PetOwner.class)
+				.getPersistentProperty("pets");
+
+		Cat first = new Cat(), second = new Cat();
+
+		when(associations.isLinkableAssociation(property)).thenReturn(true);
+		when(converter.convertAll(Arrays.asList(URI.create("/pets/1"), URI.create("/pets/2")),
+				TypeDescriptor.valueOf(Pet.class))).thenReturn(Arrays.<Object> asList(first, second));
+
+		PetOwner petOwner = mapper.readValue("{\"pets\":[\"/pets/1\",\"/pets/2\"]}", PetOwner.class);
+
+		assertThat(petOwner.getPets(), is(Arrays.<Pet> asList(first, second)));
+	}
+
+	@Test
+	public void defersResolutionOfCollectionOfReferences() throws IOException {
+
+		PersistentProperty<?> property = persistentEntities.getPersistentEntity(PetOwner.class)
+				.getPersistentProperty("pets");
+
+		Cat cat = new Cat();
+
+		when(associations.isLinkableAssociation(property)).thenReturn(true);
+		when(converter.convertAll(Arrays.asList(URI.create("/pets/1")), TypeDescriptor.valueOf(Pet.class)))
+				.thenReturn(Arrays.<Object> asList(cat));
+
+		DeferredAssociations deferred = DeferredAssociations.start();
+
+		try {
+
+			PetOwner petOwner = mapper.readValue("{\"pets\":[\"/pets/1\"]}", PetOwner.class);
+
+			assertThat(petOwner.getPets().isEmpty(), is(true));
+
+			deferred.resolve();
+
+			assertThat(petOwner.getPets(), is(Arrays.<Pet> asList(cat)));
+
+		} finally {
+			deferred.close();
+		}
+	}
+
+	@Test
+	public void resolvesCollectionBoundThroughSetterRightAwayEvenIfResolutionIsDeferred() throws IOException {
+
+		PersistentProperty<?> property = persistentEntities.getPersistentEntity(PetOwnerWithCopyingSetter.class)
+				.getPersistentProperty("pets");
+
+		Cat cat = new Cat();
+
+		when(associations.isLinkableAssociation(property)).thenReturn(true);
+		when(converter.convertAll(Arrays.asList(URI.create("/pets/1")), TypeDescriptor.valueOf(Pet.class)))
+				.thenReturn(Arrays.<Object> asList(cat));
+
+		DeferredAssociations deferred = DeferredAssociations.start();
+
+		try {
+
+			PetOwnerWithCopyingSetter petOwner = mapper.readValue("{\"pets\":[\"/pets/1\"]}",
+					PetOwnerWithCopyingSetter.class);
+
+			assertThat(petOwner.getPets(), is(Arrays.<Pet> asList(cat)));
+
+		} finally {
+			deferred.close();
+		}
+	}
+
+	@Test
+	public void populatesCollectionExposedThroughGetterOnly() throws IOException {
+
+		PersistentProperty<?> property = persistentEntities.getPersistentEntity(PetOwnerWithoutSetter.class)
+				.getPersistentProperty("pets");
+
+		Cat cat = new Cat();
+
+		when(associations.isLinkableAssociation(property)).thenReturn(true);
+		when(converter.convertAll(Arrays.asList(URI.create("/pets/1")), TypeDescriptor.valueOf(Pet.class)))
+				.thenReturn(Arrays.<Object> asList(cat));
+
+		mapper.disable(MapperFeature.INFER_PROPERTY_MUTATORS);
+
+		PetOwnerWithoutSetter petOwner = mapper.readValue("{\"pets\":[\"/pets/1\"]}", PetOwnerWithoutSetter.class);
+
+		assertThat(petOwner.getPets(), is(Arrays.<Pet> asList(cat)));
+	}
+
 	static class PetOwner {
 
 		Pet pet;
+		List<Pet> pets;
 
 		public Pet getPet() {
 			return pet;
 		}
+
+		public List<Pet> getPets() {
+			return pets;
+		}
+	}
+
+	static class PetOwnerWithCopyingSetter {
+
+		List<Pet> pets;
+
+		public List<Pet> getPets() {
+			return pets;
+		}
+
+		public void setPets(List<Pet> pets) {
+			this.pets = new ArrayList<Pet>(pets);
+		}
+	}
+
+	static class PetOwnerWithoutSetter {
+
+		final List<Pet> pets = new ArrayList<Pet>();
+
+		public List<Pet> getPets() {
+			return pets;
+		}
 	}
 
 	@JsonTypeInfo(include = JsonTypeInfo.As.PROPERTY, use = JsonTypeInfo.Id.MINIMAL_CLASS)
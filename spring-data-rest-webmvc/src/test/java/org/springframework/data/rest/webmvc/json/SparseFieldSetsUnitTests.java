@@ -0,0 +1,143 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc.json;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.junit.Assert.*;
+
+import java.util.Collections;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.data.keyvalue.core.mapping.context.KeyValueMappingContext;
+import org.springframework.data.mapping.context.PersistentEntities;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Unit tests for {@link SparseFieldSets}.
+ *
+ * @author agent
+ */
+public class SparseFieldSetsUnitTests {
+
+	SparseFieldSets fieldSets;
+
+	@Before
+	public void setUp() {
+
+		KeyValueMappingContext context = new KeyValueMappingContext();
+		context.getPersistentEntity(Order.class);
+
+		ObjectMapper mapper = new ObjectMapper();
+		mapper.setVisibility(PropertyAccessor.FIELD, Visibility.ANY);
+
+		this.fieldSets = new SparseFieldSets(new PersistentEntities(Collections.singleton(context)), mapper);
+	}
+
+	@Test
+	public void returnsNullForEmptyExpression() {
+
+		assertThat(fieldSets.getFieldSet(Order.class, null), is(nullValue()));
+		assertThat(fieldSets.getFieldSet(Order.class, ""), is(nullValue()));
+	}
+
+	@Test
+	public void parsesTopLevelAndNestedFields() {
+
+		SparseFieldSet fieldSet = fieldSets.getFieldSet(Order.class, "name, price,customer.name");
+
+		assertThat(fieldSet.includes("name"), is(true));
+		assertThat(fieldSet.includes("price"), is(true));
+		assertThat(fieldSet.includes("customer"), is(true));
+		assertThat(fieldSet.includes("description"), is(false));
+
+		assertThat(fieldSet.getNested("name"), is(nullValue()));
+
+		SparseFieldSet nested = fieldSet.getNested("customer");
+
+		assertThat(nested.includes("name"), is(true));
+		assertThat(nested.includes("email"), is(false));
+		assertThat(nested.appliesTo(new Customer()), is(true));
+		assertThat(nested.appliesTo(new Order()), is(false));
+	}
+
+	@Test
+	public void selectingPropertyCompletelyWinsOverNestedSelection() {
+
+		SparseFieldSet fieldSet = fieldSets.getFieldSet(Order.class, "customer.name,customer");
+
+		assertThat(fieldSet.includes("customer"), is(true));
+		assertThat(fieldSet.getNested("customer"), is(nullValue()));
+	}
+
+	@Test
+	public void cachesParsedFieldSets() {
+		assertThat(fieldSets.getFieldSet(Order.class, "name"), is(sameInstance(fieldSets.getFieldSet(Order.class, "name"))));
+	}
+
+	@Test(expected = InvalidFieldSetException.class)
+	public void rejectsUnknownProperty() {
+		fieldSets.getFieldSet(Order.class, "name,foo");
+	}
+
+	@Test(expected = InvalidFieldSetException.class)
+	public void rejectsNestedFieldsForNonEntityProperty() {
+		fieldSets.getFieldSet(Order.class, "name.foo");
+	}
+
+	@Test
+	public void resolvesFieldsRenamedForJacksonToTheirProperties() {
+
+		SparseFieldSet fieldSet = fieldSets.getFieldSet(Order.class, "name,customer.mail");
+
+		assertThat(fieldSet.getNested("customer").includes("email"), is(true));
+		assertThat(fieldSet.getNested("customer").includes("name"), is(false));
+	}
+
+	@Test(expected = InvalidFieldSetException.class)
+	public void rejectsPropertyNameOfFieldRenamedForJackson() {
+		fieldSets.getFieldSet(Order.class, "customer.email");
+	}
+
+	@Test
+	public void resolvesFieldSetForProxyClass() {
+
+		SparseFieldSet fieldSet = fieldSets.getFieldSet(OrderProxy$$Sample.class, "name");
+
+		assertThat(fieldSet.includes("name"), is(true));
+		assertThat(fieldSet.appliesTo(new OrderProxy$$Sample()), is(true));
+	}
+
+	static class Order {
+
+		String name, description;
+		long price;
+		Customer customer;
+	}
+
+	// Mimics the naming of lazy-loading proxy classes
+	static class OrderProxy$$Sample extends Order {}
+
+	static class Customer {
+
+		String name;
+		@JsonProperty("mail") String email;
+	}
+}
@@ -0,0 +1,168 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc.support;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.junit.Assert.*;
+import static org.mockito.Matchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Test;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.projection.TargetAware;
+import org.springframework.expression.ParserContext;
+import org.springframework.expression.spel.standard.SpelExpressionParser;
+
+/**
+ * Unit tests for {@link CachingProjectionFactory}.
+ *
+ * @author agent
+ */
+public class CachingProjectionFactoryUnitTests {
+
+	CachingProjectionFactory factory = new CachingProjectionFactory();
+
+	@Test
+	public void exposesPropertiesOfTarget() {
+
+		Customer customer = new Customer("Dave", "Matthews");
+		CustomerExcerpt excerpt = factory.createProjection(CustomerExcerpt.class, customer);
+
+		assertThat(excerpt.getFirstname(), is("Dave"));
+		assertThat(excerpt.getFullName(), is("Dave Matthews"));
+	}
+
+	@Test
+	public void exposesTarget() {
+
+		Customer customer = new Customer("Dave", "Matthews");
+		CustomerExcerpt excerpt = factory.createProjection(CustomerExcerpt.class, customer);
+
+		assertThat(excerpt, is(instanceOf(TargetAware.class)));
+		assertThat(((TargetAware) excerpt).getTarget(), is((Object) customer));
+		assertThat(((TargetAware) excerpt).getTargetClass(), is(typeCompatibleWith(Customer.class)));
+	}
+
+	@Test
+	public void evaluatesSharedExpressionsAgainstTheRespectiveTarget() {
+
+		CustomerExcerpt first = factory.createProjection(CustomerExcerpt.class, new Customer("Dave", "Matthews"));
+		CustomerExcerpt second = factory.createProjection(CustomerExcerpt.class, new Customer("Carter", "Beauford"));
+
+		assertThat(first.getFullName(), is("Dave Matthews"));
+		assertThat(second.getFullName(), is("Carter Beauford"));
+	}
+
+	@Test
+	public void parsesExpressionsOncePerProjectionInterface() {
+
+		SpelExpressionParser parser = spy(new SpelExpressionParser());
+		CachingProjectionFactory factory = new CachingProjectionFactory(parser);
+
+		for (int i = 0; i < 100; i++) {
+
+			CustomerExcerpt excerpt = factory.createProjection(CustomerExcerpt.class, new Customer("Dave", "Matthews" + i));
+
+			assertThat(excerpt.getFullName(), is("Dave Matthews" + i));
+			assertThat(excerpt.getLastnames(), is(Arrays.asList("Matthews" + i)));
+		}
+
+		verify(parser, times(2)).parseExpression(anyString(), any(ParserContext.class));
+	}
+
+	@Test
+	public void returnsValuesAssignableToProjectionReturnTypeAsIs() {
+
+		Customer customer = new Customer("Dave", "Matthews");
+		customer.address = new Address("Charlottesville");
+
+		CustomerExcerpt excerpt = factory.createProjection(CustomerExcerpt.class, customer);
+
+		assertThat(excerpt.getAddress(), is((City) customer.address));
+	}
+
+	@Test
+	public void convertsCollectionExpressionResults() {
+
+		CustomerExcerpt excerpt = factory.createProjection(CustomerExcerpt.class, new Customer("Dave", "Matthews"));
+
+		assertThat(excerpt.getLastnames(), is(Arrays.asList("Matthews")));
+	}
+
+	@Test
+	public void returnsSourceImplementingProjectionAsIs() {
+
+		Address address = new Address("Charlottesville");
+
+		assertThat(factory.createProjection(City.class, address), is((City) address));
+	}
+
+	public static class Customer {
+
+		String firstname, lastname;
+		Address address;
+
+		public Customer(String firstname, String lastname) {
+			this.firstname = firstname;
+			this.lastname = lastname;
+		}
+
+		public String getFirstname() {
+			return firstname;
+		}
+
+		public String getLastname() {
+			return lastname;
+		}
+
+		public Address getAddress() {
+			return address;
+		}
+	}
+
+	public static class Address implements City {
+
+		String city;
+
+		public Address(String city) {
+			this.city = city;
+		}
+
+		public String getCity() {
+			return city;
+		}
+	}
+
+	interface City {
+		String getCity();
+	}
+
+	interface CustomerExcerpt {
+
+		String getFirstname();
+
+		@Value("#{target.firstname + ' ' + target.lastname}")
+		String getFullName();
+
+		City getAddress();
+
+		@Value("#{T(java.util.Collections).singletonList(target.lastname)}")
+		List<String> getLastnames();
+	}
+}
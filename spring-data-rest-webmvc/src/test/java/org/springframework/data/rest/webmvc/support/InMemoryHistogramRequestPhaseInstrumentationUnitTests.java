@@ -0,0 +1,73 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc.support;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.junit.Assert.*;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+import org.springframework.data.rest.webmvc.spi.RequestPhase;
+import org.springframework.data.rest.webmvc.support.InMemoryHistogramRequestPhaseInstrumentation.Histogram;
+
+/**
+ * Unit tests for {@link InMemoryHistogramRequestPhaseInstrumentation}.
+ *
+ * @author agent
+ */
+public class InMemoryHistogramRequestPhaseInstrumentationUnitTests {
+
+	InMemoryHistogramRequestPhaseInstrumentation instrumentation = new InMemoryHistogramRequestPhaseInstrumentation();
+
+	@Test
+	public void recordsDurationsPerPhase() {
+
+		instrumentation.start(RequestPhase.REPOSITORY_INVOCATION).stop();
+		instrumentation.start(RequestPhase.REPOSITORY_INVOCATION).stop();
+
+		assertThat(instrumentation.getHistogram(RequestPhase.REPOSITORY_INVOCATION).getCount(), is(2L));
+		assertThat(instrumentation.getHistogram(RequestPhase.SERIALIZATION).getCount(), is(0L));
+	}
+
+	@Test
+	public void calculatesPercentilesFromBuckets() {
+
+		instrumentation.record(RequestPhase.PROJECTION, 100);
+		instrumentation.record(RequestPhase.PROJECTION, 100);
+		instrumentation.record(RequestPhase.PROJECTION, 100);
+		instrumentation.record(RequestPhase.PROJECTION, 5000);
+
+		Histogram histogram = instrumentation.getHistogram(RequestPhase.PROJECTION);
+
+		assertThat(histogram.getPercentile(0.5, TimeUnit.NANOSECONDS), is(128L));
+		assertThat(histogram.getPercentile(1.0, TimeUnit.NANOSECONDS), is(5000L));
+		assertThat(histogram.getMax(TimeUnit.NANOSECONDS), is(5000L));
+		assertThat(histogram.getTotalTime(TimeUnit.NANOSECONDS), is(5300L));
+	}
+
+	@Test
+	public void resetsRecordedDurations() {
+
+		instrumentation.record(RequestPhase.RESOURCE_ASSEMBLY, 100);
+		instrumentation.reset();
+
+		Histogram histogram = instrumentation.getHistogram(RequestPhase.RESOURCE_ASSEMBLY);
+
+		assertThat(histogram.getCount(), is(0L));
+		assertThat(histogram.getPercentile(0.99, TimeUnit.NANOSECONDS), is(0L));
+	}
+}
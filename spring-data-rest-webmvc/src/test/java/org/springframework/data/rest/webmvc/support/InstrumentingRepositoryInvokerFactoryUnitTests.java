@@ -0,0 +1,170 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc.support;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.junit.Assert.*;
+import static org.mockito.Matchers.*;
+import static org.mockito.Mockito.*;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.repository.support.RepositoryInvoker;
+import org.springframework.data.repository.support.RepositoryInvokerFactory;
+import org.springframework.data.rest.core.support.ProjectingRepositoryInvoker;
+import org.springframework.data.rest.core.support.RepositoryInvocationMetrics.Invocation;
+import org.springframework.data.rest.core.support.RepositoryInvocationMetrics.Operation;
+import org.springframework.data.rest.webmvc.spi.RequestPhaseInstrumentation.NoOpInstrumentation;
+import org.springframework.data.rest.webmvc.support.InMemoryRepositoryInvocationMetrics.Meter;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.util.MultiValueMap;
+
+/**
+ * Unit tests for {@link InstrumentingRepositoryInvokerFactory}.
+ *
+ * @author agent
+ */
+public class InstrumentingRepositoryInvokerFactoryUnitTests {
+
+	RepositoryInvokerFactory delegate = mock(RepositoryInvokerFactory.class);
+	RepositoryInvoker invoker = mock(RepositoryInvoker.class);
+	InMemoryRepositoryInvocationMetrics metrics = new InMemoryRepositoryInvocationMetrics();
+
+	RepositoryInvoker metricsInvoker;
+
+	@Before
+	public void setUp() {
+
+		when(delegate.getInvokerFor(Object.class)).thenReturn(invoker);
+
+		this.metricsInvoker = new InstrumentingRepositoryInvokerFactory(delegate, NoOpInstrumentation.INSTANCE, metrics)
+				.getInvokerFor(Object.class);
+	}
+
+	@Test
+	public void recordsInvocationsPerOperation() {
+
+		metricsInvoker.invokeFindOne(1L);
+		metricsInvoker.invokeFindOne(2L);
+		metricsInvoker.invokeDelete(1L);
+
+		assertThat(getMeter(Operation.FIND_ONE, null).getCount(), is(2L));
+		assertThat(getMeter(Operation.DELETE, null).getCount(), is(1L));
+		assertThat(getMeter(Operation.SAVE, null), is(nullValue()));
+	}
+
+	@Test
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	public void recordsResultSizeForCollectionsAndPages() {
+
+		when(invoker.invokeFindAll(any(Sort.class))).thenReturn((Iterable) Arrays.asList(1, 2, 3));
+		when(invoker.invokeFindAll(any(Pageable.class))).thenReturn(
+				new PageImpl<Object>(Collections.<Object> singletonList(1)));
+
+		metricsInvoker.invokeFindAll((Sort) null);
+		metricsInvoker.invokeFindAll((Pageable) null);
+
+		Meter meter = getMeter(Operation.FIND_ALL, null);
+
+		assertThat(meter.getResultCount(), is(2L));
+		assertThat(meter.getTotalResultSize(), is(4L));
+		assertThat(meter.getMaxResultSize(), is(3L));
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void recordsQueryMethodsByName() throws Exception {
+
+		Method method = Object.class.getMethod("toString");
+		MultiValueMap<String, Object> parameters = new LinkedMultiValueMap<String, Object>();
+
+		when(invoker.invokeQueryMethod(eq(method), any(MultiValueMap.class), any(Pageable.class), any(Sort.class)))
+				.thenReturn(Collections.emptyList());
+
+		metricsInvoker.invokeQueryMethod(method, parameters, null, null);
+
+		Meter meter = getMeter(Operation.QUERY_METHOD, "toString");
+
+		assertThat(meter.getCount(), is(1L));
+		assertThat(meter.getTotalResultSize(), is(0L));
+		assertThat(meter.getResultCount(), is(1L));
+	}
+
+	@Test
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	public void recordsProjectionsReadThroughProjectingDelegate() {
+
+		ProjectingRepositoryInvoker projectingInvoker = mock(ProjectingRepositoryInvoker.class);
+		when(delegate.getInvokerFor(String.class)).thenReturn(projectingInvoker);
+		when(projectingInvoker.invokeFindAll(eq(Object.class), any(Pageable.class), any(Sort.class)))
+				.thenReturn((Iterable) Arrays.asList(1, 2));
+
+		RepositoryInvoker invoker = new InstrumentingRepositoryInvokerFactory(delegate, NoOpInstrumentation.INSTANCE,
+				metrics).getInvokerFor(String.class);
+
+		assertThat(((ProjectingRepositoryInvoker) invoker).invokeFindAll(Object.class, null, null),
+				is((Object) Arrays.asList(1, 2)));
+
+		Meter meter = metrics.getMeter(new Invocation(String.class, Operation.FIND_ALL, null));
+
+		assertThat(meter.getCount(), is(1L));
+		assertThat(meter.getTotalResultSize(), is(2L));
+	}
+
+	@Test
+	public void doesNotReadProjectionsIfDelegateCannot() {
+
+		assertThat(((ProjectingRepositoryInvoker) metricsInvoker).invokeFindAll(Object.class, null, null),
+				is(nullValue()));
+		assertThat(getMeter(Operation.FIND_ALL, null), is(nullValue()));
+	}
+
+	@Test
+	public void recordsFailedInvocations() {
+
+		when(invoker.invokeSave(any())).thenThrow(new IllegalStateException());
+
+		try {
+			metricsInvoker.invokeSave(new Object());
+			fail("Expected IllegalStateException!");
+		} catch (IllegalStateException o_O) {}
+
+		Meter meter = getMeter(Operation.SAVE, null);
+
+		assertThat(meter.getCount(), is(1L));
+		assertThat(meter.getErrorCount(), is(1L));
+	}
+
+	@Test
+	public void doesNotDecorateFactoryIfNeitherInstrumentationNorMetricsAreConfigured() {
+
+		assertThat(InstrumentingRepositoryInvokerFactory.decorate(delegate, NoOpInstrumentation.INSTANCE, null),
+				is(delegate));
+		assertThat(InstrumentingRepositoryInvokerFactory.decorate(delegate, NoOpInstrumentation.INSTANCE, metrics),
+				is(instanceOf(InstrumentingRepositoryInvokerFactory.class)));
+	}
+
+	private Meter getMeter(Operation operation, String queryMethodName) {
+		return metrics.getMeter(new Invocation(Object.class, operation, queryMethodName));
+	}
+}
@@ -0,0 +1,304 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc.support;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.junit.Assert.*;
+
+import java.security.Principal;
+import java.util.Collections;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.keyvalue.core.mapping.context.KeyValueMappingContext;
+import org.springframework.data.mapping.context.PersistentEntities;
+import org.springframework.data.rest.core.config.ResponseCacheConfiguration;
+import org.springframework.data.rest.core.event.AfterCreateEvent;
+import org.springframework.data.rest.core.event.AfterSaveEvent;
+import org.springframework.data.rest.webmvc.support.ItemResourceResponseCache.CacheKey;
+import org.springframework.data.rest.webmvc.support.ItemResourceResponseCache.CachedResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+/**
+ * Unit tests for {@link ItemResourceResponseCache}.
+ *
+ * @author agent
+ */
+public class ItemResourceResponseCacheUnitTests {
+
+	ResponseCacheConfiguration configuration;
+	ItemResourceResponseCache cache;
+
+	@Before
+	public void setUp() {
+
+		KeyValueMappingContext context = new KeyValueMappingContext();
+		context.getPersistentEntity(Sample.class);
+
+		this.configuration = new ResponseCacheConfiguration().enableFor(Sample.class).setMaximumSize(2);
+		this.cache = new ItemResourceResponseCache(configuration,
+				new PersistentEntities(Collections.singleton(context)));
+	}
+
+	@Test
+	public void doesNotCreateKeyForTypeNotEnabled() {
+		assertThat(cache.getKeyFor(Object.class, 1L, new MockHttpServletRequest()), is(nullValue()));
+	}
+
+	@Test
+	public void writesCachedResponse() throws Exception {
+
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", "/samples/1");
+		CacheKey key = cache.getKeyFor(Sample.class, 1L, request);
+
+		cache.put(key, new CachedResponse(new HttpHeaders(), "{}".getBytes()));
+
+		MockHttpServletResponse response = new MockHttpServletResponse();
+
+		assertThat(cache.writeCachedResponse(key, request, response), is(true));
+		assertThat(response.getContentAsString(), is("{}"));
+		assertThat(cache.getStatistics().getHitCount(), is(1L));
+	}
+
+	@Test
+	public void registersKeyWithRequestOnCacheMiss() throws Exception {
+
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", "/samples/1");
+		CacheKey key = cache.getKeyFor(Sample.class, 1L, request);
+
+		assertThat(cache.writeCachedResponse(key, request, new MockHttpServletResponse()), is(false));
+		assertThat(request.getAttribute(ItemResourceResponseCache.CACHE_KEY_ATTRIBUTE), is((Object) key));
+		assertThat(cache.getStatistics().getMissCount(), is(1L));
+	}
+
+	@Test
+	public void answersNotModifiedForMatchingETag() throws Exception {
+
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", "/samples/1");
+		request.addHeader(HttpHeaders.IF_NONE_MATCH, "\"0\"");
+		CacheKey key = cache.getKeyFor(Sample.class, 1L, request);
+
+		HttpHeaders headers = new HttpHeaders();
+		headers.setETag("\"0\"");
+
+		cache.put(key, new CachedResponse(headers, "{}".getBytes()));
+
+		MockHttpServletResponse response = new MockHttpServletResponse();
+
+		assertThat(cache.writeCachedResponse(key, request, response), is(true));
+		assertThat(response.getStatus(), is(HttpStatus.NOT_MODIFIED.value()));
+		assertThat(response.getContentAsString(), is(""));
+	}
+
+	@Test
+	public void answersNotModifiedForETagContainedInList() throws Exception {
+		assertNotModified("\"1\", \"0\"", "\"0\"");
+	}
+
+	@Test
+	public void answersNotModifiedForWildcard() throws Exception {
+		assertNotModified("*", "\"0\"");
+	}
+
+	@Test
+	public void answersNotModifiedForWeakETag() throws Exception {
+		assertNotModified("W/\"0\"", "\"0\"");
+	}
+
+	@Test
+	public void rendersBodyForNonMatchingETag() throws Exception {
+
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", "/samples/1");
+		request.addHeader(HttpHeaders.IF_NONE_MATCH, "\"1\"");
+		CacheKey key = cache.getKeyFor(Sample.class, 1L, request);
+
+		HttpHeaders headers = new HttpHeaders();
+		headers.setETag("\"0\"");
+
+		cache.put(key, new CachedResponse(headers, "{}".getBytes()));
+
+		MockHttpServletResponse response = new MockHttpServletResponse();
+
+		assertThat(cache.writeCachedResponse(key, request, response), is(true));
+		assertThat(response.getStatus(), is(HttpStatus.OK.value()));
+		assertThat(response.getContentAsString(), is("{}"));
+	}
+
+	@Test
+	public void doesNotStoreResponseRenderedBeforeInvalidation() throws Exception {
+
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", "/samples/1");
+		CacheKey key = cache.getKeyFor(Sample.class, 1L, request);
+
+		cache.writeCachedResponse(key, request, new MockHttpServletResponse());
+		long generation = (Long) request.getAttribute(ItemResourceResponseCache.GENERATION_ATTRIBUTE);
+
+		cache.onApplicationEvent(new AfterSaveEvent(new Sample(1L)));
+
+		assertThat(cache.put(key, new CachedResponse(new HttpHeaders(), "{}".getBytes()), generation), is(false));
+		assertThat(cache.get(key), is(nullValue()));
+	}
+
+	@Test
+	public void storesResponseIfEntityWasNotInvalidated() throws Exception {
+
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", "/samples/1");
+		CacheKey key = cache.getKeyFor(Sample.class, 1L, request);
+
+		cache.writeCachedResponse(key, request, new MockHttpServletResponse());
+		long generation = (Long) request.getAttribute(ItemResourceResponseCache.GENERATION_ATTRIBUTE);
+
+		cache.onApplicationEvent(new AfterSaveEvent(new Sample(2L)));
+
+		assertThat(cache.put(key, new CachedResponse(new HttpHeaders(), "{}".getBytes()), generation), is(true));
+		assertThat(cache.get(key), is(notNullValue()));
+	}
+
+	@Test
+	public void differentiatesProjections() {
+
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", "/samples/1");
+		CacheKey key = cache.getKeyFor(Sample.class, 1L, request);
+
+		request.setQueryString("projection=summary");
+
+		assertThat(cache.getKeyFor(Sample.class, 1L, request), is(not(key)));
+	}
+
+	@Test
+	public void differentiatesFieldSets() {
+
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", "/samples/1");
+		CacheKey key = cache.getKeyFor(Sample.class, 1L, request);
+
+		request.setQueryString("fields=name");
+
+		assertThat(cache.getKeyFor(Sample.class, 1L, request), is(not(key)));
+	}
+
+	@Test
+	public void differentiatesForwardedHosts() {
+
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", "/samples/1");
+		CacheKey key = cache.getKeyFor(Sample.class, 1L, request);
+
+		request.addHeader("X-Forwarded-Host", "evil.example.com");
+
+		CacheKey forwarded = cache.getKeyFor(Sample.class, 1L, request);
+
+		assertThat(forwarded, is(not(key)));
+		assertThat(forwarded.getRequestUri(), is("http://evil.example.com/samples/1"));
+	}
+
+	@Test
+	public void differentiatesPrincipals() {
+
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", "/samples/1");
+		request.setUserPrincipal(principal("dave"));
+		CacheKey key = cache.getKeyFor(Sample.class, 1L, request);
+
+		request.setUserPrincipal(principal("oliver"));
+
+		assertThat(cache.getKeyFor(Sample.class, 1L, request), is(not(key)));
+	}
+
+	@Test
+	public void evictsLeastRecentlyUsedEntries() {
+
+		CacheKey first = new CacheKey(Sample.class, "1", null, null, "/samples/1", null);
+		CacheKey second = new CacheKey(Sample.class, "2", null, null, "/samples/2", null);
+		CacheKey third = new CacheKey(Sample.class, "3", null, null, "/samples/3", null);
+
+		cache.put(first, new CachedResponse(new HttpHeaders(), new byte[0]));
+		cache.put(second, new CachedResponse(new HttpHeaders(), new byte[0]));
+		cache.get(first);
+		cache.put(third, new CachedResponse(new HttpHeaders(), new byte[0]));
+
+		assertThat(cache.get(first), is(notNullValue()));
+		assertThat(cache.get(second), is(nullValue()));
+		assertThat(cache.getStatistics().getEvictionCount(), is(1L));
+		assertThat(cache.getStatistics().getSize(), is(2));
+	}
+
+	@Test
+	public void invalidatesEntriesOnAfterSaveEvent() {
+
+		CacheKey key = new CacheKey(Sample.class, "1", null, null, "/samples/1", null);
+		CacheKey other = new CacheKey(Sample.class, "2", null, null, "/samples/2", null);
+
+		cache.put(key, new CachedResponse(new HttpHeaders(), new byte[0]));
+		cache.put(other, new CachedResponse(new HttpHeaders(), new byte[0]));
+
+		cache.onApplicationEvent(new AfterSaveEvent(new Sample(1L)));
+
+		assertThat(cache.get(key), is(nullValue()));
+		assertThat(cache.get(other), is(notNullValue()));
+		assertThat(cache.getStatistics().getInvalidationCount(), is(1L));
+	}
+
+	@Test
+	public void ignoresEventsNotAffectingExistingRepresentations() {
+
+		CacheKey key = new CacheKey(Sample.class, "1", null, null, "/samples/1", null);
+		cache.put(key, new CachedResponse(new HttpHeaders(), new byte[0]));
+
+		cache.onApplicationEvent(new AfterCreateEvent(new Sample(1L)));
+
+		assertThat(cache.get(key), is(notNullValue()));
+	}
+
+	private void assertNotModified(String ifNoneMatch, String eTag) throws Exception {
+
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", "/samples/1");
+		request.addHeader(HttpHeaders.IF_NONE_MATCH, ifNoneMatch);
+		CacheKey key = cache.getKeyFor(Sample.class, 1L, request);
+
+		HttpHeaders headers = new HttpHeaders();
+		headers.setETag(eTag);
+
+		cache.put(key, new CachedResponse(headers, "{}".getBytes()));
+
+		MockHttpServletResponse response = new MockHttpServletResponse();
+
+		assertThat(cache.writeCachedResponse(key, request, response), is(true));
+		assertThat(response.getStatus(), is(HttpStatus.NOT_MODIFIED.value()));
+		assertThat(response.getContentAsString(), is(""));
+	}
+
+	private static Principal principal(final String name) {
+
+		return new Principal() {
+
+			@Override
+			public String getName() {
+				return name;
+			}
+		};
+	}
+
+	static class Sample {
+
+		@Id Long id;
+
+		Sample(Long id) {
+			this.id = id;
+		}
+	}
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc.support;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.*;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+import org.springframework.data.rest.webmvc.spi.RequestPhase;
+import org.springframework.data.rest.webmvc.spi.RequestPhaseInstrumentation.Timer;
+
+/**
+ * Unit tests for {@link NanoTimeRequestPhaseInstrumentation}.
+ *
+ * @author agent
+ */
+public class NanoTimeRequestPhaseInstrumentationUnitTests {
+
+	RecordingInstrumentation instrumentation = new RecordingInstrumentation();
+
+	@Test
+	public void recordsNestedPhasesExclusively() throws Exception {
+
+		Timer outer = instrumentation.start(RequestPhase.RESOURCE_ASSEMBLY);
+		Timer inner = instrumentation.start(RequestPhase.PROJECTION);
+
+		Thread.sleep(50);
+
+		inner.stop();
+		outer.stop();
+
+		long nested = instrumentation.durations.get(RequestPhase.PROJECTION);
+		long enclosing = instrumentation.durations.get(RequestPhase.RESOURCE_ASSEMBLY);
+
+		assertThat(nested, is(greaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(50))));
+		assertThat(enclosing, is(lessThan(TimeUnit.MILLISECONDS.toNanos(50))));
+	}
+
+	@Test
+	public void releasesCurrentTimerOnceOutermostPhaseIsStopped() {
+
+		Timer outer = instrumentation.start(RequestPhase.RESOURCE_ASSEMBLY);
+		Timer inner = instrumentation.start(RequestPhase.PROJECTION);
+
+		inner.stop();
+
+		assertThat(instrumentation.getCurrentTimer(), is(sameInstance(outer)));
+
+		outer.stop();
+
+		assertThat(instrumentation.getCurrentTimer(), is(nullValue()));
+	}
+
+	static class RecordingInstrumentation extends NanoTimeRequestPhaseInstrumentation {
+
+		final Map<RequestPhase, Long> durations = new EnumMap<RequestPhase, Long>(RequestPhase.class);
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.rest.webmvc.support.NanoTimeRequestPhaseInstrumentation#record(org.springframework.data.rest.webmvc.spi.RequestPhase, long)
+		 */
+		@Override
+		protected void record(RequestPhase phase, long durationInNanos) {
+			durations.put(phase, durationInNanos);
+		}
+	}
+}
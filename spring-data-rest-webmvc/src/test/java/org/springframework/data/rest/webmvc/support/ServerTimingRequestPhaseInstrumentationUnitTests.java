@@ -0,0 +1,72 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc.support;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.junit.Assert.*;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.data.rest.webmvc.spi.RequestPhase;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+/**
+ * Unit tests for {@link ServerTimingRequestPhaseInstrumentation}.
+ *
+ * @author agent
+ */
+public class ServerTimingRequestPhaseInstrumentationUnitTests {
+
+	ServerTimingRequestPhaseInstrumentation instrumentation = new ServerTimingRequestPhaseInstrumentation();
+
+	@Before
+	public void setUp() {
+		RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+	}
+
+	@After
+	public void tearDown() {
+		RequestContextHolder.resetRequestAttributes();
+	}
+
+	@Test
+	public void rendersAccumulatedDurationsInMilliseconds() {
+
+		instrumentation.record(RequestPhase.REPOSITORY_INVOCATION, 1000000);
+		instrumentation.record(RequestPhase.REPOSITORY_INVOCATION, 500000);
+		instrumentation.record(RequestPhase.RESOURCE_ASSEMBLY, 250000);
+
+		assertThat(instrumentation.getServerTimingHeader(), is("repository;dur=1.500, assembly;dur=0.250"));
+	}
+
+	@Test
+	public void doesNotRenderHeaderIfNothingWasRecorded() {
+		assertThat(instrumentation.getServerTimingHeader(), is(nullValue()));
+	}
+
+	@Test
+	public void ignoresDurationsOutsideOfRequest() {
+
+		RequestContextHolder.resetRequestAttributes();
+
+		instrumentation.record(RequestPhase.REPOSITORY_INVOCATION, 1000000);
+
+		assertThat(instrumentation.getServerTimingHeader(), is(nullValue()));
+	}
+}